@@ -16,6 +16,9 @@ import org.seedstack.seed.el.ELService;
 
 import javax.el.ELContext;
 import javax.inject.Inject;
+import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.Map;
 
 public class ExpressionLanguageIT {
     private static final String HELLO_WORLD = "hello world !";
@@ -69,4 +72,39 @@ public class ExpressionLanguageIT {
         Object eval = elService.withExpression("${pok}", String.class).withContext(elContext).asValueExpression().eval();
         Assertions.assertThat(eval).isEqualTo(HELLO_WORLD);
     }
+
+    @Test
+    public void parsed_expressions_are_evaluated_against_each_context() {
+        for (int i = 0; i < 3; i++) {
+            Object eval = elService.withExpression("${value * 2}", Integer.class)
+                    .withContext(elContextBuilder.defaultContext().withProperty("value", i).build())
+                    .asValueExpression().eval();
+            Assertions.assertThat(eval).isEqualTo(i * 2);
+        }
+    }
+
+    @Test
+    public void parsed_expressions_depend_on_mapped_functions() throws NoSuchMethodException {
+        Double max = (Double) elService.withExpression("${math:apply(24,42)}", double.class)
+                .withContext(elContextBuilder.defaultContext().withFunction("math", "apply", Math.class.getMethod("max", double.class, double.class)).build())
+                .asValueExpression().eval();
+        Double min = (Double) elService.withExpression("${math:apply(24,42)}", double.class)
+                .withContext(elContextBuilder.defaultContext().withFunction("math", "apply", Math.class.getMethod("min", double.class, double.class)).build())
+                .asValueExpression().eval();
+        Assertions.assertThat(max).isEqualTo(42);
+        Assertions.assertThat(min).isEqualTo(24);
+    }
+
+    @Test
+    public void shared_functions_are_available_in_default_context() throws NoSuchMethodException {
+        Map<String, Method> functions = Collections.singletonMap("math:max", Math.class.getMethod("max", double.class, double.class));
+        Double max = (Double) elService.withExpression("${math:max(24,value)}", double.class)
+                .withContext(elContextBuilder.defaultContext(functions).withProperty("value", 42).build())
+                .asValueExpression().eval();
+        Double min = (Double) elService.withExpression("${math:max(24,42)}", double.class)
+                .withContext(elContextBuilder.defaultContext(functions).withFunction("math", "max", Math.class.getMethod("min", double.class, double.class)).build())
+                .asValueExpression().eval();
+        Assertions.assertThat(max).isEqualTo(42);
+        Assertions.assertThat(min).isEqualTo(24);
+    }
 }
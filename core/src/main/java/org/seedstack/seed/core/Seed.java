@@ -16,10 +16,13 @@ import org.seedstack.coffig.Coffig;
 import org.seedstack.coffig.provider.EnvironmentVariableProvider;
 import org.seedstack.coffig.provider.JacksonProvider;
 import org.seedstack.coffig.provider.SystemPropertyProvider;
+import org.seedstack.seed.ConsoleConfig;
 import org.seedstack.seed.DiagnosticManager;
 import org.seedstack.seed.LogConfig;
+import org.seedstack.seed.ScanConfig;
 import org.seedstack.seed.core.internal.ConsoleManager;
 import org.seedstack.seed.core.internal.NuunManager;
+import org.seedstack.seed.core.internal.StartupTimings;
 import org.seedstack.seed.core.internal.configuration.PrioritizedProvider;
 import org.seedstack.seed.core.internal.diagnostic.DiagnosticManagerImpl;
 import org.seedstack.seed.core.internal.logging.LogbackLogManager;
@@ -41,6 +44,7 @@ import java.util.Enumeration;
 import java.util.Scanner;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
  * This class is the Seed framework entry point, which is used create and dispose kernels. It handles global
@@ -58,6 +62,7 @@ public class Seed {
     public static final int CONFIGURATION_OVERRIDE_PRIORITY = 1000;
     private static final int CONFIGURATION_ENVIRONMENT_PRIORITY = 2000;
     private static final int CONFIGURATION_SYS_PRIORITY = 3000;
+    private static final int SLOWEST_PLUGINS_COUNT = 3;
 
     private static class Holder {
         private static final Seed INSTANCE = new Seed();
@@ -83,18 +88,18 @@ public class Seed {
             SeedLoggingUtils.logWarningWithDebugDetails(LOGGER, e, "Unable to redirect JUL loggers to SLF4J");
         }
 
-        consoleManager = new ConsoleManager();
-        consoleManager.install();
-
         logManager = buildLogManager();
         validatorFactory = buildValidatorFactory();
         baseConfiguration = buildBaseConfiguration();
+
+        consoleManager = new ConsoleManager();
+        consoleManager.install(baseConfiguration.get(ConsoleConfig.class));
         if (!noLogs) {
             logManager.init(baseConfiguration.get(LogConfig.class));
         }
 
         nuunManager = new NuunManager();
-        nuunManager.init();
+        nuunManager.init(baseConfiguration.get(ScanConfig.class));
 
         initialized = true;
     }
@@ -126,6 +131,7 @@ public class Seed {
                 .consoleManager(Holder.INSTANCE.consoleManager)
                 .validatorFactory(Holder.INSTANCE.validatorFactory)
                 .build();
+        diagnosticManager.registerDiagnosticInfoCollector("logs", Holder.INSTANCE.logManager::getStatistics);
 
         // Startup message
         StringBuilder startMessage = new StringBuilder(">>> Starting Seed");
@@ -145,11 +151,26 @@ public class Seed {
             kernelConfiguration = NuunCore.newKernelConfiguration();
         }
         kernelConfiguration.containerContext(seedRuntime);
-        Kernel kernel = Holder.INSTANCE.nuunManager.initKernel(kernelConfiguration, diagnosticManager);
+        StartupTimings startupTimings = seedRuntime.getStartupTimings();
+        long initStart = System.nanoTime();
+        Kernel kernel;
+        try {
+            kernel = Holder.INSTANCE.nuunManager.initKernel(kernelConfiguration, diagnosticManager);
+        } finally {
+            seedRuntime.getStartupExecutor().shutdown();
+        }
+        startupTimings.recordKernelPhase("init", System.nanoTime() - initStart);
         Holder.INSTANCE.registerDiagnosticManager(kernel.name(), diagnosticManager);
         if (autoStart) {
+            long startStart = System.nanoTime();
             kernel.start();
-            LOGGER.info("Seed started");
+            startupTimings.recordKernelPhase("start", System.nanoTime() - startStart);
+            LOGGER.info("Seed started in {} ms (slowest plugins: {})",
+                    TimeUnit.NANOSECONDS.toMillis(startupTimings.getKernelPhase("init") + startupTimings.getKernelPhase("start")),
+                    startupTimings.summary(SLOWEST_PLUGINS_COUNT));
+        }
+        if (LOGGER.isDebugEnabled()) {
+            LOGGER.debug(startupTimings.report());
         }
 
         return kernel;
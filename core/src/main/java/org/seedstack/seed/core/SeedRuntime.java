@@ -12,8 +12,11 @@ import org.seedstack.coffig.Coffig;
 import org.seedstack.coffig.provider.CompositeProvider;
 import org.seedstack.coffig.provider.InMemoryProvider;
 import org.seedstack.seed.DiagnosticManager;
+import org.seedstack.seed.StartupConfig;
 import org.seedstack.seed.core.internal.configuration.PrioritizedProvider;
 import org.seedstack.seed.core.internal.ConsoleManager;
+import org.seedstack.seed.core.internal.StartupExecutor;
+import org.seedstack.seed.core.internal.StartupTimings;
 import org.seedstack.seed.spi.diagnostic.DiagnosticInfoCollector;
 
 import javax.validation.ValidatorFactory;
@@ -34,6 +37,8 @@ public class SeedRuntime {
     private final InMemoryProvider defaultConfigurationProvider;
     private final ConsoleManager consoleManager;
     private final String seedVersion;
+    private final StartupTimings startupTimings = new StartupTimings();
+    private final StartupExecutor startupExecutor;
     private final Set<String> inconsistentPlugins = new HashSet<>();
 
     private SeedRuntime(Object context, DiagnosticManager diagnosticManager, Coffig configuration, ConsoleManager consoleManager, ValidatorFactory validatorFactory) {
@@ -44,7 +49,9 @@ public class SeedRuntime {
         this.validatorFactory = validatorFactory;
         this.seedVersion = SeedRuntime.class.getPackage() == null ? null : SeedRuntime.class.getPackage().getImplementationVersion();
         this.diagnosticManager.registerDiagnosticInfoCollector("seed", new RuntimeDiagnosticInfoCollector());
+        this.diagnosticManager.registerDiagnosticInfoCollector("startup", startupTimings::collect);
         ((CompositeProvider) this.configuration.getProvider()).get(PrioritizedProvider.class).registerProvider("default", defaultConfigurationProvider = new InMemoryProvider(), DEFAULT_CONFIGURATION_PRIORITY);
+        this.startupExecutor = new StartupExecutor(this.configuration.get(StartupConfig.class));
         checkConsistency();
     }
 
@@ -80,6 +87,14 @@ public class SeedRuntime {
         return defaultConfigurationProvider;
     }
 
+    public StartupTimings getStartupTimings() {
+        return startupTimings;
+    }
+
+    public StartupExecutor getStartupExecutor() {
+        return startupExecutor;
+    }
+
     private void checkConsistency() {
         if (seedVersion != null) {
             for (Plugin plugin : ServiceLoader.load(Plugin.class)) {
@@ -9,6 +9,7 @@ package org.seedstack.seed.core.internal;
 
 import com.google.common.collect.Lists;
 import io.nuun.kernel.api.plugin.InitState;
+import io.nuun.kernel.api.plugin.context.Context;
 import io.nuun.kernel.api.plugin.context.InitContext;
 import io.nuun.kernel.core.AbstractPlugin;
 import org.seedstack.coffig.Coffig;
@@ -16,17 +17,26 @@ import org.seedstack.seed.Application;
 import org.seedstack.seed.core.Seed;
 import org.seedstack.seed.core.SeedRuntime;
 import org.seedstack.seed.spi.config.ApplicationProvider;
+import org.seedstack.shed.exception.SeedException;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 
 public abstract class AbstractSeedPlugin extends AbstractPlugin {
+    private SeedRuntime seedRuntime;
     private Application application;
 
     @Override
     public final void provideContainerContext(Object containerContext) {
-        setup(((SeedRuntime) containerContext));
+        seedRuntime = (SeedRuntime) containerContext;
+        long start = System.nanoTime();
+        setup(seedRuntime);
+        seedRuntime.getStartupTimings().recordPluginPhase(name(), "setup", System.nanoTime() - start);
     }
 
     @Override
@@ -38,8 +48,27 @@ public abstract class AbstractSeedPlugin extends AbstractPlugin {
 
     @Override
     public final InitState init(InitContext initContext) {
-        application = initContext.dependency(ApplicationProvider.class).getApplication();
-        return initialize(initContext);
+        long start = System.nanoTime();
+        try {
+            application = initContext.dependency(ApplicationProvider.class).getApplication();
+            return initialize(initContext);
+        } finally {
+            if (seedRuntime != null) {
+                seedRuntime.getStartupTimings().recordPluginPhase(name(), "init", System.nanoTime() - start);
+            }
+        }
+    }
+
+    @Override
+    public final void start(Context context) {
+        long start = System.nanoTime();
+        try {
+            onStart(context);
+        } finally {
+            if (seedRuntime != null) {
+                seedRuntime.getStartupTimings().recordPluginPhase(name(), "start", System.nanoTime() - start);
+            }
+        }
     }
 
     protected void setup(SeedRuntime seedRuntime) {
@@ -49,6 +78,14 @@ public abstract class AbstractSeedPlugin extends AbstractPlugin {
         return InitState.INITIALIZED;
     }
 
+    /**
+     * Called when the kernel starts, after the injector has been created.
+     *
+     * @param context the kernel context.
+     */
+    protected void onStart(Context context) {
+    }
+
     protected Collection<Class<?>> dependencies() {
         return Lists.newArrayList();
     }
@@ -71,4 +108,48 @@ public abstract class AbstractSeedPlugin extends AbstractPlugin {
     protected <T> T getConfiguration(Class<T> configClass, String... path) {
         return getConfiguration().get(configClass, path);
     }
+
+    /**
+     * Submits an initialization task which is executed in background if parallel startup is enabled, or immediately
+     * otherwise. The task must not depend on other plugins being initialized and its result must be awaited before
+     * being used, at the latest when the plugin {@link #nativeUnitModule()} is requested.
+     *
+     * @param task the initialization task.
+     * @param <T>  the type of the task result.
+     * @return the future result of the task.
+     */
+    protected <T> Future<T> submitInitTask(Callable<T> task) {
+        if (seedRuntime == null) {
+            // no runtime (e.g. plugin used outside a kernel), execute synchronously
+            FutureTask<T> futureTask = new FutureTask<>(task);
+            futureTask.run();
+            return futureTask;
+        }
+        return seedRuntime.getStartupExecutor().submit(task);
+    }
+
+    /**
+     * Waits for the result of an initialization task. Runtime exceptions thrown by the task are rethrown as is.
+     *
+     * @param future the future result of the task.
+     * @param <T>    the type of the task result.
+     * @return the result of the task.
+     */
+    protected <T> T awaitInitTask(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw SeedException.wrap(e, CoreErrorCode.UNEXPECTED_EXCEPTION);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            } else if (cause instanceof Error) {
+                throw (Error) cause;
+            } else {
+                throw SeedException.wrap(cause, CoreErrorCode.UNEXPECTED_EXCEPTION);
+            }
+        }
+    }
 }
@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Removes ANSI escape sequences (CSI and OSC) from the output. Text between escape sequences is written in bulk and
+ * writes without any escape character are passed through untouched. Sequences split across writes are handled.
+ */
+class AnsiStrippingOutputStream extends FilterOutputStream {
+    private static final int ESC = 0x1B;
+    private static final int BEL = 0x07;
+    private static final int STATE_TEXT = 0;
+    private static final int STATE_ESCAPE = 1;
+    private static final int STATE_CSI = 2;
+    private static final int STATE_OSC = 3;
+    private static final int STATE_OSC_ESCAPE = 4;
+
+    private int state = STATE_TEXT;
+
+    AnsiStrippingOutputStream(OutputStream out) {
+        super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        write(new byte[]{(byte) b}, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        int end = off + len;
+        int textStart = off;
+        for (int i = off; i < end; i++) {
+            int c = b[i] & 0xFF;
+            switch (state) {
+                case STATE_TEXT:
+                    if (c == ESC) {
+                        if (i > textStart) {
+                            out.write(b, textStart, i - textStart);
+                        }
+                        state = STATE_ESCAPE;
+                    }
+                    break;
+                case STATE_ESCAPE:
+                    if (c == '[') {
+                        state = STATE_CSI;
+                    } else if (c == ']') {
+                        state = STATE_OSC;
+                    } else {
+                        // Two-character sequence
+                        state = STATE_TEXT;
+                        textStart = i + 1;
+                    }
+                    break;
+                case STATE_CSI:
+                    if (c >= 0x40 && c <= 0x7E) {
+                        state = STATE_TEXT;
+                        textStart = i + 1;
+                    }
+                    break;
+                case STATE_OSC:
+                    if (c == BEL) {
+                        state = STATE_TEXT;
+                        textStart = i + 1;
+                    } else if (c == ESC) {
+                        state = STATE_OSC_ESCAPE;
+                    }
+                    break;
+                case STATE_OSC_ESCAPE:
+                    state = c == '\\' ? STATE_TEXT : STATE_OSC;
+                    textStart = i + 1;
+                    break;
+                default:
+                    throw new IllegalStateException("Unknown state " + state);
+            }
+        }
+        if (state == STATE_TEXT && textStart < end) {
+            out.write(b, textStart, end - textStart);
+        }
+    }
+}
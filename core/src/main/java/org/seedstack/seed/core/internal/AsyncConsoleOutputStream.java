@@ -0,0 +1,133 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Hands console writes over to a background writer thread through a bounded queue. The writer drains all pending
+ * writes at once and flushes the underlying stream when the queue is empty. When the queue is full, writers either
+ * wait or their output is discarded.
+ */
+class AsyncConsoleOutputStream extends OutputStream {
+    private static final long POLL_TIMEOUT = 100;
+    private final OutputStream out;
+    private final BlockingQueue<byte[]> queue;
+    private final boolean blockWhenFull;
+    private final LongAdder discarded = new LongAdder();
+    private final Thread writer;
+    private volatile boolean running = true;
+
+    AsyncConsoleOutputStream(OutputStream out, int queueSize, boolean blockWhenFull) {
+        this.out = out;
+        this.queue = new ArrayBlockingQueue<>(queueSize);
+        this.blockWhenFull = blockWhenFull;
+        this.writer = new Thread(this::drain, "seed-console-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        enqueue(new byte[]{(byte) b});
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        if (len > 0) {
+            enqueue(Arrays.copyOfRange(b, off, off + len));
+        }
+    }
+
+    @Override
+    public void flush() throws IOException {
+        // flushed by the writer thread when idle
+    }
+
+    /**
+     * Stops the writer thread, waiting at most the specified time for pending writes to complete, then writes any
+     * remaining output synchronously. The underlying stream is not closed.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit    the unit of the timeout.
+     */
+    void shutdown(long timeout, TimeUnit unit) {
+        running = false;
+        try {
+            writer.join(unit.toMillis(timeout));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        List<byte[]> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        writeAll(remaining);
+    }
+
+    long getDiscarded() {
+        return discarded.sum();
+    }
+
+    private void enqueue(byte[] bytes) throws IOException {
+        if (!running) {
+            synchronized (out) {
+                out.write(bytes);
+                out.flush();
+            }
+        } else if (blockWhenFull) {
+            try {
+                queue.put(bytes);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while waiting for console output", e);
+            }
+        } else if (!queue.offer(bytes)) {
+            discarded.increment();
+        }
+    }
+
+    private void drain() {
+        List<byte[]> batch = new ArrayList<>();
+        while (running || !queue.isEmpty()) {
+            try {
+                byte[] first = queue.poll(POLL_TIMEOUT, TimeUnit.MILLISECONDS);
+                if (first != null) {
+                    batch.add(first);
+                    queue.drainTo(batch);
+                    writeAll(batch);
+                    batch.clear();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void writeAll(List<byte[]> batch) {
+        synchronized (out) {
+            try {
+                for (byte[] bytes : batch) {
+                    out.write(bytes);
+                }
+                if (queue.isEmpty()) {
+                    out.flush();
+                }
+            } catch (IOException e) {
+                // nowhere to report console errors
+            }
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Batches console writes in a fixed-size buffer. When a flush period is specified, a background thread periodically
+ * flushes the buffer and explicit flushes (like the ones issued after each logging event) are deferred to it.
+ */
+class BufferedConsoleOutputStream extends OutputStream {
+    private final OutputStream out;
+    private final byte[] buffer;
+    private final ScheduledExecutorService flusher;
+    private int count;
+    private boolean stopped;
+
+    BufferedConsoleOutputStream(OutputStream out, int bufferSize, long flushPeriod) {
+        this.out = out;
+        this.buffer = new byte[bufferSize];
+        if (flushPeriod > 0) {
+            this.flusher = Executors.newSingleThreadScheduledExecutor(new ThreadFactoryBuilder()
+                    .setNameFormat("seed-console-flusher")
+                    .setDaemon(true)
+                    .build());
+            this.flusher.scheduleAtFixedRate(this::flushQuietly, flushPeriod, flushPeriod, TimeUnit.MILLISECONDS);
+        } else {
+            this.flusher = null;
+        }
+    }
+
+    @Override
+    public synchronized void write(int b) throws IOException {
+        if (stopped) {
+            out.write(b);
+            out.flush();
+            return;
+        }
+        if (count == buffer.length) {
+            flushBuffer();
+        }
+        buffer[count++] = (byte) b;
+    }
+
+    @Override
+    public synchronized void write(byte[] b, int off, int len) throws IOException {
+        if (stopped) {
+            out.write(b, off, len);
+            out.flush();
+            return;
+        }
+        if (len >= buffer.length) {
+            flushBuffer();
+            out.write(b, off, len);
+            return;
+        }
+        if (len > buffer.length - count) {
+            flushBuffer();
+        }
+        System.arraycopy(b, off, buffer, count, len);
+        count += len;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (flusher == null) {
+            forceFlush();
+        }
+    }
+
+    /**
+     * Stops the background flusher and writes any buffered output. Subsequent writes go directly to the underlying
+     * stream, which is not closed.
+     */
+    synchronized void shutdown() {
+        if (flusher != null) {
+            flusher.shutdownNow();
+        }
+        stopped = true;
+        flushQuietly();
+    }
+
+    synchronized void forceFlush() throws IOException {
+        flushBuffer();
+        out.flush();
+    }
+
+    private void flushQuietly() {
+        try {
+            forceFlush();
+        } catch (IOException e) {
+            // nowhere to report console errors
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (count > 0) {
+            out.write(buffer, 0, count);
+            count = 0;
+        }
+    }
+}
@@ -9,31 +9,58 @@ package org.seedstack.seed.core.internal;
 
 import org.fusesource.jansi.AnsiOutputStream;
 import org.fusesource.jansi.WindowsAnsiOutputStream;
+import org.seedstack.seed.ConsoleConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.PrintStream;
+import java.util.concurrent.TimeUnit;
 
 import static org.fusesource.jansi.internal.CLibrary.STDOUT_FILENO;
 import static org.fusesource.jansi.internal.CLibrary.isatty;
 
 public class ConsoleManager {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ConsoleManager.class);
+    private static final long SHUTDOWN_TIMEOUT = 5;
     private volatile boolean colorSupported;
     private PrintStream savedOut;
     private PrintStream savedErr;
+    private BufferedConsoleOutputStream bufferedOut;
+    private AsyncConsoleOutputStream asyncOut;
+    private Thread shutdownHook;
 
     public synchronized void install() {
+        install(new ConsoleConfig());
+    }
+
+    public synchronized void install(ConsoleConfig consoleConfig) {
         OutputStream out = wrapOutputStream(System.out);
         OutputStream err = wrapOutputStream(System.err);
         colorSupported = isColorSupported(out) && isColorSupported(err);
         savedOut = System.out;
-        System.setOut(new PrintStream(out));
+        System.setOut(new PrintStream(decorateOutputStream(out, consoleConfig)));
         savedErr = System.err;
         System.setErr(new PrintStream(err));
+        if (bufferedOut != null || asyncOut != null) {
+            // pending output must not be lost when the JVM exits without uninstalling the console
+            shutdownHook = new Thread(this::drainOutput, "seed-console-shutdown");
+            Runtime.getRuntime().addShutdownHook(shutdownHook);
+        }
     }
 
     public synchronized void uninstall() {
+        if (shutdownHook != null) {
+            try {
+                Runtime.getRuntime().removeShutdownHook(shutdownHook);
+            } catch (IllegalStateException e) {
+                // already shutting down
+            }
+            shutdownHook = null;
+        }
+        drainOutput();
         System.setOut(savedOut);
         System.setErr(savedErr);
         colorSupported = false;
@@ -43,10 +70,39 @@ public class ConsoleManager {
         return colorSupported;
     }
 
+    /**
+     * Writes pending console output. Subsequent output is written synchronously.
+     */
+    private synchronized void drainOutput() {
+        if (bufferedOut != null) {
+            bufferedOut.shutdown();
+            bufferedOut = null;
+        }
+        if (asyncOut != null) {
+            asyncOut.shutdown(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+            long discarded = asyncOut.getDiscarded();
+            if (discarded > 0) {
+                LOGGER.warn("{} console write(s) were discarded because the console queue was full, consider increasing console.queueSize or enabling console.blockWhenFull", discarded);
+            }
+            asyncOut = null;
+        }
+    }
+
     private boolean isColorSupported(OutputStream outputStream) {
         return outputStream instanceof ColorOutputStream || outputStream instanceof WindowsAnsiOutputStream;
     }
 
+    private OutputStream decorateOutputStream(OutputStream stream, ConsoleConfig consoleConfig) {
+        switch (consoleConfig.getMode()) {
+            case BUFFERED:
+                return bufferedOut = new BufferedConsoleOutputStream(stream, consoleConfig.getBufferSize(), consoleConfig.getFlushPeriod());
+            case ASYNC:
+                return asyncOut = new AsyncConsoleOutputStream(stream, consoleConfig.getQueueSize(), consoleConfig.isBlockWhenFull());
+            default:
+                return stream;
+        }
+    }
+
     private OutputStream wrapOutputStream(final OutputStream stream) {
         try {
             if (isIntelliJ() || isTTY() || isCygwin()) {
@@ -74,7 +130,7 @@ public class ConsoleManager {
     }
 
     private FilterOutputStream basicOutput(OutputStream stream) {
-        return new AnsiOutputStream(stream);
+        return new AnsiStrippingOutputStream(stream);
     }
 
     private boolean isIntelliJ() {
@@ -107,6 +163,11 @@ public class ConsoleManager {
             super(stream);
         }
 
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
         @Override
         public void close() throws IOException {
             write(AnsiOutputStream.REST_CODE);
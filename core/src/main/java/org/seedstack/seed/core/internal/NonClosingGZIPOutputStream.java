@@ -0,0 +1,44 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip stream which, when closed, writes the remaining compressed data and releases its native deflater but leaves the
+ * underlying stream open. It allows to compress data into a stream owned by someone else (like a servlet response)
+ * without keeping the zlib memory of the deflater until finalization.
+ */
+public class NonClosingGZIPOutputStream extends GZIPOutputStream {
+    private boolean closed;
+
+    /**
+     * Creates a new gzip stream with the specified buffer size.
+     *
+     * @param out  the underlying stream, which is not closed by this stream.
+     * @param size the buffer size.
+     * @throws IOException if the gzip header cannot be written.
+     */
+    public NonClosingGZIPOutputStream(OutputStream out, int size) throws IOException {
+        super(out, size);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                finish();
+            } finally {
+                def.end();
+            }
+        }
+    }
+}
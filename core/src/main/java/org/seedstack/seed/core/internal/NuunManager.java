@@ -7,32 +7,40 @@
  */
 package org.seedstack.seed.core.internal;
 
+import com.google.common.hash.Hashing;
 import io.nuun.kernel.api.Kernel;
 import io.nuun.kernel.api.config.KernelConfiguration;
 import io.nuun.kernel.core.NuunCore;
 import io.nuun.kernel.core.internal.scanner.AbstractClasspathScanner;
 import org.reflections.vfs.Vfs;
+import org.seedstack.seed.ScanConfig;
 import org.seedstack.seed.core.internal.diagnostic.DiagnosticManagerImpl;
 import org.seedstack.seed.core.internal.scan.ClasspathScanHandler;
 import org.seedstack.seed.core.internal.scan.FallbackUrlType;
+import org.seedstack.seed.core.internal.scan.IndexedJarUrlType;
+import org.seedstack.seed.core.internal.scan.ScanIndex;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.io.File;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
+import java.util.concurrent.TimeUnit;
 
 public class NuunManager {
     private static final Logger LOGGER = LoggerFactory.getLogger(NuunManager.class);
 
     private List<Vfs.UrlType> savedUrlTypes;
     private List<Vfs.UrlType> detectedUrlTypes;
+    private ScanIndex scanIndex;
     private boolean initialized;
 
-    public synchronized void init() {
+    public synchronized void init(ScanConfig scanConfig) {
         // Load Nuun and Reflections classes to force initialization of Vfs url types
         try {
             Class.forName(Vfs.class.getCanonicalName());
@@ -52,6 +60,12 @@ public class NuunManager {
         }
         detectedUrlTypes = urlTypes;
 
+        // Load the jar index if enabled
+        if (scanConfig.isIndexEnabled()) {
+            scanIndex = new ScanIndex(resolveIndexFile(scanConfig));
+            scanIndex.load();
+        }
+
         initialized = true;
     }
 
@@ -63,7 +77,11 @@ public class NuunManager {
         // Kernel instantiation
         Kernel kernel = NuunCore.createKernel(kernelConfiguration);
         FallbackUrlType fallbackUrlType = new FallbackUrlType();
-        List<Vfs.UrlType> urlTypes = new ArrayList<>(detectedUrlTypes);
+        List<Vfs.UrlType> urlTypes = new ArrayList<>();
+        if (scanIndex != null) {
+            urlTypes.add(new IndexedJarUrlType(scanIndex));
+        }
+        urlTypes.addAll(detectedUrlTypes);
         urlTypes.add(fallbackUrlType);
 
         LOGGER.debug("Registered URL types for classpath scan: " + urlTypes);
@@ -73,6 +91,14 @@ public class NuunManager {
         kernel.init();
         Vfs.setDefaultURLTypes(savedUrlTypes);
 
+        // Persist the jar index if it changed
+        if (scanIndex != null) {
+            scanIndex.save();
+            LOGGER.debug("Classpath scan index: {} jar(s) read from the index in {} ms, {} jar(s) read in {} ms",
+                    scanIndex.getHits(), TimeUnit.NANOSECONDS.toMillis(scanIndex.getIndexReadNanos()),
+                    scanIndex.getMisses(), TimeUnit.NANOSECONDS.toMillis(scanIndex.getJarReadNanos()));
+        }
+
         // Log if any URL were not scanned
         int failedUrlCount = fallbackUrlType.getFailedUrls().size();
         if (failedUrlCount > 0) {
@@ -87,9 +113,21 @@ public class NuunManager {
         diagnosticManager.registerDiagnosticInfoCollector("nuun", () -> {
             Map<String, Object> result = new HashMap<>();
             result.put("scanned-urls", kernel.scannedURLs());
+            if (scanIndex != null) {
+                result.put("scan-index", scanIndex.getStatistics());
+            }
             return result;
         });
 
         return kernel;
     }
+
+    private File resolveIndexFile(ScanConfig scanConfig) {
+        if (scanConfig.getIndexFile() != null) {
+            return scanConfig.getIndexFile();
+        }
+        String classpathHash = Hashing.murmur3_128().hashString(System.getProperty("java.class.path", ""), StandardCharsets.UTF_8).toString();
+        // The index is kept in a per-user directory to prevent other local users from tampering with it
+        return new File(new File(System.getProperty("user.home"), ".seed" + File.separator + "scan-index"), classpathHash + ".idx");
+    }
 }
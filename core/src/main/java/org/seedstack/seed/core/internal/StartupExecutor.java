@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.seedstack.seed.StartupConfig;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Runs plugin initialization tasks. When parallel startup is enabled, tasks are executed by a dedicated thread pool
+ * which is shut down once the kernel is initialized. Otherwise they are executed immediately by the calling thread.
+ */
+public class StartupExecutor {
+    private final ExecutorService executorService;
+
+    public StartupExecutor(StartupConfig startupConfig) {
+        if (startupConfig.isParallel()) {
+            this.executorService = Executors.newFixedThreadPool(startupConfig.getThreads(), new ThreadFactoryBuilder()
+                    .setNameFormat("seed-startup-%d")
+                    .setDaemon(true)
+                    .build());
+        } else {
+            this.executorService = null;
+        }
+    }
+
+    public boolean isParallel() {
+        return executorService != null;
+    }
+
+    public <T> Future<T> submit(Callable<T> task) {
+        if (executorService != null) {
+            try {
+                return executorService.submit(task);
+            } catch (RejectedExecutionException e) {
+                // executor already shut down, fall back to synchronous execution
+            }
+        }
+        FutureTask<T> futureTask = new FutureTask<>(task);
+        futureTask.run();
+        return futureTask;
+    }
+
+    /**
+     * Stops accepting tasks. Already submitted tasks are still executed.
+     */
+    public void shutdown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records the duration of the kernel startup phases and of each plugin phase. A plugin phase invoked multiple times
+ * (like initialization rounds) accumulates its durations.
+ */
+public class StartupTimings {
+    private final Map<String, Map<String, Long>> pluginTimings = new LinkedHashMap<>();
+    private final Map<String, Long> kernelTimings = new LinkedHashMap<>();
+
+    public synchronized void recordPluginPhase(String plugin, String phase, long nanos) {
+        pluginTimings.computeIfAbsent(plugin, key -> new LinkedHashMap<>()).merge(phase, nanos, Long::sum);
+    }
+
+    public synchronized void recordKernelPhase(String phase, long nanos) {
+        kernelTimings.merge(phase, nanos, Long::sum);
+    }
+
+    public synchronized long getKernelPhase(String phase) {
+        return kernelTimings.getOrDefault(phase, 0L);
+    }
+
+    public synchronized Map<String, Object> collect() {
+        Map<String, Object> result = new HashMap<>();
+        Map<String, Object> kernel = new LinkedHashMap<>();
+        for (Map.Entry<String, Long> entry : kernelTimings.entrySet()) {
+            kernel.put(entry.getKey() + "-ms", toMillis(entry.getValue()));
+        }
+        result.put("kernel", kernel);
+
+        Map<String, Object> plugins = new LinkedHashMap<>();
+        for (Map.Entry<String, Map<String, Long>> pluginEntry : pluginTimings.entrySet()) {
+            Map<String, Object> phases = new LinkedHashMap<>();
+            for (Map.Entry<String, Long> phaseEntry : pluginEntry.getValue().entrySet()) {
+                phases.put(phaseEntry.getKey() + "-ms", toMillis(phaseEntry.getValue()));
+            }
+            plugins.put(pluginEntry.getKey(), phases);
+        }
+        result.put("plugins", plugins);
+        return result;
+    }
+
+    /**
+     * @param count the maximum number of plugins to include.
+     * @return a one-line summary of the slowest plugins.
+     */
+    public synchronized String summary(int count) {
+        StringBuilder sb = new StringBuilder();
+        for (Map.Entry<String, Map<String, Long>> entry : sortedPluginTimings()) {
+            if (count-- <= 0) {
+                break;
+            }
+            if (sb.length() > 0) {
+                sb.append(", ");
+            }
+            sb.append(entry.getKey()).append(' ').append(toMillis(total(entry.getValue()))).append(" ms");
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @return a human-readable report of plugin timings, the most expensive plugins first.
+     */
+    public synchronized String report() {
+        StringBuilder sb = new StringBuilder("Plugin startup timings:");
+        for (Map.Entry<String, Map<String, Long>> entry : sortedPluginTimings()) {
+            sb.append("\n  ").append(entry.getKey()).append(": ").append(toMillis(total(entry.getValue()))).append(" ms");
+            for (Map.Entry<String, Long> phase : entry.getValue().entrySet()) {
+                sb.append(" [").append(phase.getKey()).append(' ').append(toMillis(phase.getValue())).append(" ms]");
+            }
+        }
+        return sb.toString();
+    }
+
+    private List<Map.Entry<String, Map<String, Long>>> sortedPluginTimings() {
+        List<Map.Entry<String, Map<String, Long>>> entries = new ArrayList<>(pluginTimings.entrySet());
+        entries.sort((o1, o2) -> Long.compare(total(o2.getValue()), total(o1.getValue())));
+        return entries;
+    }
+
+    private long total(Map<String, Long> phases) {
+        long total = 0;
+        for (Long nanos : phases.values()) {
+            total += nanos;
+        }
+        return total;
+    }
+
+    private double toMillis(long nanos) {
+        return Math.round(nanos / (double) TimeUnit.MILLISECONDS.toNanos(1) * 10) / 10d;
+    }
+}
@@ -0,0 +1,94 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.crypto;
+
+import org.seedstack.shed.exception.SeedException;
+
+import javax.crypto.Cipher;
+import javax.crypto.NoSuchPaddingException;
+import java.security.InvalidKeyException;
+import java.security.Key;
+import java.security.NoSuchAlgorithmException;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded pool of {@link Cipher} instances for a given transformation. Creating a cipher involves a provider lookup and,
+ * when the pool is bound to a key, the key setup, so ciphers are reused across calls instead. A cipher is not
+ * thread-safe: it must be acquired for the duration of an operation then released, or simply dropped if the operation
+ * failed and left it in an unknown state.
+ */
+class CipherPool {
+    private static final int MAX_IDLE_CIPHERS = Runtime.getRuntime().availableProcessors() * 2;
+    private final Queue<Cipher> idleCiphers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final String transformation;
+    private final int opMode;
+    private final Key key;
+
+    /**
+     * Creates a pool of uninitialized ciphers, which must be initialized by the caller before each use.
+     *
+     * @param transformation the cipher transformation.
+     */
+    CipherPool(String transformation) {
+        this(transformation, 0, null);
+    }
+
+    /**
+     * Creates a pool of ciphers initialized once with the specified operation mode and key.
+     *
+     * @param transformation the cipher transformation.
+     * @param opMode         the operation mode of the cipher.
+     * @param key            the key of the cipher.
+     */
+    CipherPool(String transformation, int opMode, Key key) {
+        this.transformation = transformation;
+        this.opMode = opMode;
+        this.key = key;
+    }
+
+    /**
+     * Returns an idle cipher or creates a new one if none is available.
+     *
+     * @return the cipher.
+     * @throws InvalidKeyException if the key of the pool is inappropriate for the cipher.
+     */
+    Cipher acquire() throws InvalidKeyException {
+        Cipher cipher = idleCiphers.poll();
+        if (cipher != null) {
+            idleCount.decrementAndGet();
+            return cipher;
+        }
+
+        try {
+            cipher = Cipher.getInstance(transformation);
+        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.UNABLE_TO_GET_CIPHER)
+                    .put("cipher", transformation);
+        }
+        if (key != null) {
+            cipher.init(opMode, key);
+        }
+        return cipher;
+    }
+
+    /**
+     * Gives a cipher back to the pool. It is discarded if enough ciphers are already idle.
+     *
+     * @param cipher the cipher, which must be in its initialized state.
+     */
+    void release(Cipher cipher) {
+        if (idleCount.incrementAndGet() <= MAX_IDLE_CIPHERS) {
+            idleCiphers.offer(cipher);
+        } else {
+            idleCount.decrementAndGet();
+        }
+    }
+}
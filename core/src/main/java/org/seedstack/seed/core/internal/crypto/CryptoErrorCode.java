@@ -18,6 +18,7 @@ public enum CryptoErrorCode implements ErrorCode {
     ALGORITHM_CANNOT_BE_FOUND,
     CERTIFICATE_NOT_FOUND,
     INCORRECT_PASSWORD,
+    INVALID_ENCRYPTED_STREAM,
     INVALID_QUALIFIER_ANNOTATION,
     KEYSTORE_CONFIGURATION_ERROR,
     KEYSTORE_NOT_FOUND,
@@ -28,6 +28,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Future;
 
 public class CryptoPlugin extends AbstractSeedPlugin implements SSLProvider {
     private static final Logger LOGGER = LoggerFactory.getLogger(CryptoPlugin.class);
@@ -39,7 +40,9 @@ public class CryptoPlugin extends AbstractSeedPlugin implements SSLProvider {
     private final Map<String, KeyStore> keyStores = new HashMap<>();
     private final Map<String, CryptoConfig.KeyStoreConfig> keyStoreConfigs = new HashMap<>();
     private final List<KeyPairConfig> keyPairConfigs = new ArrayList<>();
+    private final Map<String, Future<KeyStore>> pendingKeyStores = new HashMap<>();
 
+    private CryptoConfig cryptoConfig;
     private CryptoConfig.SSLConfig sslConfig;
     private SSLContext sslContext;
 
@@ -50,20 +53,39 @@ public class CryptoPlugin extends AbstractSeedPlugin implements SSLProvider {
 
     @Override
     public Object nativeUnitModule() {
+        completeInitialization();
         return new CryptoModule(encryptionServices, keyStores);
     }
 
     @Override
     public InitState initialize(InitContext initContext) {
-        CryptoConfig cryptoConfig = getConfiguration(CryptoConfig.class);
+        cryptoConfig = getConfiguration(CryptoConfig.class);
+        sslConfig = cryptoConfig.ssl();
 
-        // Load key stores
+        // Load key stores (concurrently if parallel startup is enabled)
         KeyStoreLoader keyStoreLoader = new KeyStoreLoader();
         for (Map.Entry<String, CryptoConfig.KeyStoreConfig> entry : cryptoConfig.keyStores().entrySet()) {
-            keyStores.put(entry.getKey(), keyStoreLoader.load(entry.getKey(), entry.getValue()));
+            pendingKeyStores.put(entry.getKey(), submitInitTask(() -> keyStoreLoader.load(entry.getKey(), entry.getValue())));
             keyStoreConfigs.put(entry.getKey(), entry.getValue());
         }
 
+        // Complete now if key stores are already loaded, otherwise when the plugin module or SSL context is requested
+        if (pendingKeyStores.values().stream().allMatch(Future::isDone)) {
+            completeInitialization();
+        }
+
+        return InitState.INITIALIZED;
+    }
+
+    private synchronized void completeInitialization() {
+        if (pendingKeyStores.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Future<KeyStore>> entry : pendingKeyStores.entrySet()) {
+            keyStores.put(entry.getKey(), awaitInitTask(entry.getValue()));
+        }
+        pendingKeyStores.clear();
+
         // Retrieve key pair configurations
         KeyPairConfigFactory keyPairConfigFactory = new KeyPairConfigFactory(cryptoConfig);
         for (Map.Entry<String, KeyStore> entry : keyStores.entrySet()) {
@@ -75,10 +97,7 @@ public class CryptoPlugin extends AbstractSeedPlugin implements SSLProvider {
         LOGGER.debug("Registered {} cryptographic key(s)", encryptionServices.size());
 
         // init SSL context if possible
-        this.sslConfig = cryptoConfig.ssl();
         this.sslContext = configureSSL(this.sslConfig);
-
-        return InitState.INITIALIZED;
     }
 
     private SSLContext configureSSL(CryptoConfig.SSLConfig sslConfig) {
@@ -121,6 +140,7 @@ public class CryptoPlugin extends AbstractSeedPlugin implements SSLProvider {
 
     @Override
     public Optional<SSLContext> sslContext() {
+        completeInitialization();
         return Optional.ofNullable(sslContext);
     }
 
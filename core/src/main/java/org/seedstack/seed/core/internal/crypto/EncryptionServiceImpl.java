@@ -17,63 +17,110 @@ import javax.annotation.Nullable;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
-import javax.crypto.NoSuchPaddingException;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.InvalidKeyException;
 import java.security.Key;
-import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
+import java.security.SecureRandom;
 
 class EncryptionServiceImpl implements EncryptionService {
     private static final String CIPHER = "RSA/ECB/PKCS1PADDING";
+    private static final CipherPool DATA_CIPHERS = new CipherPool(EnvelopeFormat.DATA_CIPHER);
+    private final SecureRandom secureRandom = new SecureRandom();
     private final String alias;
-    private final PublicKey publicKey;
-    private final Key privateKey;
+    private final CipherPool encryptionCiphers;
+    private final CipherPool decryptionCiphers;
+    private final CipherPool keyWrappingCiphers;
+    private final CipherPool keyUnwrappingCiphers;
 
     EncryptionServiceImpl(String alias, @Nullable PublicKey publicKey, @Nullable Key privateKey) {
         this.alias = alias;
-        this.publicKey = publicKey;
-        this.privateKey = privateKey;
+        if (publicKey != null) {
+            this.encryptionCiphers = new CipherPool(CIPHER, Cipher.ENCRYPT_MODE, publicKey);
+            this.keyWrappingCiphers = new CipherPool(EnvelopeFormat.KEY_WRAPPING_CIPHER, Cipher.WRAP_MODE, publicKey);
+        } else {
+            this.encryptionCiphers = null;
+            this.keyWrappingCiphers = null;
+        }
+        if (privateKey != null) {
+            this.decryptionCiphers = new CipherPool(CIPHER, Cipher.DECRYPT_MODE, privateKey);
+            this.keyUnwrappingCiphers = new CipherPool(EnvelopeFormat.KEY_WRAPPING_CIPHER, Cipher.UNWRAP_MODE, privateKey);
+        } else {
+            this.decryptionCiphers = null;
+            this.keyUnwrappingCiphers = null;
+        }
     }
 
     @Override
     public byte[] encrypt(byte[] toCrypt) throws InvalidKeyException {
-        if (this.publicKey == null) {
+        if (this.encryptionCiphers == null) {
             throw SeedException.createNew(CryptoErrorCode.MISSING_PUBLIC_KEY).put("alias", alias);
         }
-        return doEncryptionOrDecryption(toCrypt, publicKey, Cipher.ENCRYPT_MODE);
+        return doEncryptionOrDecryption(toCrypt, encryptionCiphers);
     }
 
     @Override
     public byte[] decrypt(byte[] toDecrypt) throws InvalidKeyException {
-        if (this.privateKey == null) {
+        if (this.decryptionCiphers == null) {
+            throw SeedException.createNew(CryptoErrorCode.MISSING_PRIVATE_KEY).put("alias", alias);
+        }
+        return doEncryptionOrDecryption(toDecrypt, decryptionCiphers);
+    }
+
+    @Override
+    public OutputStream encrypt(OutputStream outputStream) throws InvalidKeyException {
+        if (this.keyWrappingCiphers == null) {
+            throw SeedException.createNew(CryptoErrorCode.MISSING_PUBLIC_KEY).put("alias", alias);
+        }
+
+        byte[] keyBytes = new byte[EnvelopeFormat.DATA_KEY_SIZE];
+        secureRandom.nextBytes(keyBytes);
+        SecretKey dataKey = new SecretKeySpec(keyBytes, EnvelopeFormat.DATA_KEY_ALGORITHM);
+        byte[] noncePrefix = new byte[EnvelopeFormat.NONCE_PREFIX_SIZE];
+        secureRandom.nextBytes(noncePrefix);
+
+        Cipher keyWrappingCipher = keyWrappingCiphers.acquire();
+        byte[] wrappedKey;
+        try {
+            wrappedKey = keyWrappingCipher.wrap(dataKey);
+        } catch (IllegalBlockSizeException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.UNEXPECTED_EXCEPTION);
+        }
+        keyWrappingCiphers.release(keyWrappingCipher);
+
+        return new EnvelopeOutputStream(outputStream, wrappedKey, dataKey, noncePrefix, DATA_CIPHERS.acquire(), DATA_CIPHERS);
+    }
+
+    @Override
+    public InputStream decrypt(InputStream inputStream) throws InvalidKeyException {
+        if (this.keyUnwrappingCiphers == null) {
             throw SeedException.createNew(CryptoErrorCode.MISSING_PRIVATE_KEY).put("alias", alias);
         }
-        return doEncryptionOrDecryption(toDecrypt, privateKey, Cipher.DECRYPT_MODE);
+        return new EnvelopeInputStream(inputStream, keyUnwrappingCiphers.acquire(), keyUnwrappingCiphers, DATA_CIPHERS.acquire(), DATA_CIPHERS);
     }
 
     /**
-     * Encrypts or decrypts a byte[].
+     * Encrypts or decrypts a byte[] with a cipher borrowed from the specified pool. A cipher that failed is not given
+     * back to the pool.
      *
-     * @param crypt byte[] to encrypt or decrypt
-     * @param key   key to use
-     * @param mode  {@link Cipher#DECRYPT_MODE} to decrypt or {@link Cipher#ENCRYPT_MODE} to encrypt
+     * @param crypt      byte[] to encrypt or decrypt
+     * @param cipherPool pool of ciphers initialized with the key and the mode to use
      * @return byte[] encrypted or decrypted
      * @throws InvalidKeyException if the given key is inappropriate for initializing this cipher. See {@link Cipher#init(int, java.security.Key)}
      */
-    private byte[] doEncryptionOrDecryption(byte[] crypt, Key key, int mode) throws InvalidKeyException {
-        Cipher rsaCipher;
-        try {
-            rsaCipher = Cipher.getInstance(CIPHER);
-        } catch (NoSuchAlgorithmException | NoSuchPaddingException e) {
-            throw SeedException.wrap(e, CryptoErrorCode.UNABLE_TO_GET_CIPHER)
-                    .put("cipher", CIPHER);
-        }
-        rsaCipher.init(mode, key);
+    private byte[] doEncryptionOrDecryption(byte[] crypt, CipherPool cipherPool) throws InvalidKeyException {
+        Cipher rsaCipher = cipherPool.acquire();
+        byte[] result;
         try {
-            return rsaCipher.doFinal(crypt);
+            result = rsaCipher.doFinal(crypt);
         } catch (IllegalBlockSizeException | BadPaddingException e) {
             throw SeedException.wrap(e, CryptoErrorCode.UNEXPECTED_EXCEPTION);
         }
+        cipherPool.release(rsaCipher);
+        return result;
     }
 
 }
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.crypto;
+
+import javax.crypto.spec.GCMParameterSpec;
+
+/**
+ * Layout of envelope-encrypted streams. Data is encrypted with a random AES data key, itself encrypted (wrapped) with
+ * the RSA public key of the recipient:
+ * <pre>
+ * version (1 byte) | wrapped key length (2 bytes) | wrapped key | nonce prefix (8 bytes) | segment...
+ * </pre>
+ * Data is split into segments of at most {@link #SEGMENT_SIZE} bytes, each encrypted with AES-GCM so it can be
+ * authenticated and released before the end of the stream is reached:
+ * <pre>
+ * last segment flag (1 byte) | encrypted length (4 bytes) | encrypted segment with its authentication tag
+ * </pre>
+ * The nonce of a segment is made of the nonce prefix and of the segment index, and its flag is authenticated along with
+ * it, so reordered, truncated or extended streams are detected.
+ */
+final class EnvelopeFormat {
+    static final int VERSION = 1;
+    static final String KEY_WRAPPING_CIPHER = "RSA/ECB/OAEPWithSHA-256AndMGF1Padding";
+    static final String DATA_CIPHER = "AES/GCM/NoPadding";
+    static final String DATA_KEY_ALGORITHM = "AES";
+    static final int DATA_KEY_SIZE = 32;
+    static final int NONCE_PREFIX_SIZE = 8;
+    static final int TAG_SIZE = 16;
+    static final int SEGMENT_SIZE = 65536;
+    static final int INTERMEDIATE_SEGMENT = 0;
+    static final int LAST_SEGMENT = 1;
+
+    private EnvelopeFormat() {
+        // no instantiation allowed
+    }
+
+    static GCMParameterSpec segmentParameters(byte[] noncePrefix, int segmentIndex) {
+        byte[] nonce = new byte[NONCE_PREFIX_SIZE + 4];
+        System.arraycopy(noncePrefix, 0, nonce, 0, NONCE_PREFIX_SIZE);
+        nonce[NONCE_PREFIX_SIZE] = (byte) (segmentIndex >>> 24);
+        nonce[NONCE_PREFIX_SIZE + 1] = (byte) (segmentIndex >>> 16);
+        nonce[NONCE_PREFIX_SIZE + 2] = (byte) (segmentIndex >>> 8);
+        nonce[NONCE_PREFIX_SIZE + 3] = (byte) segmentIndex;
+        return new GCMParameterSpec(TAG_SIZE * 8, nonce);
+    }
+}
@@ -0,0 +1,171 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.crypto;
+
+import org.seedstack.shed.exception.SeedException;
+
+import javax.crypto.AEADBadTagException;
+import javax.crypto.Cipher;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+
+/**
+ * Stream decrypting data in the format described by {@link EnvelopeFormat}. The data key is unwrapped when the stream
+ * is first read and each segment is authenticated before being returned. Malformed, truncated or tampered streams are
+ * rejected with {@link CryptoErrorCode#INVALID_ENCRYPTED_STREAM}. Ciphers are only returned to their pool if they are
+ * in a clean state, that is if no failure occurred while using them.
+ */
+class EnvelopeInputStream extends InputStream {
+    private final DataInputStream in;
+    private final Cipher unwrappingCipher;
+    private final CipherPool unwrappingCipherPool;
+    private final Cipher cipher;
+    private final CipherPool cipherPool;
+    private final byte[] encryptedSegment = new byte[EnvelopeFormat.SEGMENT_SIZE + EnvelopeFormat.TAG_SIZE];
+    private final byte[] segment = new byte[EnvelopeFormat.SEGMENT_SIZE];
+    private Key dataKey;
+    private byte[] noncePrefix;
+    private int segmentIndex;
+    private int position;
+    private int limit;
+    private boolean lastSegmentRead;
+    private boolean failed;
+    private boolean closed;
+
+    EnvelopeInputStream(InputStream in, Cipher unwrappingCipher, CipherPool unwrappingCipherPool, Cipher cipher, CipherPool cipherPool) {
+        this.in = new DataInputStream(in);
+        this.unwrappingCipher = unwrappingCipher;
+        this.unwrappingCipherPool = unwrappingCipherPool;
+        this.cipher = cipher;
+        this.cipherPool = cipherPool;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (position == limit && !readSegment()) {
+            return -1;
+        }
+        return segment[position++] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        } else if (len == 0) {
+            return 0;
+        }
+        if (position == limit && !readSegment()) {
+            return -1;
+        }
+        int count = Math.min(len, limit - position);
+        System.arraycopy(segment, position, b, off, count);
+        position += count;
+        return count;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return limit - position;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            if (!failed) {
+                if (dataKey == null) {
+                    // the header was never read so the unwrapping cipher has not been used
+                    unwrappingCipherPool.release(unwrappingCipher);
+                }
+                cipherPool.release(cipher);
+            }
+            in.close();
+        }
+    }
+
+    private boolean readSegment() throws IOException {
+        ensureOpen();
+        boolean succeeded = false;
+        try {
+            boolean segmentRead = readNextSegment();
+            succeeded = true;
+            return segmentRead;
+        } finally {
+            if (!succeeded) {
+                failed = true;
+            }
+        }
+    }
+
+    private boolean readNextSegment() throws IOException {
+        if (dataKey == null) {
+            readHeader();
+        }
+
+        while (!lastSegmentRead) {
+            try {
+                int flag = in.readUnsignedByte();
+                int encryptedLength = in.readInt();
+                if (flag != EnvelopeFormat.INTERMEDIATE_SEGMENT && flag != EnvelopeFormat.LAST_SEGMENT
+                        || encryptedLength < EnvelopeFormat.TAG_SIZE || encryptedLength > encryptedSegment.length) {
+                    throw SeedException.createNew(CryptoErrorCode.INVALID_ENCRYPTED_STREAM);
+                }
+                in.readFully(encryptedSegment, 0, encryptedLength);
+
+                cipher.init(Cipher.DECRYPT_MODE, dataKey, EnvelopeFormat.segmentParameters(noncePrefix, segmentIndex++));
+                cipher.updateAAD(new byte[]{(byte) flag});
+                limit = cipher.doFinal(encryptedSegment, 0, encryptedLength, segment, 0);
+                position = 0;
+
+                if (flag == EnvelopeFormat.LAST_SEGMENT) {
+                    lastSegmentRead = true;
+                    if (in.read() != -1) {
+                        throw SeedException.createNew(CryptoErrorCode.INVALID_ENCRYPTED_STREAM);
+                    }
+                }
+            } catch (EOFException | AEADBadTagException e) {
+                throw SeedException.wrap(e, CryptoErrorCode.INVALID_ENCRYPTED_STREAM);
+            } catch (GeneralSecurityException e) {
+                throw SeedException.wrap(e, CryptoErrorCode.UNEXPECTED_EXCEPTION);
+            }
+
+            if (limit > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void readHeader() throws IOException {
+        try {
+            if (in.readUnsignedByte() != EnvelopeFormat.VERSION) {
+                throw SeedException.createNew(CryptoErrorCode.INVALID_ENCRYPTED_STREAM);
+            }
+            byte[] wrappedKey = new byte[in.readUnsignedShort()];
+            in.readFully(wrappedKey);
+            noncePrefix = new byte[EnvelopeFormat.NONCE_PREFIX_SIZE];
+            in.readFully(noncePrefix);
+            dataKey = unwrappingCipher.unwrap(wrappedKey, EnvelopeFormat.DATA_KEY_ALGORITHM, Cipher.SECRET_KEY);
+        } catch (EOFException | GeneralSecurityException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.INVALID_ENCRYPTED_STREAM);
+        }
+        unwrappingCipherPool.release(unwrappingCipher);
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.crypto;
+
+import org.seedstack.shed.exception.SeedException;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.GeneralSecurityException;
+
+/**
+ * Stream encrypting the data written to it with a data key, in the format described by {@link EnvelopeFormat}. The
+ * last segment is only written when the stream is closed, so closing it is mandatory.
+ */
+class EnvelopeOutputStream extends OutputStream {
+    private final DataOutputStream out;
+    private final byte[] wrappedKey;
+    private final SecretKey dataKey;
+    private final byte[] noncePrefix;
+    private final Cipher cipher;
+    private final CipherPool cipherPool;
+    private final byte[] segment = new byte[EnvelopeFormat.SEGMENT_SIZE];
+    private final byte[] encryptedSegment = new byte[EnvelopeFormat.SEGMENT_SIZE + EnvelopeFormat.TAG_SIZE];
+    private int segmentLength;
+    private int segmentIndex;
+    private boolean headerWritten;
+    private boolean closed;
+
+    EnvelopeOutputStream(OutputStream out, byte[] wrappedKey, SecretKey dataKey, byte[] noncePrefix, Cipher cipher, CipherPool cipherPool) {
+        this.out = new DataOutputStream(out);
+        this.wrappedKey = wrappedKey;
+        this.dataKey = dataKey;
+        this.noncePrefix = noncePrefix;
+        this.cipher = cipher;
+        this.cipherPool = cipherPool;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        ensureOpen();
+        if (segmentLength == segment.length) {
+            writeSegment(EnvelopeFormat.INTERMEDIATE_SEGMENT);
+        }
+        segment[segmentLength++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        ensureOpen();
+        if (off < 0 || len < 0 || len > b.length - off) {
+            throw new IndexOutOfBoundsException();
+        }
+        while (len > 0) {
+            if (segmentLength == segment.length) {
+                writeSegment(EnvelopeFormat.INTERMEDIATE_SEGMENT);
+            }
+            int count = Math.min(len, segment.length - segmentLength);
+            System.arraycopy(b, off, segment, segmentLength, count);
+            segmentLength += count;
+            off += count;
+            len -= count;
+        }
+    }
+
+    /**
+     * Flushes the underlying stream. Buffered data is not written until a segment is complete or the stream is closed.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            try {
+                writeSegment(EnvelopeFormat.LAST_SEGMENT);
+                out.flush();
+                cipherPool.release(cipher);
+            } finally {
+                out.close();
+            }
+        }
+    }
+
+    private void writeSegment(int flag) throws IOException {
+        if (!headerWritten) {
+            out.writeByte(EnvelopeFormat.VERSION);
+            out.writeShort(wrappedKey.length);
+            out.write(wrappedKey);
+            out.write(noncePrefix);
+            headerWritten = true;
+        }
+        if (segmentIndex < 0) {
+            throw new IOException("Too many segments in encrypted stream");
+        }
+
+        int encryptedLength;
+        try {
+            cipher.init(Cipher.ENCRYPT_MODE, dataKey, EnvelopeFormat.segmentParameters(noncePrefix, segmentIndex));
+            cipher.updateAAD(new byte[]{(byte) flag});
+            encryptedLength = cipher.doFinal(segment, 0, segmentLength, encryptedSegment, 0);
+        } catch (GeneralSecurityException e) {
+            throw SeedException.wrap(e, CryptoErrorCode.UNEXPECTED_EXCEPTION);
+        }
+
+        out.writeByte(flag);
+        out.writeInt(encryptedLength);
+        out.write(encryptedSegment, 0, encryptedLength);
+        segmentLength = 0;
+        segmentIndex++;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -16,6 +16,7 @@ import org.seedstack.shed.exception.ErrorCode;
  * @author pierre.thirouin@ext.mpsa.com
  */
 enum DataErrorCode implements ErrorCode {
+    CYCLIC_DATA_SET_DEPENDENCY,
     EXPORT_FAILED,
     FAILED_TO_COMMIT_IMPORT,
     FAILED_TO_PARSE_DATA_STREAM,
@@ -24,5 +25,7 @@ enum DataErrorCode implements ErrorCode {
     MISSING_TYPE_PARAMETER,
     NO_EXPORTER_FOUND,
     NO_IMPORTER_FOUND,
-    UNEXPECTED_DATA_TYPE
+    UNEXPECTED_DATA_TYPE,
+    UNSUPPORTED_COMPRESSION,
+    UNSUPPORTED_DATA_FORMAT
 }
@@ -7,14 +7,19 @@
  */
 package org.seedstack.seed.core.internal.data;
 
+import org.seedstack.seed.DataFormat;
 import org.seedstack.seed.DataManager;
 import org.seedstack.seed.spi.command.CommandDefinition;
 import org.seedstack.seed.spi.command.Option;
 import org.seedstack.seed.spi.command.StreamCommand;
+import org.seedstack.shed.exception.SeedException;
 
 import javax.inject.Inject;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
 
 /**
  * Command to export data out of the application.
@@ -29,24 +34,38 @@ public class DataExportCommand implements StreamCommand {
     @Option(name = "s", longName = "set", mandatory = false, description = "The name of the data set of group to export", hasArgument = true)
     private String set;
 
+    @Option(name = "f", longName = "format", mandatory = false, description = "The format of exported data: json (default), ndjson or smile", hasArgument = true)
+    private String format;
+
+    @Option(name = "z", longName = "compress", mandatory = false, description = "Compress exported data with gzip", hasArgument = false)
+    private boolean compress;
+
     @Inject
     DataManager dataManager;
 
     @Override
     public void execute(InputStream inputStream, OutputStream outputStream, OutputStream errorStream) {
-        if (group != null) {
-            if (set != null) {
-                dataManager.exportData(outputStream, group, set);
-            } else {
-                dataManager.exportData(outputStream, group);
-            }
-        } else {
-            dataManager.exportData(outputStream);
-        }
+        dataManager.exportData(outputStream, group, set, resolveFormat(), compress);
     }
 
     @Override
     public Object execute(Object object) throws Exception {
         throw new IllegalStateException("This command cannot be invoked in interactive mode");
     }
+
+    DataFormat resolveFormat() {
+        if (format == null) {
+            return DataFormat.JSON;
+        }
+        for (DataFormat dataFormat : DataFormat.values()) {
+            if (dataFormat.name().equalsIgnoreCase(format)) {
+                return dataFormat;
+            }
+        }
+        throw SeedException.createNew(DataErrorCode.UNSUPPORTED_DATA_FORMAT)
+                .put("format", format)
+                .put("acceptedFormats", Arrays.stream(DataFormat.values())
+                        .map(dataFormat -> dataFormat.name().toLowerCase(Locale.ENGLISH))
+                        .collect(Collectors.joining(", ")));
+    }
 }
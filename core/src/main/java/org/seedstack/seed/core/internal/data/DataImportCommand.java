@@ -17,7 +17,7 @@ import java.io.InputStream;
 import java.io.OutputStream;
 
 /**
- * Command to import data in the application.
+ * Command to import data in the application. The format of data and its gzip compression are automatically detected.
  *
  * @author adrien.lauer@mpsa.com
  */
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.data;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Keeps track of the last import of each data set (number of items and batches, duration and throughput).
+ */
+class DataImportStatistics {
+    private final ConcurrentMap<String, Map<String, Object>> lastImports = new ConcurrentHashMap<>();
+
+    void record(String group, String name, long items, long batches, long nanos) {
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("items", items);
+        statistics.put("batches", batches);
+        statistics.put("duration-ms", TimeUnit.NANOSECONDS.toMillis(nanos));
+        statistics.put("items-per-second", throughput(items, nanos));
+        lastImports.put(group + "." + name, statistics);
+    }
+
+    Map<String, Object> collect() {
+        return new HashMap<>(lastImports);
+    }
+
+    static long throughput(long items, long nanos) {
+        return nanos > 0 ? items * TimeUnit.SECONDS.toNanos(1) / nanos : items;
+    }
+}
@@ -9,6 +9,11 @@ package org.seedstack.seed.core.internal.data;
 
 import org.seedstack.seed.DataImporter;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
 /**
  * Holds the definition of a {@link DataImporter}.
  *
@@ -21,13 +26,19 @@ class DataImporterDefinition<T> {
     private final String group;
     private final Class<T> importedClass;
     private final Class<? extends DataImporter<T>> dataImporterClass;
+    private final Set<String> dependencies;
 
 
     DataImporterDefinition(String name, String group, Class<T> importedClass, Class<? extends DataImporter<T>> dataImporterClass) {
+        this(name, group, importedClass, dataImporterClass, new String[0]);
+    }
+
+    DataImporterDefinition(String name, String group, Class<T> importedClass, Class<? extends DataImporter<T>> dataImporterClass, String[] dependencies) {
         this.name = name;
         this.group = group;
         this.importedClass = importedClass;
         this.dataImporterClass = dataImporterClass;
+        this.dependencies = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(dependencies)));
     }
 
     Class<T> getImportedClass() {
@@ -46,4 +57,11 @@ class DataImporterDefinition<T> {
         return name;
     }
 
+    /**
+     * @return the names of the data sets of the same group which must be imported before this one.
+     */
+    Set<String> getDependencies() {
+        return dependencies;
+    }
+
 }
@@ -7,6 +7,7 @@
  */
 package org.seedstack.seed.core.internal.data;
 
+import com.fasterxml.jackson.core.JsonEncoding;
 import com.fasterxml.jackson.core.JsonFactory;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonLocation;
@@ -14,26 +15,35 @@ import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.ObjectWriter;
-import com.google.common.collect.Lists;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.google.inject.Injector;
+import org.seedstack.seed.Configuration;
+import org.seedstack.seed.DataConfig;
 import org.seedstack.seed.DataExporter;
+import org.seedstack.seed.DataFormat;
 import org.seedstack.seed.DataImporter;
 import org.seedstack.seed.DataManager;
+import org.seedstack.seed.DiagnosticManager;
+import org.seedstack.seed.core.internal.NonClosingGZIPOutputStream;
 import org.seedstack.shed.exception.SeedException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.io.InputStreamReader;
 import java.io.OutputStream;
-import java.io.OutputStreamWriter;
-import java.nio.charset.Charset;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Implementation of the {@link DataManager}.
@@ -42,12 +52,14 @@ import java.util.Set;
  * @author adrien.lauer@mpsa.com
  */
 class DataManagerImpl implements DataManager {
-    private static final String UTF_8 = "UTF-8";
+    private static final Logger LOGGER = LoggerFactory.getLogger(DataManagerImpl.class);
+    private static final long PROGRESS_LOG_INTERVAL = TimeUnit.SECONDS.toNanos(10);
     private static final String DATA_SET = "dataSet";
     private static final String IMPORTER_CLASS = "importerClass";
     private static final String GROUP = "group";
     private static final String NAME = "name";
     private static final String ITEMS = "items";
+    private static final String ITEM = "item";
     private static final String CLASSES_MAP_KEY = "%s:%s";
 
     @Inject
@@ -59,151 +71,103 @@ class DataManagerImpl implements DataManager {
     @Inject
     private Injector injector;
 
+    @Configuration
+    private DataConfig dataConfig = new DataConfig();
+
     private final JsonFactory jsonFactory;
+    private final SmileFactory smileFactory;
     private final ObjectMapper objectMapper;
+    private final DataImportStatistics importStatistics = new DataImportStatistics();
 
     DataManagerImpl() {
         this.jsonFactory = new JsonFactory();
         this.objectMapper = new ObjectMapper();
         this.jsonFactory.setCodec(this.objectMapper);
+        this.smileFactory = new SmileFactory();
+        this.smileFactory.setCodec(this.objectMapper);
     }
 
-    @Override
-    public void exportData(OutputStream outputStream, String group) {
-        Map<String, DataExporterDefinition<Object>> dataExporterDefinitions = allDataExporters.get(group);
-
-        if (dataExporterDefinitions == null) {
-            throw SeedException.createNew(DataErrorCode.NO_EXPORTER_FOUND).put(DATA_SET, group);
-        }
+    @Inject
+    void registerDiagnosticInfoCollector(DiagnosticManager diagnosticManager) {
+        diagnosticManager.registerDiagnosticInfoCollector("data", importStatistics::collect);
+    }
 
-        List<DataSetMarker<Object>> allIterators = new ArrayList<>();
-        for (DataExporterDefinition<Object> dataExporterDefinition : dataExporterDefinitions.values()) {
-            allIterators.add(new DataSetMarker<>(
-                    dataExporterDefinition.getGroup(),
-                    dataExporterDefinition.getName(),
-                    injector.getInstance(dataExporterDefinition.getDataExporterClass()).exportData()
-            ));
-        }
+    @Override
+    public void exportData(OutputStream outputStream) {
+        exportData(outputStream, null, null, DataFormat.JSON, false);
+    }
 
-        dumpAll(allIterators, outputStream);
+    @Override
+    public void exportData(OutputStream outputStream, String group) {
+        exportData(outputStream, group, null, DataFormat.JSON, false);
     }
 
     @Override
     public void exportData(OutputStream outputStream, String group, String name) {
-        Map<String, DataExporterDefinition<Object>> dataExporterDefinitionMap = allDataExporters.get(group);
-
-        if (dataExporterDefinitionMap == null) {
-            throw SeedException.createNew(DataErrorCode.NO_EXPORTER_FOUND).put(DATA_SET, String.format(CLASSES_MAP_KEY, group, name));
-        }
-
-        DataExporterDefinition<Object> dataExporterDefinition = dataExporterDefinitionMap.get(name);
-
-        if (dataExporterDefinition == null) {
-            throw SeedException.createNew(DataErrorCode.NO_EXPORTER_FOUND).put(DATA_SET, String.format(CLASSES_MAP_KEY, group, name));
-        }
-
-        dumpAll(Lists.<DataSetMarker<Object>>newArrayList(new DataSetMarker(
-                dataExporterDefinition.getGroup(),
-                dataExporterDefinition.getName(),
-                injector.getInstance(dataExporterDefinition.getDataExporterClass()).exportData()
-        )), outputStream);
+        exportData(outputStream, group, name, DataFormat.JSON, false);
     }
 
     @Override
-    public void exportData(OutputStream outputStream) {
+    public void exportData(OutputStream outputStream, String group, String name, DataFormat format, boolean compress) {
+        dumpAll(collectDataSets(group, name), outputStream, format, compress);
+    }
+
+    private List<DataSetMarker<Object>> collectDataSets(String group, String name) {
         List<DataSetMarker<Object>> dataSets = new ArrayList<>();
 
-        for (Map<String, DataExporterDefinition<Object>> dataExporterDefinitionMap : allDataExporters.values()) {
-            for (DataExporterDefinition<Object> dataExporterDefinition : dataExporterDefinitionMap.values()) {
-                DataExporter<Object> dataExporter = injector.getInstance(dataExporterDefinition.getDataExporterClass());
-                dataSets.add(new DataSetMarker<>(dataExporterDefinition.getGroup(), dataExporterDefinition.getName(), dataExporter.exportData()));
+        if (group == null) {
+            for (Map<String, DataExporterDefinition<Object>> dataExporterDefinitionMap : allDataExporters.values()) {
+                for (DataExporterDefinition<Object> dataExporterDefinition : dataExporterDefinitionMap.values()) {
+                    dataSets.add(createDataSetMarker(dataExporterDefinition));
+                }
             }
-        }
-
-        dumpAll(dataSets, outputStream);
-    }
+        } else if (name == null) {
+            Map<String, DataExporterDefinition<Object>> dataExporterDefinitions = allDataExporters.get(group);
 
-    @Override
-    public void importData(InputStream inputStream, String acceptGroup, String acceptName, boolean clear) {
-        Set<DataImporter<Object>> usedDataImporters = new HashSet<>();
+            if (dataExporterDefinitions == null) {
+                throw SeedException.createNew(DataErrorCode.NO_EXPORTER_FOUND).put(DATA_SET, group);
+            }
 
-        try {
-            ParsingState state = ParsingState.START;
-            String group = null;
-            String name = null;
-            JsonParser jsonParser = this.jsonFactory.createParser(new InputStreamReader(inputStream, Charset.forName(UTF_8)));
-            JsonToken jsonToken = jsonParser.nextToken();
-
-            while (jsonToken != null) {
-                switch (state) {
-                    case START:
-                        if (jsonToken == JsonToken.START_ARRAY) {
-                            state = ParsingState.DEFINITION_START;
-                        } else {
-                            throwParsingError(jsonParser.getCurrentLocation(), "start array expected");
-                        }
+            for (DataExporterDefinition<Object> dataExporterDefinition : dataExporterDefinitions.values()) {
+                dataSets.add(createDataSetMarker(dataExporterDefinition));
+            }
+        } else {
+            Map<String, DataExporterDefinition<Object>> dataExporterDefinitionMap = allDataExporters.get(group);
 
-                        break;
-                    case DEFINITION_START:
-                        if (jsonToken == JsonToken.START_OBJECT) {
-                            state = ParsingState.DEFINITION_GROUP;
-                        } else {
-                            throwParsingError(jsonParser.getCurrentLocation(), "start object expected");
-                        }
+            if (dataExporterDefinitionMap == null) {
+                throw SeedException.createNew(DataErrorCode.NO_EXPORTER_FOUND).put(DATA_SET, String.format(CLASSES_MAP_KEY, group, name));
+            }
 
-                        break;
-                    case DEFINITION_GROUP:
-                        if (jsonToken == JsonToken.FIELD_NAME && GROUP.equals(jsonParser.getCurrentName())) {
-                            group = jsonParser.nextTextValue();
-                            state = ParsingState.DEFINITION_NAME;
-                        } else {
-                            throwParsingError(jsonParser.getCurrentLocation(), "group field expected");
-                        }
+            DataExporterDefinition<Object> dataExporterDefinition = dataExporterDefinitionMap.get(name);
 
-                        break;
-                    case DEFINITION_NAME:
-                        if (jsonToken == JsonToken.FIELD_NAME && NAME.equals(jsonParser.getCurrentName())) {
-                            name = jsonParser.nextTextValue();
-                            state = ParsingState.DEFINITION_ITEMS;
-                        } else {
-                            throwParsingError(jsonParser.getCurrentLocation(), "name field expected");
-                        }
+            if (dataExporterDefinition == null) {
+                throw SeedException.createNew(DataErrorCode.NO_EXPORTER_FOUND).put(DATA_SET, String.format(CLASSES_MAP_KEY, group, name));
+            }
 
-                        break;
-                    case DEFINITION_ITEMS:
-                        if (jsonToken == JsonToken.FIELD_NAME && ITEMS.equals(jsonParser.getCurrentName())) {
-                            usedDataImporters.add(consumeItems(jsonParser, group, name, acceptGroup, acceptName));
-                            state = ParsingState.DEFINITION_END;
-                        } else {
-                            throwParsingError(jsonParser.getCurrentLocation(), "items field expected");
-                        }
+            dataSets.add(createDataSetMarker(dataExporterDefinition));
+        }
 
-                        break;
-                    case DEFINITION_END:
-                        if (jsonToken == JsonToken.END_OBJECT) {
-                            group = null;
-                            name = null;
-                            state = ParsingState.END;
-                        } else {
-                            throwParsingError(jsonParser.getCurrentLocation(), "end object expected");
-                        }
+        return dataSets;
+    }
 
-                        break;
-                    case END:
-                        if (jsonToken == JsonToken.START_OBJECT) {
-                            state = ParsingState.DEFINITION_GROUP;
-                        } else if (jsonToken == JsonToken.END_ARRAY) {
-                            state = ParsingState.START;
-                        } else {
-                            throwParsingError(jsonParser.getCurrentLocation(), "start object or end array expected");
-                        }
+    private DataSetMarker<Object> createDataSetMarker(DataExporterDefinition<Object> dataExporterDefinition) {
+        DataExporter<Object> dataExporter = injector.getInstance(dataExporterDefinition.getDataExporterClass());
+        return new DataSetMarker<>(dataExporterDefinition.getGroup(), dataExporterDefinition.getName(), dataExporter.exportData());
+    }
 
-                        break;
-                    default:
-                        throwParsingError(jsonParser.getCurrentLocation(), "unexpected parser state");
-                }
+    @Override
+    public void importData(InputStream inputStream, String acceptGroup, String acceptName, boolean clear) {
+        Set<DataImporter<Object>> usedDataImporters = new HashSet<>();
 
-                jsonToken = jsonParser.nextToken();
+        try {
+            InputStream dataStream = DataStreams.decompress(new BufferedInputStream(inputStream, DataStreams.BUFFER_SIZE));
+            DataFormat format = DataStreams.detectFormat(dataStream);
+            JsonParser jsonParser = (format == DataFormat.SMILE ? smileFactory : jsonFactory).createParser(dataStream);
+
+            if (format == DataFormat.NDJSON) {
+                consumeLines(jsonParser, acceptGroup, acceptName, usedDataImporters);
+            } else {
+                consumeDataSets(jsonParser, acceptGroup, acceptName, usedDataImporters);
             }
         } catch (Exception e1) {
             for (DataImporter<Object> usedDataImporter : usedDataImporters) {
@@ -229,6 +193,134 @@ class DataManagerImpl implements DataManager {
         }
     }
 
+    private void consumeDataSets(JsonParser jsonParser, String acceptGroup, String acceptName, Set<DataImporter<Object>> usedDataImporters) throws IOException {
+        ParsingState state = ParsingState.START;
+        String group = null;
+        String name = null;
+        JsonToken jsonToken = jsonParser.nextToken();
+
+        while (jsonToken != null) {
+            switch (state) {
+                case START:
+                    if (jsonToken == JsonToken.START_ARRAY) {
+                        state = ParsingState.DEFINITION_START;
+                    } else {
+                        throwParsingError(jsonParser.getCurrentLocation(), "start array expected");
+                    }
+
+                    break;
+                case DEFINITION_START:
+                    if (jsonToken == JsonToken.START_OBJECT) {
+                        state = ParsingState.DEFINITION_GROUP;
+                    } else {
+                        throwParsingError(jsonParser.getCurrentLocation(), "start object expected");
+                    }
+
+                    break;
+                case DEFINITION_GROUP:
+                    if (jsonToken == JsonToken.FIELD_NAME && GROUP.equals(jsonParser.getCurrentName())) {
+                        group = jsonParser.nextTextValue();
+                        state = ParsingState.DEFINITION_NAME;
+                    } else {
+                        throwParsingError(jsonParser.getCurrentLocation(), "group field expected");
+                    }
+
+                    break;
+                case DEFINITION_NAME:
+                    if (jsonToken == JsonToken.FIELD_NAME && NAME.equals(jsonParser.getCurrentName())) {
+                        name = jsonParser.nextTextValue();
+                        state = ParsingState.DEFINITION_ITEMS;
+                    } else {
+                        throwParsingError(jsonParser.getCurrentLocation(), "name field expected");
+                    }
+
+                    break;
+                case DEFINITION_ITEMS:
+                    if (jsonToken == JsonToken.FIELD_NAME && ITEMS.equals(jsonParser.getCurrentName())) {
+                        DataImporter<Object> usedDataImporter = consumeItems(jsonParser, group, name, acceptGroup, acceptName);
+                        if (usedDataImporter != null) {
+                            usedDataImporters.add(usedDataImporter);
+                        }
+                        state = ParsingState.DEFINITION_END;
+                    } else {
+                        throwParsingError(jsonParser.getCurrentLocation(), "items field expected");
+                    }
+
+                    break;
+                case DEFINITION_END:
+                    if (jsonToken == JsonToken.END_OBJECT) {
+                        group = null;
+                        name = null;
+                        state = ParsingState.END;
+                    } else {
+                        throwParsingError(jsonParser.getCurrentLocation(), "end object expected");
+                    }
+
+                    break;
+                case END:
+                    if (jsonToken == JsonToken.START_OBJECT) {
+                        state = ParsingState.DEFINITION_GROUP;
+                    } else if (jsonToken == JsonToken.END_ARRAY) {
+                        state = ParsingState.START;
+                    } else {
+                        throwParsingError(jsonParser.getCurrentLocation(), "start object or end array expected");
+                    }
+
+                    break;
+                default:
+                    throwParsingError(jsonParser.getCurrentLocation(), "unexpected parser state");
+            }
+
+            jsonToken = jsonParser.nextToken();
+        }
+    }
+
+    private void consumeLines(JsonParser jsonParser, String acceptGroup, String acceptName, Set<DataImporter<Object>> usedDataImporters) throws IOException {
+        Map<String, DataSetImport> dataSetImports = new LinkedHashMap<>();
+        JsonToken jsonToken = jsonParser.nextToken();
+
+        while (jsonToken != null) {
+            if (jsonToken != JsonToken.START_OBJECT) {
+                throwParsingError(jsonParser.getCurrentLocation(), "start object expected");
+            }
+            if (jsonParser.nextToken() != JsonToken.FIELD_NAME || !GROUP.equals(jsonParser.getCurrentName())) {
+                throwParsingError(jsonParser.getCurrentLocation(), "group field expected");
+            }
+            String group = jsonParser.nextTextValue();
+            if (jsonParser.nextToken() != JsonToken.FIELD_NAME || !NAME.equals(jsonParser.getCurrentName())) {
+                throwParsingError(jsonParser.getCurrentLocation(), "name field expected");
+            }
+            String name = jsonParser.nextTextValue();
+            if (jsonParser.nextToken() != JsonToken.FIELD_NAME || !ITEM.equals(jsonParser.getCurrentName())) {
+                throwParsingError(jsonParser.getCurrentLocation(), "item field expected");
+            }
+            jsonParser.nextToken();
+
+            if ((acceptGroup == null || acceptGroup.equals(group)) && (acceptName == null || acceptName.equals(name))) {
+                DataSetImport dataSetImport = dataSetImports.get(String.format(CLASSES_MAP_KEY, group, name));
+                if (dataSetImport == null) {
+                    DataImporterDefinition<Object> dataImporterDefinition = resolveImporterDefinition(group, name);
+                    DataImporter<Object> dataImporter = injector.getInstance(dataImporterDefinition.getDataImporterClass());
+                    usedDataImporters.add(dataImporter);
+                    dataSetImport = new DataSetImport(dataImporter, dataImporterDefinition.getImportedClass(), group, name);
+                    dataSetImports.put(String.format(CLASSES_MAP_KEY, group, name), dataSetImport);
+                }
+                dataSetImport.add(jsonParser.readValueAs(dataSetImport.importedClass));
+            } else {
+                jsonParser.skipChildren();
+            }
+
+            if (jsonParser.nextToken() != JsonToken.END_OBJECT) {
+                throwParsingError(jsonParser.getCurrentLocation(), "end object expected");
+            }
+            jsonToken = jsonParser.nextToken();
+        }
+
+        for (DataSetImport dataSetImport : dataSetImports.values()) {
+            dataSetImport.finish();
+        }
+    }
+
     private void throwParsingError(JsonLocation jsonLocation, String message) {
         throw SeedException.createNew(DataErrorCode.FAILED_TO_PARSE_DATA_STREAM)
                 .put("parsingError", message)
@@ -238,56 +330,25 @@ class DataManagerImpl implements DataManager {
     }
 
     private DataImporter<Object> consumeItems(JsonParser jsonParser, String group, String name, String acceptGroup, String acceptName) throws IOException {
+        DataImporterDefinition<Object> currentImporterDefinition = resolveImporterDefinition(group, name);
 
-        Map<String, DataImporterDefinition<Object>> dataImporterDefinitionMap = allDataImporters.get(group);
-
-        if (dataImporterDefinitionMap == null) {
-            throw SeedException.createNew(DataErrorCode.NO_IMPORTER_FOUND)
-                    .put(GROUP, group)
-                    .put(NAME, name);
+        // Check if items contains an array
+        if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
+            throw new IllegalArgumentException("Items should be an array");
         }
 
-        DataImporterDefinition<Object> currentImporterDefinition = dataImporterDefinitionMap.get(name);
-
-        if (currentImporterDefinition == null) {
-            throw SeedException.createNew(DataErrorCode.NO_IMPORTER_FOUND)
-                    .put(GROUP, group)
-                    .put(NAME, name);
-        }
-
-        if (!group.equals(currentImporterDefinition.getGroup())) {
-            throw SeedException.createNew(DataErrorCode.UNEXPECTED_DATA_TYPE)
-                    .put(DATA_SET, String.format(CLASSES_MAP_KEY, group, name))
-                    .put(IMPORTER_CLASS, currentImporterDefinition.getDataImporterClass().getName());
-        }
-
-        if (!name.equals(currentImporterDefinition.getName())) {
-            throw SeedException.createNew(DataErrorCode.UNEXPECTED_DATA_TYPE)
-                    .put(DATA_SET, String.format(CLASSES_MAP_KEY, group, name))
-                    .put(IMPORTER_CLASS, currentImporterDefinition.getDataImporterClass().getName());
-        }
-
-
         DataImporter<Object> currentDataImporter = null;
         if ((acceptGroup == null || acceptGroup.equals(group)) && (acceptName == null || acceptName.equals(name))) {
-
             currentDataImporter = injector.getInstance(currentImporterDefinition.getDataImporterClass());
-
-            // Check if items contains an array
-
-            if (jsonParser.nextToken() != JsonToken.START_ARRAY) {
-                throw new IllegalArgumentException("Items should be an array");
-            }
+            DataSetImport dataSetImport = new DataSetImport(currentDataImporter, currentImporterDefinition.getImportedClass(), group, name);
 
             jsonParser.nextToken();
 
             // If the array is not empty consume it
             if (jsonParser.getCurrentToken() != JsonToken.END_ARRAY) {
                 Iterator<Object> objectIterator = jsonParser.readValuesAs(currentImporterDefinition.getImportedClass());
-
-
                 while (objectIterator.hasNext()) {
-                    currentDataImporter.importData(objectIterator.next());
+                    dataSetImport.add(objectIterator.next());
                 }
 
                 // The array should end correctly
@@ -295,12 +356,42 @@ class DataManagerImpl implements DataManager {
                     throw new IllegalArgumentException("end array expected");
                 }
             }
+
+            dataSetImport.finish();
+        } else {
+            jsonParser.skipChildren();
         }
 
         // the data importer containing the data
         return currentDataImporter;
     }
 
+    private DataImporterDefinition<Object> resolveImporterDefinition(String group, String name) {
+        Map<String, DataImporterDefinition<Object>> dataImporterDefinitionMap = allDataImporters.get(group);
+
+        if (dataImporterDefinitionMap == null) {
+            throw SeedException.createNew(DataErrorCode.NO_IMPORTER_FOUND)
+                    .put(GROUP, group)
+                    .put(NAME, name);
+        }
+
+        DataImporterDefinition<Object> importerDefinition = dataImporterDefinitionMap.get(name);
+
+        if (importerDefinition == null) {
+            throw SeedException.createNew(DataErrorCode.NO_IMPORTER_FOUND)
+                    .put(GROUP, group)
+                    .put(NAME, name);
+        }
+
+        if (!group.equals(importerDefinition.getGroup()) || !name.equals(importerDefinition.getName())) {
+            throw SeedException.createNew(DataErrorCode.UNEXPECTED_DATA_TYPE)
+                    .put(DATA_SET, String.format(CLASSES_MAP_KEY, group, name))
+                    .put(IMPORTER_CLASS, importerDefinition.getDataImporterClass().getName());
+        }
+
+        return importerDefinition;
+    }
+
     @Override
     public boolean isInitialized(String group, String name) {
         Map<String, DataImporterDefinition<Object>> dataImporterDefinitionMap = allDataImporters.get(group);
@@ -319,37 +410,122 @@ class DataManagerImpl implements DataManager {
         return dataImporter.isInitialized();
     }
 
-    private void dumpAll(List<DataSetMarker<Object>> dataSetMarker, OutputStream outputStream) {
-        try {
-            JsonGenerator jsonGenerator = this.jsonFactory.createGenerator(new OutputStreamWriter(outputStream, Charset.forName(UTF_8)));
-            ObjectWriter objectWriter = objectMapper.writer();
+    private void dumpAll(List<DataSetMarker<Object>> dataSetMarker, OutputStream outputStream, DataFormat format, boolean compress) {
+        BufferedOutputStream bufferedOutputStream = new BufferedOutputStream(outputStream, DataStreams.BUFFER_SIZE);
+        // closing the gzip stream ends its deflater but leaves the caller stream open
+        try (NonClosingGZIPOutputStream gzipOutputStream = compress ? new NonClosingGZIPOutputStream(bufferedOutputStream, DataStreams.BUFFER_SIZE) : null) {
+            JsonGenerator jsonGenerator = (format == DataFormat.SMILE ? smileFactory : jsonFactory).createGenerator(gzipOutputStream != null ? gzipOutputStream : bufferedOutputStream, JsonEncoding.UTF8);
+            // Items are buffered until the end of the export instead of being flushed one by one
+            ObjectWriter objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+            if (format == DataFormat.NDJSON) {
+                writeLines(dataSetMarker, jsonGenerator, objectWriter);
+            } else {
+                writeDataSets(dataSetMarker, jsonGenerator, objectWriter);
+            }
 
-            jsonGenerator.writeStartArray();
+            jsonGenerator.flush();
+            if (gzipOutputStream != null) {
+                gzipOutputStream.finish();
+            }
+            bufferedOutputStream.flush();
+        } catch (Exception e) {
+            throw SeedException.wrap(e, DataErrorCode.EXPORT_FAILED);
+        }
+    }
 
-            for (DataSetMarker<Object> objectDataSetMarker : dataSetMarker) {
-                // start
-                jsonGenerator.writeStartObject();
+    private void writeDataSets(List<DataSetMarker<Object>> dataSetMarker, JsonGenerator jsonGenerator, ObjectWriter objectWriter) throws IOException {
+        jsonGenerator.writeStartArray();
+
+        for (DataSetMarker<Object> objectDataSetMarker : dataSetMarker) {
+            // start
+            jsonGenerator.writeStartObject();
+
+            // metadata
+            jsonGenerator.writeStringField(GROUP, objectDataSetMarker.getGroup());
+            jsonGenerator.writeStringField(NAME, objectDataSetMarker.getName());
+
+            // items
+            jsonGenerator.writeArrayFieldStart(ITEMS);
+            while (objectDataSetMarker.getItems().hasNext()) {
+                objectWriter.writeValue(jsonGenerator, objectDataSetMarker.getItems().next());
+            }
+            jsonGenerator.writeEndArray();
+
+            // end
+            jsonGenerator.writeEndObject();
+        }
+
+        jsonGenerator.writeEndArray();
+    }
+
+    private void writeLines(List<DataSetMarker<Object>> dataSetMarker, JsonGenerator jsonGenerator, ObjectWriter objectWriter) throws IOException {
+        jsonGenerator.setRootValueSeparator(null);
 
-                // metadata
+        for (DataSetMarker<Object> objectDataSetMarker : dataSetMarker) {
+            while (objectDataSetMarker.getItems().hasNext()) {
+                jsonGenerator.writeStartObject();
                 jsonGenerator.writeStringField(GROUP, objectDataSetMarker.getGroup());
                 jsonGenerator.writeStringField(NAME, objectDataSetMarker.getName());
+                jsonGenerator.writeFieldName(ITEM);
+                objectWriter.writeValue(jsonGenerator, objectDataSetMarker.getItems().next());
+                jsonGenerator.writeEndObject();
+                jsonGenerator.writeRaw('\n');
+            }
+        }
+    }
 
-                // items
-                jsonGenerator.writeArrayFieldStart(ITEMS);
-                while (objectDataSetMarker.getItems().hasNext()) {
-                    objectWriter.writeValue(jsonGenerator, objectDataSetMarker.getItems().next());
-                }
-                jsonGenerator.writeEndArray();
+    /**
+     * Hands the items of a data set over to its importer in batches, while keeping track of the import progress.
+     */
+    private class DataSetImport {
+        private final DataImporter<Object> dataImporter;
+        private final Class<Object> importedClass;
+        private final String group;
+        private final String name;
+        private final int batchSize = dataConfig.getBatchSize();
+        private final long startTime = System.nanoTime();
+        private long lastProgressTime = startTime;
+        private long itemCount;
+        private long batchCount;
+        private List<Object> batch = new ArrayList<>(batchSize);
+
+        private DataSetImport(DataImporter<Object> dataImporter, Class<Object> importedClass, String group, String name) {
+            this.dataImporter = dataImporter;
+            this.importedClass = importedClass;
+            this.group = group;
+            this.name = name;
+        }
 
-                // end
-                jsonGenerator.writeEndObject();
+        private void add(Object item) {
+            batch.add(item);
+            if (batch.size() >= batchSize) {
+                importBatch();
             }
+        }
 
-            jsonGenerator.writeEndArray();
+        private void finish() {
+            if (!batch.isEmpty()) {
+                importBatch();
+            }
 
-            jsonGenerator.flush();
-        } catch (Exception e) {
-            throw SeedException.wrap(e, DataErrorCode.EXPORT_FAILED);
+            long duration = System.nanoTime() - startTime;
+            importStatistics.record(group, name, itemCount, batchCount, duration);
+            LOGGER.debug("Imported {} item(s) in {}.{} in {} ms ({} items/s)", itemCount, group, name, TimeUnit.NANOSECONDS.toMillis(duration), DataImportStatistics.throughput(itemCount, duration));
+        }
+
+        private void importBatch() {
+            dataImporter.importBatch(batch);
+            itemCount += batch.size();
+            batchCount++;
+            // The importer may keep a reference to the batch
+            batch = new ArrayList<>(batchSize);
+
+            long now = System.nanoTime();
+            if (now - lastProgressTime > PROGRESS_LOG_INTERVAL) {
+                LOGGER.info("Imported {} item(s) in {}.{} so far ({} items/s)", itemCount, group, name, DataImportStatistics.throughput(itemCount, now - startTime));
+                lastProgressTime = now;
+            }
         }
     }
 
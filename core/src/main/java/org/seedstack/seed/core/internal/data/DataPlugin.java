@@ -7,6 +7,7 @@
  */
 package org.seedstack.seed.core.internal.data;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.nuun.kernel.api.plugin.InitState;
 import io.nuun.kernel.api.plugin.context.Context;
 import io.nuun.kernel.api.plugin.context.InitContext;
@@ -28,9 +29,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.lang.reflect.ParameterizedType;
 import java.lang.reflect.Type;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 /**
  * This plugin provides data import and export facilities.
@@ -48,6 +59,8 @@ public class DataPlugin extends AbstractSeedPlugin {
 
     private boolean loadInitializationData;
     private boolean forceInitializationData;
+    private boolean parallelImport;
+    private int importThreads;
 
     @Inject
     private DataManager dataManager;
@@ -75,6 +88,8 @@ public class DataPlugin extends AbstractSeedPlugin {
                 loadInitializationData = true;
                 break;
         }
+        parallelImport = dataConfig.isParallel();
+        importThreads = dataConfig.getThreads();
 
         Collection<Class<?>> scannedDataExporterClasses = initContext.scannedTypesBySpecification().get(dataExporterSpecification);
         for (Class<?> scannedDataExporterClass : scannedDataExporterClasses) {
@@ -111,7 +126,7 @@ public class DataPlugin extends AbstractSeedPlugin {
                     throw SeedException.createNew(DataErrorCode.MISSING_TYPE_PARAMETER).put("class", scannedDataImporterClass);
                 }
 
-                DataImporterDefinition dataImporterDefinition = new DataImporterDefinition(dataSet.name(), dataSet.group(), actualType, scannedDataImporterClass);
+                DataImporterDefinition dataImporterDefinition = new DataImporterDefinition(dataSet.name(), dataSet.group(), actualType, scannedDataImporterClass, dataSet.after());
                 nameDataImporterDefinitionMap.put(dataSet.name(), dataImporterDefinition);
                 allDataImporters.put(dataSet.group(), nameDataImporterDefinitionMap);
             }
@@ -121,29 +136,129 @@ public class DataPlugin extends AbstractSeedPlugin {
     }
 
     @Override
-    public void start(Context context) {
+    protected void onStart(Context context) {
         ClassLoader classLoader = SeedReflectionUtils.findMostCompleteClassLoader(DataPlugin.class);
 
         if (loadInitializationData) {
-            for (Map<String, DataImporterDefinition<Object>> dataImporterDefinitionMap : allDataImporters.values()) {
-                for (DataImporterDefinition<Object> dataImporterDefinition : dataImporterDefinitionMap.values()) {
-                    String dataPath = String.format("META-INF/data/%s/%s.json", dataImporterDefinition.getGroup(), dataImporterDefinition.getName());
-                    InputStream dataStream = classLoader.getResourceAsStream(dataPath);
-
-                    if (dataStream != null) {
-                        if (!dataManager.isInitialized(dataImporterDefinition.getGroup(), dataImporterDefinition.getName()) || forceInitializationData) {
-                            LOGGER.info("Importing initialization data for {}.{}", dataImporterDefinition.getGroup(), dataImporterDefinition.getName());
-                            dataManager.importData(dataStream, dataImporterDefinition.getGroup(), dataImporterDefinition.getName(), true);
-                        }
-
-                        try {
-                            dataStream.close();
-                        } catch (IOException e) {
-                            LOGGER.warn("Unable to close data resource " + dataPath, e);
-                        }
+            // Data sets of a group are imported sequentially in their dependency order, only groups run concurrently
+            List<List<Runnable>> groupImportTasks = new ArrayList<>();
+            for (Map.Entry<String, Map<String, DataImporterDefinition<Object>>> groupEntry : allDataImporters.entrySet()) {
+                List<Runnable> importTasks = new ArrayList<>();
+                for (DataImporterDefinition<Object> dataImporterDefinition : sortByDependencies(groupEntry.getKey(), groupEntry.getValue().values())) {
+                    String group = dataImporterDefinition.getGroup();
+                    String name = dataImporterDefinition.getName();
+                    String dataPath = String.format("META-INF/data/%s/%s.json", group, name);
+
+                    if (classLoader.getResource(dataPath) != null && (forceInitializationData || !dataManager.isInitialized(group, name))) {
+                        importTasks.add(() -> importData(classLoader, dataPath, group, name));
                     }
                 }
+                if (!importTasks.isEmpty()) {
+                    groupImportTasks.add(importTasks);
+                }
+            }
+
+            if (parallelImport && groupImportTasks.size() > 1) {
+                List<Runnable> groupTasks = new ArrayList<>();
+                for (List<Runnable> importTasks : groupImportTasks) {
+                    groupTasks.add(() -> importTasks.forEach(Runnable::run));
+                }
+                runConcurrently(groupTasks);
+            } else {
+                groupImportTasks.forEach(importTasks -> importTasks.forEach(Runnable::run));
+            }
+        }
+    }
+
+    /**
+     * Sorts the data sets of a group so that each one comes after the data sets it depends on. Independent data sets
+     * are sorted by name. Dependencies on data sets which are not part of the group are ignored.
+     *
+     * @param group                   the group of the data sets.
+     * @param dataImporterDefinitions the data sets to sort.
+     * @return the sorted data sets.
+     */
+    static List<DataImporterDefinition<Object>> sortByDependencies(String group, Collection<DataImporterDefinition<Object>> dataImporterDefinitions) {
+        Map<String, DataImporterDefinition<Object>> byName = new TreeMap<>();
+        for (DataImporterDefinition<Object> dataImporterDefinition : dataImporterDefinitions) {
+            byName.put(dataImporterDefinition.getName(), dataImporterDefinition);
+        }
+
+        List<DataImporterDefinition<Object>> sorted = new ArrayList<>();
+        Set<String> visited = new HashSet<>();
+        for (String name : byName.keySet()) {
+            visit(group, name, byName, new LinkedHashSet<>(), visited, sorted);
+        }
+        return sorted;
+    }
+
+    private static void visit(String group, String name, Map<String, DataImporterDefinition<Object>> byName, Set<String> path, Set<String> visited, List<DataImporterDefinition<Object>> sorted) {
+        if (visited.contains(name)) {
+            return;
+        }
+        if (!path.add(name)) {
+            throw SeedException.createNew(DataErrorCode.CYCLIC_DATA_SET_DEPENDENCY).put("group", group).put("dataSets", path);
+        }
+        DataImporterDefinition<Object> dataImporterDefinition = byName.get(name);
+        for (String dependency : dataImporterDefinition.getDependencies()) {
+            if (byName.containsKey(dependency)) {
+                visit(group, dependency, byName, path, visited, sorted);
+            }
+        }
+        path.remove(name);
+        visited.add(name);
+        sorted.add(dataImporterDefinition);
+    }
+
+    private void importData(ClassLoader classLoader, String dataPath, String group, String name) {
+        InputStream dataStream = classLoader.getResourceAsStream(dataPath);
+        if (dataStream != null) {
+            LOGGER.info("Importing initialization data for {}.{}", group, name);
+            try {
+                dataManager.importData(dataStream, group, name, true);
+            } finally {
+                try {
+                    dataStream.close();
+                } catch (IOException e) {
+                    LOGGER.warn("Unable to close data resource " + dataPath, e);
+                }
+            }
+        }
+    }
+
+    private void runConcurrently(List<Runnable> importTasks) {
+        ExecutorService executorService = Executors.newFixedThreadPool(Math.min(importThreads, importTasks.size()), new ThreadFactoryBuilder()
+                .setNameFormat("seed-data-import-%d")
+                .setDaemon(true)
+                .build());
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Runnable importTask : importTasks) {
+                futures.add(executorService.submit(importTask));
+            }
+
+            // Wait for all imports to complete before reporting the first failure
+            Throwable failure = null;
+            for (Future<?> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw SeedException.wrap(e, DataErrorCode.IMPORT_FAILED);
+                }
+            }
+
+            if (failure instanceof SeedException) {
+                throw (SeedException) failure;
+            } else if (failure != null) {
+                throw SeedException.wrap(failure, DataErrorCode.IMPORT_FAILED);
             }
+        } finally {
+            executorService.shutdownNow();
         }
     }
 
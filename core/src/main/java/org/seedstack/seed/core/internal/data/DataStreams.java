@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.data;
+
+import org.seedstack.seed.DataFormat;
+import org.seedstack.shed.exception.SeedException;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * Detects the compression and the format of data streams by peeking at their first bytes.
+ */
+final class DataStreams {
+    static final int BUFFER_SIZE = 65536;
+    private static final int DETECTION_LIMIT = 1024;
+    private static final byte[] GZIP_MAGIC = {(byte) 0x1F, (byte) 0x8B};
+    private static final byte[] ZSTD_MAGIC = {(byte) 0x28, (byte) 0xB5, (byte) 0x2F, (byte) 0xFD};
+    private static final byte[] SMILE_MAGIC = {':', ')', '\n'};
+    private static final byte[] UTF8_BOM = {(byte) 0xEF, (byte) 0xBB, (byte) 0xBF};
+
+    private DataStreams() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Returns a stream of the uncompressed data. Gzip-compressed streams are transparently decompressed, other
+     * streams are returned as is.
+     *
+     * @param inputStream the buffered data stream.
+     * @return the uncompressed data stream, supporting mark/reset.
+     * @throws IOException if the stream cannot be read.
+     */
+    static InputStream decompress(BufferedInputStream inputStream) throws IOException {
+        byte[] header = peek(inputStream, ZSTD_MAGIC.length);
+        if (startsWith(header, GZIP_MAGIC)) {
+            return new BufferedInputStream(new GZIPInputStream(inputStream, BUFFER_SIZE), BUFFER_SIZE);
+        } else if (startsWith(header, ZSTD_MAGIC)) {
+            throw SeedException.createNew(DataErrorCode.UNSUPPORTED_COMPRESSION).put("compression", "zstd");
+        } else {
+            return inputStream;
+        }
+    }
+
+    /**
+     * Detects the format of an uncompressed data stream: a Smile header denotes {@link DataFormat#SMILE}, a leading
+     * object denotes {@link DataFormat#NDJSON} and anything else is parsed as {@link DataFormat#JSON}.
+     *
+     * @param inputStream the uncompressed data stream, which must support mark/reset.
+     * @return the detected format.
+     * @throws IOException if the stream cannot be read.
+     */
+    static DataFormat detectFormat(InputStream inputStream) throws IOException {
+        byte[] header = peek(inputStream, DETECTION_LIMIT);
+        if (startsWith(header, SMILE_MAGIC)) {
+            return DataFormat.SMILE;
+        }
+
+        int i = startsWith(header, UTF8_BOM) ? UTF8_BOM.length : 0;
+        while (i < header.length && Character.isWhitespace(header[i])) {
+            i++;
+        }
+
+        if (i < header.length && header[i] == '{') {
+            return DataFormat.NDJSON;
+        } else {
+            return DataFormat.JSON;
+        }
+    }
+
+    private static byte[] peek(InputStream inputStream, int length) throws IOException {
+        inputStream.mark(length);
+        try {
+            byte[] buffer = new byte[length];
+            int count = 0;
+            int read;
+            while (count < length && (read = inputStream.read(buffer, count, length - count)) != -1) {
+                count += read;
+            }
+            if (count < length) {
+                byte[] result = new byte[count];
+                System.arraycopy(buffer, 0, result, 0, count);
+                return result;
+            }
+            return buffer;
+        } finally {
+            inputStream.reset();
+        }
+    }
+
+    private static boolean startsWith(byte[] bytes, byte[] prefix) {
+        if (bytes.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (bytes[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
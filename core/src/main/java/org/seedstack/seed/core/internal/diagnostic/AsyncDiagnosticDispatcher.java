@@ -0,0 +1,188 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.diagnostic;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.seedstack.seed.DiagnosticConfig;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * Dispatches diagnostic reports of runtime errors to a single background thread through a bounded queue. Errors are
+ * fingerprinted by their class and the top stack frames of their root cause: only the first occurrence of a
+ * fingerprint that is actually scheduled is reported during the deduplication period, subsequent ones are only counted.
+ * Reports are also rate-limited by a token bucket and dropped when the queue is full, so a failure storm cannot
+ * saturate the disk or the request threads. An occurrence that is rate-limited or dropped does not prevent the next
+ * occurrence of the same fingerprint from being reported. Once the dispatcher is shut down, reports are written
+ * synchronously by the calling thread.
+ */
+class AsyncDiagnosticDispatcher {
+    private static final int MAX_FINGERPRINTS = 1000;
+    private final int fingerprintDepth;
+    private final Consumer<Throwable> reportWriter;
+    private final Cache<String, Occurrence> occurrences;
+    private final TokenBucket tokenBucket;
+    private final ThreadPoolExecutor executor;
+    private final LongAdder reported = new LongAdder();
+    private final LongAdder duplicated = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+
+    AsyncDiagnosticDispatcher(DiagnosticConfig diagnosticConfig, Consumer<Throwable> reportWriter) {
+        this.fingerprintDepth = diagnosticConfig.getFingerprintDepth();
+        this.reportWriter = reportWriter;
+        if (diagnosticConfig.getDeduplicationPeriod() > 0) {
+            this.occurrences = CacheBuilder.newBuilder()
+                    .maximumSize(MAX_FINGERPRINTS)
+                    .expireAfterWrite(diagnosticConfig.getDeduplicationPeriod(), TimeUnit.SECONDS)
+                    .build();
+        } else {
+            this.occurrences = null;
+        }
+        if (diagnosticConfig.getReportsPerMinute() > 0) {
+            this.tokenBucket = new TokenBucket(diagnosticConfig.getBurst(), diagnosticConfig.getReportsPerMinute());
+        } else {
+            this.tokenBucket = null;
+        }
+        this.executor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(diagnosticConfig.getQueueSize()),
+                new ThreadFactoryBuilder().setNameFormat("seed-diagnostic-%d").setDaemon(true).build(),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Schedules the report of the specified error unless it is a duplicate, it exceeds the rate limit or the queue is
+     * full. This method never blocks.
+     *
+     * @param t the error to report.
+     */
+    void dispatch(Throwable t) {
+        Occurrence occurrence = null;
+        if (occurrences != null && t != null) {
+            occurrence = countOccurrence(fingerprint(t));
+        }
+
+        if (occurrence != null && occurrence.isReported()) {
+            duplicated.increment();
+        } else if (tokenBucket != null && !tokenBucket.tryAcquire()) {
+            rateLimited.increment();
+        } else if (occurrence != null && !occurrence.markReported()) {
+            // another thread concurrently scheduled the report of the same fingerprint
+            duplicated.increment();
+        } else {
+            try {
+                executor.execute(() -> writeReport(t));
+            } catch (RejectedExecutionException e) {
+                if (executor.isShutdown()) {
+                    // the dispatcher has been stopped or replaced, the report is written by the calling thread
+                    writeReport(t);
+                } else {
+                    dropped.increment();
+                    if (occurrence != null) {
+                        occurrence.unmarkReported();
+                    }
+                }
+            }
+        }
+    }
+
+    private void writeReport(Throwable t) {
+        reportWriter.accept(t);
+        reported.increment();
+    }
+
+    Map<String, Object> collectStatistics() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("reported", reported.sum());
+        result.put("duplicated", duplicated.sum());
+        result.put("rate-limited", rateLimited.sum());
+        result.put("dropped", dropped.sum());
+        result.put("pending", executor.getQueue().size());
+        if (occurrences != null) {
+            Map<String, Long> fingerprints = new HashMap<>();
+            for (Map.Entry<String, Occurrence> entry : occurrences.asMap().entrySet()) {
+                fingerprints.put(entry.getKey(), entry.getValue().getCount());
+            }
+            result.put("occurrences", fingerprints);
+        }
+        return result;
+    }
+
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+        return executor.awaitTermination(timeout, unit);
+    }
+
+    private Occurrence countOccurrence(String fingerprint) {
+        try {
+            Occurrence occurrence = occurrences.get(fingerprint, Occurrence::new);
+            occurrence.increment();
+            return occurrence;
+        } catch (ExecutionException e) {
+            return null;
+        }
+    }
+
+    String fingerprint(Throwable t) {
+        Throwable rootCause = t;
+        while (rootCause.getCause() != null && rootCause.getCause() != rootCause) {
+            rootCause = rootCause.getCause();
+        }
+
+        StringBuilder sb = new StringBuilder(t.getClass().getName());
+        if (rootCause != t) {
+            sb.append(" <- ").append(rootCause.getClass().getName());
+        }
+        StackTraceElement[] stackTrace = rootCause.getStackTrace();
+        for (int i = 0; i < Math.min(fingerprintDepth, stackTrace.length); i++) {
+            sb.append(" at ").append(stackTrace[i]);
+        }
+        return sb.toString();
+    }
+
+    private static class Occurrence {
+        private final AtomicLong count = new AtomicLong();
+        private final AtomicBoolean reported = new AtomicBoolean();
+
+        void increment() {
+            count.incrementAndGet();
+        }
+
+        long getCount() {
+            return count.get();
+        }
+
+        boolean isReported() {
+            return reported.get();
+        }
+
+        boolean markReported() {
+            return reported.compareAndSet(false, true);
+        }
+
+        void unmarkReported() {
+            reported.set(false);
+        }
+    }
+}
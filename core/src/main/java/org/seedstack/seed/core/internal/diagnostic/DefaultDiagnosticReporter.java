@@ -24,19 +24,24 @@ import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
 import java.nio.charset.Charset;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
-import java.util.Date;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Map;
 
 /**
  * Default implementation of {@link org.seedstack.seed.spi.diagnostic.DiagnosticReporter} that logs to a JSON
- * file in the system temporary directory (from java.io.tmpdir system property).
+ * file in the system temporary directory (from java.io.tmpdir system property). Only the most recent reports are
+ * retained, older ones being deleted after each write. Reports are only pruned from the dedicated
+ * <code>seed-diagnostics</code> subdirectory, not when falling back to the temporary directory itself.
  *
  * @author adrien.lauer@mpsa.com
  */
 class DefaultDiagnosticReporter implements DiagnosticReporter {
-    private static final DateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd-HH-mm-ss.SSS");
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm-ss.SSS").withZone(ZoneId.systemDefault());
+    private static final String REPORT_PREFIX = "seed-diag-";
+    private static final String REPORT_SUFFIX = ".json";
     private static final Logger LOGGER = LoggerFactory.getLogger(DefaultDiagnosticReporter.class);
     private static final JsonFactory JSON_FACTORY;
     private static final DefaultPrettyPrinter DEFAULT_PRETTY_PRINTER;
@@ -52,18 +57,48 @@ class DefaultDiagnosticReporter implements DiagnosticReporter {
         DEFAULT_PRETTY_PRINTER.indentArraysWith(DefaultIndenter.SYSTEM_LINEFEED_INSTANCE);
     }
 
+    private final int maxReports;
+
+    DefaultDiagnosticReporter() {
+        this(0);
+    }
+
+    DefaultDiagnosticReporter(int maxReports) {
+        this.maxReports = maxReports;
+    }
+
     @Override
     public void writeDiagnosticReport(Map<String, Object> diagnosticInfo) throws IOException {
         File diagnosticFile;
 
         File diagnosticDirectory = new File(System.getProperty("java.io.tmpdir"), "seed-diagnostics");
+        boolean dedicatedDirectory = true;
         if (!diagnosticDirectory.exists() && !diagnosticDirectory.mkdirs() || !diagnosticDirectory.isDirectory() || !diagnosticDirectory.canWrite()) {
             diagnosticDirectory = new File(System.getProperty("java.io.tmpdir"));
+            dedicatedDirectory = false;
         }
 
-        diagnosticFile = new File(diagnosticDirectory, String.format("seed-diag-%s.json", DATE_FORMAT.format(new Date())));
+        diagnosticFile = new File(diagnosticDirectory, REPORT_PREFIX + DATE_FORMAT.format(Instant.now()) + REPORT_SUFFIX);
         writeDiagnosticReport(diagnosticInfo, new FileOutputStream(diagnosticFile));
         LOGGER.warn("Diagnostic information dumped to file://{}", diagnosticFile.toURI().toURL().getPath());
+
+        // the shared temporary directory may hold reports of other applications or users which must not be pruned
+        if (maxReports > 0 && dedicatedDirectory) {
+            deleteOldReports(diagnosticDirectory);
+        }
+    }
+
+    void deleteOldReports(File diagnosticDirectory) {
+        File[] reports = diagnosticDirectory.listFiles((dir, name) -> name.startsWith(REPORT_PREFIX) && name.endsWith(REPORT_SUFFIX));
+        if (reports != null && reports.length > maxReports) {
+            // report names embed their timestamp so lexicographic order is chronological order
+            Arrays.sort(reports);
+            for (int i = 0; i < reports.length - maxReports; i++) {
+                if (!reports[i].delete()) {
+                    LOGGER.debug("Unable to delete old diagnostic report {}", reports[i].getPath());
+                }
+            }
+        }
     }
 
     void writeDiagnosticReport(Map<String, Object> diagnosticInfo, OutputStream outputStream) throws IOException {
@@ -8,6 +8,7 @@
 package org.seedstack.seed.core.internal.diagnostic;
 
 import com.google.common.collect.Maps;
+import org.seedstack.seed.DiagnosticConfig;
 import org.seedstack.seed.DiagnosticManager;
 import org.seedstack.seed.core.internal.CoreErrorCode;
 import org.seedstack.seed.core.utils.SeedLoggingUtils;
@@ -21,45 +22,71 @@ import java.lang.management.ManagementFactory;
 import java.lang.management.RuntimeMXBean;
 import java.lang.management.ThreadInfo;
 import java.lang.management.ThreadMXBean;
-import java.text.DateFormat;
-import java.text.SimpleDateFormat;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Implementation of the diagnostic manager.
+ * Implementation of the diagnostic manager. Synchronous dumps are written immediately by the calling thread whereas
+ * asynchronous dumps go through an {@link AsyncDiagnosticDispatcher}, configured by {@link DiagnosticConfig}.
  *
  * @author adrien.lauer@mpsa.com
  */
 public class DiagnosticManagerImpl implements DiagnosticManager {
     private static final String REPORTER_SYSTEM_PROPERTY = "diagnostic";
     private static final Logger LOGGER = LoggerFactory.getLogger(DiagnosticManagerImpl.class);
-    private static final DateFormat DATE_FORMAT = new SimpleDateFormat("yyyy-MM-dd-HH-mm-ss.SSS");
+    private static final String REPORTS_DIAGNOSTIC_DOMAIN = "diagnostic-reports";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd-HH-mm-ss.SSS").withZone(ZoneId.systemDefault());
 
     private final ConcurrentMap<String, DiagnosticInfoCollector> diagnosticCollectors = new ConcurrentHashMap<>();
-    private final DiagnosticReporter diagnosticReporter;
+    private volatile DiagnosticReporter diagnosticReporter;
+    private volatile AsyncDiagnosticDispatcher asyncDispatcher;
 
     public DiagnosticManagerImpl() {
-        String reporterClassName = System.getProperty(REPORTER_SYSTEM_PROPERTY);
-        DiagnosticReporter diagnosticReporterToUse;
+        this(new DiagnosticConfig().setReporter(System.getProperty(REPORTER_SYSTEM_PROPERTY)));
+    }
 
-        if (reporterClassName != null) {
-            try {
-                diagnosticReporterToUse = (DiagnosticReporter) Class.forName(reporterClassName).newInstance();
-            } catch (Exception e) {
-                SeedLoggingUtils.logWarningWithDebugDetails(LOGGER, e, "Custom diagnostic reporter ({}) cannot be instantiated, fallback to default reporter", reporterClassName);
-                diagnosticReporterToUse = new DefaultDiagnosticReporter();
+    public DiagnosticManagerImpl(DiagnosticConfig diagnosticConfig) {
+        this.diagnosticReporter = createReporter(diagnosticConfig);
+        this.asyncDispatcher = new AsyncDiagnosticDispatcher(diagnosticConfig, this::writeReport);
+        this.diagnosticCollectors.put(REPORTS_DIAGNOSTIC_DOMAIN, () -> asyncDispatcher.collectStatistics());
+    }
+
+    /**
+     * Applies the specified configuration, which is only known once the kernel is initializing. Reports already queued
+     * are still written by the previous dispatcher.
+     *
+     * @param diagnosticConfig the diagnostic configuration.
+     */
+    public void configure(DiagnosticConfig diagnosticConfig) {
+        AsyncDiagnosticDispatcher previousDispatcher = this.asyncDispatcher;
+        this.diagnosticReporter = createReporter(diagnosticConfig);
+        this.asyncDispatcher = new AsyncDiagnosticDispatcher(diagnosticConfig, this::writeReport);
+        previousDispatcher.shutdown();
+    }
+
+    /**
+     * Stops accepting asynchronous reports and waits for the pending ones to be written.
+     *
+     * @param timeout the maximum time to wait.
+     * @param unit    the unit of the timeout.
+     */
+    public void close(long timeout, TimeUnit unit) {
+        asyncDispatcher.shutdown();
+        try {
+            if (!asyncDispatcher.awaitTermination(timeout, unit)) {
+                LOGGER.warn("Some diagnostic reports have not been written before shutdown");
             }
-        } else {
-            diagnosticReporterToUse = new DefaultDiagnosticReporter();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
         }
-
-        this.diagnosticReporter = diagnosticReporterToUse;
     }
 
     @Override
@@ -77,12 +104,37 @@ public class DiagnosticManagerImpl implements DiagnosticManager {
         }
     }
 
+    @Override
+    public void dumpDiagnosticReportAsync(Throwable t) {
+        asyncDispatcher.dispatch(t);
+    }
+
     @Override
     public void registerDiagnosticInfoCollector(String domain, DiagnosticInfoCollector diagnosticInfoCollector) {
         diagnosticCollectors.put(domain, diagnosticInfoCollector);
     }
 
-    private synchronized Map<String, Object> collectAllDiagnostics(Throwable t) {
+    private void writeReport(Throwable t) {
+        try {
+            diagnosticReporter.writeDiagnosticReport(collectAllDiagnostics(t));
+        } catch (Exception e) {
+            LOGGER.error("Unable to write diagnostic information", e);
+        }
+    }
+
+    private DiagnosticReporter createReporter(DiagnosticConfig diagnosticConfig) {
+        String reporterClassName = diagnosticConfig.getReporter();
+        if (reporterClassName != null) {
+            try {
+                return (DiagnosticReporter) Class.forName(reporterClassName).newInstance();
+            } catch (Exception e) {
+                SeedLoggingUtils.logWarningWithDebugDetails(LOGGER, e, "Custom diagnostic reporter ({}) cannot be instantiated, fallback to default reporter", reporterClassName);
+            }
+        }
+        return new DefaultDiagnosticReporter(diagnosticConfig.getMaxReports());
+    }
+
+    private Map<String, Object> collectAllDiagnostics(Throwable t) {
         Map<String, Object> allDiagnostics = new HashMap<>();
 
         if (t != null) {
@@ -129,7 +181,7 @@ public class DiagnosticManagerImpl implements DiagnosticManager {
     private Map<String, Object> collectSystemInfo() {
         Map<String, Object> result = new HashMap<>();
 
-        result.put("diagnostic-time", DATE_FORMAT.format(new Date()));
+        result.put("diagnostic-time", DATE_FORMAT.format(Instant.now()));
         result.put("properties", buildSystemPropertiesList());
         result.put("threads", buildThreadList());
 
@@ -139,7 +191,7 @@ public class DiagnosticManagerImpl implements DiagnosticManager {
 
         RuntimeMXBean runtimeMXBean = ManagementFactory.getRuntimeMXBean();
         result.put("args", runtimeMXBean.getInputArguments());
-        result.put("start-time", DATE_FORMAT.format(runtimeMXBean.getStartTime()));
+        result.put("start-time", DATE_FORMAT.format(Instant.ofEpochMilli(runtimeMXBean.getStartTime())));
 
         return result;
     }
@@ -147,10 +199,9 @@ public class DiagnosticManagerImpl implements DiagnosticManager {
     private Map<Long, Object> buildThreadList() {
         Map<Long, Object> results = new HashMap<>();
         ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
-        for (long threadId : threadMXBean.getAllThreadIds()) {
-            ThreadInfo threadInfo = threadMXBean.getThreadInfo(threadId);
-
+        for (ThreadInfo threadInfo : threadMXBean.getThreadInfo(threadMXBean.getAllThreadIds())) {
             if (threadInfo != null) { // checks if the thread is not alive or it does not exist.
+                long threadId = threadInfo.getThreadId();
                 Map<String, Object> threadResults = new HashMap<>();
 
                 threadResults.put("name", threadInfo.getThreadName());
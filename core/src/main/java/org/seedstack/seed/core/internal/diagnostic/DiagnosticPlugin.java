@@ -11,6 +11,7 @@ import io.nuun.kernel.api.plugin.InitState;
 import io.nuun.kernel.api.plugin.context.Context;
 import io.nuun.kernel.api.plugin.context.InitContext;
 import io.nuun.kernel.api.plugin.request.ClasspathScanRequest;
+import org.seedstack.seed.DiagnosticConfig;
 import org.seedstack.seed.DiagnosticManager;
 import org.seedstack.seed.core.SeedRuntime;
 import org.seedstack.seed.core.internal.AbstractSeedPlugin;
@@ -23,14 +24,17 @@ import javax.inject.Inject;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 /**
- * Core plugin that detects diagnostic collectors and registers them with the diagnostic manager.
+ * Core plugin that detects diagnostic collectors and registers them with the diagnostic manager. It also applies the
+ * diagnostic configuration to the manager and flushes pending asynchronous reports on shutdown.
  *
  * @author adrien.lauer@mpsa.com
  */
 public class DiagnosticPlugin extends AbstractSeedPlugin {
     private static final Logger LOGGER = LoggerFactory.getLogger(DiagnosticPlugin.class);
+    private static final long SHUTDOWN_TIMEOUT = 5;
     private final Map<String, Class<? extends DiagnosticInfoCollector>> diagnosticInfoCollectorClasses = new HashMap<>();
     private DiagnosticManager diagnosticManager;
     @Inject
@@ -56,6 +60,10 @@ public class DiagnosticPlugin extends AbstractSeedPlugin {
     @SuppressWarnings("unchecked")
     @Override
     public InitState initialize(InitContext initContext) {
+        if (diagnosticManager instanceof DiagnosticManagerImpl) {
+            ((DiagnosticManagerImpl) diagnosticManager).configure(getConfiguration(DiagnosticConfig.class));
+        }
+
         initContext.scannedSubTypesByParentClass().get(DiagnosticInfoCollector.class)
                 .stream()
                 .filter(DiagnosticInfoCollector.class::isAssignableFrom)
@@ -77,9 +85,16 @@ public class DiagnosticPlugin extends AbstractSeedPlugin {
     }
 
     @Override
-    public void start(Context context) {
+    protected void onStart(Context context) {
         for (Map.Entry<String, DiagnosticInfoCollector> entry : diagnosticInfoCollectors.entrySet()) {
             diagnosticManager.registerDiagnosticInfoCollector(entry.getKey(), entry.getValue());
         }
     }
+
+    @Override
+    public void stop() {
+        if (diagnosticManager instanceof DiagnosticManagerImpl) {
+            ((DiagnosticManagerImpl) diagnosticManager).close(SHUTDOWN_TIMEOUT, TimeUnit.SECONDS);
+        }
+    }
 }
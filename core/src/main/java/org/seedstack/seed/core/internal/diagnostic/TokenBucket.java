@@ -0,0 +1,45 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.diagnostic;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Simple token bucket used to limit the rate of diagnostic reports. Tokens are refilled continuously at the configured
+ * rate, up to the bucket capacity.
+ */
+final class TokenBucket {
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefill;
+
+    TokenBucket(int capacity, int tokensPerMinute) {
+        this.capacity = capacity;
+        this.tokensPerNano = (double) tokensPerMinute / TimeUnit.MINUTES.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefill = System.nanoTime();
+    }
+
+    /**
+     * Takes a token from the bucket if one is available.
+     *
+     * @return true if a token was taken, false if the bucket is empty.
+     */
+    synchronized boolean tryAcquire() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefill) * tokensPerNano);
+        lastRefill = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return true;
+        } else {
+            return false;
+        }
+    }
+}
@@ -14,7 +14,11 @@ import org.seedstack.seed.el.ELContextBuilder;
 import javax.el.ELContext;
 import javax.el.ExpressionFactory;
 import javax.inject.Inject;
+import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 /**
  * Implementation of ELContextBuilder.
@@ -23,26 +27,63 @@ import java.lang.reflect.Method;
  *         Date: 11/07/2014
  */
 class ELContextBuilderImpl implements ELContextBuilder {
+    private static final Constructor<ELContext> STANDARD_EL_CONTEXT_CONSTRUCTOR = getStandardELContextConstructor();
     @Inject
     private ExpressionFactory expressionFactory;
 
     static ELContext createDefaultELContext(ExpressionFactory expressionFactory) {
-        if (ELPlugin.EL3_MAYBE.isPresent()) {
+        if (STANDARD_EL_CONTEXT_CONSTRUCTOR != null) {
+            ELContext elContext;
             try {
-                return ELPlugin.EL3_MAYBE.get().getConstructor(ExpressionFactory.class).newInstance(expressionFactory);
+                elContext = STANDARD_EL_CONTEXT_CONSTRUCTOR.newInstance(expressionFactory);
             } catch (Exception e) {
                 throw new RuntimeException("Unable to instantiate StandardELContext");
             }
+            elContext.putContext(ELContextBuilderImpl.class, Collections.<String, Method>emptyMap());
+            return elContext;
         } else {
             throw new UnsupportedOperationException("StandardELContext is not supported in this environment (EL level 3+ required)");
         }
     }
 
+    /**
+     * Returns the functions mapped in a context created by this builder, which are part of the identity of the
+     * expressions parsed with it.
+     *
+     * @param elContext the EL context (may be null).
+     * @return the map of mapped functions (keyed by "prefix:localName") or null if the context was not created by this
+     * builder.
+     */
+    @SuppressWarnings("unchecked")
+    static Map<String, Method> getMappedFunctions(ELContext elContext) {
+        return elContext == null ? null : (Map<String, Method>) elContext.getContext(ELContextBuilderImpl.class);
+    }
+
+    private static Constructor<ELContext> getStandardELContextConstructor() {
+        if (ELPlugin.EL3_MAYBE.isPresent()) {
+            try {
+                return ELPlugin.EL3_MAYBE.get().getConstructor(ExpressionFactory.class);
+            } catch (NoSuchMethodException e) {
+                throw new RuntimeException("Unable to find StandardELContext constructor", e);
+            }
+        } else {
+            return null;
+        }
+    }
+
     @Override
     public ELPropertyProvider defaultContext() {
         return new SubContextBuilderImpl(createDefaultELContext(expressionFactory));
     }
 
+    @Override
+    public ELPropertyProvider defaultContext(Map<String, Method> functions) {
+        SeedCheckUtils.checkIfNotNull(functions);
+        ELContext elContext = new FunctionMappedELContext(createDefaultELContext(expressionFactory), functions);
+        elContext.putContext(ELContextBuilderImpl.class, functions);
+        return new SubContextBuilderImpl(elContext);
+    }
+
     @Override
     public ELPropertyProvider context(ELContext elContext) {
         return new SubContextBuilderImpl(elContext);
@@ -67,6 +108,13 @@ class ELContextBuilderImpl implements ELContextBuilder {
             SeedCheckUtils.checkIf(StringUtils.isNotBlank(localName));
             if (ELPlugin.EL3_MAYBE.isPresent()) {
                 elContext.getFunctionMapper().mapFunction(prefix, localName, method);
+                Map<String, Method> mappedFunctions = getMappedFunctions(elContext);
+                if (mappedFunctions != null) {
+                    // a new map is built since the previous one may already be part of cached expressions keys
+                    Map<String, Method> newMappedFunctions = new HashMap<>(mappedFunctions);
+                    newMappedFunctions.put(prefix + ":" + localName, method);
+                    elContext.putContext(ELContextBuilderImpl.class, newMappedFunctions);
+                }
             } else {
                 throw new UnsupportedOperationException("Function mapping is not supported in this environment (EL level 3+ required)");
             }
@@ -8,6 +8,7 @@
 package org.seedstack.seed.core.internal.el;
 
 import com.google.inject.Injector;
+import com.google.inject.Provider;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
 import org.seedstack.shed.exception.SeedException;
@@ -20,6 +21,8 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 
 class ELInterceptor implements MethodInterceptor {
@@ -28,6 +31,10 @@ class ELInterceptor implements MethodInterceptor {
 
     private ELBinder.ExecutionPolicy policy;
 
+    private final ConcurrentMap<Method, String> expressions = new ConcurrentHashMap<>();
+
+    private volatile Provider<ELHandler> handlerProvider;
+
     // Get a map of annotation handler
     @Inject
     private Map<Class<? extends Annotation>, Class<ELHandler>> elMap;
@@ -48,8 +55,7 @@ class ELInterceptor implements MethodInterceptor {
 
     @Override
     public Object invoke(MethodInvocation invocation) throws Throwable {
-        Class<ELHandler> handlerClass = elMap.get(this.annotationClass);
-        ELHandler ELHandler = injector.getInstance(handlerClass);
+        ELHandler ELHandler = getHandlerProvider().get();
 
         // The policy defines if the EL is evaluated before the method, after or both.
 
@@ -70,8 +76,21 @@ class ELInterceptor implements MethodInterceptor {
         return obj;
     }
 
+    private Provider<ELHandler> getHandlerProvider() {
+        Provider<ELHandler> provider = handlerProvider;
+        if (provider == null) {
+            handlerProvider = provider = injector.getProvider(elMap.get(this.annotationClass));
+        }
+        return provider;
+    }
+
     private Object evaluateELWithService(Object obj, MethodInvocation invocation) {
-        return elService.withExpression(getELFromAnnotation(invocation.getMethod()), Object.class)
+        Method method = invocation.getMethod();
+        String el = expressions.get(method);
+        if (el == null) {
+            el = expressions.computeIfAbsent(method, this::getELFromAnnotation);
+        }
+        return elService.withExpression(el, Object.class)
                 .withContext(elContextBuilder.defaultContext().withProperty("result", obj).withProperty("args", invocation.getArguments()).build())
                 .asValueExpression().eval();
     }
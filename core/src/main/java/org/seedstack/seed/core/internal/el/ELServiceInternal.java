@@ -7,6 +7,8 @@
  */
 package org.seedstack.seed.core.internal.el;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import org.apache.commons.lang.StringUtils;
 import org.seedstack.shed.exception.SeedException;
 import org.seedstack.seed.core.utils.SeedCheckUtils;
@@ -19,6 +21,11 @@ import javax.el.MethodExpression;
 import javax.el.PropertyNotFoundException;
 import javax.el.ValueExpression;
 import javax.inject.Inject;
+import javax.inject.Singleton;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Implementation of ELService.
@@ -26,7 +33,10 @@ import javax.inject.Inject;
  * @author pierre.thirouin@ext.mpsa.com
  *         Date: 02/07/2014
  */
+@Singleton
 class ELServiceInternal implements ELService {
+    private static final int EXPRESSION_CACHE_MAX_SIZE = 4096;
+    private final Cache<ExpressionKey, Object> expressionCache = CacheBuilder.newBuilder().maximumSize(EXPRESSION_CACHE_MAX_SIZE).build();
     @Inject
     private ExpressionFactory expressionFactory;
 
@@ -34,13 +44,13 @@ class ELServiceInternal implements ELService {
     public ELContextProvider withExpression(String el, Class returnType) {
         SeedCheckUtils.checkIf(StringUtils.isNotBlank(el));
         SeedCheckUtils.checkIfNotNull(returnType);
-        return new ELInstance(expressionFactory, el, returnType);
+        return new ELInstance(expressionFactory, expressionCache, el, returnType);
     }
 
     @Override
     public ValueExpressionProvider withValueExpression(ValueExpression valueExpression) {
         SeedCheckUtils.checkIfNotNull(valueExpression);
-        ELInstance elInstance = new ELInstance(expressionFactory);
+        ELInstance elInstance = new ELInstance(expressionFactory, expressionCache);
         elInstance.setValueExpression(valueExpression);
         return elInstance;
     }
@@ -48,7 +58,7 @@ class ELServiceInternal implements ELService {
     @Override
     public MethodExpressionProvider withMethodExpression(MethodExpression methodExpression) {
         SeedCheckUtils.checkIfNotNull(methodExpression);
-        ELInstance elInstance = new ELInstance(expressionFactory);
+        ELInstance elInstance = new ELInstance(expressionFactory, expressionCache);
         elInstance.setMethodExpression(methodExpression);
         return elInstance;
     }
@@ -57,6 +67,8 @@ class ELServiceInternal implements ELService {
 
         private final ExpressionFactory expressionFactory;
 
+        private final Cache<ExpressionKey, Object> expressionCache;
+
         private String el;
 
         private Class returnType;
@@ -67,12 +79,14 @@ class ELServiceInternal implements ELService {
 
         private ELContext context;
 
-        ELInstance(ExpressionFactory expressionFactory) {
+        ELInstance(ExpressionFactory expressionFactory, Cache<ExpressionKey, Object> expressionCache) {
             this.expressionFactory = expressionFactory;
+            this.expressionCache = expressionCache;
         }
 
-        ELInstance(ExpressionFactory expressionFactory, String el, Class returnType) {
+        ELInstance(ExpressionFactory expressionFactory, Cache<ExpressionKey, Object> expressionCache, String el, Class returnType) {
             this.expressionFactory = expressionFactory;
+            this.expressionCache = expressionCache;
             this.el = el;
             this.returnType = returnType;
         }
@@ -97,7 +111,17 @@ class ELServiceInternal implements ELService {
 
         @Override
         public ValueExpressionProvider asValueExpression() {
-            valueExpression = expressionFactory.createValueExpression(context, el, returnType);
+            Map<String, Method> mappedFunctions = ELContextBuilderImpl.getMappedFunctions(context);
+            if (mappedFunctions == null) {
+                valueExpression = expressionFactory.createValueExpression(context, el, returnType);
+            } else {
+                ExpressionKey expressionKey = new ExpressionKey(el, returnType, null, mappedFunctions);
+                valueExpression = (ValueExpression) expressionCache.getIfPresent(expressionKey);
+                if (valueExpression == null) {
+                    valueExpression = expressionFactory.createValueExpression(context, el, returnType);
+                    expressionCache.put(expressionKey, valueExpression);
+                }
+            }
             return this;
         }
 
@@ -108,7 +132,17 @@ class ELServiceInternal implements ELService {
 
         @Override
         public MethodExpressionProvider asMethodExpression(Class<?>[] expectedParamTypes) {
-            methodExpression = expressionFactory.createMethodExpression(context, el, returnType, expectedParamTypes);
+            Map<String, Method> mappedFunctions = ELContextBuilderImpl.getMappedFunctions(context);
+            if (mappedFunctions == null) {
+                methodExpression = expressionFactory.createMethodExpression(context, el, returnType, expectedParamTypes);
+            } else {
+                ExpressionKey expressionKey = new ExpressionKey(el, returnType, expectedParamTypes, mappedFunctions);
+                methodExpression = (MethodExpression) expressionCache.getIfPresent(expressionKey);
+                if (methodExpression == null) {
+                    methodExpression = expressionFactory.createMethodExpression(context, el, returnType, expectedParamTypes);
+                    expressionCache.put(expressionKey, methodExpression);
+                }
+            }
             return this;
         }
 
@@ -146,4 +180,38 @@ class ELServiceInternal implements ELService {
             this.valueExpression = valueExpression;
         }
     }
+
+    /**
+     * Identity of a parsed expression: its text, its expected type, its expected parameter types (for method
+     * expressions only) and the functions mapped in the context at parse time.
+     */
+    private static class ExpressionKey {
+        private final String el;
+        private final Class<?> returnType;
+        private final Class<?>[] expectedParamTypes;
+        private final Map<String, Method> mappedFunctions;
+
+        private ExpressionKey(String el, Class<?> returnType, Class<?>[] expectedParamTypes, Map<String, Method> mappedFunctions) {
+            this.el = el;
+            this.returnType = returnType;
+            this.expectedParamTypes = expectedParamTypes == null ? null : expectedParamTypes.clone();
+            this.mappedFunctions = mappedFunctions;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ExpressionKey that = (ExpressionKey) o;
+            return el.equals(that.el) &&
+                    returnType.equals(that.returnType) &&
+                    Arrays.equals(expectedParamTypes, that.expectedParamTypes) &&
+                    mappedFunctions.equals(that.mappedFunctions);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(el, returnType, Arrays.hashCode(expectedParamTypes), mappedFunctions);
+        }
+    }
 }
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.el;
+
+import javax.el.ELContext;
+import javax.el.ELResolver;
+import javax.el.FunctionMapper;
+import javax.el.VariableMapper;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * EL context resolving functions from a map shared between contexts, so the function mapping doesn't have to be
+ * rebuilt for each evaluation. Functions mapped afterwards on the context only apply to it. Property resolution and
+ * variables are delegated to a default context.
+ */
+class FunctionMappedELContext extends ELContext {
+    private final ELContext delegate;
+    private final LayeredFunctionMapper functionMapper;
+
+    FunctionMappedELContext(ELContext delegate, Map<String, Method> sharedFunctions) {
+        this.delegate = delegate;
+        this.functionMapper = new LayeredFunctionMapper(sharedFunctions);
+    }
+
+    @Override
+    public ELResolver getELResolver() {
+        return delegate.getELResolver();
+    }
+
+    @Override
+    public FunctionMapper getFunctionMapper() {
+        return functionMapper;
+    }
+
+    @Override
+    public VariableMapper getVariableMapper() {
+        return delegate.getVariableMapper();
+    }
+
+    private static class LayeredFunctionMapper extends FunctionMapper {
+        private final Map<String, Method> sharedFunctions;
+        private Map<String, Method> localFunctions;
+
+        LayeredFunctionMapper(Map<String, Method> sharedFunctions) {
+            this.sharedFunctions = sharedFunctions;
+        }
+
+        @Override
+        public Method resolveFunction(String prefix, String localName) {
+            String name = prefix + ":" + localName;
+            if (localFunctions != null && localFunctions.containsKey(name)) {
+                return localFunctions.get(name);
+            }
+            return sharedFunctions.get(name);
+        }
+
+        @Override
+        public void mapFunction(String prefix, String localName, Method method) {
+            if (localFunctions == null) {
+                localFunctions = new HashMap<>();
+            }
+            localFunctions.put(prefix + ":" + localName, method);
+        }
+    }
+}
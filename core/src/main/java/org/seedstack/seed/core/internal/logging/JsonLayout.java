@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.CoreConstants;
+import ch.qos.logback.core.LayoutBase;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Formats logging events as compact JSON objects, one per line, without any ANSI code.
+ */
+class JsonLayout extends LayoutBase<ILoggingEvent> {
+    private final JsonFactory jsonFactory = new JsonFactory();
+
+    @Override
+    public String doLayout(ILoggingEvent event) {
+        StringWriter writer = new StringWriter(256);
+        try (JsonGenerator generator = jsonFactory.createGenerator(writer)) {
+            generator.writeStartObject();
+            generator.writeStringField("timestamp", Instant.ofEpochMilli(event.getTimeStamp()).toString());
+            generator.writeStringField("level", event.getLevel().toString());
+            generator.writeStringField("thread", event.getThreadName());
+            generator.writeStringField("logger", event.getLoggerName());
+            generator.writeStringField("message", event.getFormattedMessage());
+
+            Map<String, String> mdc = event.getMDCPropertyMap();
+            if (mdc != null && !mdc.isEmpty()) {
+                generator.writeObjectFieldStart("mdc");
+                for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                    generator.writeStringField(entry.getKey(), entry.getValue());
+                }
+                generator.writeEndObject();
+            }
+
+            IThrowableProxy throwableProxy = event.getThrowableProxy();
+            if (throwableProxy != null) {
+                generator.writeStringField("exception", ThrowableProxyUtil.asString(throwableProxy));
+            }
+            generator.writeEndObject();
+        } catch (IOException e) {
+            addError("Unable to format logging event as JSON", e);
+        }
+        return writer.append(CoreConstants.LINE_SEPARATOR).toString();
+    }
+}
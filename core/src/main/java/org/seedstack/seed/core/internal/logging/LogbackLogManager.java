@@ -14,15 +14,24 @@ import ch.qos.logback.classic.encoder.PatternLayoutEncoder;
 import ch.qos.logback.classic.jul.LevelChangePropagator;
 import ch.qos.logback.classic.spi.ILoggingEvent;
 import ch.qos.logback.classic.util.ContextInitializer;
+import ch.qos.logback.core.Appender;
 import ch.qos.logback.core.ConsoleAppender;
+import ch.qos.logback.core.encoder.Encoder;
+import ch.qos.logback.core.encoder.LayoutWrappingEncoder;
 import ch.qos.logback.core.joran.spi.JoranException;
 import ch.qos.logback.core.joran.util.ConfigurationWatchListUtil;
 import org.seedstack.seed.LogConfig;
 import org.seedstack.seed.spi.log.LogManager;
 import org.slf4j.LoggerFactory;
 
+import java.util.Collections;
+import java.util.Map;
+
 public class LogbackLogManager implements LogManager {
+    private static final String COLOR_PATTERN = "%highlight(%-5level) [%d{ISO8601}] %magenta(%-8thread) %cyan(%-30logger{30}) %msg%n%red(%throwable)";
+    private static final String PLAIN_PATTERN = "%-5level [%d{ISO8601}] %-8thread %-30logger{30} %msg%n%throwable";
     private final LoggerContext context = (LoggerContext) LoggerFactory.getILoggerFactory();
+    private volatile MeteredAsyncAppender asyncAppender;
 
     public LogbackLogManager() {
         context.getLogger(Logger.ROOT_LOGGER_NAME).setLevel(Level.OFF);
@@ -31,6 +40,7 @@ public class LogbackLogManager implements LogManager {
     @Override
     public synchronized void init(LogConfig logConfig) {
         context.reset();
+        asyncAppender = null;
         if (!context.isStarted()) {
             context.start();
         }
@@ -51,23 +61,33 @@ public class LogbackLogManager implements LogManager {
             levelChangePropagator.start();
             context.addListener(levelChangePropagator);
 
-            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
-            encoder.setPattern("%highlight(%-5level) [%d{ISO8601}] %magenta(%-8thread) %cyan(%-30logger{30}) %msg%n%red(%throwable)");
-            encoder.setContext(context);
-            encoder.start();
-
             ConsoleAppender<ILoggingEvent> logConsoleAppender = new ConsoleAppender<>();
             logConsoleAppender.setContext(context);
+            logConsoleAppender.setName("CONSOLE");
             logConsoleAppender.setTarget("System.out");
-            logConsoleAppender.setEncoder(encoder);
+            logConsoleAppender.setEncoder(buildEncoder(logConfig));
             logConsoleAppender.start();
 
             Logger nuunLogger = context.getLogger("io.nuun");
             nuunLogger.setLevel(Level.WARN);
 
+            for (Map.Entry<String, LogConfig.Level> loggerEntry : logConfig.getLoggers().entrySet()) {
+                context.getLogger(loggerEntry.getKey()).setLevel(Level.valueOf(loggerEntry.getValue().name()));
+            }
+
             Logger rootLogger = context.getLogger(Logger.ROOT_LOGGER_NAME);
             rootLogger.setLevel(Level.valueOf(logConfig.getLevel().name()));
-            rootLogger.addAppender(logConsoleAppender);
+            rootLogger.addAppender(buildAsyncAppenderIfNecessary(logConsoleAppender, logConfig.async()));
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStatistics() {
+        MeteredAsyncAppender appender = this.asyncAppender;
+        if (appender != null && appender.isStarted()) {
+            return appender.getStatistics();
+        } else {
+            return Collections.emptyMap();
         }
     }
 
@@ -76,6 +96,46 @@ public class LogbackLogManager implements LogManager {
         context.stop();
     }
 
+    private Encoder<ILoggingEvent> buildEncoder(LogConfig logConfig) {
+        if (logConfig.getFormat() == LogConfig.Format.JSON) {
+            JsonLayout layout = new JsonLayout();
+            layout.setContext(context);
+            layout.start();
+
+            LayoutWrappingEncoder<ILoggingEvent> encoder = new LayoutWrappingEncoder<>();
+            encoder.setLayout(layout);
+            encoder.setContext(context);
+            encoder.start();
+            return encoder;
+        } else {
+            PatternLayoutEncoder encoder = new PatternLayoutEncoder();
+            encoder.setPattern(logConfig.isColor() ? COLOR_PATTERN : PLAIN_PATTERN);
+            encoder.setContext(context);
+            encoder.start();
+            return encoder;
+        }
+    }
+
+    private Appender<ILoggingEvent> buildAsyncAppenderIfNecessary(Appender<ILoggingEvent> appender, LogConfig.AsyncConfig asyncConfig) {
+        if (!asyncConfig.isEnabled()) {
+            return appender;
+        }
+
+        MeteredAsyncAppender meteredAsyncAppender = new MeteredAsyncAppender();
+        meteredAsyncAppender.setContext(context);
+        meteredAsyncAppender.setName("ASYNC-" + appender.getName());
+        meteredAsyncAppender.setQueueSize(asyncConfig.getQueueSize());
+        if (asyncConfig.getDiscardingThreshold() >= 0) {
+            meteredAsyncAppender.setDiscardingThreshold(asyncConfig.getDiscardingThreshold());
+        }
+        meteredAsyncAppender.setIncludeCallerData(asyncConfig.isIncludeCallerData());
+        meteredAsyncAppender.setNeverBlock(asyncConfig.isNeverBlock());
+        meteredAsyncAppender.addAppender(appender);
+        meteredAsyncAppender.start();
+        asyncAppender = meteredAsyncAppender;
+        return meteredAsyncAppender;
+    }
+
     private boolean isExplicitlyConfigured() {
         return ConfigurationWatchListUtil.getMainWatchURL(context) != null;
     }
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.logging;
+
+import ch.qos.logback.classic.AsyncAppender;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Asynchronous appender counting the events discarded because of the discarding threshold or, when the never-block
+ * option is enabled, of a full queue. The count is based on the state of the queue just before the event is handed to
+ * logback, so it is approximate when the queue is filled or drained concurrently.
+ */
+class MeteredAsyncAppender extends AsyncAppender {
+    private final LongAdder discarded = new LongAdder();
+
+    @Override
+    protected void append(ILoggingEvent eventObject) {
+        int remainingCapacity = getRemainingCapacity();
+        if (remainingCapacity < getDiscardingThreshold() && isDiscardable(eventObject)
+                || isNeverBlock() && remainingCapacity == 0) {
+            discarded.increment();
+        }
+        super.append(eventObject);
+    }
+
+    Map<String, Object> getStatistics() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("queue-size", getQueueSize());
+        result.put("queue-depth", getNumberOfElementsInQueue());
+        result.put("discarded", discarded.sum());
+        return result;
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.scan;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.BufferUnderflowException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Removes the bytecode of methods from class files. Classpath scanners only look at the class structure (names, super
+ * types, fields, methods and annotations) so a class file without its {@code Code} attributes is equivalent for them,
+ * while being significantly smaller to store in the {@link ScanIndex}.
+ */
+final class ClassFileStripper {
+    private static final int MAGIC = 0xCAFEBABE;
+    private static final byte[] CODE = "Code".getBytes(StandardCharsets.UTF_8);
+
+    private ClassFileStripper() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Returns the class file without method bytecode, or the original class file if it cannot be parsed.
+     *
+     * @param classFile the class file bytes.
+     * @return the stripped class file.
+     */
+    static byte[] strip(byte[] classFile) {
+        try {
+            return doStrip(ByteBuffer.wrap(classFile));
+        } catch (BufferUnderflowException | IllegalArgumentException | IOException e) {
+            return classFile;
+        }
+    }
+
+    private static byte[] doStrip(ByteBuffer in) throws IOException {
+        if (in.getInt() != MAGIC) {
+            throw new IllegalArgumentException("not a class file");
+        }
+        in.getInt(); // minor and major versions
+        int codeIndex = skipConstantPool(in);
+        in.position(in.position() + 6); // access flags, this class, super class
+        int interfaceCount = getUnsignedShort(in);
+        in.position(in.position() + 2 * interfaceCount); // interfaces
+        skipMembers(in); // fields
+        int methodsStart = in.position();
+        // The whole prefix of the class file (up to methods) is kept as is
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream(in.capacity());
+        byteArrayOutputStream.write(in.array(), 0, methodsStart);
+        DataOutputStream out = new DataOutputStream(byteArrayOutputStream);
+
+        int methodCount = getUnsignedShort(in);
+        out.writeShort(methodCount);
+        for (int i = 0; i < methodCount; i++) {
+            out.write(in.array(), in.position(), 6); // access flags, name, descriptor
+            in.position(in.position() + 6);
+            int attributeCount = getUnsignedShort(in);
+            int attributesStart = in.position();
+            int keptCount = 0;
+            for (int j = 0; j < attributeCount; j++) {
+                int nameIndex = getUnsignedShort(in);
+                skipAttributeContent(in);
+                if (nameIndex != codeIndex) {
+                    keptCount++;
+                }
+            }
+            int attributesEnd = in.position();
+            out.writeShort(keptCount);
+            in.position(attributesStart);
+            while (in.position() < attributesEnd) {
+                int attributeStart = in.position();
+                int nameIndex = getUnsignedShort(in);
+                int length = in.getInt();
+                if (nameIndex != codeIndex) {
+                    out.write(in.array(), attributeStart, 6 + length);
+                }
+                in.position(in.position() + length);
+            }
+        }
+
+        // Class attributes are kept as is
+        out.write(in.array(), in.position(), in.remaining());
+        out.flush();
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static int skipConstantPool(ByteBuffer in) {
+        int codeIndex = -1;
+        int count = getUnsignedShort(in);
+        for (int i = 1; i < count; i++) {
+            int tag = in.get() & 0xFF;
+            switch (tag) {
+                case 1: // Utf8
+                    int length = getUnsignedShort(in);
+                    if (codeIndex == -1 && isCode(in, length)) {
+                        codeIndex = i;
+                    }
+                    in.position(in.position() + length);
+                    break;
+                case 3: // Integer
+                case 4: // Float
+                case 9: // Fieldref
+                case 10: // Methodref
+                case 11: // InterfaceMethodref
+                case 12: // NameAndType
+                case 17: // Dynamic
+                case 18: // InvokeDynamic
+                    in.position(in.position() + 4);
+                    break;
+                case 5: // Long
+                case 6: // Double
+                    in.position(in.position() + 8);
+                    i++;
+                    break;
+                case 7: // Class
+                case 8: // String
+                case 16: // MethodType
+                case 19: // Module
+                case 20: // Package
+                    in.position(in.position() + 2);
+                    break;
+                case 15: // MethodHandle
+                    in.position(in.position() + 3);
+                    break;
+                default:
+                    throw new IllegalArgumentException("unknown constant pool tag " + tag);
+            }
+        }
+        return codeIndex;
+    }
+
+    private static boolean isCode(ByteBuffer in, int length) {
+        if (length != CODE.length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (in.get(in.position() + i) != CODE[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void skipMembers(ByteBuffer in) {
+        int count = getUnsignedShort(in);
+        for (int i = 0; i < count; i++) {
+            in.position(in.position() + 6);
+            int attributeCount = getUnsignedShort(in);
+            for (int j = 0; j < attributeCount; j++) {
+                in.position(in.position() + 2);
+                skipAttributeContent(in);
+            }
+        }
+    }
+
+    private static void skipAttributeContent(ByteBuffer in) {
+        int length = in.getInt();
+        in.position(in.position() + length);
+    }
+
+    private static int getUnsignedShort(ByteBuffer in) {
+        return in.getShort() & 0xFFFF;
+    }
+}
@@ -0,0 +1,268 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.scan;
+
+import org.reflections.vfs.Vfs;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.List;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Handles jars of the local file system using a {@link ScanIndex}. Besides plain jar files, {@code jar:} URLs
+ * pointing to a jar file, to a directory inside a jar file or to a jar nested inside a jar file (as found in
+ * executable "fat" jars) are supported. Indexed jars are not opened at all, unless a scanner reads an entry which is
+ * not a class file. If the jar cannot be read, scanning falls back to the standard Reflections handling.
+ */
+public class IndexedJarUrlType implements Vfs.UrlType {
+    private static final String JAR_SEPARATOR = "!/";
+    private static final String JAR_SUFFIX = ".jar";
+    private final ScanIndex scanIndex;
+
+    public IndexedJarUrlType(ScanIndex scanIndex) {
+        this.scanIndex = scanIndex;
+    }
+
+    @Override
+    public boolean matches(URL url) {
+        return JarLocation.parse(url) != null;
+    }
+
+    @Override
+    public Vfs.Dir createDir(URL url) throws Exception {
+        JarLocation jarLocation = JarLocation.parse(url);
+        if (jarLocation == null) {
+            throw new IllegalArgumentException("Unsupported URL " + url);
+        }
+        ScanIndex.JarContent jarContent;
+        try {
+            jarContent = scanIndex.getContent(jarLocation.getKey(), jarLocation.file, jarLocation);
+        } catch (IOException e) {
+            return fallback(url, jarLocation);
+        }
+        return new IndexedJarDir(jarLocation, jarContent);
+    }
+
+    private Vfs.Dir fallback(URL url, JarLocation jarLocation) throws Exception {
+        if (jarLocation.nestedPath == null) {
+            return Vfs.DefaultUrlTypes.jarFile.createDir(jarLocation.file.toURI().toURL());
+        } else if (Vfs.DefaultUrlTypes.jarUrl.matches(url)) {
+            return Vfs.DefaultUrlTypes.jarUrl.createDir(url);
+        } else {
+            throw new IOException("Unable to read " + url);
+        }
+    }
+
+    /**
+     * Location of a jar: a jar file, a directory inside a jar file or a jar nested inside a jar file.
+     */
+    private static class JarLocation implements ScanIndex.ContentSource {
+        private final File file;
+        private final String nestedPath;
+        private final boolean nestedJar;
+
+        private JarLocation(File file, String nestedPath, boolean nestedJar) {
+            this.file = file;
+            this.nestedPath = nestedPath;
+            this.nestedJar = nestedJar;
+        }
+
+        private static JarLocation parse(URL url) {
+            if ("file".equals(url.getProtocol())) {
+                if (!url.getPath().toLowerCase().endsWith(JAR_SUFFIX)) {
+                    return null;
+                }
+                File file = toFile(url.toExternalForm());
+                return file != null ? new JarLocation(file, null, false) : null;
+            } else if ("jar".equals(url.getProtocol())) {
+                String path = url.getPath();
+                int separatorIndex = path.indexOf(JAR_SEPARATOR);
+                if (separatorIndex == -1 || !path.startsWith("file:")) {
+                    return null;
+                }
+                File file = toFile(path.substring(0, separatorIndex));
+                if (file == null) {
+                    return null;
+                }
+
+                String nestedPath = path.substring(separatorIndex + JAR_SEPARATOR.length());
+                if (nestedPath.endsWith(JAR_SEPARATOR)) {
+                    nestedPath = nestedPath.substring(0, nestedPath.length() - JAR_SEPARATOR.length());
+                } else if (nestedPath.endsWith("/")) {
+                    nestedPath = nestedPath.substring(0, nestedPath.length() - 1);
+                }
+                if (nestedPath.contains(JAR_SEPARATOR)) {
+                    // Jars nested more than one level deep are not supported
+                    return null;
+                } else if (nestedPath.isEmpty()) {
+                    return new JarLocation(file, null, false);
+                } else {
+                    return new JarLocation(file, nestedPath, nestedPath.toLowerCase().endsWith(JAR_SUFFIX));
+                }
+            } else {
+                return null;
+            }
+        }
+
+        private static File toFile(String fileUrl) {
+            try {
+                File file = new File(new URL(fileUrl).toURI());
+                return file.isFile() ? file : null;
+            } catch (MalformedURLException | URISyntaxException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+
+        private String getKey() {
+            return nestedPath == null ? file.getAbsolutePath() : file.getAbsolutePath() + JAR_SEPARATOR + nestedPath;
+        }
+
+        @Override
+        public ZipInputStream open() throws IOException {
+            if (nestedJar) {
+                JarFile jarFile = new JarFile(file);
+                try {
+                    ZipEntry zipEntry = jarFile.getEntry(nestedPath);
+                    if (zipEntry == null) {
+                        throw new FileNotFoundException(nestedPath + " not found in " + file.getPath());
+                    }
+                    return new ZipInputStream(new BufferedInputStream(jarFile.getInputStream(zipEntry))) {
+                        @Override
+                        public void close() throws IOException {
+                            try {
+                                super.close();
+                            } finally {
+                                jarFile.close();
+                            }
+                        }
+                    };
+                } catch (IOException | RuntimeException e) {
+                    jarFile.close();
+                    throw e;
+                }
+            } else {
+                return new ZipInputStream(new BufferedInputStream(new FileInputStream(file)));
+            }
+        }
+
+        @Override
+        public String getPrefix() {
+            return nestedPath == null || nestedJar ? "" : nestedPath + "/";
+        }
+    }
+
+    private static class IndexedJarDir implements Vfs.Dir {
+        private final JarLocation jarLocation;
+        private final ScanIndex.JarContent jarContent;
+        private JarFile jarFile;
+
+        private IndexedJarDir(JarLocation jarLocation, ScanIndex.JarContent jarContent) {
+            this.jarLocation = jarLocation;
+            this.jarContent = jarContent;
+        }
+
+        @Override
+        public String getPath() {
+            return jarLocation.getKey();
+        }
+
+        @Override
+        public Iterable<Vfs.File> getFiles() {
+            List<String> entries = jarContent.getEntries();
+            return entries.stream().map(entry -> new IndexedJarEntry(this, entry)).collect(Collectors.toList());
+        }
+
+        private InputStream openEntry(String relativePath) throws IOException {
+            byte[] classFile = jarContent.getClassFile(relativePath);
+            if (classFile != null) {
+                return new ByteArrayInputStream(classFile);
+            } else if (jarLocation.nestedJar) {
+                return openNestedEntry(relativePath);
+            } else {
+                return openFileEntry(jarLocation.getPrefix() + relativePath);
+            }
+        }
+
+        private synchronized InputStream openFileEntry(String name) throws IOException {
+            if (jarFile == null) {
+                jarFile = new JarFile(jarLocation.file);
+            }
+            ZipEntry zipEntry = jarFile.getEntry(name);
+            if (zipEntry == null) {
+                throw new FileNotFoundException(name + " not found in " + jarLocation.getKey());
+            }
+            return jarFile.getInputStream(zipEntry);
+        }
+
+        private InputStream openNestedEntry(String name) throws IOException {
+            ZipInputStream zipInputStream = jarLocation.open();
+            try {
+                ZipEntry zipEntry;
+                while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+                    if (zipEntry.getName().equals(name)) {
+                        return zipInputStream;
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                zipInputStream.close();
+                throw e;
+            }
+            zipInputStream.close();
+            throw new FileNotFoundException(name + " not found in " + jarLocation.getKey());
+        }
+
+        @Override
+        public synchronized void close() {
+            if (jarFile != null) {
+                try {
+                    jarFile.close();
+                } catch (IOException e) {
+                    // nothing to do
+                }
+                jarFile = null;
+            }
+        }
+    }
+
+    private static class IndexedJarEntry implements Vfs.File {
+        private final IndexedJarDir dir;
+        private final String relativePath;
+
+        private IndexedJarEntry(IndexedJarDir dir, String relativePath) {
+            this.dir = dir;
+            this.relativePath = relativePath;
+        }
+
+        @Override
+        public String getName() {
+            return relativePath.substring(relativePath.lastIndexOf('/') + 1);
+        }
+
+        @Override
+        public String getRelativePath() {
+            return relativePath;
+        }
+
+        @Override
+        public InputStream openInputStream() throws IOException {
+            return dir.openEntry(relativePath);
+        }
+    }
+}
@@ -0,0 +1,456 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.scan;
+
+import com.google.common.hash.Hashing;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+/**
+ * Persistent index of the content of scanned jars: the names of their entries and their class files stripped from
+ * method bytecode (see {@link ClassFileStripper}), which is all the classpath scanners read. An indexed jar is not
+ * opened at all by later scans.
+ * <p>
+ * Each jar is keyed by its location and validated against the SHA-256 hash of the jar file, so a modified jar is
+ * transparently read again. The index file starts with a table of contents, followed by the compressed content of
+ * each jar, which is only read when the jar is scanned. The file is only rewritten when it has changed and its
+ * directory, when created by the index, is only accessible to its owner.
+ * </p>
+ * <p>
+ * Lookups can be done concurrently but never overlap with the loading or the saving of the index, which replace its
+ * table of contents and the location of the jar data.
+ * </p>
+ */
+public class ScanIndex {
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScanIndex.class);
+    private static final int MAGIC = 0x5EED1DC5;
+    private static final int VERSION = 3;
+    private static final int HEADER_SIZE = 20;
+    private static final String CLASS_SUFFIX = ".class";
+    private final File indexFile;
+    private final ConcurrentMap<String, Block> blocks = new ConcurrentHashMap<>();
+    private final ConcurrentMap<File, FileHash> fileHashes = new ConcurrentHashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder indexReadNanos = new LongAdder();
+    private final LongAdder jarReadNanos = new LongAdder();
+    private volatile boolean dirty;
+    private long dataOffset;
+    private long loadNanos;
+
+    public ScanIndex(File indexFile) {
+        this.indexFile = indexFile;
+    }
+
+    /**
+     * Loads the table of contents of the index file if it exists. A missing, corrupted or incompatible file leads to
+     * an empty index.
+     */
+    public void load() {
+        if (!indexFile.isFile()) {
+            return;
+        }
+        lock.writeLock().lock();
+        long start = System.nanoTime();
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(indexFile)))) {
+            if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+                LOGGER.debug("Ignoring incompatible classpath scan index {}", indexFile);
+                return;
+            }
+            int jarCount = in.readInt();
+            long loadedDataOffset = in.readLong();
+            Map<String, Block> loaded = new HashMap<>(jarCount * 2);
+            for (int i = 0; i < jarCount; i++) {
+                String key = in.readUTF();
+                long size = in.readLong();
+                String hash = in.readUTF();
+                long offset = in.readLong();
+                int length = in.readInt();
+                loaded.put(key, new Block(size, hash, offset, length, null));
+            }
+            dataOffset = loadedDataOffset;
+            blocks.putAll(loaded);
+        } catch (IOException | RuntimeException e) {
+            LOGGER.debug("Unable to read classpath scan index {}, jars will be read again", indexFile, e);
+        } finally {
+            loadNanos = System.nanoTime() - start;
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Writes the index file if some jars were read since it was loaded. The file is replaced atomically when the
+     * file system allows it.
+     */
+    public void save() {
+        lock.writeLock().lock();
+        try {
+            if (dirty) {
+                write();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void write() {
+        File parent = indexFile.getAbsoluteFile().getParentFile();
+        try {
+            createDirectory(parent.toPath());
+        } catch (IOException e) {
+            LOGGER.debug("Unable to create directory of classpath scan index {}", indexFile, e);
+            return;
+        }
+        try {
+            // Collect the data of all jars, including the ones not scanned by this process
+            Map<String, Block> toWrite = new LinkedHashMap<>();
+            for (Map.Entry<String, Block> entry : blocks.entrySet()) {
+                Block block = entry.getValue();
+                byte[] data = block.data;
+                if (data == null) {
+                    try {
+                        data = readBlockData(block);
+                    } catch (IOException e) {
+                        continue;
+                    }
+                }
+                toWrite.put(entry.getKey(), new Block(block.size, block.hash, 0, data.length, data));
+            }
+
+            // The table of contents is built first to know where the jar data starts
+            ByteArrayOutputStream tableOfContents = new ByteArrayOutputStream();
+            Map<String, Block> written = new HashMap<>();
+            try (DataOutputStream out = new DataOutputStream(tableOfContents)) {
+                long offset = 0;
+                for (Map.Entry<String, Block> entry : toWrite.entrySet()) {
+                    Block block = entry.getValue();
+                    out.writeUTF(entry.getKey());
+                    out.writeLong(block.size);
+                    out.writeUTF(block.hash);
+                    out.writeLong(offset);
+                    out.writeInt(block.length);
+                    written.put(entry.getKey(), new Block(block.size, block.hash, offset, block.length, null));
+                    offset += block.length;
+                }
+            }
+            long writtenDataOffset = HEADER_SIZE + tableOfContents.size();
+
+            // Temporary files are only readable and writable by their owner
+            File tmpFile = Files.createTempFile(parent.toPath(), indexFile.getName(), ".tmp").toFile();
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(VERSION);
+                out.writeInt(toWrite.size());
+                out.writeLong(writtenDataOffset);
+                tableOfContents.writeTo(out);
+                for (Block block : toWrite.values()) {
+                    out.write(block.data);
+                }
+            }
+            try {
+                Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException e) {
+                Files.move(tmpFile.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+
+            // Jar data now lives in the file and is released from memory
+            blocks.clear();
+            blocks.putAll(written);
+            dataOffset = writtenDataOffset;
+            dirty = false;
+            LOGGER.debug("Classpath scan index written to {}", indexFile);
+        } catch (IOException e) {
+            LOGGER.debug("Unable to write classpath scan index {}", indexFile, e);
+        }
+    }
+
+    /**
+     * Returns the content of the specified jar, from the index if the jar is unchanged or by reading it otherwise.
+     *
+     * @param key          the location of the jar, unique in the index.
+     * @param jarFile      the jar file, or the file containing the jar if it is nested.
+     * @param contentSource the source of the jar content, invoked if the jar is not found in the index.
+     * @return the content of the jar.
+     * @throws IOException if the jar cannot be read.
+     */
+    JarContent getContent(String key, File jarFile, ContentSource contentSource) throws IOException {
+        lock.readLock().lock();
+        try {
+            long size = jarFile.length();
+            String hash = null;
+
+            Block block = blocks.get(key);
+            if (block != null && block.size == size) {
+                long start = System.nanoTime();
+                try {
+                    hash = hash(jarFile);
+                    if (block.hash.equals(hash)) {
+                        JarContent jarContent = decode(block.data != null ? block.data : readBlockData(block));
+                        hits.increment();
+                        indexReadNanos.add(System.nanoTime() - start);
+                        return jarContent;
+                    }
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.debug("Unable to read {} from classpath scan index {}, reading it again", key, indexFile, e);
+                }
+            }
+
+            misses.increment();
+            long start = System.nanoTime();
+            JarContent jarContent;
+            try (ZipInputStream zipInputStream = contentSource.open()) {
+                jarContent = read(zipInputStream, contentSource.getPrefix());
+            }
+            if (hash == null) {
+                hash = hash(jarFile);
+            }
+            jarReadNanos.add(System.nanoTime() - start);
+            byte[] data = encode(jarContent);
+            blocks.put(key, new Block(size, hash, 0, data.length, data));
+            dirty = true;
+            return jarContent;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Map<String, Object> getStatistics() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("file", indexFile.getAbsolutePath());
+        result.put("jars", blocks.size());
+        result.put("hits", hits.sum());
+        result.put("misses", misses.sum());
+        result.put("load-time-ms", TimeUnit.NANOSECONDS.toMillis(loadNanos));
+        result.put("index-read-time-ms", TimeUnit.NANOSECONDS.toMillis(getIndexReadNanos()));
+        result.put("jar-read-time-ms", TimeUnit.NANOSECONDS.toMillis(getJarReadNanos()));
+        return result;
+    }
+
+    /**
+     * @return the time spent reading jar content from the index, including the loading of its table of contents.
+     */
+    public long getIndexReadNanos() {
+        return indexReadNanos.sum() + loadNanos;
+    }
+
+    /**
+     * @return the time spent reading jars which were not found in the index.
+     */
+    public long getJarReadNanos() {
+        return jarReadNanos.sum();
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    private String hash(File jarFile) throws IOException {
+        // Nested jars share the file containing them, which is only hashed again if it changed in the meantime
+        long size = jarFile.length();
+        long lastModified = jarFile.lastModified();
+        FileHash fileHash = fileHashes.get(jarFile);
+        if (fileHash == null || fileHash.size != size || fileHash.lastModified != lastModified) {
+            fileHash = new FileHash(size, lastModified, com.google.common.io.Files.asByteSource(jarFile).hash(Hashing.sha256()).toString());
+            fileHashes.put(jarFile, fileHash);
+        }
+        return fileHash.hash;
+    }
+
+    private static void createDirectory(Path directory) throws IOException {
+        if (!Files.isDirectory(directory)) {
+            try {
+                Files.createDirectories(directory, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rwx------")));
+            } catch (UnsupportedOperationException e) {
+                Files.createDirectories(directory);
+            }
+        }
+    }
+
+    private byte[] readBlockData(Block block) throws IOException {
+        try (RandomAccessFile file = new RandomAccessFile(indexFile, "r")) {
+            byte[] data = new byte[block.length];
+            file.seek(dataOffset + block.offset);
+            file.readFully(data);
+            return data;
+        }
+    }
+
+    private static JarContent read(ZipInputStream zipInputStream, String prefix) throws IOException {
+        List<String> entries = new ArrayList<>();
+        Map<String, byte[]> classFiles = new HashMap<>();
+        ZipEntry zipEntry;
+        while ((zipEntry = zipInputStream.getNextEntry()) != null) {
+            String name = zipEntry.getName();
+            if (!zipEntry.isDirectory() && name.startsWith(prefix) && name.length() > prefix.length()) {
+                String relativePath = name.substring(prefix.length());
+                entries.add(relativePath);
+                if (relativePath.endsWith(CLASS_SUFFIX)) {
+                    classFiles.put(relativePath, ClassFileStripper.strip(readFully(zipInputStream)));
+                }
+            }
+        }
+        return new JarContent(Collections.unmodifiableList(entries), classFiles);
+    }
+
+    private static byte[] readFully(InputStream inputStream) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = inputStream.read(buffer)) != -1) {
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+
+    private static byte[] encode(JarContent jarContent) throws IOException {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(new DeflaterOutputStream(byteArrayOutputStream))) {
+            out.writeInt(jarContent.entries.size());
+            for (String entry : jarContent.entries) {
+                out.writeUTF(entry);
+                byte[] classFile = jarContent.classFiles.get(entry);
+                if (classFile == null) {
+                    out.writeInt(-1);
+                } else {
+                    out.writeInt(classFile.length);
+                    out.write(classFile);
+                }
+            }
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private static JarContent decode(byte[] data) throws IOException {
+        try (DataInputStream in = new DataInputStream(new InflaterInputStream(new ByteArrayInputStream(data)))) {
+            int entryCount = in.readInt();
+            List<String> entries = new ArrayList<>(entryCount);
+            Map<String, byte[]> classFiles = new HashMap<>();
+            for (int i = 0; i < entryCount; i++) {
+                String entry = in.readUTF();
+                entries.add(entry);
+                int length = in.readInt();
+                if (length >= 0) {
+                    byte[] classFile = new byte[length];
+                    in.readFully(classFile);
+                    classFiles.put(entry, classFile);
+                }
+            }
+            return new JarContent(Collections.unmodifiableList(entries), classFiles);
+        }
+    }
+
+    /**
+     * Source of the content of a jar, read when the jar is not found in the index.
+     */
+    interface ContentSource {
+        /**
+         * @return a stream over the entries of the jar.
+         * @throws IOException if the jar cannot be read.
+         */
+        ZipInputStream open() throws IOException;
+
+        /**
+         * @return the prefix of the entries to include, stripped from their names (empty to include all entries).
+         */
+        String getPrefix();
+    }
+
+    /**
+     * The entries of a jar and its stripped class files.
+     */
+    static class JarContent {
+        private final List<String> entries;
+        private final Map<String, byte[]> classFiles;
+
+        private JarContent(List<String> entries, Map<String, byte[]> classFiles) {
+            this.entries = entries;
+            this.classFiles = classFiles;
+        }
+
+        /**
+         * @return the relative paths of the non-directory entries of the jar.
+         */
+        List<String> getEntries() {
+            return entries;
+        }
+
+        /**
+         * @param entry the relative path of the entry.
+         * @return the stripped class file of the entry or null if the entry is not a class file.
+         */
+        byte[] getClassFile(String entry) {
+            return classFiles.get(entry);
+        }
+    }
+
+    private static class Block {
+        private final long size;
+        private final String hash;
+        private final long offset;
+        private final int length;
+        private final byte[] data;
+
+        private Block(long size, String hash, long offset, int length, byte[] data) {
+            this.size = size;
+            this.hash = hash;
+            this.offset = offset;
+            this.length = length;
+            this.data = data;
+        }
+    }
+
+    private static class FileHash {
+        private final long size;
+        private final long lastModified;
+        private final String hash;
+
+        private FileHash(long size, long lastModified, String hash) {
+            this.size = size;
+            this.lastModified = lastModified;
+            this.hash = hash;
+        }
+    }
+}
@@ -10,6 +10,7 @@ package org.seedstack.seed.core.internal.transaction;
 import com.google.common.base.Predicate;
 import com.google.inject.Injector;
 import com.google.inject.Key;
+import com.google.inject.Provider;
 import com.google.inject.name.Names;
 import org.aopalliance.intercept.MethodInterceptor;
 import org.aopalliance.intercept.MethodInvocation;
@@ -26,7 +27,12 @@ import org.seedstack.shed.exception.SeedException;
 
 import javax.inject.Inject;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
  * Base class for common transaction manager behavior.
@@ -35,6 +41,9 @@ import java.util.Set;
  */
 public abstract class AbstractTransactionManager implements TransactionManager {
     private final MethodInterceptorImplementation methodInterceptorImplementation = new MethodInterceptorImplementation();
+    private final TransactionLogger transactionLogger = new TransactionLogger();
+    private final ConcurrentMap<Method, ConcurrentMap<Class<?>, TransactionalMethod>> transactionalMethods = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Key<?>, Provider<?>> providers = new ConcurrentHashMap<>();
     @Inject
     protected Injector injector;
     @Inject
@@ -42,22 +51,29 @@ public abstract class AbstractTransactionManager implements TransactionManager {
 
     private final class MethodInterceptorImplementation implements MethodInterceptor {
         @Override
-        @SuppressWarnings("unchecked")
         public Object invoke(MethodInvocation invocation) throws Throwable {
-            TransactionLogger transactionLogger = new TransactionLogger();
-            transactionLogger.log("intercepting {}#{}", invocation.getMethod().getDeclaringClass().getCanonicalName(), invocation.getMethod().getName());
-
-            TransactionMetadata transactionMetadata = readTransactionMetadata(invocation);
-            transactionLogger.log("{}", transactionMetadata);
+            if (transactionLogger.isEnabled()) {
+                transactionLogger.log("intercepting {}#{}", invocation.getMethod().getDeclaringClass().getCanonicalName(), invocation.getMethod().getName());
+            }
 
+            TransactionMetadata transactionMetadata;
             TransactionHandler<Object> transactionHandler;
             try {
-                transactionHandler = getTransactionHandler(transactionMetadata.getHandler(), transactionMetadata.getResource());
+                TransactionalMethod transactionalMethod = getTransactionalMethod(invocation);
+                transactionMetadata = transactionalMethod.getMetadata(invocation);
+                if (transactionalMethod.isStatic()) {
+                    transactionHandler = getInstance(transactionalMethod.getTransactionHandlerProvider(), transactionMetadata);
+                } else {
+                    transactionHandler = getInstance(getTransactionHandlerProvider(transactionMetadata), transactionMetadata);
+                }
             } catch (SeedException e) {
                 throw e.put("method", invocation.getMethod().toString());
             }
 
-            transactionLogger.log("using {} transaction handler", transactionHandler.getClass().getCanonicalName());
+            if (transactionLogger.isEnabled()) {
+                transactionLogger.log("{}", transactionMetadata);
+                transactionLogger.log("using {} transaction handler", transactionHandler.getClass().getCanonicalName());
+            }
 
             try {
                 return doMethodInterception(transactionLogger, invocation, transactionMetadata, transactionHandler);
@@ -101,36 +117,15 @@ public abstract class AbstractTransactionManager implements TransactionManager {
             result = invocation.proceed();
             transactionLogger.log("invocation ended", transactionLogger);
         } catch (Exception exception) {
-            doHandleException(transactionLogger, exception, transactionMetadata, currentTransaction);
+            doHandleException(transactionLogger, invocation, exception, transactionMetadata, currentTransaction);
         }
         return result;
     }
 
-    @SuppressWarnings("unchecked")
-    private void doHandleException(TransactionLogger transactionLogger, Exception exception, TransactionMetadata transactionMetadata, Object currentTransaction) throws Exception {
-        boolean matchForRollback = false, matchForNoRollback = false;
-
-        // Check for the need to rollback
-        for (Class<? extends Exception> rollbackExceptionClass : transactionMetadata.getRollbackOn()) {
-            if (rollbackExceptionClass.isAssignableFrom(exception.getClass())) {
-                matchForRollback = true;
-
-                for (Class<? extends Exception> noRollbackExceptionClass : transactionMetadata.getNoRollbackFor()) {
-                    if (noRollbackExceptionClass.isAssignableFrom(exception.getClass())) {
-                        matchForNoRollback = true;
-                    }
-                }
-            }
-        }
-
-        if (matchForRollback && !matchForNoRollback) {
+    private void doHandleException(TransactionLogger transactionLogger, MethodInvocation invocation, Exception exception, TransactionMetadata transactionMetadata, Object currentTransaction) throws Exception {
+        if (getTransactionalMethod(invocation).isRollbackNeeded(exception.getClass(), transactionMetadata)) {
             if (transactionMetadata.getExceptionHandler() != null) {
-                ExceptionHandler exceptionHandler;
-                if (transactionMetadata.getResource() != null) {
-                    exceptionHandler = injector.getInstance(Key.get(transactionMetadata.getExceptionHandler(), Names.named(transactionMetadata.getResource())));
-                } else {
-                    exceptionHandler = injector.getInstance(transactionMetadata.getExceptionHandler());
-                }
+                ExceptionHandler exceptionHandler = (ExceptionHandler) getProvider(transactionMetadata.getExceptionHandler(), transactionMetadata.getResource()).get();
                 if (exceptionHandler != null && exceptionHandler.handleException(exception, new TransactionMetadata().mergeFrom(transactionMetadata), currentTransaction)) {
                     transactionLogger.log("transaction exception has been handled", transactionLogger);
                 } else {
@@ -142,40 +137,89 @@ public abstract class AbstractTransactionManager implements TransactionManager {
         }
     }
 
-    private TransactionMetadata readTransactionMetadata(MethodInvocation methodInvocation) {
+    private TransactionalMethod getTransactionalMethod(MethodInvocation methodInvocation) {
         Method method = methodInvocation.getMethod();
         Class<?> targetClass = SeedReflectionUtils.cleanProxy(methodInvocation.getThis().getClass());
+
+        ConcurrentMap<Class<?>, TransactionalMethod> transactionalMethodsByClass = transactionalMethods.get(method);
+        if (transactionalMethodsByClass == null) {
+            transactionalMethodsByClass = transactionalMethods.computeIfAbsent(method, key -> new ConcurrentHashMap<>());
+        }
+
+        TransactionalMethod transactionalMethod = transactionalMethodsByClass.get(targetClass);
+        if (transactionalMethod == null) {
+            transactionalMethod = transactionalMethodsByClass.computeIfAbsent(targetClass, key -> resolveTransactionalMethod(methodInvocation, method, targetClass));
+        }
+
+        return transactionalMethod;
+    }
+
+    private TransactionalMethod resolveTransactionalMethod(MethodInvocation methodInvocation, Method method, Class<?> targetClass) {
         TransactionMetadata transactionMetadataDefaults = injector.getInstance(TransactionMetadata.class).defaults();
-        TransactionMetadata transactionMetadata = injector.getInstance(TransactionMetadata.class).defaults();
+        List<TransactionMetadataResolver> resolvers = new ArrayList<>();
+        boolean dynamic = false;
 
+        // Resolvers keep their original order so dynamic ones can still be overridden by the next static ones
         for (TransactionMetadataResolver transactionMetadataResolver : transactionMetadataResolvers) {
-            transactionMetadata.mergeFrom(transactionMetadataResolver.resolve(methodInvocation, transactionMetadataDefaults));
+            if (transactionMetadataResolver.isStatic()) {
+                TransactionMetadata resolvedMetadata = transactionMetadataResolver.resolve(methodInvocation, transactionMetadataDefaults);
+                resolvers.add((invocation, defaults) -> resolvedMetadata);
+            } else {
+                resolvers.add(transactionMetadataResolver);
+                dynamic = true;
+            }
         }
 
-        transactionMetadata.mergeFrom(deepGetAnnotation(method, targetClass));
+        Transactional transactional = deepGetAnnotation(method, targetClass);
 
-        return transactionMetadata;
+        if (dynamic) {
+            return new TransactionalMethod(transactionMetadataDefaults, null, resolvers, transactional, null);
+        } else {
+            TransactionMetadata transactionMetadata = injector.getInstance(TransactionMetadata.class).defaults();
+            for (TransactionMetadataResolver resolver : resolvers) {
+                transactionMetadata.mergeFrom(resolver.resolve(methodInvocation, transactionMetadataDefaults));
+            }
+            transactionMetadata.mergeFrom(transactional);
+            return new TransactionalMethod(transactionMetadataDefaults, transactionMetadata, Collections.emptyList(), transactional, getTransactionHandlerProvider(transactionMetadata));
+        }
     }
 
-
-    private <T extends TransactionHandler> T getTransactionHandler(Class<T> handlerClass, String resource) {
-        if (handlerClass == null) {
+    @SuppressWarnings("unchecked")
+    private Provider<TransactionHandler<Object>> getTransactionHandlerProvider(TransactionMetadata transactionMetadata) {
+        if (transactionMetadata.getHandler() == null) {
             throw SeedException.createNew(TransactionErrorCode.NO_TRANSACTION_HANDLER_SPECIFIED);
         }
 
+        return (Provider<TransactionHandler<Object>>) getProvider(transactionMetadata.getHandler(), transactionMetadata.getResource());
+    }
+
+    private <T> T getInstance(Provider<T> provider, TransactionMetadata transactionMetadata) {
         try {
-            if (resource == null) {
-                return injector.getInstance(handlerClass);
-            } else {
-                return injector.getInstance(Key.get(handlerClass, Names.named(resource)));
-            }
+            return provider.get();
         } catch (Exception e) {
-            throw SeedException.wrap(e, TransactionErrorCode.SPECIFIED_TRANSACTION_HANDLER_NOT_FOUND)
-                    .put("handlerClass", handlerClass.getSimpleName())
-                    .put("resource", resource == null ? "default" : resource);
+            throw wrapHandlerNotFound(e, transactionMetadata.getHandler(), transactionMetadata.getResource());
         }
     }
 
+    private Provider<?> getProvider(Class<?> handlerClass, String resource) {
+        Key<?> key = resource == null ? Key.get(handlerClass) : Key.get(handlerClass, Names.named(resource));
+        Provider<?> provider = providers.get(key);
+        if (provider == null) {
+            try {
+                provider = providers.computeIfAbsent(key, injector::getProvider);
+            } catch (Exception e) {
+                throw wrapHandlerNotFound(e, handlerClass, resource);
+            }
+        }
+        return provider;
+    }
+
+    private SeedException wrapHandlerNotFound(Exception e, Class<?> handlerClass, String resource) {
+        return SeedException.wrap(e, TransactionErrorCode.SPECIFIED_TRANSACTION_HANDLER_NOT_FOUND)
+                .put("handlerClass", handlerClass.getSimpleName())
+                .put("resource", resource == null ? "default" : resource);
+    }
+
     @SuppressWarnings("unchecked")
     private Transactional deepGetAnnotation(final Method method, Class<?> targetClass) {
         Transactional transaction = method.getAnnotation(Transactional.class);
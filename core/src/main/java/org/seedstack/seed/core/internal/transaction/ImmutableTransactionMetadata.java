@@ -0,0 +1,105 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import org.seedstack.seed.transaction.Propagation;
+import org.seedstack.seed.transaction.Transactional;
+import org.seedstack.seed.transaction.spi.ExceptionHandler;
+import org.seedstack.seed.transaction.spi.TransactionHandler;
+import org.seedstack.seed.transaction.spi.TransactionMetadata;
+
+/**
+ * Read-only transaction metadata, shared by all the invocations of a method whose metadata is entirely resolved at
+ * first call. Any attempt to modify it throws an {@link UnsupportedOperationException}.
+ */
+class ImmutableTransactionMetadata extends TransactionMetadata {
+    private final boolean frozen;
+
+    ImmutableTransactionMetadata(TransactionMetadata source) {
+        super.mergeFrom(source);
+        this.frozen = true;
+    }
+
+    @Override
+    public void setPropagation(Propagation propagation) {
+        checkNotFrozen();
+        super.setPropagation(propagation);
+    }
+
+    @Override
+    public void setReadOnly(Boolean readOnly) {
+        checkNotFrozen();
+        super.setReadOnly(readOnly);
+    }
+
+    @Override
+    public void setRollbackOnParticipationFailure(Boolean rollbackOnParticipationFailure) {
+        checkNotFrozen();
+        super.setRollbackOnParticipationFailure(rollbackOnParticipationFailure);
+    }
+
+    @Override
+    public void setRollbackOn(Class<? extends Exception>[] rollbackOn) {
+        checkNotFrozen();
+        super.setRollbackOn(rollbackOn);
+    }
+
+    @Override
+    public void setNoRollbackFor(Class<? extends Exception>[] noRollbackFor) {
+        checkNotFrozen();
+        super.setNoRollbackFor(noRollbackFor);
+    }
+
+    @Override
+    public void setHandler(Class<? extends TransactionHandler> handler) {
+        checkNotFrozen();
+        super.setHandler(handler);
+    }
+
+    @Override
+    public void setResource(String resource) {
+        checkNotFrozen();
+        super.setResource(resource);
+    }
+
+    @Override
+    public void setExceptionHandler(Class<? extends ExceptionHandler> exceptionHandler) {
+        checkNotFrozen();
+        super.setExceptionHandler(exceptionHandler);
+    }
+
+    @Override
+    public void addMetadata(String key, Object value) {
+        checkNotFrozen();
+        super.addMetadata(key, value);
+    }
+
+    @Override
+    public TransactionMetadata defaults() {
+        checkNotFrozen();
+        return super.defaults();
+    }
+
+    @Override
+    public TransactionMetadata mergeFrom(TransactionMetadata other) {
+        checkNotFrozen();
+        return super.mergeFrom(other);
+    }
+
+    @Override
+    public TransactionMetadata mergeFrom(Transactional other) {
+        checkNotFrozen();
+        return super.mergeFrom(other);
+    }
+
+    private void checkNotFrozen() {
+        if (frozen) {
+            throw new UnsupportedOperationException("Transaction metadata of a statically resolved method cannot be modified");
+        }
+    }
+}
@@ -175,21 +175,21 @@ public class JtaTransactionManager extends AbstractTransactionManager {
                     throw SeedException.createNew(TransactionErrorCode.TRANSACTION_NEEDED_WHEN_USING_PROPAGATION_MANDATORY);
                 }
 
-                return new PropagationResult(false, false);
+                return PropagationResult.PARTICIPATE;
             case NEVER:
                 if (userTransaction.getStatus() != Status.STATUS_NO_TRANSACTION) {
                     throw SeedException.createNew(TransactionErrorCode.NO_TRANSACTION_ALLOWED_WHEN_USING_PROPAGATION_NEVER);
                 }
 
-                return new PropagationResult(false, false);
+                return PropagationResult.PARTICIPATE;
             case NOT_SUPPORTED:
-                return new PropagationResult(false, true);
+                return PropagationResult.SUSPEND;
             case REQUIRED:
-                return new PropagationResult(userTransaction.getStatus() != Status.STATUS_ACTIVE, false);
+                return PropagationResult.of(userTransaction.getStatus() != Status.STATUS_ACTIVE);
             case REQUIRES_NEW:
-                return new PropagationResult(true, true);
+                return PropagationResult.SUSPEND_AND_NEW_TRANSACTION;
             case SUPPORTS:
-                return new PropagationResult(false, false);
+                return PropagationResult.PARTICIPATE;
             default:
                 throw SeedException.createNew(TransactionErrorCode.PROPAGATION_NOT_SUPPORTED).put("propagation", propagation);
         }
@@ -86,25 +86,25 @@ public class LocalTransactionManager extends AbstractTransactionManager {
                     throw SeedException.createNew(TransactionErrorCode.TRANSACTION_NEEDED_WHEN_USING_PROPAGATION_MANDATORY);
                 }
 
-                return new PropagationResult(false);
+                return PropagationResult.PARTICIPATE;
             case NEVER:
                 if (currentTransaction != null) {
                     throw SeedException.createNew(TransactionErrorCode.NO_TRANSACTION_ALLOWED_WHEN_USING_PROPAGATION_NEVER);
                 }
 
-                return new PropagationResult(false);
+                return PropagationResult.PARTICIPATE;
             case NOT_SUPPORTED:
                 if (currentTransaction != null) {
                     throw SeedException.createNew(TransactionErrorCode.TRANSACTION_SUSPENSION_IS_NOT_SUPPORTED);
                 }
 
-                return new PropagationResult(false);
+                return PropagationResult.PARTICIPATE;
             case REQUIRED:
-                return new PropagationResult(currentTransaction == null);
+                return PropagationResult.of(currentTransaction == null);
             case REQUIRES_NEW:
-                return new PropagationResult(true);
+                return PropagationResult.NEW_TRANSACTION;
             case SUPPORTS:
-                return new PropagationResult(false);
+                return PropagationResult.PARTICIPATE;
             default:
                 throw SeedException.createNew(TransactionErrorCode.PROPAGATION_NOT_SUPPORTED).put("propagation", propagation);
         }
@@ -8,18 +8,25 @@
 package org.seedstack.seed.core.internal.transaction;
 
 
-class PropagationResult {
+/**
+ * Immutable outcome of the propagation analysis. Only four distinct results exist so they are shared.
+ */
+final class PropagationResult {
+    static final PropagationResult PARTICIPATE = new PropagationResult(false, false);
+    static final PropagationResult NEW_TRANSACTION = new PropagationResult(true, false);
+    static final PropagationResult SUSPEND = new PropagationResult(false, true);
+    static final PropagationResult SUSPEND_AND_NEW_TRANSACTION = new PropagationResult(true, true);
+
     private final boolean newTransactionNeeded;
     private final boolean suspendCurrentTransaction;
 
-    PropagationResult(boolean newTransactionNeeded) {
+    private PropagationResult(boolean newTransactionNeeded, boolean suspendCurrentTransaction) {
         this.newTransactionNeeded = newTransactionNeeded;
-        this.suspendCurrentTransaction = false;
+        this.suspendCurrentTransaction = suspendCurrentTransaction;
     }
 
-    PropagationResult(boolean newTransactionNeeded, boolean suspendCurrentTransaction) {
-        this.newTransactionNeeded = newTransactionNeeded;
-        this.suspendCurrentTransaction = suspendCurrentTransaction;
+    static PropagationResult of(boolean newTransactionNeeded) {
+        return newTransactionNeeded ? NEW_TRANSACTION : PARTICIPATE;
     }
 
     boolean isNewTransactionNeeded() {
@@ -34,6 +41,7 @@ class PropagationResult {
     public String toString() {
         return "PropagationResult{" +
                 "newTransactionNeeded=" + newTransactionNeeded +
+                ", suspendCurrentTransaction=" + suspendCurrentTransaction +
                 '}';
     }
-}
\ No newline at end of file
+}
@@ -10,19 +10,42 @@ package org.seedstack.seed.core.internal.transaction;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Logs transaction progress at TRACE level, prefixed with the current thread identifier. Instances are stateless and
+ * can be shared. The overloads with a fixed number of arguments avoid any allocation when tracing is disabled.
+ */
 class TransactionLogger {
     private static final Logger LOGGER = LoggerFactory.getLogger(TransactionLogger.class);
-    private final String prefix;
-    private final boolean isTraceEnabled;
 
-    TransactionLogger() {
-        this.prefix = String.format("TX[%d]: ", Thread.currentThread().getId());
-        this.isTraceEnabled = LOGGER.isTraceEnabled();
+    boolean isEnabled() {
+        return LOGGER.isTraceEnabled();
+    }
+
+    public void log(String format) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(prefix() + format);
+        }
+    }
+
+    public void log(String format, Object argument) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(prefix() + format, argument);
+        }
+    }
+
+    public void log(String format, Object argument1, Object argument2) {
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(prefix() + format, argument1, argument2);
+        }
     }
 
     public void log(String format, Object... arguments) {
-        if (isTraceEnabled) {
-            LOGGER.trace(prefix + format, arguments);
+        if (LOGGER.isTraceEnabled()) {
+            LOGGER.trace(prefix() + format, arguments);
         }
     }
+
+    private String prefix() {
+        return "TX[" + Thread.currentThread().getId() + "]: ";
+    }
 }
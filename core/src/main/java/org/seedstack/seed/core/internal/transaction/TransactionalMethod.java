@@ -0,0 +1,116 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import com.google.inject.Provider;
+import org.aopalliance.intercept.MethodInvocation;
+import org.seedstack.seed.transaction.Transactional;
+import org.seedstack.seed.transaction.spi.TransactionHandler;
+import org.seedstack.seed.transaction.spi.TransactionMetadata;
+import org.seedstack.seed.transaction.spi.TransactionMetadataResolver;
+
+import javax.annotation.Nullable;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Holds the transaction metadata of a (target class, method) pair, resolved once by the transaction manager. If all
+ * resolvers are static, the whole metadata (defaults, static resolvers and {@link Transactional} annotation) is
+ * resolved once into a read-only instance shared by all invocations, along with the rollback decision of each
+ * exception class encountered. Otherwise, the metadata is merged again on each call, in the original resolver order,
+ * with memoized results of static resolvers.
+ */
+class TransactionalMethod {
+    private final TransactionMetadata defaults;
+    private final TransactionMetadata staticMetadata;
+    private final List<TransactionMetadataResolver> resolvers;
+    private final Transactional transactional;
+    private final Provider<TransactionHandler<Object>> transactionHandlerProvider;
+    private final ConcurrentMap<Class<?>, Boolean> rollbackDecisions = new ConcurrentHashMap<>();
+    private final Class<? extends Exception>[] rollbackOn;
+    private final Class<? extends Exception>[] noRollbackFor;
+
+    TransactionalMethod(TransactionMetadata defaults, @Nullable TransactionMetadata staticMetadata, List<TransactionMetadataResolver> resolvers, Transactional transactional, @Nullable Provider<TransactionHandler<Object>> transactionHandlerProvider) {
+        this.defaults = defaults;
+        this.staticMetadata = staticMetadata == null ? null : new ImmutableTransactionMetadata(staticMetadata);
+        this.resolvers = resolvers;
+        this.transactional = transactional;
+        this.transactionHandlerProvider = transactionHandlerProvider;
+        this.rollbackOn = staticMetadata == null ? null : staticMetadata.getRollbackOn();
+        this.noRollbackFor = staticMetadata == null ? null : staticMetadata.getNoRollbackFor();
+    }
+
+    /**
+     * @return true if the metadata of this method is entirely resolved, false if dynamic resolvers must be invoked.
+     */
+    boolean isStatic() {
+        return staticMetadata != null;
+    }
+
+    /**
+     * Returns the transaction metadata for the specified invocation. For static methods, the same read-only instance
+     * is returned on every call. Otherwise, a new instance is resolved.
+     *
+     * @param methodInvocation the current method invocation.
+     * @return the transaction metadata.
+     */
+    TransactionMetadata getMetadata(MethodInvocation methodInvocation) {
+        if (staticMetadata != null) {
+            return staticMetadata;
+        } else {
+            TransactionMetadata transactionMetadata = new TransactionMetadata().mergeFrom(defaults);
+            TransactionMetadata invocationDefaults = new TransactionMetadata().mergeFrom(defaults);
+            for (TransactionMetadataResolver resolver : resolvers) {
+                transactionMetadata.mergeFrom(resolver.resolve(methodInvocation, invocationDefaults));
+            }
+            return transactionMetadata.mergeFrom(transactional);
+        }
+    }
+
+    /**
+     * @return the provider of the transaction handler if the method is static, null otherwise.
+     */
+    Provider<TransactionHandler<Object>> getTransactionHandlerProvider() {
+        return transactionHandlerProvider;
+    }
+
+    /**
+     * Determines if the specified exception class must trigger a rollback. Decisions are memoized per exception class
+     * when the metadata of the transaction is the static metadata of this method.
+     *
+     * @param exceptionClass      the class of the exception thrown by the invocation.
+     * @param transactionMetadata the metadata of the current transaction.
+     * @return true if a rollback is needed, false otherwise.
+     */
+    boolean isRollbackNeeded(Class<? extends Exception> exceptionClass, TransactionMetadata transactionMetadata) {
+        if (staticMetadata != null && transactionMetadata == staticMetadata) {
+            Boolean decision = rollbackDecisions.get(exceptionClass);
+            if (decision == null) {
+                decision = rollbackDecisions.computeIfAbsent(exceptionClass, key -> matchesRollbackRules(key, rollbackOn, noRollbackFor));
+            }
+            return decision;
+        } else {
+            return matchesRollbackRules(exceptionClass, transactionMetadata.getRollbackOn(), transactionMetadata.getNoRollbackFor());
+        }
+    }
+
+    private static boolean matchesRollbackRules(Class<?> exceptionClass, Class<? extends Exception>[] rollbackOn, Class<? extends Exception>[] noRollbackFor) {
+        for (Class<? extends Exception> rollbackExceptionClass : rollbackOn) {
+            if (rollbackExceptionClass.isAssignableFrom(exceptionClass)) {
+                for (Class<? extends Exception> noRollbackExceptionClass : noRollbackFor) {
+                    if (noRollbackExceptionClass.isAssignableFrom(exceptionClass)) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+}
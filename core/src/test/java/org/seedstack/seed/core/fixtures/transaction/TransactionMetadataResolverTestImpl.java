@@ -20,5 +20,8 @@ public class TransactionMetadataResolverTestImpl implements TransactionMetadataR
         return transactionMetadata;
     }
 
-
+    @Override
+    public boolean isStatic() {
+        return true;
+    }
 }
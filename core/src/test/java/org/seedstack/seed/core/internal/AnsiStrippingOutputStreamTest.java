@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AnsiStrippingOutputStreamTest {
+    private final ByteArrayOutputStream target = new ByteArrayOutputStream();
+    private final AnsiStrippingOutputStream underTest = new AnsiStrippingOutputStream(target);
+
+    @Test
+    public void plain_text_is_untouched() throws IOException {
+        write("hello world\n");
+        assertThat(output()).isEqualTo("hello world\n");
+    }
+
+    @Test
+    public void escape_sequences_are_removed() throws IOException {
+        write("\u001B[34mINFO \u001B[0;39m[main] \u001B]0;title\u0007message\u001B]0;other\u001B\\\n");
+        assertThat(output()).isEqualTo("INFO [main] message\n");
+    }
+
+    @Test
+    public void escape_sequences_split_across_writes_are_removed() throws IOException {
+        write("before\u001B");
+        write("[3");
+        write("1mafter");
+        underTest.write('!');
+        assertThat(output()).isEqualTo("beforeafter!");
+    }
+
+    private void write(String text) throws IOException {
+        underTest.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String output() {
+        return new String(target.toByteArray(), StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ConsoleOutputStreamsTest {
+    @Test
+    public void buffered_output_is_written_when_flushed() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BufferedConsoleOutputStream underTest = new BufferedConsoleOutputStream(target, 128, 0);
+
+        underTest.write("line1\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(target.size()).isEqualTo(0);
+        underTest.flush();
+        assertThat(target.toString("UTF-8")).isEqualTo("line1\n");
+    }
+
+    @Test
+    public void buffered_output_is_written_when_full() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BufferedConsoleOutputStream underTest = new BufferedConsoleOutputStream(target, 128, 0);
+
+        for (int i = 0; i < 20; i++) {
+            underTest.write("0123456789".getBytes(StandardCharsets.UTF_8));
+        }
+        assertThat(target.size()).isEqualTo(120);
+        underTest.shutdown();
+        assertThat(target.size()).isEqualTo(200);
+    }
+
+    @Test
+    public void buffered_output_is_written_through_after_shutdown() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BufferedConsoleOutputStream underTest = new BufferedConsoleOutputStream(target, 128, 20);
+
+        underTest.write("pending\n".getBytes(StandardCharsets.UTF_8));
+        underTest.shutdown();
+        assertThat(target.toString("UTF-8")).isEqualTo("pending\n");
+        underTest.write("late\n".getBytes(StandardCharsets.UTF_8));
+        assertThat(target.toString("UTF-8")).isEqualTo("pending\nlate\n");
+    }
+
+    @Test
+    public void explicit_flushes_are_deferred_to_the_flusher() throws Exception {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        BufferedConsoleOutputStream underTest = new BufferedConsoleOutputStream(target, 128, 20);
+
+        underTest.write("deferred".getBytes(StandardCharsets.UTF_8));
+        underTest.flush();
+        for (int i = 0; i < 100 && target.size() == 0; i++) {
+            Thread.sleep(10);
+        }
+        assertThat(target.toString("UTF-8")).isEqualTo("deferred");
+        underTest.shutdown();
+    }
+
+    @Test
+    public void async_output_is_written_in_order() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        AsyncConsoleOutputStream underTest = new AsyncConsoleOutputStream(target, 16, true);
+
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            underTest.write(("line" + i + "\n").getBytes(StandardCharsets.UTF_8));
+            expected.append("line").append(i).append("\n");
+        }
+        underTest.shutdown(5, TimeUnit.SECONDS);
+
+        assertThat(target.toString("UTF-8")).isEqualTo(expected.toString());
+        assertThat(underTest.getDiscarded()).isEqualTo(0);
+    }
+
+    @Test
+    public void async_output_is_discarded_when_full() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        OutputStream blockedTarget = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    throw new IOException(e);
+                }
+            }
+        };
+        AsyncConsoleOutputStream underTest = new AsyncConsoleOutputStream(blockedTarget, 2, false);
+
+        for (int i = 0; i < 10; i++) {
+            underTest.write('x');
+        }
+        latch.countDown();
+        underTest.shutdown(5, TimeUnit.SECONDS);
+
+        assertThat(underTest.getDiscarded()).isGreaterThan(0);
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NonClosingGZIPOutputStreamTest {
+    @Test
+    public void data_is_compressed_and_underlying_stream_is_left_open() throws IOException {
+        ByteArrayOutputStream target = new ByteArrayOutputStream();
+        AtomicBoolean targetClosed = new AtomicBoolean();
+        FilterOutputStream underlying = new FilterOutputStream(target) {
+            @Override
+            public void close() throws IOException {
+                targetClosed.set(true);
+                super.close();
+            }
+        };
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            expected.append("line ").append(i).append('\n');
+        }
+
+        NonClosingGZIPOutputStream underTest = new NonClosingGZIPOutputStream(underlying, 512);
+        underTest.write(expected.toString().getBytes(StandardCharsets.UTF_8));
+        underTest.close();
+        underTest.close();
+
+        assertThat(targetClosed.get()).isFalse();
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(target.toByteArray()))) {
+            assertThat(new String(ByteStreams.toByteArray(gzipInputStream), StandardCharsets.UTF_8)).isEqualTo(expected.toString());
+        }
+    }
+}
@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal;
+
+import org.junit.Test;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class StartupTimingsTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void phases_are_accumulated() {
+        StartupTimings underTest = new StartupTimings();
+        underTest.recordPluginPhase("plugin1", "init", TimeUnit.MILLISECONDS.toNanos(10));
+        underTest.recordPluginPhase("plugin1", "init", TimeUnit.MILLISECONDS.toNanos(5));
+        underTest.recordKernelPhase("init", TimeUnit.MILLISECONDS.toNanos(100));
+
+        Map<String, Object> result = underTest.collect();
+        assertThat(((Map<String, Object>) result.get("kernel")).get("init-ms")).isEqualTo(100d);
+        assertThat(((Map<String, Map<String, Object>>) result.get("plugins")).get("plugin1").get("init-ms")).isEqualTo(15d);
+        assertThat(underTest.getKernelPhase("init")).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+    }
+
+    @Test
+    public void report_lists_most_expensive_plugins_first() {
+        StartupTimings underTest = new StartupTimings();
+        underTest.recordPluginPhase("cheap", "setup", TimeUnit.MILLISECONDS.toNanos(1));
+        underTest.recordPluginPhase("expensive", "init", TimeUnit.MILLISECONDS.toNanos(50));
+
+        String report = underTest.report();
+        assertThat(report.indexOf("expensive")).isLessThan(report.indexOf("cheap"));
+    }
+
+    @Test
+    public void summary_lists_slowest_plugins_only() {
+        StartupTimings underTest = new StartupTimings();
+        underTest.recordPluginPhase("cheap", "setup", TimeUnit.MILLISECONDS.toNanos(1));
+        underTest.recordPluginPhase("expensive", "init", TimeUnit.MILLISECONDS.toNanos(50));
+        underTest.recordPluginPhase("medium", "start", TimeUnit.MILLISECONDS.toNanos(20));
+
+        assertThat(underTest.summary(2)).isEqualTo("expensive 50.0 ms, medium 20.0 ms");
+    }
+}
@@ -21,9 +21,20 @@ import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.IllegalBlockSizeException;
 import javax.crypto.NoSuchPaddingException;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.Key;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
 import java.security.NoSuchAlgorithmException;
 import java.security.PublicKey;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * Unit test for {@link EncryptionServiceImpl}.
@@ -187,4 +198,124 @@ public class EncryptionServiceImplTest {
         asymetricCrypting.decrypt(toDecrypt.getBytes());
 
     }
+
+    /**
+     * Test method for {@link EncryptionServiceImpl#encrypt(byte[])}. Test that ciphers are reused across calls.
+     *
+     * @throws Exception if an error occurred
+     */
+    @Test
+    public void testEncryptReusesCipher(@Mocked final PublicKey publicKey, @Mocked final Cipher cipher) throws Exception {
+        EncryptionServiceImpl asymetricCrypting = new EncryptionServiceImpl("alias", publicKey, null);
+        asymetricCrypting.encrypt("first".getBytes());
+        asymetricCrypting.encrypt("second".getBytes());
+
+        new Verifications() {
+            {
+                Cipher.getInstance("RSA/ECB/PKCS1PADDING");
+                times = 1;
+                cipher.init(Cipher.ENCRYPT_MODE, publicKey);
+                times = 1;
+            }
+        };
+    }
+
+    /**
+     * Test method for {@link EncryptionServiceImpl#encrypt(OutputStream)} and {@link EncryptionServiceImpl#decrypt(InputStream)}.
+     * Test a round trip of data larger than several segments.
+     *
+     * @throws Exception if an error occurred
+     */
+    @Test
+    public void testStreamEncryption() throws Exception {
+        EncryptionServiceImpl asymetricCrypting = createEncryptionService();
+        byte[] data = new byte[3 * EnvelopeFormat.SEGMENT_SIZE + 42];
+        new Random().nextBytes(data);
+
+        byte[] encrypted = encrypt(asymetricCrypting, data);
+
+        assertThat(encrypted.length).isGreaterThan(data.length);
+        assertThat(decrypt(asymetricCrypting, encrypted)).isEqualTo(data);
+        assertThat(decrypt(asymetricCrypting, encrypt(asymetricCrypting, new byte[0]))).isEmpty();
+    }
+
+    /**
+     * Test method for {@link EncryptionServiceImpl#decrypt(InputStream)}. Test that tampered data is rejected.
+     *
+     * @throws Exception if an error occurred
+     */
+    @Test(expected = SeedException.class)
+    public void testStreamDecryptionWithTamperedData() throws Exception {
+        EncryptionServiceImpl asymetricCrypting = createEncryptionService();
+        byte[] encrypted = encrypt(asymetricCrypting, "text to crypt".getBytes());
+        encrypted[encrypted.length - 1] ^= 1;
+        decrypt(asymetricCrypting, encrypted);
+    }
+
+    /**
+     * Test method for {@link EncryptionServiceImpl#decrypt(InputStream)}. Test that truncated data is rejected.
+     *
+     * @throws Exception if an error occurred
+     */
+    @Test(expected = SeedException.class)
+    public void testStreamDecryptionWithTruncatedData() throws Exception {
+        EncryptionServiceImpl asymetricCrypting = createEncryptionService();
+        byte[] encrypted = encrypt(asymetricCrypting, new byte[2 * EnvelopeFormat.SEGMENT_SIZE]);
+        decrypt(asymetricCrypting, Arrays.copyOf(encrypted, encrypted.length - EnvelopeFormat.SEGMENT_SIZE));
+    }
+
+    /**
+     * Test method for {@link EncryptionServiceImpl#decrypt(InputStream)}. Test that data truncated exactly at a segment
+     * boundary is rejected, even though every remaining segment is valid.
+     *
+     * @throws Exception if an error occurred
+     */
+    @Test(expected = SeedException.class)
+    public void testStreamDecryptionWithDataTruncatedAtSegmentBoundary() throws Exception {
+        EncryptionServiceImpl asymetricCrypting = createEncryptionService();
+        byte[] encrypted = encrypt(asymetricCrypting, new byte[2 * EnvelopeFormat.SEGMENT_SIZE]);
+        int lastSegmentLength = 1 + 4 + EnvelopeFormat.SEGMENT_SIZE + EnvelopeFormat.TAG_SIZE;
+        decrypt(asymetricCrypting, Arrays.copyOf(encrypted, encrypted.length - lastSegmentLength));
+    }
+
+    /**
+     * Test method for {@link EncryptionServiceImpl#decrypt(InputStream)}. Test without private key so it's not possible.
+     *
+     * @throws Exception if an error occurred
+     */
+    @Test(expected = SeedException.class)
+    public void testStreamDecryptionWithoutPrivateKey(@Mocked final PublicKey publicKey) throws Exception {
+        new EncryptionServiceImpl("alias", publicKey, null).decrypt(new ByteArrayInputStream(new byte[0]));
+    }
+
+    private EncryptionServiceImpl createEncryptionService() throws NoSuchAlgorithmException {
+        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+        keyPairGenerator.initialize(2048);
+        KeyPair keyPair = keyPairGenerator.generateKeyPair();
+        return new EncryptionServiceImpl("alias", keyPair.getPublic(), keyPair.getPrivate());
+    }
+
+    private byte[] encrypt(EncryptionServiceImpl encryptionService, byte[] data) throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (OutputStream outputStream = encryptionService.encrypt(byteArrayOutputStream)) {
+            outputStream.write(data);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private byte[] decrypt(EncryptionServiceImpl encryptionService, byte[] encrypted) throws Exception {
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        try (InputStream inputStream = encryptionService.decrypt(new ByteArrayInputStream(encrypted))) {
+            copy(inputStream, byteArrayOutputStream);
+        }
+        return byteArrayOutputStream.toByteArray();
+    }
+
+    private void copy(InputStream inputStream, OutputStream outputStream) throws IOException {
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = inputStream.read(buffer)) != -1) {
+            outputStream.write(buffer, 0, count);
+        }
+    }
 }
@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.data;
+
+import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
+import org.seedstack.seed.DataFormat;
+import org.seedstack.shed.exception.SeedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class DataExportCommandTest {
+    @Test
+    public void format_defaults_to_json() {
+        assertThat(commandWithFormat(null).resolveFormat()).isEqualTo(DataFormat.JSON);
+    }
+
+    @Test
+    public void format_is_case_insensitive() {
+        assertThat(commandWithFormat("ndjson").resolveFormat()).isEqualTo(DataFormat.NDJSON);
+        assertThat(commandWithFormat("Smile").resolveFormat()).isEqualTo(DataFormat.SMILE);
+    }
+
+    @Test
+    public void unknown_format_is_rejected_with_accepted_formats() {
+        try {
+            commandWithFormat("xml").resolveFormat();
+            fail("should have failed");
+        } catch (SeedException e) {
+            assertThat(e.getErrorCode()).isEqualTo(DataErrorCode.UNSUPPORTED_DATA_FORMAT);
+            assertThat(e.getFix()).contains("json, ndjson, smile");
+        }
+    }
+
+    private DataExportCommand commandWithFormat(String format) {
+        DataExportCommand dataExportCommand = new DataExportCommand();
+        Whitebox.setInternalState(dataExportCommand, "format", format);
+        return dataExportCommand;
+    }
+}
@@ -12,17 +12,23 @@ import com.google.inject.Injector;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.internal.util.reflection.Whitebox;
+import org.seedstack.seed.DataConfig;
+import org.seedstack.seed.DataFormat;
+import org.seedstack.seed.DataImporter;
 import org.seedstack.seed.core.fixtures.data.TestDTO;
 import org.seedstack.seed.core.fixtures.data.TestDTO2;
 import org.seedstack.seed.core.fixtures.data.TestDataExporter;
 import org.seedstack.seed.core.fixtures.data.TestDataExporter2;
 import org.seedstack.seed.core.fixtures.data.TestDataImporter;
 import org.seedstack.seed.core.fixtures.data.TestDataImporter2;
+import org.seedstack.shed.exception.SeedException;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -82,6 +88,69 @@ public class DataManagerImplTest {
         assertThat(TestDataImporter2.getData().get(0).getLastName()).isEqualTo("titi2");
     }
 
+    @Test
+    public void data_are_imported_in_batches() throws Exception {
+        DataManagerImpl underTest = createDataManager();
+        DataConfig dataConfig = new DataConfig();
+        dataConfig.setBatchSize(2);
+        Whitebox.setInternalState(underTest, "dataConfig", dataConfig);
+        BatchRecordingDataImporter batchRecordingDataImporter = new BatchRecordingDataImporter();
+        Injector injector = mockInjector();
+        when(injector.getInstance(BatchRecordingDataImporter.class)).thenReturn(batchRecordingDataImporter);
+        Whitebox.setInternalState(underTest, "injector", injector);
+        Whitebox.setInternalState(underTest, "allDataImporters", ImmutableMap.of("group1", ImmutableMap.of("test1", new DataImporterDefinition<>("test1", "group1", TestDTO.class, BatchRecordingDataImporter.class))));
+
+        String json = "[{\"group\":\"group1\",\"name\":\"test1\",\"items\":[{\"firstName\":\"a\"},{\"firstName\":\"b\"},{\"firstName\":\"c\"},{\"firstName\":\"d\"},{\"firstName\":\"e\"}]}]";
+        underTest.importData(new ByteArrayInputStream(json.getBytes(Charset.forName("UTF-8"))), null, null, true);
+
+        assertThat(batchRecordingDataImporter.batchSizes).containsExactly(2, 2, 1);
+        assertThat(batchRecordingDataImporter.committed).isTrue();
+    }
+
+    @Test
+    public void data_are_exported_as_ndjson() throws Exception {
+        DataManagerImpl underTest = createDataManager();
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        underTest.exportData(byteArrayOutputStream, "group1", null, DataFormat.NDJSON, false);
+
+        String[] lines = new String(byteArrayOutputStream.toByteArray(), "UTF-8").split("\n");
+        assertThat(lines).hasSize(3);
+        JSONAssert.assertEquals("{\"group\":\"group1\",\"name\":\"test1\",\"item\":{\"firstName\":\"toto\",\"lastName\":\"titi\"}}", lines[0], false);
+        JSONAssert.assertEquals("{\"group\":\"group1\",\"name\":\"test2\",\"item\":{\"firstName\":\"toto2\",\"lastName\":\"titi2\",\"age\":12}}", lines[2], false);
+    }
+
+    @Test
+    public void ndjson_data_are_imported_correctly() throws Exception {
+        assertRoundTrip(DataFormat.NDJSON, false);
+    }
+
+    @Test
+    public void compressed_data_are_imported_correctly() throws Exception {
+        assertRoundTrip(DataFormat.JSON, true);
+        assertRoundTrip(DataFormat.NDJSON, true);
+    }
+
+    @Test
+    public void smile_data_are_imported_correctly() throws Exception {
+        assertRoundTrip(DataFormat.SMILE, false);
+        assertRoundTrip(DataFormat.SMILE, true);
+    }
+
+    @Test(expected = SeedException.class)
+    public void zstd_compressed_data_are_rejected() throws Exception {
+        createDataManager().importData(new ByteArrayInputStream(new byte[]{(byte) 0x28, (byte) 0xB5, (byte) 0x2F, (byte) 0xFD, 0}), null, null, true);
+    }
+
+    private void assertRoundTrip(DataFormat format, boolean compress) {
+        DataManagerImpl underTest = createDataManager();
+        ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+        underTest.exportData(byteArrayOutputStream, "group1", null, format, compress);
+        underTest.importData(new ByteArrayInputStream(byteArrayOutputStream.toByteArray()), null, null, true);
+
+        assertThat(TestDataImporter.getData()).extracting("firstName").containsExactly("toto", "machin");
+        assertThat(TestDataImporter2.getData()).extracting("firstName").containsExactly("toto2");
+    }
+
     private Injector mockInjector() {
         Injector injector = mock(Injector.class);
         when(injector.getInstance(TestDataExporter.class)).thenReturn(testDataExporter);
@@ -91,6 +160,35 @@ public class DataManagerImplTest {
         return injector;
     }
 
+    static class BatchRecordingDataImporter implements DataImporter<TestDTO> {
+        private final List<Integer> batchSizes = new ArrayList<>();
+        private boolean committed;
+
+        @Override
+        public boolean isInitialized() {
+            return false;
+        }
+
+        @Override
+        public void importData(TestDTO data) {
+            throw new IllegalStateException("items should be imported in batches");
+        }
+
+        @Override
+        public void importBatch(List<TestDTO> batch) {
+            batchSizes.add(batch.size());
+        }
+
+        @Override
+        public void commit(boolean clear) {
+            committed = true;
+        }
+
+        @Override
+        public void rollback() {
+        }
+    }
+
     private DataManagerImpl createDataManager() {
         DataManagerImpl yamlDataService = new DataManagerImpl();
         Whitebox.setInternalState(yamlDataService, "injector", mockInjector());
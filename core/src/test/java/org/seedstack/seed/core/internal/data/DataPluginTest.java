@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.data;
+
+import org.junit.Test;
+import org.seedstack.shed.exception.SeedException;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.fail;
+
+public class DataPluginTest {
+    @Test
+    public void data_sets_are_imported_after_their_dependencies() {
+        List<DataImporterDefinition<Object>> sorted = DataPlugin.sortByDependencies("shop", asList(
+                dataSet("orderLines", "orders", "products"),
+                dataSet("orders", "customers"),
+                dataSet("products"),
+                dataSet("customers", "unknown")
+        ));
+
+        assertThat(sorted.stream().map(DataImporterDefinition::getName).collect(Collectors.toList()))
+                .containsExactly("customers", "orders", "products", "orderLines");
+    }
+
+    @Test
+    public void cyclic_dependencies_are_rejected() {
+        try {
+            DataPlugin.sortByDependencies("shop", asList(dataSet("a", "b"), dataSet("b", "a")));
+            fail("should have failed");
+        } catch (SeedException e) {
+            assertThat(e.getErrorCode()).isEqualTo(DataErrorCode.CYCLIC_DATA_SET_DEPENDENCY);
+        }
+    }
+
+    private DataImporterDefinition<Object> dataSet(String name, String... after) {
+        return new DataImporterDefinition<>(name, "shop", Object.class, null, after);
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.diagnostic;
+
+import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
+import org.seedstack.seed.DiagnosticConfig;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AsyncDiagnosticDispatcherTest {
+    private final List<Throwable> written = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void reports_are_written_in_background() throws Exception {
+        AsyncDiagnosticDispatcher underTest = new AsyncDiagnosticDispatcher(new DiagnosticConfig(), written::add);
+        IllegalStateException exception = new IllegalStateException();
+
+        underTest.dispatch(exception);
+        flush(underTest);
+
+        assertThat(written).containsExactly(exception);
+        assertThat(underTest.collectStatistics()).containsEntry("reported", 1L);
+    }
+
+    @Test
+    public void duplicates_are_counted_but_not_reported() throws Exception {
+        AsyncDiagnosticDispatcher underTest = new AsyncDiagnosticDispatcher(new DiagnosticConfig(), written::add);
+        List<IllegalStateException> exceptions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            exceptions.add(new IllegalStateException("thrown from the same place"));
+        }
+
+        exceptions.forEach(underTest::dispatch);
+        underTest.dispatch(new IllegalArgumentException());
+        flush(underTest);
+
+        assertThat(written).hasSize(2);
+        Map<String, Object> statistics = underTest.collectStatistics();
+        assertThat(statistics).containsEntry("duplicated", 2L);
+        @SuppressWarnings("unchecked")
+        Map<String, Long> occurrences = (Map<String, Long>) statistics.get("occurrences");
+        assertThat(occurrences).containsEntry(underTest.fingerprint(exceptions.get(0)), 3L);
+    }
+
+    @Test
+    public void fingerprint_includes_root_cause_and_top_frames() {
+        AsyncDiagnosticDispatcher underTest = new AsyncDiagnosticDispatcher(new DiagnosticConfig().setFingerprintDepth(2), written::add);
+        String fingerprint = underTest.fingerprint(new RuntimeException(new IllegalStateException()));
+
+        assertThat(fingerprint).startsWith("java.lang.RuntimeException <- java.lang.IllegalStateException at ");
+        assertThat(fingerprint.split(" at ")).hasSize(3);
+    }
+
+    @Test
+    public void reports_are_rate_limited() throws Exception {
+        AsyncDiagnosticDispatcher underTest = new AsyncDiagnosticDispatcher(new DiagnosticConfig()
+                .setDeduplicationPeriod(0)
+                .setBurst(2)
+                .setReportsPerMinute(1), written::add);
+
+        for (int i = 0; i < 5; i++) {
+            underTest.dispatch(new IllegalStateException());
+        }
+        flush(underTest);
+
+        assertThat(written).hasSize(2);
+        assertThat(underTest.collectStatistics()).containsEntry("rate-limited", 3L);
+    }
+
+    @Test
+    public void throttled_first_occurrence_does_not_prevent_later_report() throws Exception {
+        AsyncDiagnosticDispatcher underTest = new AsyncDiagnosticDispatcher(new DiagnosticConfig()
+                .setBurst(1)
+                .setReportsPerMinute(1), written::add);
+        List<IllegalStateException> exceptions = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            exceptions.add(new IllegalStateException("thrown from the same place"));
+        }
+
+        underTest.dispatch(new IllegalArgumentException());
+        underTest.dispatch(exceptions.get(0));
+        underTest.dispatch(exceptions.get(1));
+        // simulate the refill of the bucket
+        Whitebox.setInternalState(underTest, "tokenBucket", new TokenBucket(1, 1));
+        underTest.dispatch(exceptions.get(2));
+        flush(underTest);
+
+        assertThat(written).hasSize(2).contains(exceptions.get(2));
+        Map<String, Object> statistics = underTest.collectStatistics();
+        assertThat(statistics).containsEntry("rate-limited", 2L).containsEntry("duplicated", 0L);
+        @SuppressWarnings("unchecked")
+        Map<String, Long> occurrences = (Map<String, Long>) statistics.get("occurrences");
+        assertThat(occurrences).containsEntry(underTest.fingerprint(exceptions.get(0)), 3L);
+    }
+
+    @Test
+    public void reports_are_dropped_when_queue_is_full() throws Exception {
+        CountDownLatch latch = new CountDownLatch(1);
+        AsyncDiagnosticDispatcher underTest = new AsyncDiagnosticDispatcher(new DiagnosticConfig()
+                .setDeduplicationPeriod(0)
+                .setReportsPerMinute(0)
+                .setQueueSize(1), t -> {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        for (int i = 0; i < 4; i++) {
+            underTest.dispatch(new IllegalStateException());
+        }
+        latch.countDown();
+        flush(underTest);
+
+        // one report is being written, one is queued and the others are dropped
+        assertThat(underTest.collectStatistics()).containsEntry("reported", 2L).containsEntry("dropped", 2L);
+    }
+
+    @Test
+    public void reports_are_written_synchronously_after_shutdown() throws Exception {
+        AsyncDiagnosticDispatcher underTest = new AsyncDiagnosticDispatcher(new DiagnosticConfig(), written::add);
+        flush(underTest);
+        IllegalStateException exception = new IllegalStateException();
+
+        underTest.dispatch(exception);
+
+        assertThat(written).containsExactly(exception);
+        assertThat(underTest.collectStatistics()).containsEntry("reported", 1L).containsEntry("dropped", 0L);
+    }
+
+    private void flush(AsyncDiagnosticDispatcher dispatcher) throws InterruptedException {
+        dispatcher.shutdown();
+        assertThat(dispatcher.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+    }
+}
@@ -7,17 +7,21 @@
  */
 package org.seedstack.seed.core.internal.diagnostic;
 
+import org.junit.Rule;
 import org.junit.Test;
-import org.seedstack.seed.core.internal.diagnostic.DefaultDiagnosticReporter;
+import org.junit.rules.TemporaryFolder;
 import org.skyscreamer.jsonassert.JSONAssert;
 
 import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.util.HashMap;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
 public class DefaultDiagnosticReporterTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
     DefaultDiagnosticReporter underTest = new DefaultDiagnosticReporter();
 
     @Test
@@ -30,6 +34,19 @@ public class DefaultDiagnosticReporterTest {
         assertThat(produceReport()).contains("\n");
     }
 
+    @Test
+    public void old_reports_are_deleted() throws Exception {
+        File directory = temporaryFolder.getRoot();
+        for (int i = 0; i < 5; i++) {
+            assertThat(new File(directory, "seed-diag-2016-01-0" + i + "-00-00-00.000.json").createNewFile()).isTrue();
+        }
+        assertThat(new File(directory, "other.json").createNewFile()).isTrue();
+
+        new DefaultDiagnosticReporter(2).deleteOldReports(directory);
+
+        assertThat(directory.list()).containsOnly("seed-diag-2016-01-03-00-00-00.000.json", "seed-diag-2016-01-04-00-00-00.000.json", "other.json");
+    }
+
     private String produceReport() throws IOException {
         HashMap<String, Object> diagnostics = new HashMap<>();
         HashMap<String, Object> subMapDiagnostics = new HashMap<>();
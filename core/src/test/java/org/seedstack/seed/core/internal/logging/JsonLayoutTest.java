@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class JsonLayoutTest {
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private LoggerContext context;
+    private JsonLayout underTest;
+
+    @Before
+    public void setUp() {
+        context = new LoggerContext();
+        underTest = new JsonLayout();
+        underTest.setContext(context);
+        underTest.start();
+    }
+
+    @Test
+    public void event_is_formatted_as_a_json_line() throws Exception {
+        Logger logger = context.getLogger("org.test.Logger");
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.WARN, "Hello \"{}\"", null, new Object[]{"world"});
+
+        String line = underTest.doLayout(event);
+
+        assertThat(line).endsWith(System.lineSeparator());
+        assertThat(line.trim()).doesNotContain("\n").doesNotContain("\u001B");
+        JsonNode json = objectMapper.readTree(line);
+        assertThat(json.get("level").asText()).isEqualTo("WARN");
+        assertThat(json.get("logger").asText()).isEqualTo("org.test.Logger");
+        assertThat(json.get("message").asText()).isEqualTo("Hello \"world\"");
+        assertThat(json.has("exception")).isFalse();
+    }
+
+    @Test
+    public void exception_is_included() throws Exception {
+        Logger logger = context.getLogger("org.test.Logger");
+        LoggingEvent event = new LoggingEvent(Logger.class.getName(), logger, Level.ERROR, "Failure", new IllegalStateException("boom"), null);
+
+        JsonNode json = objectMapper.readTree(underTest.doLayout(event));
+
+        assertThat(json.get("exception").asText()).contains("IllegalStateException: boom");
+    }
+}
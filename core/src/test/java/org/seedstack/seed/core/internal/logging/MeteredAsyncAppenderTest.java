@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class MeteredAsyncAppenderTest {
+    private final CountDownLatch release = new CountDownLatch(1);
+    private LoggerContext context;
+    private MeteredAsyncAppender underTest;
+
+    @Before
+    public void setUp() {
+        context = new LoggerContext();
+        AppenderBase<ILoggingEvent> blockedAppender = new AppenderBase<ILoggingEvent>() {
+            @Override
+            protected void append(ILoggingEvent eventObject) {
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        blockedAppender.setContext(context);
+        blockedAppender.start();
+
+        underTest = new MeteredAsyncAppender();
+        underTest.setContext(context);
+        underTest.setQueueSize(1);
+        underTest.setDiscardingThreshold(0);
+        underTest.setNeverBlock(true);
+        underTest.addAppender(blockedAppender);
+        underTest.start();
+    }
+
+    @After
+    public void tearDown() {
+        release.countDown();
+        underTest.stop();
+    }
+
+    @Test
+    public void events_rejected_by_a_full_queue_are_counted_without_blocking() {
+        Logger logger = context.getLogger("org.test.Logger");
+        for (int i = 0; i < 10; i++) {
+            underTest.doAppend(new LoggingEvent(Logger.class.getName(), logger, Level.INFO, "event " + i, null, null));
+        }
+
+        // at most one event is held by the blocked appender and one is in the queue
+        assertThat((Long) underTest.getStatistics().get("discarded")).isBetween(8L, 9L);
+    }
+}
@@ -0,0 +1,256 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.scan;
+
+import javassist.bytecode.AnnotationsAttribute;
+import javassist.bytecode.ClassFile;
+import javassist.bytecode.MethodInfo;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.reflections.vfs.Vfs;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScanIndexTest {
+    private static final String CLASS_ENTRY = ScanIndexTest.class.getName().replace('.', '/') + ".class";
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+    private byte[] classFile;
+    private File jar;
+    private File indexFile;
+
+    @Before
+    public void setUp() throws Exception {
+        try (InputStream in = ScanIndexTest.class.getResourceAsStream("/" + CLASS_ENTRY)) {
+            classFile = readFully(in);
+        }
+        jar = createJar("test.jar", entries(CLASS_ENTRY, "META-INF/configuration/app.yaml"));
+        indexFile = new File(temporaryFolder.getRoot(), "index/scan.idx");
+    }
+
+    @Test
+    public void jar_entries_are_listed_without_directories() throws Exception {
+        ScanIndex scanIndex = new ScanIndex(indexFile);
+
+        assertThat(read(scanIndex, jar.toURI().toURL()).keySet()).containsOnly(CLASS_ENTRY, "META-INF/configuration/app.yaml");
+        assertThat(scanIndex.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void class_files_are_served_without_bytecode() throws Exception {
+        byte[] servedClassFile = read(new ScanIndex(indexFile), jar.toURI().toURL()).get(CLASS_ENTRY);
+        ClassFile original = new ClassFile(new DataInputStream(new ByteArrayInputStream(classFile)));
+        ClassFile stripped = new ClassFile(new DataInputStream(new ByteArrayInputStream(servedClassFile)));
+
+        assertThat(servedClassFile.length).isLessThan(classFile.length);
+        assertThat(stripped.getName()).isEqualTo(original.getName());
+        assertThat(stripped.getSuperclass()).isEqualTo(original.getSuperclass());
+        assertThat(stripped.getMethods()).hasSameSizeAs(original.getMethods());
+        for (int i = 0; i < original.getMethods().size(); i++) {
+            MethodInfo originalMethod = (MethodInfo) original.getMethods().get(i);
+            MethodInfo strippedMethod = (MethodInfo) stripped.getMethods().get(i);
+            assertThat(strippedMethod.getName()).isEqualTo(originalMethod.getName());
+            assertThat(strippedMethod.getCodeAttribute()).isNull();
+            assertThat(strippedMethod.getAttribute(AnnotationsAttribute.visibleTag) == null)
+                    .isEqualTo(originalMethod.getAttribute(AnnotationsAttribute.visibleTag) == null);
+        }
+    }
+
+    @Test
+    public void index_is_reused_after_reload() throws Exception {
+        ScanIndex first = new ScanIndex(indexFile);
+        Map<String, byte[]> firstContent = read(first, jar.toURI().toURL());
+        first.save();
+        assertThat(indexFile).isFile();
+
+        ScanIndex second = new ScanIndex(indexFile);
+        second.load();
+        Map<String, byte[]> secondContent = read(second, jar.toURI().toURL());
+
+        assertThat(secondContent.keySet()).containsOnly(CLASS_ENTRY, "META-INF/configuration/app.yaml");
+        assertThat(secondContent.get(CLASS_ENTRY)).isEqualTo(firstContent.get(CLASS_ENTRY));
+        assertThat(second.getHits()).isEqualTo(1);
+        assertThat(second.getMisses()).isEqualTo(0);
+    }
+
+    @Test
+    public void jars_not_scanned_are_kept_when_saving() throws Exception {
+        File otherJar = createJar("other.jar", entries("org/acme/B.class"));
+        ScanIndex first = new ScanIndex(indexFile);
+        read(first, jar.toURI().toURL());
+        read(first, otherJar.toURI().toURL());
+        first.save();
+
+        ScanIndex second = new ScanIndex(indexFile);
+        second.load();
+        read(second, jar.toURI().toURL());
+        jar = createJar("test.jar", entries(CLASS_ENTRY));
+        assertThat(jar.setLastModified(jar.lastModified() + 2000)).isTrue();
+        read(second, jar.toURI().toURL());
+        second.save();
+
+        ScanIndex third = new ScanIndex(indexFile);
+        third.load();
+        assertThat(read(third, otherJar.toURI().toURL()).keySet()).containsOnly("org/acme/B.class");
+        assertThat(read(third, jar.toURI().toURL()).keySet()).containsOnly(CLASS_ENTRY);
+        assertThat(third.getHits()).isEqualTo(2);
+    }
+
+    @Test
+    public void modified_jars_are_read_again() throws Exception {
+        ScanIndex first = new ScanIndex(indexFile);
+        read(first, jar.toURI().toURL());
+        first.save();
+
+        jar = createJar("test.jar", entries("org/acme/A.class", "org/acme/B.class"));
+        assertThat(jar.setLastModified(jar.lastModified() + 2000)).isTrue();
+        ScanIndex second = new ScanIndex(indexFile);
+        second.load();
+
+        assertThat(read(second, jar.toURI().toURL()).keySet()).containsOnly("org/acme/A.class", "org/acme/B.class");
+        assertThat(second.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void jars_with_same_size_and_modification_time_are_validated_by_content() throws Exception {
+        ScanIndex first = new ScanIndex(indexFile);
+        read(first, jar.toURI().toURL());
+        first.save();
+
+        long lastModified = jar.lastModified();
+        byte[] content = Files.readAllBytes(jar.toPath());
+        replaceAll(content, "app.yaml".getBytes("UTF-8"), "foo.yaml".getBytes("UTF-8"));
+        Files.write(jar.toPath(), content);
+        assertThat(jar.setLastModified(lastModified)).isTrue();
+        ScanIndex second = new ScanIndex(indexFile);
+        second.load();
+
+        assertThat(read(second, jar.toURI().toURL()).keySet()).containsOnly(CLASS_ENTRY, "META-INF/configuration/foo.yaml");
+        assertThat(second.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void corrupted_index_is_ignored() throws Exception {
+        assertThat(indexFile.getParentFile().mkdirs()).isTrue();
+        try (FileOutputStream out = new FileOutputStream(indexFile)) {
+            out.write(new byte[]{1, 2, 3, 4});
+        }
+        ScanIndex scanIndex = new ScanIndex(indexFile);
+        scanIndex.load();
+
+        assertThat(read(scanIndex, jar.toURI().toURL())).hasSize(2);
+        assertThat(scanIndex.getMisses()).isEqualTo(1);
+    }
+
+    @Test
+    public void indexed_url_type_matches_local_jars() throws Exception {
+        IndexedJarUrlType underTest = new IndexedJarUrlType(new ScanIndex(indexFile));
+
+        assertThat(underTest.matches(jar.toURI().toURL())).isTrue();
+        assertThat(underTest.matches(new URL("jar:" + jar.toURI().toURL() + "!/"))).isTrue();
+        assertThat(underTest.matches(temporaryFolder.getRoot().toURI().toURL())).isFalse();
+        assertThat(underTest.matches(new URL("http://localhost/test.jar"))).isFalse();
+    }
+
+    @Test
+    public void nested_jars_and_directories_are_indexed() throws Exception {
+        Map<String, byte[]> outerEntries = new HashMap<>();
+        outerEntries.put("lib/inner.jar", Files.readAllBytes(createJar("inner.jar", entries("org/acme/Inner.class")).toPath()));
+        outerEntries.put("classes/org/acme/App.class", "App".getBytes("UTF-8"));
+        outerEntries.put("classes/application.yaml", "yaml".getBytes("UTF-8"));
+        File outerJar = createJar("outer.jar", outerEntries);
+        ScanIndex scanIndex = new ScanIndex(indexFile);
+
+        Map<String, byte[]> innerContent = read(scanIndex, new URL("jar:" + outerJar.toURI().toURL() + "!/lib/inner.jar!/"));
+        Map<String, byte[]> classesContent = read(scanIndex, new URL("jar:" + outerJar.toURI().toURL() + "!/classes!/"));
+
+        assertThat(innerContent.keySet()).containsOnly("org/acme/Inner.class");
+        assertThat(new String(innerContent.get("org/acme/Inner.class"), "UTF-8")).isEqualTo("Inner.class");
+        assertThat(classesContent.keySet()).containsOnly("org/acme/App.class", "application.yaml");
+        assertThat(new String(classesContent.get("application.yaml"), "UTF-8")).isEqualTo("yaml");
+        assertThat(scanIndex.getMisses()).isEqualTo(2);
+    }
+
+    private Map<String, byte[]> read(ScanIndex scanIndex, URL url) throws Exception {
+        Map<String, byte[]> content = new HashMap<>();
+        Vfs.Dir dir = new IndexedJarUrlType(scanIndex).createDir(url);
+        try {
+            for (Vfs.File file : dir.getFiles()) {
+                try (InputStream in = file.openInputStream()) {
+                    content.put(file.getRelativePath(), readFully(in));
+                }
+            }
+        } finally {
+            dir.close();
+        }
+        return content;
+    }
+
+    private void replaceAll(byte[] content, byte[] target, byte[] replacement) {
+        for (int i = 0; i <= content.length - target.length; i++) {
+            boolean found = true;
+            for (int j = 0; j < target.length && found; j++) {
+                found = content[i + j] == target[j];
+            }
+            if (found) {
+                System.arraycopy(replacement, 0, content, i, replacement.length);
+            }
+        }
+    }
+
+    private Map<String, byte[]> entries(String... names) throws IOException {
+        Map<String, byte[]> entries = new HashMap<>();
+        for (String name : names) {
+            entries.put(name, name.equals(CLASS_ENTRY) ? classFile : name.substring(name.lastIndexOf('/') + 1).getBytes("UTF-8"));
+        }
+        return entries;
+    }
+
+    private File createJar(String name, Map<String, byte[]> entries) throws IOException {
+        File file = new File(temporaryFolder.getRoot(), name);
+        try (JarOutputStream out = new JarOutputStream(new FileOutputStream(file))) {
+            out.putNextEntry(new JarEntry("org/"));
+            out.closeEntry();
+            List<String> names = new ArrayList<>(entries.keySet());
+            for (String entry : names) {
+                out.putNextEntry(new JarEntry(entry));
+                out.write(entries.get(entry));
+                out.closeEntry();
+            }
+        }
+        return file;
+    }
+
+    private byte[] readFully(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int count;
+        while ((count = in.read(buffer)) != -1) {
+            out.write(buffer, 0, count);
+        }
+        return out.toByteArray();
+    }
+}
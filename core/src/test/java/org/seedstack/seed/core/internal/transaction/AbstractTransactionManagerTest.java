@@ -9,9 +9,11 @@ package org.seedstack.seed.core.internal.transaction;
 
 import com.google.common.collect.Sets;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import org.aopalliance.intercept.MethodInvocation;
 import org.junit.Before;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.internal.util.reflection.Whitebox;
 import org.seedstack.seed.transaction.spi.ExceptionHandler;
 import org.seedstack.seed.transaction.spi.TransactionHandler;
@@ -19,10 +21,16 @@ import org.seedstack.seed.transaction.spi.TransactionManager;
 import org.seedstack.seed.transaction.spi.TransactionMetadata;
 import org.seedstack.seed.transaction.spi.TransactionMetadataResolver;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.fail;
 import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -48,9 +56,9 @@ public abstract class AbstractTransactionManagerTest {
         when(transactionMetadataResolver.resolve(any(MethodInvocation.class), any(TransactionMetadata.class))).thenReturn(transactionMetadata);
 
         Injector injector = mock(Injector.class);
-        when(injector.getInstance(TransactionHandler.class)).thenReturn(transactionHandler);
-        when(injector.getInstance(TransactionMetadata.class)).thenReturn(new TransactionMetadata());
-        when(injector.getInstance(ExceptionHandler.class)).thenReturn(exceptionHandler);
+        when(injector.getProvider(Key.get(TransactionHandler.class))).thenReturn(() -> transactionHandler);
+        when(injector.getInstance(TransactionMetadata.class)).thenAnswer(invocation -> new TransactionMetadata());
+        when(injector.getProvider(Key.get(ExceptionHandler.class))).thenReturn(() -> exceptionHandler);
 
         underTest = doProvideTransactionManager();
         Whitebox.setInternalState(underTest, "transactionMetadataResolvers", Sets.newHashSet(transactionMetadataResolver));
@@ -172,6 +180,70 @@ public abstract class AbstractTransactionManagerTest {
         doAssertRollbackOccurred();
     }
 
+    @Test
+    public void dynamic_resolvers_are_invoked_on_each_call() throws Throwable {
+        invoke(TransactionalMethods.Enum.OK);
+        invoke(TransactionalMethods.Enum.OK);
+
+        verify(transactionMetadataResolver, times(2)).resolve(any(MethodInvocation.class), any(TransactionMetadata.class));
+    }
+
+    @Test
+    public void static_resolvers_are_invoked_once_per_method() throws Throwable {
+        when(transactionMetadataResolver.isStatic()).thenReturn(true);
+
+        invoke(TransactionalMethods.Enum.OK);
+        invoke(TransactionalMethods.Enum.OK);
+        invoke(TransactionalMethods.Enum.REQUIRED);
+
+        verify(transactionMetadataResolver, times(2)).resolve(any(MethodInvocation.class), any(TransactionMetadata.class));
+    }
+
+    @Test
+    public void static_metadata_is_shared_and_read_only() throws Throwable {
+        when(transactionMetadataResolver.isStatic()).thenReturn(true);
+        List<TransactionMetadata> metadataOnInitialization = new ArrayList<>();
+        doAnswer(invocation -> {
+            TransactionMetadata metadata = (TransactionMetadata) invocation.getArguments()[0];
+            metadataOnInitialization.add(metadata);
+            try {
+                metadata.setReadOnly(true);
+                fail("static metadata should not be modifiable");
+            } catch (UnsupportedOperationException e) {
+                // expected
+            }
+            return null;
+        }).when(transactionHandler).doInitialize(any(TransactionMetadata.class));
+
+        invoke(TransactionalMethods.Enum.REQUIRED);
+        invoke(TransactionalMethods.Enum.REQUIRED);
+
+        assertThat(metadataOnInitialization).hasSize(2);
+        assertThat(metadataOnInitialization.get(0)).isSameAs(metadataOnInitialization.get(1));
+        assertThat(metadataOnInitialization.get(0).isReadOnly()).isFalse();
+    }
+
+    @Test
+    public void static_and_dynamic_resolvers_are_merged_in_order() throws Throwable {
+        TransactionMetadata readOnlyMetadata = new TransactionMetadata();
+        readOnlyMetadata.setReadOnly(true);
+        TransactionMetadataResolver dynamicResolver = mock(TransactionMetadataResolver.class);
+        when(dynamicResolver.resolve(any(MethodInvocation.class), any(TransactionMetadata.class))).thenReturn(readOnlyMetadata);
+
+        TransactionMetadata readWriteMetadata = new TransactionMetadata();
+        readWriteMetadata.setReadOnly(false);
+        TransactionMetadataResolver staticResolver = mock(TransactionMetadataResolver.class);
+        when(staticResolver.isStatic()).thenReturn(true);
+        when(staticResolver.resolve(any(MethodInvocation.class), any(TransactionMetadata.class))).thenReturn(readWriteMetadata);
+
+        Whitebox.setInternalState(underTest, "transactionMetadataResolvers", Sets.newLinkedHashSet(Arrays.asList(transactionMetadataResolver, dynamicResolver, staticResolver)));
+        invoke(TransactionalMethods.Enum.REQUIRED);
+
+        ArgumentCaptor<TransactionMetadata> captor = ArgumentCaptor.forClass(TransactionMetadata.class);
+        verify(transactionHandler).doInitialize(captor.capture());
+        assertThat(captor.getValue().isReadOnly()).isFalse();
+    }
+
     private class MyException extends Exception {}
     private class MyError extends Error {}
 }
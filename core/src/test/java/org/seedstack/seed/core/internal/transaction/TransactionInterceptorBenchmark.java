@@ -0,0 +1,124 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.seedstack.seed.transaction.Transactional;
+import org.seedstack.seed.transaction.spi.TransactionHandler;
+import org.seedstack.seed.transaction.spi.TransactionMetadata;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead of the local transaction interceptor compared to a bare method call. Run it with the
+ * main method (or with the JMH runner) and use the "-prof gc" option to check the allocation rate of the
+ * intercepted path.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionInterceptorBenchmark {
+    private Service bare;
+    private Service intercepted;
+
+    @Setup
+    public void setup() {
+        Injector injector = Guice.createInjector(new TransactionModule(new LocalTransactionManager(), NoopTransactionHandler.class, Collections.emptySet()));
+        bare = new Service();
+        intercepted = injector.getInstance(Service.class);
+    }
+
+    @Benchmark
+    public int bareCall() {
+        return bare.compute(42);
+    }
+
+    @Benchmark
+    public int interceptedCall() {
+        return intercepted.compute(42);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(TransactionInterceptorBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+
+    public static class Service {
+        @Transactional
+        public int compute(int value) {
+            return value + 1;
+        }
+    }
+
+    public static class NoopTransactionHandler implements TransactionHandler<Object> {
+        private static final Object TRANSACTION = new Object();
+
+        @Override
+        public void doInitialize(TransactionMetadata transactionMetadata) {
+        }
+
+        @Override
+        public Object doCreateTransaction() {
+            return TRANSACTION;
+        }
+
+        @Override
+        public void doJoinGlobalTransaction() {
+        }
+
+        @Override
+        public void doBeginTransaction(Object currentTransaction) {
+        }
+
+        @Override
+        public void doCommitTransaction(Object currentTransaction) {
+        }
+
+        @Override
+        public void doMarkTransactionAsRollbackOnly(Object currentTransaction) {
+        }
+
+        @Override
+        public void doRollbackTransaction(Object currentTransaction) {
+        }
+
+        @Override
+        public void doReleaseTransaction(Object currentTransaction) {
+        }
+
+        @Override
+        public void doCleanup() {
+        }
+
+        @Override
+        public Object getCurrentTransaction() {
+            return null;
+        }
+    }
+}
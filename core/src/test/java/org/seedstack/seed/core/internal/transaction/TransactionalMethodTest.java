@@ -0,0 +1,39 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.core.internal.transaction;
+
+import org.junit.Test;
+import org.seedstack.seed.core.fixtures.transaction.TransactionMetadataResolverTestImpl;
+import org.seedstack.seed.transaction.spi.TransactionMetadata;
+
+import java.util.Collections;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class TransactionalMethodTest {
+    @Test
+    @SuppressWarnings("unchecked")
+    public void static_metadata_is_resolved_once_and_rollback_decisions_follow_the_metadata_used() {
+        TransactionMetadata defaults = new TransactionMetadata().defaults();
+        TransactionMetadataResolverTestImpl resolver = new TransactionMetadataResolverTestImpl();
+        assertThat(resolver.isStatic()).isTrue();
+        TransactionMetadata resolved = new TransactionMetadata().defaults().mergeFrom(resolver.resolve(null, defaults));
+        TransactionalMethod underTest = new TransactionalMethod(defaults, resolved, Collections.emptyList(), null, null);
+
+        TransactionMetadata staticMetadata = underTest.getMetadata(null);
+        assertThat(underTest.isStatic()).isTrue();
+        assertThat(underTest.getMetadata(null)).isSameAs(staticMetadata);
+        assertThat(staticMetadata.getHandler()).isEqualTo(resolved.getHandler());
+        assertThat(underTest.isRollbackNeeded(IllegalStateException.class, staticMetadata)).isTrue();
+
+        TransactionMetadata noRollbackMetadata = new TransactionMetadata().mergeFrom(staticMetadata);
+        noRollbackMetadata.setNoRollbackFor(new Class[]{IllegalStateException.class});
+        assertThat(underTest.isRollbackNeeded(IllegalStateException.class, noRollbackMetadata)).isFalse();
+        assertThat(underTest.isRollbackNeeded(IllegalStateException.class, staticMetadata)).isTrue();
+    }
+}
@@ -25,6 +25,8 @@ public class HealthCheckIT extends AbstractSeedIT {
         assertThat(healthCheckRegistry.runHealthChecks().keySet()).isEqualTo(Sets.newHashSet(
                 "org.seedstack.seed.metrics.internal.FailingHealthCheck",
                 "SuccessfulHealthCheck",
+                "SlowHealthCheck",
+                "CountingHealthCheck",
                 "org.seedstack.seed.metrics.internal.InjectedHealthCheck"
         ));
     }
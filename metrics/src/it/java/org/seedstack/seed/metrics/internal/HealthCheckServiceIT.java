@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.metrics.internal;
+
+import com.codahale.metrics.health.HealthCheck;
+import org.junit.Test;
+import org.seedstack.seed.it.AbstractSeedIT;
+
+import javax.inject.Inject;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class HealthCheckServiceIT extends AbstractSeedIT {
+    @Inject
+    HealthCheckService healthCheckService;
+
+    @Test
+    public void health_checks_are_time_boxed() throws Exception {
+        Map<String, HealthCheck.Result> results = healthCheckService.runHealthChecks();
+
+        assertThat(results.get("SuccessfulHealthCheck").isHealthy()).isTrue();
+        assertThat(results.get("org.seedstack.seed.metrics.internal.FailingHealthCheck").isHealthy()).isFalse();
+        assertThat(results.get("SlowHealthCheck").isHealthy()).isFalse();
+        assertThat(results.get("SlowHealthCheck").getMessage()).isEqualTo("Health check timed out after 100 ms");
+    }
+
+    @Test
+    public void last_results_are_served_without_waiting() throws Exception {
+        Map<String, HealthCheck.Result> results = healthCheckService.getLastResults();
+
+        assertThat(results.get("SuccessfulHealthCheck").isHealthy()).isTrue();
+        assertThat(results.get("SlowHealthCheck").isHealthy()).isFalse();
+        assertThat(healthCheckService.getLastResults().keySet()).isEqualTo(results.keySet());
+    }
+
+    @Test
+    public void health_check_results_are_cached() throws Exception {
+        assertThat(healthCheckService.runHealthCheck("CountingHealthCheck").isHealthy()).isTrue();
+        int executions = CountingHealthCheck.EXECUTIONS.get();
+
+        assertThat(healthCheckService.runHealthCheck("CountingHealthCheck").isHealthy()).isTrue();
+        assertThat(healthCheckService.runHealthChecks().get("CountingHealthCheck").isHealthy()).isTrue();
+        assertThat(CountingHealthCheck.EXECUTIONS.get()).isEqualTo(executions);
+    }
+}
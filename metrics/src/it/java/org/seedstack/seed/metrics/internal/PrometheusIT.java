@@ -0,0 +1,64 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.metrics.internal;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.junit.Test;
+import org.seedstack.seed.it.AbstractSeedIT;
+import org.seedstack.seed.it.KernelMode;
+import org.seedstack.seed.it.spi.ITKernelMode;
+
+import javax.inject.Inject;
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static com.codahale.metrics.MetricRegistry.name;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.Assert.assertThat;
+
+@KernelMode(ITKernelMode.PER_TEST)
+public class PrometheusIT extends AbstractSeedIT {
+    @Inject
+    private InstrumentedWithTimed instance;
+
+    @Inject
+    private MetricRegistry registry;
+
+    @Test
+    public void timers_are_exposed_as_summaries_in_seconds() throws Exception {
+        instance.doAThing();
+
+        String output = scrape();
+        String metricName = PrometheusTextWriter.sanitize(name(InstrumentedWithTimed.class, "timed_things")) + "_seconds";
+
+        assertThat(output, containsString("# TYPE " + metricName + " summary\n"));
+        assertThat(output, containsString(metricName + "{quantile=\"0.99\"} "));
+        assertThat(output, containsString(metricName + "_count 1\n"));
+        assertThat(output, containsString(metricName + "_sum "));
+    }
+
+    @Test
+    public void counters_meters_and_gauges_are_exposed() throws Exception {
+        registry.counter("test.counter").inc(3);
+        registry.meter("test.meter").mark(2);
+        registry.register("test.gauge", (Gauge<Double>) () -> 0.5);
+
+        String output = scrape();
+
+        assertThat(output, containsString("# TYPE test_counter gauge\ntest_counter 3\n"));
+        assertThat(output, containsString("# TYPE test_meter_total counter\ntest_meter_total 2\n"));
+        assertThat(output, containsString("# TYPE test_gauge gauge\ntest_gauge 0.5\n"));
+    }
+
+    private String scrape() throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        new PrometheusTextWriter(stringWriter).write(registry);
+        return stringWriter.toString();
+    }
+}
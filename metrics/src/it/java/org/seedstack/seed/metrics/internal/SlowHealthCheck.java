@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.metrics.internal;
+
+import com.codahale.metrics.health.HealthCheck;
+import org.seedstack.seed.metrics.HealthChecked;
+
+@HealthChecked(name = "SlowHealthCheck", timeout = 100, ttl = 0)
+public class SlowHealthCheck extends HealthCheck {
+    @Override
+    protected Result check() throws Exception {
+        Thread.sleep(500);
+        return Result.healthy();
+    }
+}
@@ -28,4 +28,17 @@ public @interface HealthChecked {
      * @return The name of the health check.
      */
     String name() default "";
+
+    /**
+     * @return The maximum duration in milliseconds of the health check execution, after which it is reported as
+     * unhealthy. The default value (-1) means that the timeout configured in {@link MetricsConfig.HealthConfig} applies.
+     */
+    int timeout() default -1;
+
+    /**
+     * @return The duration in seconds during which the result of the health check is reused without running it again.
+     * A value of 0 disables caching. The default value (-1) means that the TTL configured in
+     * {@link MetricsConfig.HealthConfig} applies.
+     */
+    int ttl() default -1;
 }
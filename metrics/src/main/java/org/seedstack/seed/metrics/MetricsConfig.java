@@ -0,0 +1,262 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.metrics;
+
+import org.seedstack.coffig.Config;
+import org.seedstack.coffig.SingleValue;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+import java.io.File;
+import java.util.concurrent.TimeUnit;
+
+@Config("metrics")
+public class MetricsConfig {
+    @NotNull
+    private TimeUnit rateUnit = TimeUnit.SECONDS;
+    @NotNull
+    private TimeUnit durationUnit = TimeUnit.MILLISECONDS;
+    private JmxConfig jmx = new JmxConfig();
+    private Slf4jConfig slf4j = new Slf4jConfig();
+    private CsvConfig csv = new CsvConfig();
+    private PrometheusConfig prometheus = new PrometheusConfig();
+    private HealthConfig health = new HealthConfig();
+
+    public TimeUnit getRateUnit() {
+        return rateUnit;
+    }
+
+    public MetricsConfig setRateUnit(TimeUnit rateUnit) {
+        this.rateUnit = rateUnit;
+        return this;
+    }
+
+    public TimeUnit getDurationUnit() {
+        return durationUnit;
+    }
+
+    public MetricsConfig setDurationUnit(TimeUnit durationUnit) {
+        this.durationUnit = durationUnit;
+        return this;
+    }
+
+    public JmxConfig jmx() {
+        return jmx;
+    }
+
+    public Slf4jConfig slf4j() {
+        return slf4j;
+    }
+
+    public CsvConfig csv() {
+        return csv;
+    }
+
+    public PrometheusConfig prometheus() {
+        return prometheus;
+    }
+
+    public HealthConfig health() {
+        return health;
+    }
+
+    @Config("jmx")
+    public static class JmxConfig {
+        @SingleValue
+        private boolean enabled = false;
+        @NotNull
+        private String domain = "metrics";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public JmxConfig setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public String getDomain() {
+            return domain;
+        }
+
+        public JmxConfig setDomain(String domain) {
+            this.domain = domain;
+            return this;
+        }
+    }
+
+    @Config("slf4j")
+    public static class Slf4jConfig {
+        @SingleValue
+        private boolean enabled = false;
+        @Min(1)
+        private int period = 60;
+        @NotNull
+        private String logger = "org.seedstack.seed.metrics";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public Slf4jConfig setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public int getPeriod() {
+            return period;
+        }
+
+        public Slf4jConfig setPeriod(int period) {
+            this.period = period;
+            return this;
+        }
+
+        public String getLogger() {
+            return logger;
+        }
+
+        public Slf4jConfig setLogger(String logger) {
+            this.logger = logger;
+            return this;
+        }
+    }
+
+    @Config("csv")
+    public static class CsvConfig {
+        @SingleValue
+        private boolean enabled = false;
+        @Min(1)
+        private int period = 60;
+        private File directory;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public CsvConfig setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public int getPeriod() {
+            return period;
+        }
+
+        public CsvConfig setPeriod(int period) {
+            this.period = period;
+            return this;
+        }
+
+        public File getDirectory() {
+            return directory;
+        }
+
+        public CsvConfig setDirectory(File directory) {
+            this.directory = directory;
+            return this;
+        }
+    }
+
+    @Config("prometheus")
+    public static class PrometheusConfig {
+        @SingleValue
+        private boolean enabled = false;
+        @NotNull
+        private String path = "/metrics";
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public PrometheusConfig setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public PrometheusConfig setPath(String path) {
+            this.path = path;
+            return this;
+        }
+    }
+
+    @Config("health")
+    public static class HealthConfig {
+        @Min(1)
+        private int threads = 4;
+        @Min(1)
+        private int queueSize = 64;
+        @Min(1)
+        private int timeout = 5000;
+        @Min(0)
+        private int ttl = 10;
+        @SingleValue
+        private boolean enabled = false;
+        @NotNull
+        private String path = "/health";
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public HealthConfig setThreads(int threads) {
+            this.threads = threads;
+            return this;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public HealthConfig setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        public int getTimeout() {
+            return timeout;
+        }
+
+        public HealthConfig setTimeout(int timeout) {
+            this.timeout = timeout;
+            return this;
+        }
+
+        public int getTtl() {
+            return ttl;
+        }
+
+        public HealthConfig setTtl(int ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public HealthConfig setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public HealthConfig setPath(String path) {
+            this.path = path;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.metrics.internal;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.codahale.metrics.health.HealthCheckRegistry;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.seedstack.seed.metrics.HealthChecked;
+import org.seedstack.seed.metrics.MetricsConfig;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs the health checks of the registry concurrently on a bounded executor. Each check is time-boxed and its result
+ * is cached for a configurable duration, so frequent probes do not run the checks again. A check still running after
+ * its timeout is reported as unhealthy but is not started again until it completes. A snapshot of the last results can
+ * also be obtained without waiting for the checks, which are then refreshed in the background.
+ */
+class HealthCheckService {
+    private final HealthCheckRegistry healthCheckRegistry;
+    private final MetricsConfig.HealthConfig healthConfig;
+    private final Map<String, HealthChecked> healthCheckOptions;
+    private final ConcurrentMap<String, HealthCheckEntry> entries = new ConcurrentHashMap<>();
+    private final ThreadPoolExecutor executor;
+    private final ThreadPoolExecutor snapshotExecutor;
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+    private volatile SortedMap<String, HealthCheck.Result> snapshot;
+
+    HealthCheckService(HealthCheckRegistry healthCheckRegistry, MetricsConfig.HealthConfig healthConfig, Map<String, HealthChecked> healthCheckOptions) {
+        this.healthCheckRegistry = healthCheckRegistry;
+        this.healthConfig = healthConfig;
+        this.healthCheckOptions = healthCheckOptions;
+        this.executor = new ThreadPoolExecutor(healthConfig.getThreads(), healthConfig.getThreads(), 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(healthConfig.getQueueSize()),
+                new ThreadFactoryBuilder().setNameFormat("seed-health-check-%d").setDaemon(true).build());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.snapshotExecutor = new ThreadPoolExecutor(1, 1, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(1),
+                new ThreadFactoryBuilder().setNameFormat("seed-health-snapshot-%d").setDaemon(true).build());
+        this.snapshotExecutor.allowCoreThreadTimeOut(true);
+    }
+
+    /**
+     * Runs all the registered health checks concurrently, reusing the results that are still fresh.
+     *
+     * @return the results of all health checks, sorted by name.
+     */
+    SortedMap<String, HealthCheck.Result> runHealthChecks() {
+        long now = System.nanoTime();
+        Map<String, Future<HealthCheck.Result>> futures = new TreeMap<>();
+        for (String name : healthCheckRegistry.getNames()) {
+            futures.put(name, getEntry(name).refresh(now));
+        }
+
+        SortedMap<String, HealthCheck.Result> results = new TreeMap<>();
+        for (Map.Entry<String, Future<HealthCheck.Result>> future : futures.entrySet()) {
+            results.put(future.getKey(), getEntry(future.getKey()).await(future.getValue(), now));
+        }
+        return results;
+    }
+
+    /**
+     * Returns the last known results of all health checks without waiting for them and triggers their refresh in the
+     * background. Only the first call, when no result is known yet, runs the checks synchronously.
+     *
+     * @return the last known results of all health checks, sorted by name.
+     */
+    SortedMap<String, HealthCheck.Result> getLastResults() {
+        SortedMap<String, HealthCheck.Result> lastResults = snapshot;
+        if (lastResults == null) {
+            lastResults = refreshSnapshot();
+        } else if (refreshing.compareAndSet(false, true)) {
+            try {
+                snapshotExecutor.execute(() -> {
+                    try {
+                        refreshSnapshot();
+                    } finally {
+                        refreshing.set(false);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                refreshing.set(false);
+            }
+        }
+        return lastResults;
+    }
+
+    /**
+     * Runs the specified health check, reusing its result if it is still fresh.
+     *
+     * @param name the name of the health check.
+     * @return the result of the health check.
+     * @throws NoSuchElementException if no health check is registered under this name.
+     */
+    HealthCheck.Result runHealthCheck(String name) {
+        if (!healthCheckRegistry.getNames().contains(name)) {
+            throw new NoSuchElementException("No health check named " + name + " exists");
+        }
+        long now = System.nanoTime();
+        HealthCheckEntry entry = getEntry(name);
+        return entry.await(entry.refresh(now), now);
+    }
+
+    void shutdown() {
+        snapshotExecutor.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    private SortedMap<String, HealthCheck.Result> refreshSnapshot() {
+        SortedMap<String, HealthCheck.Result> results = Collections.unmodifiableSortedMap(runHealthChecks());
+        snapshot = results;
+        return results;
+    }
+
+    private HealthCheckEntry getEntry(String name) {
+        return entries.computeIfAbsent(name, this::createEntry);
+    }
+
+    private HealthCheckEntry createEntry(String name) {
+        int timeout = healthConfig.getTimeout();
+        int ttl = healthConfig.getTtl();
+        HealthChecked healthChecked = healthCheckOptions.get(name);
+        if (healthChecked != null) {
+            if (healthChecked.timeout() >= 0) {
+                timeout = healthChecked.timeout();
+            }
+            if (healthChecked.ttl() >= 0) {
+                ttl = healthChecked.ttl();
+            }
+        }
+        return new HealthCheckEntry(name, TimeUnit.MILLISECONDS.toNanos(timeout), TimeUnit.SECONDS.toNanos(ttl));
+    }
+
+    private class HealthCheckEntry {
+        private final String name;
+        private final long timeoutNanos;
+        private final long ttlNanos;
+        private HealthCheck.Result result;
+        private long expiresAt;
+        private Future<HealthCheck.Result> pending;
+
+        private HealthCheckEntry(String name, long timeoutNanos, long ttlNanos) {
+            this.name = name;
+            this.timeoutNanos = timeoutNanos;
+            this.ttlNanos = ttlNanos;
+        }
+
+        private synchronized Future<HealthCheck.Result> refresh(long now) {
+            if (result != null && now - expiresAt < 0) {
+                return Futures.immediateFuture(result);
+            }
+            if (pending == null) {
+                try {
+                    pending = executor.submit(this::execute);
+                } catch (RejectedExecutionException e) {
+                    return Futures.immediateFuture(HealthCheck.Result.unhealthy("Health check rejected, too many checks are pending"));
+                }
+            }
+            return pending;
+        }
+
+        private HealthCheck.Result execute() {
+            HealthCheck.Result executionResult;
+            try {
+                executionResult = healthCheckRegistry.runHealthCheck(name);
+            } catch (NoSuchElementException e) {
+                executionResult = HealthCheck.Result.unhealthy("Health check has been unregistered");
+            }
+            synchronized (this) {
+                result = executionResult;
+                expiresAt = System.nanoTime() + ttlNanos;
+                pending = null;
+            }
+            return executionResult;
+        }
+
+        private HealthCheck.Result await(Future<HealthCheck.Result> future, long start) {
+            try {
+                return future.get(Math.max(0, start + timeoutNanos - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                return HealthCheck.Result.unhealthy("Health check timed out after " + TimeUnit.NANOSECONDS.toMillis(timeoutNanos) + " ms");
+            } catch (ExecutionException e) {
+                return HealthCheck.Result.unhealthy(e.getCause());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return HealthCheck.Result.unhealthy("Health check interrupted");
+            }
+        }
+    }
+}
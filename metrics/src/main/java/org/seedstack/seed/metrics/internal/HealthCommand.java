@@ -8,7 +8,6 @@
 package org.seedstack.seed.metrics.internal;
 
 import com.codahale.metrics.health.HealthCheck;
-import com.codahale.metrics.health.HealthCheckRegistry;
 import com.google.common.collect.ImmutableMap;
 import org.fusesource.jansi.Ansi;
 import org.seedstack.seed.spi.command.CommandDefinition;
@@ -19,7 +18,8 @@ import javax.inject.Inject;
 import java.util.Map;
 
 /**
- * This command dumps the status of the application health checks.
+ * This command dumps the status of the application health checks. Checks are run concurrently and time-boxed, and
+ * results that are still fresh are reused.
  *
  * @author yves.dautremay@mpsa.com
  * @author adrien.lauer@mpsa.com
@@ -30,14 +30,14 @@ public class HealthCommand implements PrettyCommand<Map<String, HealthCheck.Resu
     String name;
 
     @Inject
-    private HealthCheckRegistry healthCheckRegistry;
+    private HealthCheckService healthCheckService;
 
     @Override
     public Map<String, HealthCheck.Result> execute(Object object) throws Exception {
         if (name != null) {
-            return ImmutableMap.of(name, healthCheckRegistry.runHealthCheck(name));
+            return ImmutableMap.of(name, healthCheckService.runHealthCheck(name));
         } else {
-            return healthCheckRegistry.runHealthChecks();
+            return healthCheckService.runHealthChecks();
         }
     }
 
@@ -0,0 +1,66 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.metrics.internal;
+
+import com.codahale.metrics.health.HealthCheck;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.servlet.http.HttpServlet;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.Map;
+import java.util.SortedMap;
+
+/**
+ * Servlet exposing the health check results as JSON. The response status is 200 if all checks are healthy and 503
+ * otherwise. The last known results are served without waiting for the checks, which are refreshed in the background,
+ * so probes neither run the checks on every request nor block on slow checks.
+ */
+@Singleton
+public class HealthServlet extends HttpServlet {
+    private static final long serialVersionUID = 1L;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private final transient HealthCheckService healthCheckService;
+
+    @Inject
+    HealthServlet(HealthCheckService healthCheckService) {
+        this.healthCheckService = healthCheckService;
+    }
+
+    @Override
+    protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+        SortedMap<String, HealthCheck.Result> results = healthCheckService.getLastResults();
+        boolean healthy = results.values().stream().allMatch(HealthCheck.Result::isHealthy);
+
+        resp.setStatus(healthy ? HttpServletResponse.SC_OK : HttpServletResponse.SC_SERVICE_UNAVAILABLE);
+        resp.setContentType("application/json");
+        resp.setCharacterEncoding("UTF-8");
+        resp.setHeader("Cache-Control", "no-cache, no-store, must-revalidate");
+
+        try (JsonGenerator jsonGenerator = JSON_FACTORY.createGenerator(resp.getOutputStream())) {
+            jsonGenerator.writeStartObject();
+            for (Map.Entry<String, HealthCheck.Result> entry : results.entrySet()) {
+                HealthCheck.Result result = entry.getValue();
+                jsonGenerator.writeObjectFieldStart(entry.getKey());
+                jsonGenerator.writeBooleanField("healthy", result.isHealthy());
+                if (result.getMessage() != null) {
+                    jsonGenerator.writeStringField("message", result.getMessage());
+                }
+                if (result.getError() != null) {
+                    jsonGenerator.writeStringField("error", result.getError().toString());
+                }
+                jsonGenerator.writeEndObject();
+            }
+            jsonGenerator.writeEndObject();
+        }
+    }
+}
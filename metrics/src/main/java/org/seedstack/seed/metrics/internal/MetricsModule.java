@@ -20,26 +20,34 @@ import java.util.Set;
 class MetricsModule extends AbstractModule {
     private final MetricRegistry metricRegistry;
     private final HealthCheckRegistry healthCheckRegistry;
+    private final HealthCheckService healthCheckService;
     private final Set<Class<? extends HealthCheck>> healthCheckClasses;
 
-    MetricsModule(MetricRegistry metricRegistry, HealthCheckRegistry healthCheckRegistry, Set<Class<? extends HealthCheck>> healthCheckClasses) {
+    MetricsModule(MetricRegistry metricRegistry, HealthCheckRegistry healthCheckRegistry, HealthCheckService healthCheckService, Set<Class<? extends HealthCheck>> healthCheckClasses) {
         this.metricRegistry = metricRegistry;
         this.healthCheckRegistry = healthCheckRegistry;
+        this.healthCheckService = healthCheckService;
         this.healthCheckClasses = healthCheckClasses;
     }
 
+    static String resolveHealthCheckName(Class<? extends HealthCheck> healthCheckClass) {
+        HealthChecked healthChecked = healthCheckClass.getAnnotation(HealthChecked.class);
+        if (healthChecked == null || healthChecked.name().isEmpty()) {
+            return healthCheckClass.getCanonicalName();
+        } else {
+            return healthChecked.name();
+        }
+    }
+
     @Override
     protected void configure() {
         bind(MetricRegistry.class).toInstance(metricRegistry);
         bind(HealthCheckRegistry.class).toInstance(healthCheckRegistry);
+        bind(HealthCheckService.class).toInstance(healthCheckService);
 
         MapBinder<String, HealthCheck> multiBinder = MapBinder.newMapBinder(binder(), String.class, HealthCheck.class);
         for (Class<? extends HealthCheck> healthCheckClass : healthCheckClasses) {
-        	if ( null == healthCheckClass.getAnnotation(HealthChecked.class) || healthCheckClass.getAnnotation(HealthChecked.class).name().isEmpty()) {
-                multiBinder.addBinding(healthCheckClass.getCanonicalName()).to(healthCheckClass);
-        	}else{
-        		multiBinder.addBinding(healthCheckClass.getAnnotation(HealthChecked.class).name()).to(healthCheckClass);
-        	}
+            multiBinder.addBinding(resolveHealthCheckName(healthCheckClass)).to(healthCheckClass);
         }
 
         bindListener(Matchers.any(), new MetricTypeListener(metricRegistry));
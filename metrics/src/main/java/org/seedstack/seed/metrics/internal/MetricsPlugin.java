@@ -15,31 +15,40 @@ import io.nuun.kernel.api.plugin.InitState;
 import io.nuun.kernel.api.plugin.context.Context;
 import io.nuun.kernel.api.plugin.context.InitContext;
 import io.nuun.kernel.api.plugin.request.ClasspathScanRequest;
-import io.nuun.kernel.core.AbstractPlugin;
-import org.seedstack.shed.exception.SeedException;
+import org.seedstack.seed.core.internal.AbstractSeedPlugin;
 import org.seedstack.seed.core.internal.CorePlugin;
 import org.seedstack.seed.core.internal.metrics.HealthcheckProvider;
 import org.seedstack.seed.core.internal.metrics.MetricsProvider;
+import org.seedstack.seed.metrics.HealthChecked;
+import org.seedstack.seed.metrics.MetricsConfig;
+import org.seedstack.shed.exception.SeedException;
 import org.seedstack.shed.reflect.Maybe;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
+import java.io.File;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
 /**
- * This plugin provides support for the Metrics monitoring library (https://dropwizard.github.io/metrics/).
+ * This plugin provides support for the Metrics monitoring library (https://dropwizard.github.io/metrics/). Besides
+ * the annotation-driven instrumentation, it starts the reporters enabled in {@link MetricsConfig}. The HTTP endpoints
+ * (Prometheus and health) are contributed by the seed-web-metrics module, in web applications only.
  *
  * @author yves.dautremay@mpsa.com
  */
-public class MetricsPlugin extends AbstractPlugin {
+public class MetricsPlugin extends AbstractSeedPlugin {
     private static final Logger LOGGER = LoggerFactory.getLogger(MetricsPlugin.class);
 
     private MetricRegistry metricRegistry;
-    private HealthCheckRegistry healthCheckRegistry ;
+    private HealthCheckRegistry healthCheckRegistry;
+    private MetricsConfig metricsConfig;
+    private MetricsReporters metricsReporters;
+    private HealthCheckService healthCheckService;
     private final Set<Class<? extends HealthCheck>> healthCheckClasses = new HashSet<>();
 
     @Inject
@@ -50,19 +59,24 @@ public class MetricsPlugin extends AbstractPlugin {
         return "metrics";
     }
 
+    @Override
+    protected Collection<Class<?>> dependencies() {
+        return Lists.newArrayList(CorePlugin.class);
+    }
+
     @Override
     @SuppressWarnings("unchecked")
-    public InitState init(InitContext initContext) {
+    public InitState initialize(InitContext initContext) {
         CorePlugin corePlugin = initContext.dependency(CorePlugin.class);
         Maybe<MetricsProvider> metricsProvider = corePlugin.getDependency(MetricsProvider.class);
-        if ( ! metricsProvider.isPresent()) {
-        	throw SeedException.createNew(MetricsErrorCode.METRICS_REGISTRY_NOT_FOUND);
+        if (!metricsProvider.isPresent()) {
+            throw SeedException.createNew(MetricsErrorCode.METRICS_REGISTRY_NOT_FOUND);
         }
         metricRegistry = metricsProvider.get().getMetricRegistry();
-        
+
         Maybe<HealthcheckProvider> healthCheckProvider = corePlugin.getDependency(HealthcheckProvider.class);
-        if ( ! metricsProvider.isPresent()) {
-        	throw SeedException.createNew(MetricsErrorCode.HEALTHCHECK_REGISTRY_NOT_FOUND);
+        if (!healthCheckProvider.isPresent()) {
+            throw SeedException.createNew(MetricsErrorCode.HEALTHCHECK_REGISTRY_NOT_FOUND);
         }
         healthCheckRegistry = healthCheckProvider.get().getHealthCheckRegistry();
 
@@ -77,19 +91,40 @@ public class MetricsPlugin extends AbstractPlugin {
 
         LOGGER.debug("detected {} health check class(es)", healthCheckClasses.size());
 
+        metricsConfig = getConfiguration(MetricsConfig.class);
+        File defaultCsvDirectory = getApplication().isStorageEnabled() ? getApplication().getStorageLocation("metrics") : null;
+        metricsReporters = new MetricsReporters(metricRegistry, metricsConfig, defaultCsvDirectory);
+
+        Map<String, HealthChecked> healthCheckOptions = new HashMap<>();
+        for (Class<? extends HealthCheck> healthCheckClass : healthCheckClasses) {
+            HealthChecked healthChecked = healthCheckClass.getAnnotation(HealthChecked.class);
+            if (healthChecked != null) {
+                healthCheckOptions.put(MetricsModule.resolveHealthCheckName(healthCheckClass), healthChecked);
+            }
+        }
+        healthCheckService = new HealthCheckService(healthCheckRegistry, metricsConfig.health(), healthCheckOptions);
+
         return InitState.INITIALIZED;
     }
 
     @Override
-    public void start(Context context) {
+    protected void onStart(Context context) {
         for (Map.Entry<String, HealthCheck> healthCheckEntry : healthChecks.entrySet()) {
             healthCheckRegistry.register(healthCheckEntry.getKey(), healthCheckEntry.getValue());
         }
+        metricsReporters.start();
+    }
+
+    @Override
+    public void stop() {
+        if (metricsReporters != null) {
+            metricsReporters.stop();
+        }
+        if (healthCheckService != null) {
+            healthCheckService.shutdown();
+        }
     }
-	@Override
-	public Collection<Class<?>> requiredPlugins() {
-		return Lists.<Class<?>>newArrayList(CorePlugin.class);
-	}
+
     @Override
     public Collection<ClasspathScanRequest> classpathScanRequests() {
         return classpathScanRequestBuilder().subtypeOf(HealthCheck.class).build();
@@ -97,16 +132,14 @@ public class MetricsPlugin extends AbstractPlugin {
 
     @Override
     public Object nativeUnitModule() {
-        return new MetricsModule(metricRegistry, healthCheckRegistry, healthCheckClasses);
+        return new MetricsModule(metricRegistry, healthCheckRegistry, healthCheckService, healthCheckClasses);
     }
 
     public HealthCheckRegistry getHealthCheckRegistry() {
         return healthCheckRegistry;
     }
 
-	public MetricRegistry getMetricRegistry() {
-		return metricRegistry;
-	}
-    
-    
+    public MetricRegistry getMetricRegistry() {
+        return metricRegistry;
+    }
 }
@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.metrics.internal;
+
+import com.codahale.metrics.CsvReporter;
+import com.codahale.metrics.JmxReporter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Slf4jReporter;
+import org.seedstack.seed.metrics.MetricsConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Manages the lifecycle of the metric reporters enabled by {@link MetricsConfig}.
+ */
+class MetricsReporters {
+    private static final Logger LOGGER = LoggerFactory.getLogger(MetricsReporters.class);
+    private final MetricRegistry metricRegistry;
+    private final MetricsConfig metricsConfig;
+    private final File defaultCsvDirectory;
+    private final List<Closeable> reporters = new ArrayList<>();
+
+    MetricsReporters(MetricRegistry metricRegistry, MetricsConfig metricsConfig, File defaultCsvDirectory) {
+        this.metricRegistry = metricRegistry;
+        this.metricsConfig = metricsConfig;
+        this.defaultCsvDirectory = defaultCsvDirectory;
+    }
+
+    void start() {
+        MetricsConfig.JmxConfig jmxConfig = metricsConfig.jmx();
+        if (jmxConfig.isEnabled()) {
+            JmxReporter jmxReporter = JmxReporter.forRegistry(metricRegistry)
+                    .inDomain(jmxConfig.getDomain())
+                    .convertRatesTo(metricsConfig.getRateUnit())
+                    .convertDurationsTo(metricsConfig.getDurationUnit())
+                    .build();
+            jmxReporter.start();
+            reporters.add(jmxReporter);
+            LOGGER.info("Metrics exposed through JMX in domain {}", jmxConfig.getDomain());
+        }
+
+        MetricsConfig.Slf4jConfig slf4jConfig = metricsConfig.slf4j();
+        if (slf4jConfig.isEnabled()) {
+            Slf4jReporter slf4jReporter = Slf4jReporter.forRegistry(metricRegistry)
+                    .outputTo(LoggerFactory.getLogger(slf4jConfig.getLogger()))
+                    .convertRatesTo(metricsConfig.getRateUnit())
+                    .convertDurationsTo(metricsConfig.getDurationUnit())
+                    .build();
+            slf4jReporter.start(slf4jConfig.getPeriod(), TimeUnit.SECONDS);
+            reporters.add(slf4jReporter);
+            LOGGER.info("Metrics logged every {} second(s) to {}", slf4jConfig.getPeriod(), slf4jConfig.getLogger());
+        }
+
+        MetricsConfig.CsvConfig csvConfig = metricsConfig.csv();
+        if (csvConfig.isEnabled()) {
+            File directory = csvConfig.getDirectory() != null ? csvConfig.getDirectory() : defaultCsvDirectory;
+            if (directory == null) {
+                LOGGER.warn("No directory configured for CSV metrics reports and application storage is disabled, CSV reporting is disabled");
+            } else if (!directory.exists() && !directory.mkdirs()) {
+                LOGGER.warn("Unable to create CSV metrics reports directory {}, CSV reporting is disabled", directory.getAbsolutePath());
+            } else {
+                CsvReporter csvReporter = CsvReporter.forRegistry(metricRegistry)
+                        .formatFor(Locale.US)
+                        .convertRatesTo(metricsConfig.getRateUnit())
+                        .convertDurationsTo(metricsConfig.getDurationUnit())
+                        .build(directory);
+                csvReporter.start(csvConfig.getPeriod(), TimeUnit.SECONDS);
+                reporters.add(csvReporter);
+                LOGGER.info("Metrics written every {} second(s) to CSV files in {}", csvConfig.getPeriod(), directory.getAbsolutePath());
+            }
+        }
+    }
+
+    void stop() {
+        for (Closeable reporter : reporters) {
+            try {
+                reporter.close();
+            } catch (IOException e) {
+                LOGGER.warn("Unable to stop metrics reporter", e);
+            }
+        }
+        reporters.clear();
+    }
+}
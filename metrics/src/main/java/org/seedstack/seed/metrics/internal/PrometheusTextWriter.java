@@ -0,0 +1,152 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.metrics.internal;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.Meter;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.Snapshot;
+import com.codahale.metrics.Timer;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Writes the content of a metric registry in the Prometheus text exposition format (version 0.0.4). Gauges and
+ * counters are exposed as gauges, meters as counters, histograms and timers as summaries. Each histogram and timer is
+ * snapshotted once per write and timer durations are expressed in seconds, as recommended by Prometheus. As Dropwizard
+ * does not track the exact total of recorded values, the {@code _sum} series of summaries is estimated from the mean of
+ * the snapshot. When several metric names are identical after sanitizing, only the first one (in registry order) is
+ * written to keep the exposition valid.
+ */
+final class PrometheusTextWriter {
+    private static final double[] QUANTILES = {0.5, 0.75, 0.95, 0.98, 0.99, 0.999};
+    private static final double SECONDS_PER_NANO = 1d / TimeUnit.SECONDS.toNanos(1);
+    private final Writer writer;
+    private final Set<String> writtenNames = new HashSet<>();
+
+    PrometheusTextWriter(Writer writer) {
+        this.writer = writer;
+    }
+
+    void write(MetricRegistry metricRegistry) throws IOException {
+        writtenNames.clear();
+        for (Map.Entry<String, Gauge> entry : metricRegistry.getGauges().entrySet()) {
+            Object value = entry.getValue().getValue();
+            if (value instanceof Number) {
+                writeSingleValue(sanitize(entry.getKey()), "gauge", ((Number) value).doubleValue());
+            } else if (value instanceof Boolean) {
+                writeSingleValue(sanitize(entry.getKey()), "gauge", (Boolean) value ? 1 : 0);
+            }
+        }
+        for (Map.Entry<String, Counter> entry : metricRegistry.getCounters().entrySet()) {
+            // Dropwizard counters can be decremented so they are not Prometheus counters
+            writeSingleValue(sanitize(entry.getKey()), "gauge", entry.getValue().getCount());
+        }
+        for (Map.Entry<String, Meter> entry : metricRegistry.getMeters().entrySet()) {
+            writeSingleValue(sanitize(entry.getKey()) + "_total", "counter", entry.getValue().getCount());
+        }
+        for (Map.Entry<String, Histogram> entry : metricRegistry.getHistograms().entrySet()) {
+            Histogram histogram = entry.getValue();
+            writeSummary(sanitize(entry.getKey()), histogram.getSnapshot(), histogram.getCount(), 1);
+        }
+        for (Map.Entry<String, Timer> entry : metricRegistry.getTimers().entrySet()) {
+            Timer timer = entry.getValue();
+            writeSummary(sanitize(entry.getKey()) + "_seconds", timer.getSnapshot(), timer.getCount(), SECONDS_PER_NANO);
+        }
+        writer.flush();
+    }
+
+    private void writeSingleValue(String name, String type, double value) throws IOException {
+        if (!reserveNames(name)) {
+            return;
+        }
+        writeType(name, type);
+        writer.write(name);
+        writer.write(' ');
+        writer.write(format(value));
+        writer.write('\n');
+    }
+
+    private void writeSummary(String name, Snapshot snapshot, long count, double factor) throws IOException {
+        if (!reserveNames(name, name + "_count", name + "_sum")) {
+            return;
+        }
+        writeType(name, "summary");
+        for (double quantile : QUANTILES) {
+            writer.write(name);
+            writer.write("{quantile=\"");
+            writer.write(Double.toString(quantile));
+            writer.write("\"} ");
+            writer.write(format(snapshot.getValue(quantile) * factor));
+            writer.write('\n');
+        }
+        writer.write(name);
+        writer.write("_count ");
+        writer.write(Long.toString(count));
+        writer.write('\n');
+        writer.write(name);
+        writer.write("_sum ");
+        writer.write(format(snapshot.getMean() * count * factor));
+        writer.write('\n');
+    }
+
+    private boolean reserveNames(String... names) {
+        for (String name : names) {
+            if (writtenNames.contains(name)) {
+                return false;
+            }
+        }
+        for (String name : names) {
+            writtenNames.add(name);
+        }
+        return true;
+    }
+
+    private void writeType(String name, String type) throws IOException {
+        writer.write("# TYPE ");
+        writer.write(name);
+        writer.write(' ');
+        writer.write(type);
+        writer.write('\n');
+    }
+
+    static String sanitize(String name) {
+        StringBuilder sb = new StringBuilder(name.length() + 1);
+        if (name.isEmpty() || Character.isDigit(name.charAt(0))) {
+            sb.append('_');
+        }
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '_' || c == ':') {
+                sb.append(c);
+            } else {
+                sb.append('_');
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String format(double value) {
+        if (Double.isNaN(value)) {
+            return "NaN";
+        } else if (Double.isInfinite(value)) {
+            return value > 0 ? "+Inf" : "-Inf";
+        } else if (value == Math.rint(value) && Math.abs(value) < 1e15) {
+            return Long.toString((long) value);
+        } else {
+            return Double.toString(value);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.metrics.internal;
+
+import com.codahale.metrics.Histogram;
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.UniformReservoir;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.junit.Assert.assertThat;
+
+public class PrometheusTextWriterTest {
+    @Test
+    public void names_are_sanitized() throws Exception {
+        assertThat(PrometheusTextWriter.sanitize("org.acme.Service.call-time"), is("org_acme_Service_call_time"));
+        assertThat(PrometheusTextWriter.sanitize("1xx"), is("_1xx"));
+    }
+
+    @Test
+    public void summaries_have_count_and_sum() throws Exception {
+        MetricRegistry registry = new MetricRegistry();
+        Histogram histogram = registry.register("test.histogram", new Histogram(new UniformReservoir()));
+        histogram.update(2);
+        histogram.update(4);
+
+        String output = scrape(registry);
+
+        assertThat(output, containsString("# TYPE test_histogram summary\n"));
+        assertThat(output, containsString("test_histogram_count 2\n"));
+        assertThat(output, containsString("test_histogram_sum 6\n"));
+    }
+
+    @Test
+    public void colliding_names_are_written_once() throws Exception {
+        MetricRegistry registry = new MetricRegistry();
+        registry.counter("test.counter").inc(1);
+        registry.counter("test-counter").inc(2);
+        registry.counter("test.histogram_sum").inc(3);
+        registry.histogram("test.histogram").update(1);
+
+        String output = scrape(registry);
+
+        // counters are written before histograms, so the counter takes the name of the summary sum series
+        assertThat(output.split("# TYPE test_counter ").length, is(2));
+        assertThat(output, containsString("# TYPE test_histogram_sum gauge\ntest_histogram_sum 3\n"));
+        assertThat(output, not(containsString("# TYPE test_histogram summary")));
+    }
+
+    private String scrape(MetricRegistry registry) throws IOException {
+        StringWriter stringWriter = new StringWriter();
+        new PrometheusTextWriter(stringWriter).write(registry);
+        return stringWriter.toString();
+    }
+}
@@ -7,7 +7,9 @@
  */
 package org.seedstack.seed.rest.internal;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.google.inject.AbstractModule;
+import com.google.inject.name.Names;
 import org.seedstack.seed.rest.RelRegistry;
 import org.seedstack.seed.rest.internal.jsonhome.JsonHome;
 
@@ -24,5 +26,6 @@ class HypermediaModule extends AbstractModule {
     protected void configure() {
         bind(JsonHome.class).toInstance(jsonHome);
         bind(RelRegistry.class).toInstance(relRegistry);
+        bind(ObjectMapper.class).annotatedWith(Names.named(RestObjectMapper.NAME)).toInstance(RestObjectMapper.create());
     }
 }
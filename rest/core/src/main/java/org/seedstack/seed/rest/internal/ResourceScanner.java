@@ -12,6 +12,7 @@ import com.damnhandy.uri.template.UriTemplateBuilder;
 import org.seedstack.seed.rest.Rel;
 import org.seedstack.seed.rest.RestConfig;
 import org.seedstack.seed.rest.hal.Link;
+import org.seedstack.seed.rest.internal.hal.LinkTemplate;
 import org.seedstack.seed.rest.internal.jsonhome.HintScanner;
 import org.seedstack.seed.rest.internal.jsonhome.Hints;
 import org.seedstack.seed.rest.internal.jsonhome.Resource;
@@ -39,6 +40,7 @@ public class ResourceScanner {
     private final Map<String, List<Method>> resourceByRel = new HashMap<>();
     private final Map<String, Resource> jsonHomeResources = new HashMap<>();
     private final Map<String, Link> halLinks = new HashMap<>();
+    private final Map<String, LinkTemplate> halLinkTemplates = new HashMap<>();
 
     private final RestConfig restConfig;
     private final String servletContextPath;
@@ -108,6 +110,15 @@ public class ResourceScanner {
         return halLinks;
     }
 
+    /**
+     * Returns the compiled templates of HAL links, for fast expansion.
+     *
+     * @return the link template map
+     */
+    public Map<String, LinkTemplate> halLinkTemplates() {
+        return halLinkTemplates;
+    }
+
     private void buildJsonHomeResources() {
         for (Map.Entry<String, List<Method>> entry : resourceByRel.entrySet()) {
             // Extends the rel with baseRel
@@ -178,6 +189,7 @@ public class ResourceScanner {
             String absolutePath = UriBuilder.uri(servletContextPath, restConfig.getPath(), uriTemplateBuilder.build().getTemplate());
 
             halLinks.put(rel, new Link(absolutePath));
+            halLinkTemplates.put(rel, LinkTemplate.compile(absolutePath));
         }
     }
 
@@ -19,5 +19,6 @@ public enum RestErrorCode implements ErrorCode {
     UNSUPPORTED_CACHE_POLICY,
     CANNOT_MERGE_RESOURCE_WITH_DIFFERENT_REL,
     CANNOT_MERGE_RESOURCES_WITH_DIFFERENT_DOC,
-    JAX_RS_FEATURE_NOT_FOUND
+    JAX_RS_FEATURE_NOT_FOUND,
+    UNABLE_TO_RENDER_JSON_HOME
 }
@@ -12,6 +12,7 @@ import com.google.inject.Scopes;
 import com.google.inject.multibindings.MapBinder;
 import com.google.inject.name.Names;
 import org.seedstack.seed.rest.RestConfig;
+import org.seedstack.seed.rest.internal.cache.ResponseCache;
 import org.seedstack.seed.rest.spi.RootResource;
 
 import javax.ws.rs.core.Variant;
@@ -23,12 +24,14 @@ class RestModule extends AbstractModule {
     private final Collection<Class<?>> providers;
     private final RestConfig restConfig;
     private final Map<Variant, Class<? extends RootResource>> rootResourcesByVariant;
+    private final ResponseCache responseCache;
 
-    RestModule(RestConfig restConfig, Collection<Class<?>> resources, Collection<Class<?>> providers, Map<Variant, Class<? extends RootResource>> rootResourcesByVariant) {
+    RestModule(RestConfig restConfig, Collection<Class<?>> resources, Collection<Class<?>> providers, Map<Variant, Class<? extends RootResource>> rootResourcesByVariant, ResponseCache responseCache) {
         this.restConfig = restConfig;
         this.rootResourcesByVariant = rootResourcesByVariant;
         this.resources = resources;
         this.providers = providers;
+        this.responseCache = responseCache;
     }
 
     @Override
@@ -50,5 +53,9 @@ class RestModule extends AbstractModule {
                 multiBinder.addBinding(rootResourceClassEntry.getKey()).to(rootResourceClassEntry.getValue());
             }
         }
+
+        if (responseCache != null) {
+            bind(ResponseCache.class).toInstance(responseCache);
+        }
     }
 }
@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Creates the Jackson object mapper shared by REST internals (HAL writer, JSON-Home resource). A single mapper is
+ * created per application and bound in the injector with the {@value #NAME} name, so Jackson can reuse its
+ * serializers across responses. Generators created by this mapper never close the underlying stream, which is
+ * owned by the JAX-RS runtime.
+ */
+public final class RestObjectMapper {
+    /**
+     * The name qualifying the shared object mapper binding.
+     */
+    public static final String NAME = "SeedRestObjectMapper";
+
+    private RestObjectMapper() {
+        // no instantiation allowed
+    }
+
+    /**
+     * @return a new object mapper configured for REST internals.
+     */
+    public static ObjectMapper create() {
+        return new ObjectMapper().disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+}
@@ -20,6 +20,7 @@ import org.seedstack.seed.core.SeedRuntime;
 import org.seedstack.seed.core.internal.AbstractSeedPlugin;
 import org.seedstack.seed.rest.RelRegistry;
 import org.seedstack.seed.rest.RestConfig;
+import org.seedstack.seed.rest.internal.cache.ResponseCache;
 import org.seedstack.seed.rest.internal.exceptionmapper.AuthenticationExceptionMapper;
 import org.seedstack.seed.rest.internal.exceptionmapper.AuthorizationExceptionMapper;
 import org.seedstack.seed.rest.internal.exceptionmapper.InternalErrorExceptionMapper;
@@ -56,6 +57,7 @@ public class RestPlugin extends AbstractSeedPlugin implements RestProvider {
     private JsonHome jsonHome;
     private Collection<Class<?>> resources;
     private Collection<Class<?>> providers;
+    private ResponseCache responseCache;
 
     @Override
     public String name() {
@@ -95,6 +97,10 @@ public class RestPlugin extends AbstractSeedPlugin implements RestProvider {
                 addRootResourceVariant(new Variant(new MediaType("application", "json"), (Locale) null, null), JsonHomeRootResource.class);
             }
 
+            if (restConfig.responseCache().isEnabled()) {
+                responseCache = new ResponseCache(restConfig.responseCache());
+            }
+
             enabled = true;
         }
 
@@ -124,7 +130,7 @@ public class RestPlugin extends AbstractSeedPlugin implements RestProvider {
         ResourceScanner resourceScanner = new ResourceScanner(restConfig, servletContext).scan(resources);
         Map<String, Resource> resourceMap = resourceScanner.jsonHomeResources();
 
-        relRegistry = new RelRegistryImpl(resourceScanner.halLinks());
+        relRegistry = new RelRegistryImpl(resourceScanner.halLinks(), resourceScanner.halLinkTemplates());
         jsonHome = new JsonHome(resourceMap);
     }
 
@@ -135,7 +141,7 @@ public class RestPlugin extends AbstractSeedPlugin implements RestProvider {
             protected void configure() {
                 install(new HypermediaModule(jsonHome, relRegistry));
                 if (enabled) {
-                    install(new RestModule(restConfig, filterResourceClasses(resources), providers, rootResourcesByVariant));
+                    install(new RestModule(restConfig, filterResourceClasses(resources), providers, rootResourcesByVariant, responseCache));
                 }
             }
         };
@@ -163,6 +169,10 @@ public class RestPlugin extends AbstractSeedPlugin implements RestProvider {
         return enabled;
     }
 
+    public ResponseCache getResponseCache() {
+        return responseCache;
+    }
+
     @Override
     public Set<Class<?>> resources() {
         return resources != null ? new HashSet<>(filterResourceClasses(resources)) : new HashSet<>();
@@ -0,0 +1,68 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import org.seedstack.seed.rest.CacheControl;
+import org.seedstack.seed.rest.CachePolicy;
+
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+import java.lang.reflect.Method;
+
+/**
+ * Registers a {@link CacheControlFilter} on each resource method annotated (directly or through its class) with a
+ * {@link CacheControl} annotation whose policy is not {@link CachePolicy#CUSTOM}. The <code>Cache-Control</code> header
+ * value of each method is computed once, when the JAX-RS runtime is configured.
+ */
+@Provider
+public class CacheControlFeature implements DynamicFeature {
+    static final String NO_CACHE = "no-cache, no-store, must-revalidate";
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        CacheControl cacheControl = resolveCacheControl(resourceInfo.getResourceMethod(), resourceInfo.getResourceClass());
+        if (cacheControl != null && cacheControl.value() != CachePolicy.CUSTOM) {
+            if (cacheControl.value() == CachePolicy.NO_CACHE) {
+                context.register(new CacheControlFilter(NO_CACHE, false, false));
+            } else {
+                context.register(new CacheControlFilter(buildCacheControl(cacheControl), true, cacheControl.eTag()));
+            }
+        }
+    }
+
+    static CacheControl resolveCacheControl(Method resourceMethod, Class<?> resourceClass) {
+        CacheControl cacheControl = null;
+        if (resourceMethod != null) {
+            cacheControl = resourceMethod.getAnnotation(CacheControl.class);
+        }
+        if (cacheControl == null && resourceClass != null) {
+            cacheControl = resourceClass.getAnnotation(CacheControl.class);
+        }
+        return cacheControl;
+    }
+
+    static String buildCacheControl(CacheControl cacheControl) {
+        boolean isPrivate = cacheControl.value() == CachePolicy.PRIVATE;
+        StringBuilder sb = new StringBuilder(isPrivate ? "private" : "public");
+        if (cacheControl.maxAge() >= 0) {
+            sb.append(", max-age=").append(cacheControl.maxAge());
+        }
+        if (!isPrivate && cacheControl.sMaxAge() >= 0) {
+            sb.append(", s-maxage=").append(cacheControl.sMaxAge());
+        }
+        if (cacheControl.staleWhileRevalidate() >= 0) {
+            sb.append(", stale-while-revalidate=").append(cacheControl.staleWhileRevalidate());
+        }
+        if (cacheControl.mustRevalidate()) {
+            sb.append(", must-revalidate");
+        }
+        return sb.toString();
+    }
+}
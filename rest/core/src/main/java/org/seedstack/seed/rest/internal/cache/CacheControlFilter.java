@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Providers;
+import java.io.IOException;
+
+/**
+ * Applies the cache policy of a resource method to its responses. Cacheable responses are given a weak ETag, computed
+ * from the serialized entity. When the ETag matches the <code>If-None-Match</code> request header, the response is
+ * turned into a <code>304 Not Modified</code> without entity. Otherwise the serialized entity replaces the original one
+ * so it is not serialized twice. Streamed entities are not buffered and get no ETag.
+ */
+class CacheControlFilter implements ContainerResponseFilter {
+    private static final String PRAGMA = "Pragma";
+    private final String cacheControl;
+    private final boolean cacheable;
+    private final boolean eTag;
+    @Context
+    private Providers providers;
+
+    CacheControlFilter(String cacheControl, boolean cacheable, boolean eTag) {
+        this.cacheControl = cacheControl;
+        this.cacheable = cacheable;
+        this.eTag = eTag;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+        MultivaluedMap<String, Object> headers = responseContext.getHeaders();
+        if (!cacheable) {
+            headers.putSingle(HttpHeaders.CACHE_CONTROL, cacheControl);
+            headers.putSingle(PRAGMA, "no-cache");
+            headers.putSingle(HttpHeaders.EXPIRES, "0");
+        } else if (isCacheableResponse(requestContext, responseContext)) {
+            if (!headers.containsKey(HttpHeaders.CACHE_CONTROL)) {
+                headers.putSingle(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+            if (eTag && responseContext.hasEntity() && !headers.containsKey(HttpHeaders.ETAG)) {
+                applyETag(requestContext, responseContext);
+            }
+        }
+    }
+
+    private boolean isCacheableResponse(ContainerRequestContext requestContext, ContainerResponseContext responseContext) {
+        String method = requestContext.getMethod();
+        return (HttpMethod.GET.equals(method) || HttpMethod.HEAD.equals(method))
+                && responseContext.getStatus() == Response.Status.OK.getStatusCode();
+    }
+
+    private void applyETag(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+        byte[] data = Entities.buffer(responseContext, providers);
+        if (data == null) {
+            return;
+        }
+
+        String etag = EntityTags.of(data, true);
+        responseContext.getHeaders().putSingle(HttpHeaders.ETAG, etag);
+        if (EntityTags.matches(requestContext.getHeaderString(HttpHeaders.IF_NONE_MATCH), etag)) {
+            responseContext.setStatus(Response.Status.NOT_MODIFIED.getStatusCode());
+            responseContext.setEntity(null);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.List;
+import java.util.Map;
+
+class CachedResponse {
+    private static final int OVERHEAD = 256;
+    private final byte[] data;
+    private final MediaType mediaType;
+    private final Map<String, List<String>> headers;
+    private final long expiresAt;
+    private final int weight;
+
+    CachedResponse(byte[] data, MediaType mediaType, Map<String, List<String>> headers, long expiresAt, String key) {
+        this.data = data;
+        this.mediaType = mediaType;
+        this.headers = headers;
+        this.expiresAt = expiresAt;
+        this.weight = computeWeight(data, headers, key);
+    }
+
+    boolean isExpired(long now) {
+        return now - expiresAt >= 0;
+    }
+
+    int getWeight() {
+        return weight;
+    }
+
+    Response toResponse() {
+        Response.ResponseBuilder responseBuilder = Response.ok(data, mediaType);
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            for (String value : header.getValue()) {
+                responseBuilder.header(header.getKey(), value);
+            }
+        }
+        return responseBuilder.build();
+    }
+
+    private static int computeWeight(byte[] data, Map<String, List<String>> headers, String key) {
+        long result = OVERHEAD + data.length + 2L * key.length();
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            result += 2L * header.getKey().length();
+            for (String value : header.getValue()) {
+                result += 2L * value.length();
+            }
+        }
+        return (int) Math.min(result, Integer.MAX_VALUE);
+    }
+}
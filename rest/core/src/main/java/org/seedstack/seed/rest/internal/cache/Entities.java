@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Providers;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+
+final class Entities {
+    private Entities() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Serializes the entity of a response with the message body writer selected for its media type and replaces it
+     * with the resulting bytes, so it is not serialized again when the response is written. Streamed entities are left
+     * untouched.
+     *
+     * @param responseContext the response context.
+     * @param providers       the JAX-RS providers, may be null.
+     * @return the serialized entity or null if it cannot be buffered.
+     * @throws IOException if the message body writer fails.
+     */
+    @SuppressWarnings("unchecked")
+    static byte[] buffer(ContainerResponseContext responseContext, Providers providers) throws IOException {
+        Object entity = responseContext.getEntity();
+        if (entity instanceof byte[]) {
+            return (byte[]) entity;
+        }
+        MediaType mediaType = responseContext.getMediaType();
+        if (providers == null || mediaType == null || isStreamed(entity)) {
+            return null;
+        }
+        MessageBodyWriter<Object> messageBodyWriter = (MessageBodyWriter<Object>) providers.getMessageBodyWriter(
+                responseContext.getEntityClass(),
+                responseContext.getEntityType(),
+                responseContext.getEntityAnnotations(),
+                mediaType
+        );
+        if (messageBodyWriter == null) {
+            return null;
+        }
+        ByteArrayOutputStream baos = new ByteArrayOutputStream();
+        messageBodyWriter.writeTo(
+                entity,
+                responseContext.getEntityClass(),
+                responseContext.getEntityType(),
+                responseContext.getEntityAnnotations(),
+                mediaType,
+                responseContext.getHeaders(),
+                baos
+        );
+        byte[] data = baos.toByteArray();
+        responseContext.setEntity(data, responseContext.getEntityAnnotations(), mediaType);
+        return data;
+    }
+
+    private static boolean isStreamed(Object entity) {
+        return entity instanceof InputStream
+                || entity instanceof Reader
+                || entity instanceof File
+                || entity instanceof StreamingOutput;
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Computes and compares entity tags of serialized representations.
+ */
+public final class EntityTags {
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+        // no instantiation allowed
+    }
+
+    /**
+     * Computes the entity tag of a serialized representation.
+     *
+     * @param data the serialized representation.
+     * @param weak true to produce a weak entity tag, false to produce a strong one.
+     * @return the entity tag, quoted and prefixed if weak.
+     */
+    public static String of(byte[] data, boolean weak) {
+        String opaqueTag = "\"" + Hashing.murmur3_128().hashBytes(data).toString() + "\"";
+        return weak ? WEAK_PREFIX + opaqueTag : opaqueTag;
+    }
+
+    /**
+     * Checks an entity tag against an <code>If-None-Match</code> header value, using the weak comparison function
+     * (RFC 7232, section 2.3.2).
+     *
+     * @param ifNoneMatch the <code>If-None-Match</code> header value, may be null.
+     * @param etag        the entity tag of the response.
+     * @return true if the header matches the entity tag, false otherwise.
+     */
+    public static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = stripWeakPrefix(etag);
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmedCandidate = candidate.trim();
+            if ("*".equals(trimmedCandidate) || opaqueTag.equals(stripWeakPrefix(trimmedCandidate))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String etag) {
+        return etag.startsWith(WEAK_PREFIX) ? etag.substring(WEAK_PREFIX.length()) : etag;
+    }
+}
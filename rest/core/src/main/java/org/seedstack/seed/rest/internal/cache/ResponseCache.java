@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalNotification;
+import org.seedstack.seed.core.internal.metrics.MetricsProvider;
+import org.seedstack.seed.rest.RestConfig;
+import org.seedstack.shed.reflect.Maybe;
+
+import javax.inject.Inject;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * In-process cache of serialized REST responses, bounded by the total size of the cached responses. Each response
+ * expires after the time-to-live of the resource method that produced it. Hit ratio and memory footprint are exposed
+ * as metrics when the metrics library is present.
+ */
+public class ResponseCache {
+    private final RestConfig.ResponseCacheConfig responseCacheConfig;
+    private final Cache<String, CachedResponse> cache;
+    private final AtomicLong footprint = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseCache(RestConfig.ResponseCacheConfig responseCacheConfig) {
+        this.responseCacheConfig = responseCacheConfig;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(responseCacheConfig.getMaxSize())
+                .weigher((String key, CachedResponse value) -> value.getWeight())
+                .removalListener((RemovalNotification<String, CachedResponse> notification) -> footprint.addAndGet(-notification.getValue().getWeight()))
+                .build();
+    }
+
+    @Inject
+    void registerMetrics(Maybe<MetricsProvider> metricsProvider) {
+        if (metricsProvider.isPresent()) {
+            ResponseCacheMetrics.register(metricsProvider.get(), this);
+        }
+    }
+
+    RestConfig.ResponseCacheConfig getResponseCacheConfig() {
+        return responseCacheConfig;
+    }
+
+    CachedResponse get(String key) {
+        CachedResponse cachedResponse = cache.getIfPresent(key);
+        if (cachedResponse != null && cachedResponse.isExpired(System.nanoTime())) {
+            cache.asMap().remove(key, cachedResponse);
+            cachedResponse = null;
+        }
+        if (cachedResponse == null) {
+            misses.increment();
+        } else {
+            hits.increment();
+        }
+        return cachedResponse;
+    }
+
+    void put(String key, CachedResponse cachedResponse) {
+        footprint.addAndGet(cachedResponse.getWeight());
+        cache.put(key, cachedResponse);
+    }
+
+    /**
+     * Discards all cached responses.
+     */
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * @return the number of cached responses.
+     */
+    public long getSize() {
+        return cache.size();
+    }
+
+    /**
+     * @return the approximate memory footprint of cached responses in bytes.
+     */
+    public long getFootprint() {
+        return footprint.get();
+    }
+
+    /**
+     * @return the ratio of lookups that were served from the cache, 0 if no lookup happened yet.
+     */
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+        return requestCount == 0 ? 0 : (double) hitCount / requestCount;
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,71 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import org.seedstack.seed.rest.ServerCache;
+import org.seedstack.seed.security.RequiresPermissions;
+import org.seedstack.seed.security.RequiresRoles;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Priorities;
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Registers a {@link ResponseCacheFilter} on each GET resource method annotated (directly or through its class) with
+ * {@link ServerCache}. The time-to-live and the cache key headers of each method are resolved once, when the JAX-RS
+ * runtime is configured. The filter priority makes it run after authentication filters on requests and before other
+ * user filters on responses, so it stores the response as produced by the resource.
+ * <p>
+ * Cache hits are served before the security interceptors of the resource method are invoked. The principal is thus
+ * always part of the cache key of secured methods, so a cached response is only served to the principal it was
+ * authorized for.
+ */
+public class ResponseCacheFeature implements DynamicFeature {
+    private static final int PRIORITY = Priorities.USER + 1000;
+    private final ResponseCache responseCache;
+
+    public ResponseCacheFeature(ResponseCache responseCache) {
+        this.responseCache = responseCache;
+    }
+
+    @Override
+    public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+        Method resourceMethod = resourceInfo.getResourceMethod();
+        if (resourceMethod == null || !resourceMethod.isAnnotationPresent(GET.class)) {
+            return;
+        }
+        ServerCache serverCache = resourceMethod.getAnnotation(ServerCache.class);
+        if (serverCache == null && resourceInfo.getResourceClass() != null) {
+            serverCache = resourceInfo.getResourceClass().getAnnotation(ServerCache.class);
+        }
+        if (serverCache != null) {
+            int ttl = serverCache.ttl() >= 0 ? serverCache.ttl() : responseCache.getResponseCacheConfig().getTtl();
+            List<String> keyHeaders = new ArrayList<>(responseCache.getResponseCacheConfig().getHeaders());
+            Collections.sort(keyHeaders);
+            context.register(new ResponseCacheFilter(
+                    responseCache,
+                    TimeUnit.SECONDS.toNanos(ttl),
+                    keyHeaders,
+                    responseCache.getResponseCacheConfig().isPrincipal() || isSecured(resourceMethod, resourceInfo.getResourceClass())
+            ), PRIORITY);
+        }
+    }
+
+    static boolean isSecured(Method resourceMethod, Class<?> resourceClass) {
+        return resourceMethod.isAnnotationPresent(RequiresRoles.class)
+                || resourceMethod.isAnnotationPresent(RequiresPermissions.class)
+                || resourceClass != null && (resourceClass.isAnnotationPresent(RequiresRoles.class) || resourceClass.isAnnotationPresent(RequiresPermissions.class));
+    }
+}
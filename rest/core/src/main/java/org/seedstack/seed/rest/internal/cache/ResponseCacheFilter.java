@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.container.ContainerRequestContext;
+import javax.ws.rs.container.ContainerRequestFilter;
+import javax.ws.rs.container.ContainerResponseContext;
+import javax.ws.rs.container.ContainerResponseFilter;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.ext.Providers;
+import java.io.IOException;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves GET requests from the {@link ResponseCache} when possible, aborting the request before the resource method
+ * is invoked. On a cache miss, the serialized response is stored if it is successful, does not set cookies and is not
+ * marked as <code>no-store</code>.
+ */
+class ResponseCacheFilter implements ContainerRequestFilter, ContainerResponseFilter {
+    private static final String KEY_PROPERTY = ResponseCacheFilter.class.getName() + ".key";
+    private static final String HIT_PROPERTY = ResponseCacheFilter.class.getName() + ".hit";
+    private static final char SEPARATOR = '\n';
+    private final ResponseCache responseCache;
+    private final long ttlNanos;
+    private final List<String> keyHeaders;
+    private final boolean principalInKey;
+    @Context
+    private Providers providers;
+
+    ResponseCacheFilter(ResponseCache responseCache, long ttlNanos, List<String> keyHeaders, boolean principalInKey) {
+        this.responseCache = responseCache;
+        this.ttlNanos = ttlNanos;
+        this.keyHeaders = keyHeaders;
+        this.principalInKey = principalInKey;
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext) throws IOException {
+        if (HttpMethod.GET.equals(requestContext.getMethod())) {
+            String key = buildKey(requestContext);
+            requestContext.setProperty(KEY_PROPERTY, key);
+            CachedResponse cachedResponse = responseCache.get(key);
+            if (cachedResponse != null) {
+                requestContext.setProperty(HIT_PROPERTY, Boolean.TRUE);
+                requestContext.abortWith(cachedResponse.toResponse());
+            }
+        }
+    }
+
+    @Override
+    public void filter(ContainerRequestContext requestContext, ContainerResponseContext responseContext) throws IOException {
+        String key = (String) requestContext.getProperty(KEY_PROPERTY);
+        if (key == null || requestContext.getProperty(HIT_PROPERTY) != null || !isStorable(responseContext)) {
+            return;
+        }
+        byte[] data = Entities.buffer(responseContext, providers);
+        if (data != null) {
+            responseCache.put(key, new CachedResponse(
+                    data,
+                    responseContext.getMediaType(),
+                    copyHeaders(responseContext),
+                    System.nanoTime() + ttlNanos,
+                    key
+            ));
+        }
+    }
+
+    private boolean isStorable(ContainerResponseContext responseContext) {
+        if (responseContext.getStatus() != Response.Status.OK.getStatusCode() || !responseContext.hasEntity()) {
+            return false;
+        }
+        if (responseContext.getHeaders().containsKey(HttpHeaders.SET_COOKIE)) {
+            return false;
+        }
+        String cacheControl = responseContext.getHeaderString(HttpHeaders.CACHE_CONTROL);
+        return cacheControl == null || !cacheControl.contains("no-store");
+    }
+
+    private Map<String, List<String>> copyHeaders(ContainerResponseContext responseContext) {
+        Map<String, List<String>> headers = new HashMap<>();
+        for (Map.Entry<String, List<String>> header : responseContext.getStringHeaders().entrySet()) {
+            String name = header.getKey();
+            if (!HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(name)
+                    && !HttpHeaders.CONTENT_LENGTH.equalsIgnoreCase(name)
+                    && !HttpHeaders.DATE.equalsIgnoreCase(name)) {
+                headers.put(name, new ArrayList<>(header.getValue()));
+            }
+        }
+        return headers;
+    }
+
+    private String buildKey(ContainerRequestContext requestContext) {
+        StringBuilder sb = new StringBuilder(128)
+                .append(requestContext.getUriInfo().getRequestUri().toString())
+                .append(SEPARATOR).append(nullToEmpty(requestContext.getHeaderString(HttpHeaders.ACCEPT)))
+                .append(SEPARATOR).append(nullToEmpty(requestContext.getHeaderString(HttpHeaders.ACCEPT_LANGUAGE)))
+                .append(SEPARATOR).append(nullToEmpty(requestContext.getHeaderString(HttpHeaders.ACCEPT_ENCODING)));
+        for (String keyHeader : keyHeaders) {
+            sb.append(SEPARATOR).append(nullToEmpty(requestContext.getHeaderString(keyHeader)));
+        }
+        if (principalInKey) {
+            Principal principal = requestContext.getSecurityContext() == null ? null : requestContext.getSecurityContext().getUserPrincipal();
+            sb.append(SEPARATOR).append(principal == null ? "" : principal.getName());
+        }
+        return sb.toString();
+    }
+
+    private static String nullToEmpty(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,34 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.MetricRegistry;
+import org.seedstack.seed.core.internal.metrics.MetricsProvider;
+
+/**
+ * Registers the response cache gauges. Kept apart from {@link ResponseCache} so the metrics library is only loaded
+ * when it is present.
+ */
+final class ResponseCacheMetrics {
+    private ResponseCacheMetrics() {
+        // no instantiation allowed
+    }
+
+    static void register(MetricsProvider metricsProvider, ResponseCache responseCache) {
+        metricsProvider.register(name("hitRatio"), (Gauge<Double>) responseCache::getHitRatio);
+        metricsProvider.register(name("hits"), (Gauge<Long>) responseCache::getHitCount);
+        metricsProvider.register(name("misses"), (Gauge<Long>) responseCache::getMissCount);
+        metricsProvider.register(name("size"), (Gauge<Long>) responseCache::getSize);
+        metricsProvider.register(name("footprint"), (Gauge<Long>) responseCache::getFootprint);
+    }
+
+    private static String name(String metric) {
+        return MetricRegistry.name("seed", "rest", "responseCache", metric);
+    }
+}
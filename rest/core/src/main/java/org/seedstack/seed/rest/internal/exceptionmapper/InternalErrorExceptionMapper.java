@@ -41,7 +41,7 @@ public class InternalErrorExceptionMapper implements ExceptionMapper<Exception>
     public Response toResponse(Exception exception) {
         logger.error(exception.getMessage(), exception);
         if (webConfig.isRequestDiagnosticEnabled()) {
-            diagnosticManager.dumpDiagnosticReport(exception);
+            diagnosticManager.dumpDiagnosticReportAsync(exception);
         }
         return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity("Internal server error").build();
     }
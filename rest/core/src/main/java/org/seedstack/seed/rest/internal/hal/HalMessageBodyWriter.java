@@ -7,10 +7,14 @@
  */
 package org.seedstack.seed.rest.internal.hal;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.seedstack.seed.rest.hal.HalRepresentation;
+import org.seedstack.seed.rest.internal.RestObjectMapper;
 
+import javax.inject.Inject;
+import javax.inject.Named;
 import javax.ws.rs.WebApplicationException;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.MultivaluedMap;
@@ -22,14 +26,23 @@ import java.lang.annotation.Annotation;
 import java.lang.reflect.Type;
 
 /**
+ * Streams HAL representations to the response with the shared REST object mapper.
+ *
  * @author pierre.thirouin@ext.mpsa.com (Pierre Thirouin)
  */
 @Provider
 public class HalMessageBodyWriter implements MessageBodyWriter<HalRepresentation> {
+    private static final MediaType HAL_JSON_TYPE = new MediaType("application", "hal+json");
+    private final ObjectMapper objectMapper;
+
+    @Inject
+    public HalMessageBodyWriter(@Named(RestObjectMapper.NAME) ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
 
     @Override
     public boolean isWriteable(Class type, Type genericType, Annotation[] annotations, MediaType mediaType) {
-        return HalRepresentation.class.isAssignableFrom(type) && (mediaType == MediaType.APPLICATION_JSON_TYPE || mediaType.equals(new MediaType("application", "hal+json")));
+        return HalRepresentation.class.isAssignableFrom(type) && (mediaType == MediaType.APPLICATION_JSON_TYPE || HAL_JSON_TYPE.equals(mediaType));
     }
 
     @Override
@@ -40,12 +53,8 @@ public class HalMessageBodyWriter implements MessageBodyWriter<HalRepresentation
 
     @Override
     public void writeTo(HalRepresentation halRepresentation, Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream) throws IOException, WebApplicationException {
-        ObjectMapper objectMapper = new ObjectMapper();
-        try {
-            entityStream.write(objectMapper.writeValueAsBytes(halRepresentation));
-            entityStream.flush();
-        } catch (JsonProcessingException e) {
-            throw new IllegalStateException(e);
+        try (JsonGenerator jsonGenerator = objectMapper.getFactory().createGenerator(entityStream, JsonEncoding.UTF8)) {
+            objectMapper.writeValue(jsonGenerator, halRepresentation);
         }
     }
 }
@@ -0,0 +1,329 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.hal;
+
+import java.lang.reflect.Array;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A URI template (RFC 6570, up to level 4) compiled into literal and expression parts, so it can be expanded many times
+ * without being parsed again. Expansion appends directly to a caller-provided {@link StringBuilder}. Literals are
+ * copied as is. Variable values are converted with {@link Object#toString()}, except collections, arrays and maps
+ * which are expanded as lists and associative arrays.
+ */
+public final class LinkTemplate {
+    private static final char[] HEX = "0123456789ABCDEF".toCharArray();
+    private static final String RESERVED = ":/?#[]@!$&'()*+,;=";
+    private final String template;
+    private final Object[] parts;
+
+    private LinkTemplate(String template, Object[] parts) {
+        this.template = template;
+        this.parts = parts;
+    }
+
+    /**
+     * Compiles a URI template.
+     *
+     * @param template the URI template.
+     * @return the compiled template.
+     * @throws IllegalArgumentException if the template is malformed.
+     */
+    public static LinkTemplate compile(String template) {
+        List<Object> parts = new ArrayList<>();
+        int index = 0;
+        while (index < template.length()) {
+            int start = template.indexOf('{', index);
+            if (start < 0) {
+                parts.add(template.substring(index));
+                break;
+            }
+            if (start > index) {
+                parts.add(template.substring(index, start));
+            }
+            int end = template.indexOf('}', start);
+            if (end < 0) {
+                throw new IllegalArgumentException("Unclosed expression in URI template " + template);
+            }
+            parts.add(Expression.parse(template, template.substring(start + 1, end)));
+            index = end + 1;
+        }
+        return new LinkTemplate(template, parts.toArray());
+    }
+
+    /**
+     * @return the source URI template.
+     */
+    public String getTemplate() {
+        return template;
+    }
+
+    /**
+     * @return true if the template contains at least one expression, false otherwise.
+     */
+    public boolean isTemplated() {
+        for (Object part : parts) {
+            if (part instanceof Expression) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Expands the template with the specified variables. Undefined variables (absent, null, empty collections or maps)
+     * are omitted as specified by RFC 6570.
+     *
+     * @param variables the variable values by name.
+     * @param sb        the builder to append the expanded URI to.
+     * @return the builder.
+     */
+    public StringBuilder expand(Map<String, ?> variables, StringBuilder sb) {
+        for (Object part : parts) {
+            if (part instanceof String) {
+                sb.append((String) part);
+            } else {
+                ((Expression) part).expand(variables, sb);
+            }
+        }
+        return sb;
+    }
+
+    @Override
+    public String toString() {
+        return template;
+    }
+
+    private enum Operator {
+        SIMPLE("", ",", false, "", false),
+        RESERVED("", ",", false, "", true),
+        FRAGMENT("#", ",", false, "", true),
+        LABEL(".", ".", false, "", false),
+        PATH("/", "/", false, "", false),
+        PATH_PARAMETER(";", ";", true, "", false),
+        QUERY("?", "&", true, "=", false),
+        QUERY_CONTINUATION("&", "&", true, "=", false);
+
+        private final String first;
+        private final String separator;
+        private final boolean named;
+        private final String ifEmpty;
+        private final boolean allowReserved;
+
+        Operator(String first, String separator, boolean named, String ifEmpty, boolean allowReserved) {
+            this.first = first;
+            this.separator = separator;
+            this.named = named;
+            this.ifEmpty = ifEmpty;
+            this.allowReserved = allowReserved;
+        }
+
+        static Operator of(char c) {
+            switch (c) {
+                case '+':
+                    return RESERVED;
+                case '#':
+                    return FRAGMENT;
+                case '.':
+                    return LABEL;
+                case '/':
+                    return PATH;
+                case ';':
+                    return PATH_PARAMETER;
+                case '?':
+                    return QUERY;
+                case '&':
+                    return QUERY_CONTINUATION;
+                default:
+                    return null;
+            }
+        }
+    }
+
+    private static final class Expression {
+        private final Operator operator;
+        private final String[] names;
+        private final boolean[] explode;
+        private final int[] prefix;
+
+        private Expression(Operator operator, String[] names, boolean[] explode, int[] prefix) {
+            this.operator = operator;
+            this.names = names;
+            this.explode = explode;
+            this.prefix = prefix;
+        }
+
+        static Expression parse(String template, String expression) {
+            if (expression.isEmpty()) {
+                throw new IllegalArgumentException("Empty expression in URI template " + template);
+            }
+            Operator operator = Operator.of(expression.charAt(0));
+            String variableList = operator == null ? expression : expression.substring(1);
+            String[] varSpecs = variableList.split(",");
+            String[] names = new String[varSpecs.length];
+            boolean[] explode = new boolean[varSpecs.length];
+            int[] prefix = new int[varSpecs.length];
+            for (int i = 0; i < varSpecs.length; i++) {
+                String varSpec = varSpecs[i].trim();
+                prefix[i] = -1;
+                if (varSpec.endsWith("*")) {
+                    explode[i] = true;
+                    varSpec = varSpec.substring(0, varSpec.length() - 1);
+                } else {
+                    int colon = varSpec.indexOf(':');
+                    if (colon >= 0) {
+                        try {
+                            prefix[i] = Integer.parseInt(varSpec.substring(colon + 1));
+                        } catch (NumberFormatException e) {
+                            throw new IllegalArgumentException("Invalid prefix modifier in URI template " + template, e);
+                        }
+                        varSpec = varSpec.substring(0, colon);
+                    }
+                }
+                if (varSpec.isEmpty()) {
+                    throw new IllegalArgumentException("Empty variable name in URI template " + template);
+                }
+                names[i] = varSpec;
+            }
+            return new Expression(operator == null ? Operator.SIMPLE : operator, names, explode, prefix);
+        }
+
+        void expand(Map<String, ?> variables, StringBuilder sb) {
+            boolean first = true;
+            for (int i = 0; i < names.length; i++) {
+                Object value = variables == null ? null : variables.get(names[i]);
+                if (isUndefined(value)) {
+                    continue;
+                }
+                sb.append(first ? operator.first : operator.separator);
+                first = false;
+                if (value instanceof Map) {
+                    expandMap(names[i], (Map<?, ?>) value, explode[i], sb);
+                } else if (value instanceof Collection || value.getClass().isArray()) {
+                    expandList(names[i], toList(value), explode[i], sb);
+                } else {
+                    expandString(names[i], value.toString(), prefix[i], sb);
+                }
+            }
+        }
+
+        private void expandString(String name, String value, int prefix, StringBuilder sb) {
+            if (operator.named) {
+                sb.append(name);
+                if (value.isEmpty()) {
+                    sb.append(operator.ifEmpty);
+                    return;
+                }
+                sb.append('=');
+            }
+            if (prefix >= 0 && prefix < value.codePointCount(0, value.length())) {
+                value = value.substring(0, value.offsetByCodePoints(0, prefix));
+            }
+            encode(value, operator.allowReserved, sb);
+        }
+
+        private void expandList(String name, List<?> values, boolean explode, StringBuilder sb) {
+            if (!explode && operator.named) {
+                sb.append(name).append('=');
+            }
+            boolean first = true;
+            for (Object item : values) {
+                if (!first) {
+                    sb.append(explode ? operator.separator : ",");
+                }
+                first = false;
+                String itemValue = String.valueOf(item);
+                if (explode && operator.named) {
+                    sb.append(name);
+                    if (itemValue.isEmpty()) {
+                        sb.append(operator.ifEmpty);
+                        continue;
+                    }
+                    sb.append('=');
+                }
+                encode(itemValue, operator.allowReserved, sb);
+            }
+        }
+
+        private void expandMap(String name, Map<?, ?> values, boolean explode, StringBuilder sb) {
+            if (!explode && operator.named) {
+                sb.append(name).append('=');
+            }
+            boolean first = true;
+            for (Map.Entry<?, ?> entry : values.entrySet()) {
+                if (!first) {
+                    sb.append(explode ? operator.separator : ",");
+                }
+                first = false;
+                encode(String.valueOf(entry.getKey()), operator.allowReserved, sb);
+                sb.append(explode ? '=' : ',');
+                encode(String.valueOf(entry.getValue()), operator.allowReserved, sb);
+            }
+        }
+
+        private static boolean isUndefined(Object value) {
+            return value == null
+                    || value instanceof Collection && ((Collection<?>) value).isEmpty()
+                    || value instanceof Map && ((Map<?, ?>) value).isEmpty()
+                    || value.getClass().isArray() && Array.getLength(value) == 0;
+        }
+
+        private static List<?> toList(Object value) {
+            if (value instanceof List) {
+                return (List<?>) value;
+            } else if (value instanceof Collection) {
+                return new ArrayList<>((Collection<?>) value);
+            } else {
+                int length = Array.getLength(value);
+                List<Object> result = new ArrayList<>(length);
+                for (int i = 0; i < length; i++) {
+                    result.add(Array.get(value, i));
+                }
+                return result;
+            }
+        }
+    }
+
+    private static void encode(String value, boolean allowReserved, StringBuilder sb) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (isUnreserved(c) || allowReserved && RESERVED.indexOf(c) >= 0) {
+                sb.append(c);
+            } else if (allowReserved && c == '%' && i + 2 < length && isHex(value.charAt(i + 1)) && isHex(value.charAt(i + 2))) {
+                sb.append(c).append(value.charAt(i + 1)).append(value.charAt(i + 2));
+                i += 2;
+            } else if (c < 0x80) {
+                appendEscaped(c, sb);
+            } else {
+                int codePoint = value.codePointAt(i);
+                int charCount = Character.charCount(codePoint);
+                for (byte b : value.substring(i, i + charCount).getBytes(StandardCharsets.UTF_8)) {
+                    appendEscaped(b & 0xFF, sb);
+                }
+                i += charCount - 1;
+            }
+        }
+    }
+
+    private static void appendEscaped(int b, StringBuilder sb) {
+        sb.append('%').append(HEX[b >> 4]).append(HEX[b & 0xF]);
+    }
+
+    private static boolean isUnreserved(char c) {
+        return c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z' || c >= '0' && c <= '9' || c == '-' || c == '.' || c == '_' || c == '~';
+    }
+
+    private static boolean isHex(char c) {
+        return c >= '0' && c <= '9' || c >= 'a' && c <= 'f' || c >= 'A' && c <= 'F';
+    }
+}
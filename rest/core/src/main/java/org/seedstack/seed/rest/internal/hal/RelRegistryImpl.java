@@ -19,13 +19,28 @@ import java.util.Map;
 public class RelRegistryImpl implements RelRegistry {
 
     private final Map<String, Link> linksByRel;
+    private final Map<String, LinkTemplate> linkTemplatesByRel;
 
     public RelRegistryImpl(Map<String, Link> linksByRel) {
+        this(linksByRel, null);
+    }
+
+    public RelRegistryImpl(Map<String, Link> linksByRel, Map<String, LinkTemplate> linkTemplatesByRel) {
         if (linksByRel != null) {
             this.linksByRel = linksByRel;
         } else {
             this.linksByRel = new HashMap<>();
         }
+        if (linkTemplatesByRel != null) {
+            this.linkTemplatesByRel = linkTemplatesByRel;
+        } else {
+            this.linkTemplatesByRel = new HashMap<>();
+            for (Map.Entry<String, Link> linkEntry : this.linksByRel.entrySet()) {
+                // the href of a non-templated link is already expanded, so the raw template is read from a templated copy
+                String template = new Link(linkEntry.getValue()).templated().getHref();
+                this.linkTemplatesByRel.put(linkEntry.getKey(), LinkTemplate.compile(template));
+            }
+        }
     }
 
     @Override
@@ -35,6 +50,19 @@ public class RelRegistryImpl implements RelRegistry {
 
     @Override
     public Link uri(String rel) {
+        return new Link(getLink(rel));
+    }
+
+    @Override
+    public StringBuilder expand(String rel, Map<String, ?> variables, StringBuilder sb) {
+        LinkTemplate linkTemplate = linkTemplatesByRel.get(rel);
+        if (linkTemplate == null) {
+            return RelRegistry.super.expand(rel, variables, sb);
+        }
+        return linkTemplate.expand(variables, sb);
+    }
+
+    private Link getLink(String rel) {
         if (rel == null || rel.equals("")) {
             throw new IllegalArgumentException("rel can't be blank");
         }
@@ -42,6 +70,6 @@ public class RelRegistryImpl implements RelRegistry {
         if (link == null) {
             throw new IllegalArgumentException("Unknown rel " + rel);
         }
-        return new Link(link);
+        return link;
     }
 }
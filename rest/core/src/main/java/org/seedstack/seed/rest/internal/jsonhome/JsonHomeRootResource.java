@@ -9,40 +9,57 @@ package org.seedstack.seed.rest.internal.jsonhome;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.seedstack.seed.rest.internal.RestErrorCode;
+import org.seedstack.seed.rest.internal.RestObjectMapper;
+import org.seedstack.seed.rest.internal.cache.EntityTags;
 import org.seedstack.seed.rest.spi.RootResource;
+import org.seedstack.shed.exception.SeedException;
 
 import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
 import javax.servlet.http.HttpServletRequest;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 
 /**
- * Exposes the JSON-HOME resource on the application root path.
+ * Exposes the JSON-HOME resource on the application root path. As the JSON-HOME document only changes at startup, it
+ * is rendered once, along with its entity tag, and served as is.
  *
  * @author pierre.thirouin@ext.mpsa.com (Pierre Thirouin)
  * @see org.seedstack.seed.rest.internal.jsonhome.JsonHome
  */
+@Singleton
 public class JsonHomeRootResource implements RootResource {
-    private final JsonHome jsonHome;
+    private static final MediaType JSON_TYPE = new MediaType("application", "json");
+    private final byte[] document;
+    private final String etag;
 
     /**
      * Constructor.
      *
-     * @param jsonHome the JSON-HOME resource
+     * @param jsonHome     the JSON-HOME resource
+     * @param objectMapper the object mapper used to render the JSON-HOME resource
+     * @throws SeedException if the JSON-HOME resource cannot be rendered
      */
     @Inject
-    public JsonHomeRootResource(JsonHome jsonHome) {
-        this.jsonHome = jsonHome;
+    public JsonHomeRootResource(JsonHome jsonHome, @Named(RestObjectMapper.NAME) ObjectMapper objectMapper) {
+        try {
+            this.document = objectMapper.writeValueAsBytes(jsonHome);
+        } catch (JsonProcessingException e) {
+            throw SeedException.wrap(e, RestErrorCode.UNABLE_TO_RENDER_JSON_HOME);
+        }
+        this.etag = EntityTags.of(document, false);
     }
 
     @Override
     public Response buildResponse(HttpServletRequest httpServletRequest, UriInfo uriInfo) {
-        final ObjectMapper mapper = new ObjectMapper();
-        try {
-            return Response.ok(mapper.writeValueAsString(jsonHome)).type(new MediaType("application", "json")).build();
-        } catch (JsonProcessingException e) {
-            return Response.status(Response.Status.INTERNAL_SERVER_ERROR).entity("Error processing JSON-HOME").type(MediaType.TEXT_PLAIN).build();
+        if (EntityTags.matches(httpServletRequest.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            return Response.notModified().header(HttpHeaders.ETAG, etag).build();
+        } else {
+            return Response.ok(document).type(JSON_TYPE).header(HttpHeaders.ETAG, etag).build();
         }
     }
 }
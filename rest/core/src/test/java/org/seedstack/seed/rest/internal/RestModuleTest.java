@@ -48,7 +48,7 @@ public class RestModuleTest {
     public void setUp() throws Exception {
         Collection<Class<?>> resources = Lists.newArrayList(MyResource1.class, MyResource2.class);
         Collection<Class<?>> providers = Lists.newArrayList(MyProvider1.class, MyProvider2.class);
-        underTest = new RestModule(restConfig, resources, providers, new HashMap<>());
+        underTest = new RestModule(restConfig, resources, providers, new HashMap<>(), null);
     }
 
     @Test
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import org.junit.Test;
+import org.seedstack.seed.rest.CacheControl;
+import org.seedstack.seed.rest.CachePolicy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheControlFeatureTest {
+    @Test
+    public void method_annotation_takes_precedence_over_class_annotation() throws Exception {
+        assertThat(CacheControlFeature.resolveCacheControl(Fixture.class.getMethod("privateMethod"), Fixture.class).value()).isEqualTo(CachePolicy.PRIVATE);
+        assertThat(CacheControlFeature.resolveCacheControl(Fixture.class.getMethod("notAnnotatedMethod"), Fixture.class).value()).isEqualTo(CachePolicy.PUBLIC);
+        assertThat(CacheControlFeature.resolveCacheControl(Object.class.getMethod("toString"), Object.class)).isNull();
+    }
+
+    @Test
+    public void cache_control_header_is_built_from_annotation() throws Exception {
+        assertThat(CacheControlFeature.buildCacheControl(Fixture.class.getAnnotation(CacheControl.class)))
+                .isEqualTo("public, max-age=60, s-maxage=600, stale-while-revalidate=30");
+        assertThat(CacheControlFeature.buildCacheControl(Fixture.class.getMethod("privateMethod").getAnnotation(CacheControl.class)))
+                .isEqualTo("private, max-age=10, must-revalidate");
+    }
+
+    @CacheControl(value = CachePolicy.PUBLIC, maxAge = 60, sMaxAge = 600, staleWhileRevalidate = 30)
+    public static class Fixture {
+        @CacheControl(value = CachePolicy.PRIVATE, maxAge = 10, sMaxAge = 600, mustRevalidate = true)
+        public void privateMethod() {
+        }
+
+        public void notAnnotatedMethod() {
+        }
+    }
+}
@@ -0,0 +1,29 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class EntityTagsTest {
+    @Test
+    public void entity_tags_are_quoted() {
+        assertThat(EntityTags.of("hello".getBytes(), false)).startsWith("\"").endsWith("\"");
+        assertThat(EntityTags.of("hello".getBytes(), true)).isEqualTo("W/" + EntityTags.of("hello".getBytes(), false));
+    }
+
+    @Test
+    public void if_none_match_uses_weak_comparison() {
+        assertThat(EntityTags.matches(null, "W/\"abc\"")).isFalse();
+        assertThat(EntityTags.matches("\"abc\"", "W/\"abc\"")).isTrue();
+        assertThat(EntityTags.matches("\"def\", W/\"abc\"", "W/\"abc\"")).isTrue();
+        assertThat(EntityTags.matches("*", "W/\"abc\"")).isTrue();
+        assertThat(EntityTags.matches("W/\"def\"", "W/\"abc\"")).isFalse();
+    }
+}
@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import org.junit.Test;
+import org.seedstack.seed.security.RequiresPermissions;
+import org.seedstack.seed.security.RequiresRoles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseCacheFeatureTest {
+    @Test
+    public void methods_secured_directly_or_through_their_class_are_detected() throws Exception {
+        assertThat(ResponseCacheFeature.isSecured(Fixture.class.getMethod("securedMethod"), Fixture.class)).isTrue();
+        assertThat(ResponseCacheFeature.isSecured(Fixture.class.getMethod("publicMethod"), Fixture.class)).isFalse();
+        assertThat(ResponseCacheFeature.isSecured(SecuredFixture.class.getMethod("method"), SecuredFixture.class)).isTrue();
+    }
+
+    public static class Fixture {
+        @RequiresPermissions("fixture:read")
+        public void securedMethod() {
+        }
+
+        public void publicMethod() {
+        }
+    }
+
+    @RequiresRoles("admin")
+    public static class SecuredFixture {
+        public void method() {
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.cache;
+
+import org.junit.Test;
+import org.seedstack.seed.rest.RestConfig;
+
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ResponseCacheTest {
+    @Test
+    public void cached_responses_are_restored() {
+        ResponseCache underTest = new ResponseCache(new RestConfig.ResponseCacheConfig());
+        underTest.put("key", cachedResponse("hello".getBytes(), TimeUnit.MINUTES.toNanos(1)));
+
+        Response response = underTest.get("key").toResponse();
+        assertThat(response.getStatus()).isEqualTo(200);
+        assertThat(response.getEntity()).isEqualTo("hello".getBytes());
+        assertThat(response.getMediaType()).isEqualTo(MediaType.TEXT_PLAIN_TYPE);
+        assertThat(response.getHeaderString("X-Test")).isEqualTo("value");
+        assertThat(underTest.get("other")).isNull();
+        assertThat(underTest.getHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void hit_ratio_is_zero_without_lookups() {
+        assertThat(new ResponseCache(new RestConfig.ResponseCacheConfig()).getHitRatio()).isEqualTo(0d);
+    }
+
+    @Test
+    public void expired_responses_are_discarded() {
+        ResponseCache underTest = new ResponseCache(new RestConfig.ResponseCacheConfig());
+        underTest.put("key", cachedResponse("hello".getBytes(), 0));
+
+        assertThat(underTest.get("key")).isNull();
+        assertThat(underTest.getSize()).isEqualTo(0);
+        assertThat(underTest.getFootprint()).isEqualTo(0);
+    }
+
+    @Test
+    public void cache_is_bounded_by_footprint() {
+        ResponseCache underTest = new ResponseCache(new RestConfig.ResponseCacheConfig().setMaxSize(10000));
+        for (int i = 0; i < 100; i++) {
+            underTest.put("key" + i, cachedResponse(new byte[1000], TimeUnit.MINUTES.toNanos(1)));
+        }
+
+        assertThat(underTest.getSize()).isLessThan(10);
+        assertThat(underTest.getFootprint()).isLessThanOrEqualTo(10000);
+        underTest.invalidateAll();
+        assertThat(underTest.getFootprint()).isEqualTo(0);
+    }
+
+    private CachedResponse cachedResponse(byte[] data, long ttlNanos) {
+        return new CachedResponse(
+                data,
+                MediaType.TEXT_PLAIN_TYPE,
+                Collections.singletonMap("X-Test", Collections.singletonList("value")),
+                System.nanoTime() + ttlNanos,
+                "key"
+        );
+    }
+}
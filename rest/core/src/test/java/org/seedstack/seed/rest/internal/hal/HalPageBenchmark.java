@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.hal;
+
+import com.google.common.io.ByteStreams;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.seedstack.seed.rest.RelRegistry;
+import org.seedstack.seed.rest.hal.HalBuilder;
+import org.seedstack.seed.rest.hal.HalRepresentation;
+import org.seedstack.seed.rest.hal.Link;
+import org.seedstack.seed.rest.internal.RestObjectMapper;
+import org.seedstack.seed.rest.internal.hal.fixture.OrderRepresentation;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building and serializing a HAL page of 1000 orders with three links each, with links created through
+ * {@link RelRegistry#uri(String)} compared to hrefs expanded through
+ * {@link RelRegistry#expand(String, Map, StringBuilder)}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HalPageBenchmark {
+    private static final int PAGE_SIZE = 1000;
+    private RelRegistry relRegistry;
+    private HalMessageBodyWriter halMessageBodyWriter;
+
+    @Setup
+    public void setup() {
+        Map<String, Link> links = new HashMap<>();
+        links.put("order", new Link("/app/rest/orders/{id}"));
+        links.put("customer", new Link("/app/rest/customers/{id}"));
+        links.put("orders", new Link("/app/rest/orders{?page,size}"));
+        relRegistry = new RelRegistryImpl(links);
+        halMessageBodyWriter = new HalMessageBodyWriter(RestObjectMapper.create());
+    }
+
+    @Benchmark
+    public HalRepresentation buildWithLinks() throws IOException {
+        List<HalRepresentation> orders = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            orders.add(HalBuilder.create(new OrderRepresentation(i, "USD", "shipped"))
+                    .self(relRegistry.uri("order").set("id", i))
+                    .link("customer", relRegistry.uri("customer").set("id", i % 50))
+                    .link("orders", relRegistry.uri("orders").set("page", i / 20).set("size", 20)));
+        }
+        return write(new HalRepresentation().self(relRegistry.uri("orders").set("page", 0)).embedded("orders", orders));
+    }
+
+    @Benchmark
+    public HalRepresentation buildWithExpand() throws IOException {
+        StringBuilder sb = new StringBuilder(64);
+        Map<String, Object> variables = new HashMap<>();
+        List<HalRepresentation> orders = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            variables.put("id", i);
+            String self = expand("order", variables, sb);
+            variables.put("id", i % 50);
+            String customer = expand("customer", variables, sb);
+            variables.clear();
+            variables.put("page", i / 20);
+            variables.put("size", 20);
+            String page = expand("orders", variables, sb);
+            variables.clear();
+            orders.add(HalBuilder.create(new OrderRepresentation(i, "USD", "shipped"))
+                    .self(self)
+                    .link("customer", customer)
+                    .link("orders", page));
+        }
+        variables.put("page", 0);
+        return write(new HalRepresentation().self(expand("orders", variables, sb)).embedded("orders", orders));
+    }
+
+    private String expand(String rel, Map<String, Object> variables, StringBuilder sb) {
+        sb.setLength(0);
+        return relRegistry.expand(rel, variables, sb).toString();
+    }
+
+    private HalRepresentation write(HalRepresentation halRepresentation) throws IOException {
+        halMessageBodyWriter.writeTo(halRepresentation, HalRepresentation.class, null, null, null, null, ByteStreams.nullOutputStream());
+        return halRepresentation;
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+                .include(HalPageBenchmark.class.getSimpleName())
+                .build();
+        new Runner(options).run();
+    }
+}
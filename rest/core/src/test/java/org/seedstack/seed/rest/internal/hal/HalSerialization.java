@@ -10,6 +10,7 @@ package org.seedstack.seed.rest.internal.hal;
 import org.json.JSONException;
 import org.junit.Test;
 import org.seedstack.seed.rest.hal.HalRepresentation;
+import org.seedstack.seed.rest.internal.RestObjectMapper;
 import org.seedstack.seed.rest.internal.hal.fixture.RepresentationFactory;
 import org.skyscreamer.jsonassert.JSONAssert;
 
@@ -30,7 +31,7 @@ public class HalSerialization {
     @Test
     public void hal_body_writer() throws IOException, JSONException {
         HalRepresentation halRep = new RepresentationFactory().createOrders();
-        HalMessageBodyWriter halMessageBodyWriter = new HalMessageBodyWriter();
+        HalMessageBodyWriter halMessageBodyWriter = new HalMessageBodyWriter(RestObjectMapper.create());
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
 
         halMessageBodyWriter.writeTo(halRep, HalRepresentation.class, null, null, null, null, baos);
@@ -0,0 +1,127 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.hal;
+
+import org.junit.Test;
+import org.seedstack.seed.rest.RelRegistry;
+import org.seedstack.seed.rest.hal.Link;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class LinkTemplateTest {
+    private final Map<String, Object> variables = new HashMap<>();
+
+    {
+        Map<String, String> keys = new LinkedHashMap<>();
+        keys.put("semi", ";");
+        keys.put("dot", ".");
+        keys.put("comma", ",");
+        variables.put("var", "value");
+        variables.put("hello", "Hello World!");
+        variables.put("path", "/foo/bar");
+        variables.put("list", Arrays.asList("red", "green", "blue"));
+        variables.put("keys", keys);
+        variables.put("x", "1024");
+        variables.put("y", "768");
+        variables.put("empty", "");
+    }
+
+    @Test
+    public void simple_and_reserved_expansion() {
+        assertExpansion("{var}", "value");
+        assertExpansion("{hello}", "Hello%20World%21");
+        assertExpansion("{+hello}", "Hello%20World!");
+        assertExpansion("{+path}/here", "/foo/bar/here");
+        assertExpansion("{#path,x}/here", "#/foo/bar,1024/here");
+        assertExpansion("{var:3}", "val");
+        assertExpansion("/a/{undef}{?undef}", "/a/");
+    }
+
+    @Test
+    public void operator_expansion() {
+        assertExpansion("X{.var}", "X.value");
+        assertExpansion("{/var,x}/here", "/value/1024/here");
+        assertExpansion("{;x,y,empty}", ";x=1024;y=768;empty");
+        assertExpansion("{?x,y,empty}", "?x=1024&y=768&empty=");
+        assertExpansion("?fixed=yes{&x}", "?fixed=yes&x=1024");
+    }
+
+    @Test
+    public void list_and_map_expansion() {
+        assertExpansion("{/list*}", "/red/green/blue");
+        assertExpansion("{?list}", "?list=red,green,blue");
+        assertExpansion("{?list*}", "?list=red&list=green&list=blue");
+        assertExpansion("{keys}", "semi,%3B,dot,.,comma,%2C");
+        assertExpansion("{;keys*}", ";semi=%3B;dot=.;comma=%2C");
+    }
+
+    @Test
+    public void non_ascii_values_are_utf8_encoded() {
+        variables.put("var", "é");
+        assertExpansion("{var}", "%C3%A9");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void malformed_templates_are_rejected() {
+        LinkTemplate.compile("/orders/{id");
+    }
+
+    @Test
+    public void registry_expansion_matches_links() {
+        Map<String, Link> links = new HashMap<>();
+        links.put("order", new Link("/rest/orders/{id}{?page}"));
+        RelRegistryImpl relRegistry = new RelRegistryImpl(links);
+        Map<String, Object> orderVariables = new HashMap<>();
+        orderVariables.put("id", 12);
+        orderVariables.put("page", 2);
+
+        StringBuilder sb = new StringBuilder("prefix:");
+        assertThat(relRegistry.expand("order", orderVariables, sb).toString()).isEqualTo("prefix:/rest/orders/12?page=2");
+        assertThat(relRegistry.expand("order", orderVariables)).isEqualTo(relRegistry.uri("order").set("id", 12).set("page", 2).getHref());
+    }
+
+    @Test
+    public void null_variables_are_undefined() {
+        Map<String, Link> links = new HashMap<>();
+        links.put("order", new Link("/rest/orders/{id}{?page}"));
+        RelRegistryImpl relRegistry = new RelRegistryImpl(links);
+        Map<String, Object> orderVariables = new HashMap<>();
+        orderVariables.put("id", 12);
+        orderVariables.put("page", null);
+
+        assertThat(relRegistry.expand("order", orderVariables)).isEqualTo("/rest/orders/12");
+        assertThat(new DefaultRelRegistry(relRegistry).expand("order", orderVariables)).isEqualTo("/rest/orders/12");
+    }
+
+    private void assertExpansion(String template, String expected) {
+        assertThat(LinkTemplate.compile(template).expand(variables, new StringBuilder()).toString()).isEqualTo(expected);
+    }
+
+    private static class DefaultRelRegistry implements RelRegistry {
+        private final RelRegistry delegate;
+
+        private DefaultRelRegistry(RelRegistry delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public String href(String rel) {
+            return delegate.href(rel);
+        }
+
+        @Override
+        public Link uri(String rel) {
+            return delegate.uri(rel);
+        }
+    }
+}
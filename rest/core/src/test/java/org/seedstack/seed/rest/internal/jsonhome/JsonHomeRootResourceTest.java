@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.internal.jsonhome;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.seedstack.seed.rest.internal.RestErrorCode;
+import org.seedstack.shed.exception.SeedException;
+
+import java.util.HashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.fail;
+
+public class JsonHomeRootResourceTest {
+    @Test
+    public void rendering_failure_is_reported_at_construction() throws JsonProcessingException {
+        ObjectMapper objectMapper = Mockito.mock(ObjectMapper.class);
+        JsonHome jsonHome = new JsonHome(new HashMap<String, Resource>());
+        Mockito.when(objectMapper.writeValueAsBytes(jsonHome)).thenThrow(new JsonMappingException("boom"));
+
+        try {
+            new JsonHomeRootResource(jsonHome, objectMapper);
+            fail("should have thrown a SeedException");
+        } catch (SeedException e) {
+            assertThat(e.getErrorCode()).isEqualTo(RestErrorCode.UNABLE_TO_RENDER_JSON_HOME);
+            assertThat(e.getCause()).isInstanceOf(JsonMappingException.class);
+        }
+    }
+}
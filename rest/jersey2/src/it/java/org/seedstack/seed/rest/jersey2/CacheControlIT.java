@@ -0,0 +1,67 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.jersey2;
+
+import com.jayway.restassured.response.Response;
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.seedstack.seed.it.AbstractSeedWebIT;
+
+import java.net.URL;
+
+import static com.jayway.restassured.RestAssured.expect;
+import static com.jayway.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class CacheControlIT extends AbstractSeedWebIT {
+    @ArquillianResource
+    private URL baseURL;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @RunAsClient
+    @Test
+    public void public_policy_sets_cache_control_and_etag() {
+        Response response = expect().statusCode(200).when().get(baseURL.toString() + "cached");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("public, max-age=60, stale-while-revalidate=30");
+        assertThat(response.getHeader("ETag")).startsWith("W/\"");
+        assertThat(response.asString()).contains("cached");
+    }
+
+    @RunAsClient
+    @Test
+    public void matching_etag_returns_not_modified() {
+        String etag = expect().statusCode(200).when().get(baseURL.toString() + "cached").getHeader("ETag");
+        Response response = given().header("If-None-Match", etag).expect().statusCode(304).when().get(baseURL.toString() + "cached");
+        assertThat(response.asString()).isEmpty();
+        given().header("If-None-Match", "W/\"other\"").expect().statusCode(200).when().get(baseURL.toString() + "cached");
+    }
+
+    @RunAsClient
+    @Test
+    public void method_policy_overrides_class_policy() {
+        Response response = expect().statusCode(200).when().get(baseURL.toString() + "cached/private");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("private, max-age=10");
+        assertThat(response.asString()).isEqualTo("private");
+    }
+
+    @RunAsClient
+    @Test
+    public void no_cache_policy() {
+        Response response = expect().statusCode(200).when().get(baseURL.toString() + "cached/none");
+        assertThat(response.getHeader("Cache-Control")).isEqualTo("no-cache, no-store, must-revalidate");
+        assertThat(response.getHeader("ETag")).isNull();
+    }
+}
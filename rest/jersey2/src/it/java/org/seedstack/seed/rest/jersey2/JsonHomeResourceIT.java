@@ -22,6 +22,8 @@ import javax.ws.rs.core.HttpHeaders;
 import java.net.URL;
 
 import static com.jayway.restassured.RestAssured.expect;
+import static com.jayway.restassured.RestAssured.given;
+import static org.assertj.core.api.Assertions.assertThat;
 
 /**
  * @author pierre.thirouin@ext.mpsa.com (Pierre Thirouin)
@@ -46,4 +48,16 @@ public class JsonHomeResourceIT extends AbstractSeedWebIT {
 
         JSONAssert.assertEquals(expectedBody, response.asString(), false);
     }
-}
\ No newline at end of file
+
+    @RunAsClient
+    @Test
+    public void json_home_is_revalidated_with_etag() {
+        String etag = expect().statusCode(200).given().header(HttpHeaders.ACCEPT, "application/json")
+                .get(baseURL.toString()).getHeader(HttpHeaders.ETAG);
+        assertThat(etag).isNotEmpty();
+
+        given().header(HttpHeaders.ACCEPT, "application/json").header(HttpHeaders.IF_NONE_MATCH, etag)
+                .expect().statusCode(304)
+                .when().get(baseURL.toString());
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.jersey2;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.seedstack.seed.it.AbstractSeedWebIT;
+
+import java.net.URL;
+
+import static com.jayway.restassured.RestAssured.expect;
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ServerCacheIT extends AbstractSeedWebIT {
+    @ArquillianResource
+    private URL baseURL;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap.create(WebArchive.class);
+    }
+
+    @RunAsClient
+    @Test
+    public void cached_responses_bypass_resource_invocation() {
+        String first = expect().statusCode(200).when().get(baseURL.toString() + "server-cached?q=a").asString();
+        String second = expect().statusCode(200).when().get(baseURL.toString() + "server-cached?q=a").asString();
+        String other = expect().statusCode(200).when().get(baseURL.toString() + "server-cached?q=b").asString();
+
+        assertThat(first).startsWith("a:");
+        assertThat(second).isEqualTo(first);
+        assertThat(other).startsWith("b:");
+    }
+
+    @RunAsClient
+    @Test
+    public void resources_without_annotation_are_not_cached() {
+        String first = expect().statusCode(200).when().get(baseURL.toString() + "server-cached/uncached").asString();
+        String second = expect().statusCode(200).when().get(baseURL.toString() + "server-cached/uncached").asString();
+
+        assertThat(second).isNotEqualTo(first);
+    }
+}
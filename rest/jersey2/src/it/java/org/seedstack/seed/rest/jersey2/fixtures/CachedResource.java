@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.jersey2.fixtures;
+
+import org.seedstack.seed.rest.CacheControl;
+import org.seedstack.seed.rest.CachePolicy;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+@Path("cached")
+@CacheControl(value = CachePolicy.PUBLIC, maxAge = 60, staleWhileRevalidate = 30)
+public class CachedResource {
+    @GET
+    @Produces(MediaType.APPLICATION_JSON)
+    public Message get() {
+        return new Message("cached", "computer");
+    }
+
+    @GET
+    @Path("private")
+    @CacheControl(value = CachePolicy.PRIVATE, maxAge = 10)
+    public String getPrivate() {
+        return "private";
+    }
+
+    @GET
+    @Path("none")
+    @CacheControl(CachePolicy.NO_CACHE)
+    public String getNone() {
+        return "none";
+    }
+}
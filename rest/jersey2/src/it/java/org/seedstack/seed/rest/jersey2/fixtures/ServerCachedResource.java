@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest.jersey2.fixtures;
+
+import org.seedstack.seed.rest.ServerCache;
+
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@Path("server-cached")
+public class ServerCachedResource {
+    private static final AtomicInteger invocations = new AtomicInteger();
+
+    @GET
+    @ServerCache
+    public String get(@QueryParam("q") String query) {
+        return query + ":" + invocations.incrementAndGet();
+    }
+
+    @GET
+    @Path("uncached")
+    public String getUncached() {
+        return "uncached:" + invocations.incrementAndGet();
+    }
+}
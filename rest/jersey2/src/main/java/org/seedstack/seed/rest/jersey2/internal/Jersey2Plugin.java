@@ -90,7 +90,7 @@ public class Jersey2Plugin extends AbstractPlugin implements WebProvider {
             jersey2filterDefinition.addMappings(new FilterDefinition.Mapping(restConfig.getPath() + "/*"));
             jersey2filterDefinition.addInitParameters(buildInitParams(jersey2Properties));
 
-            seedServletContainer = new SeedServletContainer(resources, providers, enabledFeatures, jersey2Properties);
+            seedServletContainer = new SeedServletContainer(resources, providers, enabledFeatures, jersey2Properties, restPlugin.getResponseCache());
 
             LOGGER.info("Jersey 2 serving JAX-RS resources on {}/*", restConfig.getPath());
         }
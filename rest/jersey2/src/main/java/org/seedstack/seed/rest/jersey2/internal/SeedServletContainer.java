@@ -9,20 +9,25 @@ package org.seedstack.seed.rest.jersey2.internal;
 
 import org.glassfish.jersey.server.ResourceConfig;
 import org.glassfish.jersey.servlet.ServletContainer;
+import org.seedstack.seed.rest.internal.cache.ResponseCache;
+import org.seedstack.seed.rest.internal.cache.ResponseCacheFeature;
 
 import java.util.Map;
 import java.util.Set;
 
 class SeedServletContainer extends ServletContainer {
-    SeedServletContainer(Set<Class<?>> resources, Set<Class<?>> providers, Set<Class<?>> features, Map<String, ?> properties) {
-        super(new InternalResourceConfig(resources, providers, features, properties));
+    SeedServletContainer(Set<Class<?>> resources, Set<Class<?>> providers, Set<Class<?>> features, Map<String, ?> properties, ResponseCache responseCache) {
+        super(new InternalResourceConfig(resources, providers, features, properties, responseCache));
     }
 
     static private class InternalResourceConfig extends ResourceConfig {
-        public InternalResourceConfig(Set<Class<?>> resources, Set<Class<?>> providers, Set<Class<?>> features, Map<String, ?> properties) {
+        public InternalResourceConfig(Set<Class<?>> resources, Set<Class<?>> providers, Set<Class<?>> features, Map<String, ?> properties, ResponseCache responseCache) {
             registerClasses(resources);
             registerClasses(providers);
             registerClasses(features);
+            if (responseCache != null) {
+                register(new ResponseCacheFeature(responseCache));
+            }
             setProperties(properties);
         }
     }
@@ -13,7 +13,13 @@ import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
 
 /**
- * This annotation marks a resource class or method to have a specific caching policy.
+ * This annotation marks a resource class or method to have a specific caching policy. An annotation on a method takes
+ * precedence over an annotation on its class. Policies are resolved once per resource method at startup.
+ *
+ * <p>With {@link CachePolicy#PUBLIC} or {@link CachePolicy#PRIVATE} policies, successful GET and HEAD responses carry a
+ * <code>Cache-Control</code> header built from the attributes of this annotation and, unless disabled, a weak ETag
+ * computed from the response entity. A request whose <code>If-None-Match</code> header matches this ETag receives a
+ * <code>304 Not Modified</code> response without entity.</p>
  *
  * @author adrien.lauer@mpsa.com
  */
@@ -24,4 +30,31 @@ public @interface CacheControl {
      * @return the cache policy value.
      */
     CachePolicy value() default CachePolicy.CUSTOM;
-}
\ No newline at end of file
+
+    /**
+     * @return the maximum age of the response in seconds (<code>max-age</code> directive), -1 if not specified.
+     */
+    int maxAge() default -1;
+
+    /**
+     * @return the maximum age of the response in shared caches in seconds (<code>s-maxage</code> directive), -1 if not
+     * specified. Ignored with the {@link CachePolicy#PRIVATE} policy.
+     */
+    int sMaxAge() default -1;
+
+    /**
+     * @return the time in seconds during which a stale response can be served while it is revalidated in the
+     * background (<code>stale-while-revalidate</code> directive), -1 if not specified.
+     */
+    int staleWhileRevalidate() default -1;
+
+    /**
+     * @return true if caches must revalidate the response once stale (<code>must-revalidate</code> directive).
+     */
+    boolean mustRevalidate() default false;
+
+    /**
+     * @return true if a weak ETag must be computed from the response entity, false otherwise.
+     */
+    boolean eTag() default true;
+}
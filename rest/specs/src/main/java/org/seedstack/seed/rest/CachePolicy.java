@@ -18,6 +18,18 @@ public enum CachePolicy {
      */
     NO_CACHE,
 
+    /**
+     * The response can be stored by any cache, including shared caches. Expiration and revalidation directives are
+     * specified by the {@link CacheControl} annotation attributes.
+     */
+    PUBLIC,
+
+    /**
+     * The response can only be stored by the client cache, not by shared caches. Expiration and revalidation directives
+     * are specified by the {@link CacheControl} annotation attributes.
+     */
+    PRIVATE,
+
     /**
      * The response cache attributes are left untouched and may be set by applicative code.
      */
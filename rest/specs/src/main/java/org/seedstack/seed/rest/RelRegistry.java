@@ -10,6 +10,8 @@ package org.seedstack.seed.rest;
 import org.seedstack.seed.rest.hal.HalBuilder;
 import org.seedstack.seed.rest.hal.Link;
 
+import java.util.Map;
+
 /**
  * A registry which can provide href or HAL link associated to a given relation type.
  * It avoids you to duplicate href over the application.
@@ -36,4 +38,39 @@ public interface RelRegistry {
      * @return a link or null if the rel is not found
      */
     Link uri(String rel);
+
+    /**
+     * Expands the href template associated to a rel with the specified variables and appends the result to the
+     * specified builder. Unlike {@link #uri(String)}, no link is created: the template is compiled once at startup and
+     * the builder can be reused across calls, which makes this method suitable for building many links. Variables
+     * with a null value are treated as undefined.
+     *
+     * @param rel       the relation type
+     * @param variables the template variable values by name
+     * @param sb        the builder to append the expanded href to
+     * @return the builder
+     */
+    default StringBuilder expand(String rel, Map<String, ?> variables, StringBuilder sb) {
+        Link link = uri(rel);
+        if (variables != null) {
+            for (Map.Entry<String, ?> variable : variables.entrySet()) {
+                if (variable.getValue() != null) {
+                    link.set(variable.getKey(), variable.getValue());
+                }
+            }
+        }
+        return sb.append(link.getHref());
+    }
+
+    /**
+     * Expands the href template associated to a rel with the specified variables.
+     *
+     * @param rel       the relation type
+     * @param variables the template variable values by name
+     * @return the expanded href
+     * @see #expand(String, Map, StringBuilder)
+     */
+    default String expand(String rel, Map<String, ?> variables) {
+        return expand(rel, variables, new StringBuilder()).toString();
+    }
 }
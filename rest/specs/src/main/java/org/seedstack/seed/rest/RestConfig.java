@@ -27,6 +27,7 @@ public class RestConfig {
     private Map<String, String> jerseyProperties = new HashMap<>();
     private Set<Class<?>> features = new HashSet<>();
     private ExceptionMappingConfig exceptionMapping = new ExceptionMappingConfig();
+    private ResponseCacheConfig responseCache = new ResponseCacheConfig();
 
     public String getPath() {
         return path;
@@ -60,6 +61,10 @@ public class RestConfig {
         return exceptionMapping;
     }
 
+    public ResponseCacheConfig responseCache() {
+        return responseCache;
+    }
+
     @Config("exceptionMapping")
     public static class ExceptionMappingConfig {
         private boolean security = true;
@@ -73,4 +78,60 @@ public class RestConfig {
             return all;
         }
     }
+
+    @Config("responseCache")
+    public static class ResponseCacheConfig {
+        private static final long DEFAULT_MAX_SIZE = 10 * 1024 * 1024;
+        private static final int DEFAULT_TTL = 60;
+        private boolean enabled = true;
+        private long maxSize = DEFAULT_MAX_SIZE;
+        private int ttl = DEFAULT_TTL;
+        private Set<String> headers = new HashSet<>();
+        private boolean principal = true;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public ResponseCacheConfig setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        public ResponseCacheConfig setMaxSize(long maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public int getTtl() {
+            return ttl;
+        }
+
+        public ResponseCacheConfig setTtl(int ttl) {
+            this.ttl = ttl;
+            return this;
+        }
+
+        public Set<String> getHeaders() {
+            return Collections.unmodifiableSet(headers);
+        }
+
+        public ResponseCacheConfig addHeader(String header) {
+            this.headers.add(header);
+            return this;
+        }
+
+        public boolean isPrincipal() {
+            return principal;
+        }
+
+        public ResponseCacheConfig setPrincipal(boolean principal) {
+            this.principal = principal;
+            return this;
+        }
+    }
 }
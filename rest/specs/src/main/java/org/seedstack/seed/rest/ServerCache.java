@@ -0,0 +1,35 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.rest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation marks a GET resource method (or all GET methods of a resource class) as cacheable on the server. The
+ * serialized responses of such methods are stored in an in-process cache, keyed by request path and query, by the
+ * negotiation headers (<code>Accept</code>, <code>Accept-Language</code> and <code>Accept-Encoding</code>), by the
+ * additional headers specified in configuration and, unless disabled, by the name of the current principal. A cache
+ * hit is served without invoking the resource method nor its message body writer.
+ *
+ * <p>Security checks are bypassed on cache hits. The principal is therefore always part of the cache key of methods
+ * secured with {@code RequiresRoles} or {@code RequiresPermissions} (directly or through their class). It should be
+ * kept in the cache key for other resources whose content depends on the current user.</p>
+ *
+ * @see RestConfig.ResponseCacheConfig
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface ServerCache {
+    /**
+     * @return the time-to-live of cached responses in seconds, -1 to use the configured default.
+     */
+    int ttl() default -1;
+}
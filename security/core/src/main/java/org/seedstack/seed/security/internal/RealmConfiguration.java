@@ -21,6 +21,8 @@ class RealmConfiguration {
 
     private Class<? extends RolePermissionResolver> rolePermissionResolverClass;
 
+    private boolean authorizationCacheEnabled = true;
+
     RealmConfiguration(String name, Class<? extends Realm> realmClass) {
         this.name = name;
         this.realmClass = realmClass;
@@ -42,6 +44,14 @@ class RealmConfiguration {
         this.rolePermissionResolverClass = rolePermissionResolverClass;
     }
 
+    boolean isAuthorizationCacheEnabled() {
+        return authorizationCacheEnabled;
+    }
+
+    void setAuthorizationCacheEnabled(boolean authorizationCacheEnabled) {
+        this.authorizationCacheEnabled = authorizationCacheEnabled;
+    }
+
     String getName() {
         return name;
     }
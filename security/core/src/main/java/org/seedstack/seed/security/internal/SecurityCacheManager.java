@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import org.apache.shiro.cache.Cache;
+import org.apache.shiro.cache.CacheException;
+import org.apache.shiro.cache.CacheManager;
+import org.seedstack.seed.DiagnosticManager;
+import org.seedstack.seed.security.SecurityConfig;
+
+import javax.inject.Inject;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Shiro cache manager backed by bounded concurrent caches, configured by {@link SecurityConfig.CacheConfig}. Caches
+ * are never evicted under GC pressure, only by size, by expiration or by explicit invalidation. Their statistics are
+ * reported through the diagnostic manager.
+ */
+class SecurityCacheManager implements CacheManager {
+    private final ConcurrentMap<String, SecurityCache<?, ?>> caches = new ConcurrentHashMap<>();
+    private final SecurityConfig.CacheConfig cacheConfig;
+
+    SecurityCacheManager(SecurityConfig.CacheConfig cacheConfig) {
+        this.cacheConfig = cacheConfig;
+    }
+
+    @Inject
+    void registerDiagnosticInfoCollector(DiagnosticManager diagnosticManager) {
+        diagnosticManager.registerDiagnosticInfoCollector("security", this::collectStatistics);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <K, V> Cache<K, V> getCache(String name) throws CacheException {
+        return (Cache<K, V>) caches.computeIfAbsent(name, key -> new SecurityCache<>(createCache()));
+    }
+
+    private <K, V> com.google.common.cache.Cache<K, V> createCache() {
+        CacheBuilder<Object, Object> cacheBuilder = CacheBuilder.newBuilder()
+                .maximumSize(cacheConfig.getMaxSize())
+                .concurrencyLevel(cacheConfig.getConcurrencyLevel())
+                .recordStats();
+        if (cacheConfig.getExpireAfterWrite() > 0) {
+            cacheBuilder.expireAfterWrite(cacheConfig.getExpireAfterWrite(), TimeUnit.SECONDS);
+        }
+        return cacheBuilder.build();
+    }
+
+    private Map<String, Object> collectStatistics() {
+        Map<String, Object> result = new HashMap<>();
+        for (Map.Entry<String, SecurityCache<?, ?>> entry : caches.entrySet()) {
+            com.google.common.cache.Cache<?, ?> cache = entry.getValue().cache;
+            CacheStats stats = cache.stats();
+            Map<String, Object> cacheInfo = new HashMap<>();
+            cacheInfo.put("size", cache.size());
+            cacheInfo.put("hits", stats.hitCount());
+            cacheInfo.put("misses", stats.missCount());
+            cacheInfo.put("evictions", stats.evictionCount());
+            cacheInfo.put("hit-rate", stats.hitRate());
+            result.put(entry.getKey(), cacheInfo);
+        }
+        return result;
+    }
+
+    private static class SecurityCache<K, V> implements Cache<K, V> {
+        private final com.google.common.cache.Cache<K, V> cache;
+
+        private SecurityCache(com.google.common.cache.Cache<K, V> cache) {
+            this.cache = cache;
+        }
+
+        @Override
+        public V get(K key) throws CacheException {
+            return key == null ? null : cache.getIfPresent(key);
+        }
+
+        @Override
+        public V put(K key, V value) throws CacheException {
+            return cache.asMap().put(key, value);
+        }
+
+        @Override
+        public V remove(K key) throws CacheException {
+            return cache.asMap().remove(key);
+        }
+
+        @Override
+        public void clear() throws CacheException {
+            cache.invalidateAll();
+        }
+
+        @Override
+        public int size() {
+            return (int) cache.size();
+        }
+
+        @Override
+        public Set<K> keys() {
+            return Collections.unmodifiableSet(cache.asMap().keySet());
+        }
+
+        @Override
+        public Collection<V> values() {
+            return Collections.unmodifiableCollection(cache.asMap().values());
+        }
+    }
+}
@@ -84,6 +84,7 @@ class SecurityConfigurer {
                 RealmConfiguration confRealm = new RealmConfiguration(realmConfig.getName(), realmClass);
                 confRealm.setRolePermissionResolverClass(findRolePermissionResolver(realmConfig, confRealm));
                 confRealm.setRoleMappingClass(findRoleMapping(realmConfig, confRealm));
+                confRealm.setAuthorizationCacheEnabled(realmConfig.isCacheEnabled());
                 configurationRealms.add(confRealm);
             }
         }
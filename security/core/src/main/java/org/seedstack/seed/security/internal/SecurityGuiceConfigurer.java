@@ -10,7 +10,6 @@ package org.seedstack.seed.security.internal;
 import com.google.inject.Binder;
 import com.google.inject.name.Names;
 import org.apache.shiro.cache.CacheManager;
-import org.apache.shiro.cache.MemoryConstrainedCacheManager;
 import org.apache.shiro.mgt.DefaultSubjectDAO;
 import org.apache.shiro.mgt.SessionStorageEvaluator;
 import org.apache.shiro.mgt.SubjectDAO;
@@ -26,7 +25,7 @@ public class SecurityGuiceConfigurer {
     public void configure(Binder binder) {
         binder.bind(SubjectDAO.class).to(DefaultSubjectDAO.class);
         binder.bind(SessionStorageEvaluator.class).to(SeedSessionStorageEvaluator.class);
-        binder.bind(CacheManager.class).to(MemoryConstrainedCacheManager.class);
+        binder.bind(CacheManager.class).toInstance(new SecurityCacheManager(securityConfig.cache()));
         binder.bindConstant().annotatedWith(Names.named("shiro.globalSessionTimeout")).to(securityConfig.session().getTimeout());
     }
 }
@@ -62,16 +62,14 @@ class SecurityInternalModule extends PrivateModule {
 
     private void bindRealms() {
         Collection<RealmConfiguration> realms = securityConfigurer.getConfigurationRealms();
-        Set<Class<? extends org.seedstack.seed.security.Realm>> apiRealmClasses = new HashSet<>();
 
         for (RealmConfiguration realm : realms) {
             bind(realm.getRealmClass());
-            apiRealmClasses.add(realm.getRealmClass());
             bind(RolePermissionResolver.class).annotatedWith(Names.named(realm.getName() + "-role-permission-resolver")).to(realm.getRolePermissionResolverClass());
             bind(RoleMapping.class).annotatedWith(Names.named(realm.getName() + "-role-mapping")).to(realm.getRoleMappingClass());
         }
 
-        bind(new TypeLiteral<Set<Class<? extends org.seedstack.seed.security.Realm>>>() {}).toInstance(apiRealmClasses);
+        bind(new TypeLiteral<Collection<RealmConfiguration>>() {}).toInstance(realms);
         bind(new TypeLiteral<Set<Realm>>() {}).toProvider(RealmProvider.class).asEagerSingleton();
     }
 
@@ -81,7 +79,10 @@ class SecurityInternalModule extends PrivateModule {
         private Injector injector;
 
         @Inject
-        private Set<Class<? extends org.seedstack.seed.security.Realm>> realmClasses;
+        private Collection<RealmConfiguration> realmConfigurations;
+
+        @Inject
+        private SecurityConfig securityConfig;
 
         private Set<Realm> realms;
 
@@ -89,10 +90,12 @@ class SecurityInternalModule extends PrivateModule {
         public Set<Realm> get() {
             if (realms == null) {
                 realms = new HashSet<>();
-                for (Class<? extends org.seedstack.seed.security.Realm> seedRealmClass : realmClasses) {
-                    org.seedstack.seed.security.Realm realmInstance = injector.getInstance(seedRealmClass);
+                for (RealmConfiguration realmConfiguration : realmConfigurations) {
+                    org.seedstack.seed.security.Realm realmInstance = injector.getInstance(realmConfiguration.getRealmClass());
                     ShiroRealmAdapter realmAdapter = injector.getInstance(ShiroRealmAdapter.class);
                     realmAdapter.setRealm(realmInstance);
+                    realmAdapter.setAuthorizationCachingEnabled(securityConfig.cache().isEnabled() && realmConfiguration.isAuthorizationCacheEnabled());
+                    realmAdapter.setAuthorizationCacheName(realmConfiguration.getName() + ".authorizationCache");
                     realms.add(realmAdapter);
                 }
             }
@@ -16,6 +16,7 @@ import org.apache.shiro.authc.UnknownAccountException;
 import org.apache.shiro.authc.UsernamePasswordToken;
 import org.apache.shiro.authc.pam.UnsupportedTokenException;
 import org.apache.shiro.authz.AuthorizationInfo;
+import org.apache.shiro.cache.Cache;
 import org.apache.shiro.realm.AuthorizingRealm;
 import org.apache.shiro.subject.PrincipalCollection;
 import org.apache.shiro.subject.SimplePrincipalCollection;
@@ -102,6 +103,31 @@ class ShiroRealmAdapter extends AuthorizingRealm {
         return authcInfo;
     }
 
+    void invalidateAuthorizationCache(PrincipalCollection principals) {
+        clearCachedAuthorizationInfo(principals);
+    }
+
+    void invalidateAuthorizationCache(Object identityPrincipal) {
+        Cache<Object, AuthorizationInfo> authorizationCache = getAuthorizationCache();
+        if (authorizationCache != null) {
+            authorizationCache.remove(identityPrincipal);
+        }
+    }
+
+    /**
+     * Authorizations are cached by identity principal value, which identifies a user in the realm, so the cached
+     * authorizations of a user can be invalidated directly from its identity.
+     */
+    @Override
+    protected Object getAuthorizationCacheKey(PrincipalCollection principals) {
+        Object primaryPrincipal = principals.getPrimaryPrincipal();
+        if (primaryPrincipal instanceof PrincipalProvider) {
+            return ((PrincipalProvider<?>) primaryPrincipal).getPrincipal();
+        } else {
+            return principals;
+        }
+    }
+
     Realm getRealm() {
         return realm;
     }
@@ -206,6 +206,27 @@ class ShiroSecuritySupport implements SecuritySupport {
         SecurityUtils.getSubject().logout();
     }
 
+    @Override
+    public void invalidateAuthorizationCache() {
+        PrincipalCollection principals = SecurityUtils.getSubject().getPrincipals();
+        if (principals != null) {
+            for (Realm realm : realms) {
+                if (realm instanceof ShiroRealmAdapter) {
+                    ((ShiroRealmAdapter) realm).invalidateAuthorizationCache(principals);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void invalidateAuthorizationCache(Object identityPrincipal) {
+        for (Realm realm : realms) {
+            if (realm instanceof ShiroRealmAdapter) {
+                ((ShiroRealmAdapter) realm).invalidateAuthorizationCache(identityPrincipal);
+            }
+        }
+    }
+
     private SeedAuthorizationInfo getAuthorizationInfo(Realm realm) {
         SeedAuthorizationInfo authzInfo = null;
         if (realm instanceof ShiroRealmAdapter) {
@@ -20,11 +20,17 @@ import org.slf4j.LoggerFactory;
 
 import javax.inject.Inject;
 import java.lang.reflect.Constructor;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 /**
  * Resolve the role mappings from a Configuration:
@@ -79,6 +85,11 @@ public class ConfigurationRoleMapping implements RoleMapping {
      */
     private final Set<String> everybodyRoles = new HashSet<>();
 
+    /**
+     * scoped mappings, compiled from the configuration
+     */
+    private final List<ScopedMapping> scopedMappings = new ArrayList<>();
+
     @Inject
     private Map<String, Class<? extends Scope>> scopeClasses;
 
@@ -89,36 +100,20 @@ public class ConfigurationRoleMapping implements RoleMapping {
             roleMap.put(role, new Role(role));
         }
         for (String auth : auths) {
-            if (map.containsKey(auth)) {
-                for (String roleName : map.get(auth)) {
+            Set<String> roleNames = map.get(auth);
+            if (roleNames != null) {
+                for (String roleName : roleNames) {
                     if (!roleMap.containsKey(roleName)) {
                         roleMap.put(roleName, new Role(roleName));
                     }
                 }
             } else {
                 // maybe a scoped auth
-                for (Map.Entry<String, Class<? extends Scope>> scopeClass : scopeClasses.entrySet()) {
-                    for (String mapKey : map.keySet()) {
-                        String wildcard = String.format("{%s}", scopeClass.getKey());
-
-
-                        if (mapKey.contains(wildcard) && auth.matches(convertToRegex(mapKey, wildcard))) {
-                            String scopeValue = findScope(wildcard, mapKey, auth);
-                            Set<String> foundRoleNames = map.get(mapKey);
-
-                            for (String foundRoleName : foundRoleNames) {
-                                Role currentRole = getOrCreateRoleInMap(foundRoleName, roleMap);
-                                Scope scope;
-
-                                try {
-                                    Constructor<? extends Scope> constructor = scopeClass.getValue().getConstructor(String.class);
-                                    scope = constructor.newInstance(scopeValue);
-                                } catch (Exception e) {
-                                    throw SeedException.wrap(e, SecurityErrorCodes.UNABLE_TO_CREATE_SCOPE);
-                                }
-
-                                currentRole.getScopes().add(scope);
-                            }
+                for (ScopedMapping scopedMapping : scopedMappings) {
+                    String scopeValue = scopedMapping.findScope(auth);
+                    if (scopeValue != null) {
+                        for (String foundRoleName : scopedMapping.roleNames) {
+                            getOrCreateRoleInMap(foundRoleName, roleMap).getScopes().add(scopedMapping.createScope(scopeValue));
                         }
                     }
                 }
@@ -146,6 +141,8 @@ public class ConfigurationRoleMapping implements RoleMapping {
         }
 
         map.clear();
+        everybodyRoles.clear();
+        scopedMappings.clear();
 
         for (Map.Entry<String, Set<String>> entry : securityConfig.getRoles().entrySet()) {
             for (String permission : entry.getValue()) {
@@ -162,33 +159,75 @@ public class ConfigurationRoleMapping implements RoleMapping {
                 }
             }
         }
+
+        for (Map.Entry<String, Class<? extends Scope>> scopeClass : scopeClasses.entrySet()) {
+            String wildcard = String.format("{%s}", scopeClass.getKey());
+            for (Map.Entry<String, Set<String>> entry : map.entrySet()) {
+                if (entry.getKey().contains(wildcard)) {
+                    scopedMappings.add(new ScopedMapping(entry.getKey(), wildcard, scopeClass.getValue(), entry.getValue()));
+                }
+            }
+        }
     }
 
     /**
-     * Finds the scope in a string that corresponds to a role with {wildcard}.<br>
-     * For example, if wildcardAuth is toto.{SCOPE} and auth is toto.foo then
-     * scope is foo.
-     *
-     * @param wildcard     the wildcard to search for
-     * @param wildcardAuth auth with {wildcard}
-     * @param auth         auth that corresponds
-     * @return the scope.
+     * A mapping key containing a scope wildcard, compiled once. For example, if the mapping key is toto.{SCOPE} then
+     * the auth toto.foo matches with the scope foo. Keys containing the wildcard only once (the usual case) are matched
+     * with plain prefix/suffix comparisons, other ones with a precompiled pattern.
      */
-    private String findScope(String wildcard, String wildcardAuth, String auth) {
-        String scope;
-        String before = StringUtils.substringBefore(wildcardAuth, wildcard);
-        String after = StringUtils.substringAfter(wildcardAuth, wildcard);
-        if (StringUtils.startsWith(wildcardAuth, wildcard)) {
-            scope = StringUtils.substringBefore(auth, after);
-        } else if (StringUtils.endsWith(wildcardAuth, wildcard)) {
-            scope = StringUtils.substringAfter(auth, before);
-        } else {
-            scope = StringUtils.substringBetween(auth, before, after);
+    private static class ScopedMapping {
+        private final String before;
+        private final String after;
+        private final Pattern pattern;
+        private final Constructor<? extends Scope> scopeConstructor;
+        private final Set<String> roleNames;
+
+        private ScopedMapping(String mapKey, String wildcard, Class<? extends Scope> scopeClass, Set<String> roleNames) {
+            this.before = StringUtils.substringBefore(mapKey, wildcard);
+            this.after = StringUtils.substringAfter(mapKey, wildcard);
+            if (after.contains(wildcard)) {
+                this.pattern = Pattern.compile(Pattern.quote(before) + "(.*?)" + Arrays.stream(after.split(Pattern.quote(wildcard), -1)).map(Pattern::quote).collect(Collectors.joining(".*")));
+            } else {
+                this.pattern = null;
+            }
+            try {
+                this.scopeConstructor = scopeClass.getConstructor(String.class);
+            } catch (NoSuchMethodException e) {
+                throw SeedException.wrap(e, SecurityErrorCodes.MISSING_ADEQUATE_SCOPE_CONSTRUCTOR).put("scopeName", wildcard);
+            }
+            this.roleNames = roleNames;
         }
-        return scope;
-    }
 
-    private String convertToRegex(String value, String wildcard) {
-        return String.format("\\Q%s\\E", value.replace(wildcard, "\\E.*\\Q"));
+        /**
+         * Finds the scope in the specified auth.
+         *
+         * @param auth the auth to match.
+         * @return the scope value or null if the auth doesn't match.
+         */
+        private String findScope(String auth) {
+            if (auth.length() < before.length() + after.length() || !auth.startsWith(before)) {
+                return null;
+            }
+            if (pattern != null) {
+                Matcher matcher = pattern.matcher(auth);
+                return matcher.matches() ? matcher.group(1) : null;
+            }
+            if (!auth.endsWith(after)) {
+                return null;
+            }
+            if (after.isEmpty()) {
+                return auth.substring(before.length());
+            } else {
+                return auth.substring(before.length(), auth.indexOf(after, before.length()));
+            }
+        }
+
+        private Scope createScope(String scopeValue) {
+            try {
+                return scopeConstructor.newInstance(scopeValue);
+            } catch (Exception e) {
+                throw SeedException.wrap(e, SecurityErrorCodes.UNABLE_TO_CREATE_SCOPE);
+            }
+        }
     }
 }
@@ -15,6 +15,7 @@ import org.seedstack.seed.security.internal.SecurityErrorCodes;
 import javax.el.ELContext;
 import javax.inject.Inject;
 import java.lang.reflect.Method;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -29,6 +30,8 @@ import java.util.Map;
  * @author pierre.thirouin@ext.mpsa.com
  */
 public class SecurityExpressionInterpreter {
+    private static final Map<String, Method> METHODS = Collections.unmodifiableMap(resolveMethods());
+    private static final Map<String, Method> FUNCTIONS = Collections.unmodifiableMap(resolveFunctions(METHODS));
 
     @Inject
     private ELService elService;
@@ -59,13 +62,7 @@ public class SecurityExpressionInterpreter {
     }
 
     private Boolean expression(String expression) {
-        ELContextBuilder.ELPropertyProvider elContextProvider = elContextBuilder.defaultContext();
-
-        for (Map.Entry<String, Method> entry : getMethods().entrySet()) {
-            elContextProvider.withFunction("", entry.getKey(), entry.getValue());
-        }
-
-        ELContext elContext = elContextProvider.build();
+        ELContext elContext = elContextBuilder.defaultContext(FUNCTIONS).build();
         return (Boolean) elService.withExpression(expression, Boolean.class).withContext(elContext).asValueExpression().eval();
     }
 
@@ -75,6 +72,10 @@ public class SecurityExpressionInterpreter {
      * @return map of method name and method
      */
     public Map<String, Method> getMethods() {
+        return METHODS;
+    }
+
+    private static Map<String, Method> resolveMethods() {
         Map<String, Method> availableMethods = new HashMap<>();
         try {
             availableMethods.put("hasRole", SecurityExpressionUtils.class.getDeclaredMethod("hasRole", String.class));
@@ -90,4 +91,12 @@ public class SecurityExpressionInterpreter {
         }
         return availableMethods;
     }
+
+    private static Map<String, Method> resolveFunctions(Map<String, Method> methods) {
+        Map<String, Method> functions = new HashMap<>();
+        for (Map.Entry<String, Method> entry : methods.entrySet()) {
+            functions.put(":" + entry.getKey(), entry.getValue());
+        }
+        return functions;
+    }
 }
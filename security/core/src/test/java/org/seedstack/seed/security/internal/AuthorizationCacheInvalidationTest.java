@@ -0,0 +1,115 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal;
+
+import org.apache.shiro.subject.PrincipalCollection;
+import org.apache.shiro.subject.SimplePrincipalCollection;
+import org.apache.shiro.subject.Subject;
+import org.apache.shiro.util.ThreadContext;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.internal.util.reflection.Whitebox;
+import org.seedstack.seed.security.Realm;
+import org.seedstack.seed.security.RoleMapping;
+import org.seedstack.seed.security.SecurityConfig;
+import org.seedstack.seed.security.principals.PrincipalProvider;
+import org.seedstack.seed.security.principals.Principals;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class AuthorizationCacheInvalidationTest {
+    private Realm realm;
+    private ShiroRealmAdapter shiroRealmAdapter;
+    private ShiroSecuritySupport securitySupport;
+    private PrincipalCollection user1Principals;
+    private PrincipalCollection user2Principals;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        realm = mock(Realm.class);
+        RoleMapping roleMapping = mock(RoleMapping.class);
+        when(realm.getRealmRoles(any(PrincipalProvider.class), any(Collection.class))).thenReturn(Collections.singleton("role"));
+        when(realm.getRoleMapping()).thenReturn(roleMapping);
+        when(roleMapping.resolveRoles(any(Set.class), any(Collection.class))).thenReturn(Collections.emptySet());
+
+        shiroRealmAdapter = new ShiroRealmAdapter();
+        shiroRealmAdapter.setRealm(realm);
+        shiroRealmAdapter.setCacheManager(new SecurityCacheManager(new SecurityConfig.CacheConfig()));
+
+        securitySupport = new ShiroSecuritySupport();
+        Set<org.apache.shiro.realm.Realm> realms = Collections.singleton(shiroRealmAdapter);
+        Whitebox.setInternalState(securitySupport, "realms", realms);
+
+        user1Principals = new SimplePrincipalCollection(Principals.identityPrincipal("user1"), "test");
+        user2Principals = new SimplePrincipalCollection(Principals.identityPrincipal("user2"), "test");
+    }
+
+    @After
+    public void tearDown() {
+        ThreadContext.unbindSubject();
+    }
+
+    @Test
+    public void authorization_is_cached() {
+        shiroRealmAdapter.getAuthorizationInfo(user1Principals);
+        shiroRealmAdapter.getAuthorizationInfo(user1Principals);
+
+        verifyRolesResolved(1);
+    }
+
+    @Test
+    public void authorization_is_cached_by_identity() {
+        shiroRealmAdapter.getAuthorizationInfo(user1Principals);
+        shiroRealmAdapter.getAuthorizationInfo(new SimplePrincipalCollection(Principals.identityPrincipal("user1"), "test"));
+
+        verifyRolesResolved(1);
+        assertThat(shiroRealmAdapter.getAuthorizationCache().keys()).containsOnly("user1");
+    }
+
+    @Test
+    public void authorization_of_current_subject_is_recomputed_after_invalidation() {
+        Subject subject = mock(Subject.class);
+        when(subject.getPrincipals()).thenReturn(user1Principals);
+        ThreadContext.bind(subject);
+        shiroRealmAdapter.getAuthorizationInfo(user1Principals);
+
+        securitySupport.invalidateAuthorizationCache();
+        shiroRealmAdapter.getAuthorizationInfo(user1Principals);
+
+        verifyRolesResolved(2);
+    }
+
+    @Test
+    public void authorization_of_identity_is_recomputed_after_invalidation() {
+        shiroRealmAdapter.getAuthorizationInfo(user1Principals);
+        shiroRealmAdapter.getAuthorizationInfo(user2Principals);
+
+        securitySupport.invalidateAuthorizationCache("user1");
+        shiroRealmAdapter.getAuthorizationInfo(user1Principals);
+        shiroRealmAdapter.getAuthorizationInfo(user2Principals);
+
+        // only user1 is resolved again
+        verifyRolesResolved(3);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void verifyRolesResolved(int times) {
+        verify(realm, times(times)).getRealmRoles(any(PrincipalProvider.class), any(Collection.class));
+    }
+}
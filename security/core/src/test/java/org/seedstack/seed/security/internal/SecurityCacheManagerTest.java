@@ -0,0 +1,49 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.security.internal;
+
+import org.apache.shiro.cache.Cache;
+import org.junit.Test;
+import org.seedstack.seed.security.SecurityConfig;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SecurityCacheManagerTest {
+    @Test
+    public void caches_are_named_and_reused() {
+        SecurityCacheManager underTest = new SecurityCacheManager(new SecurityConfig.CacheConfig());
+        Cache<String, String> cache = underTest.getCache("realm.authorizationCache");
+
+        assertThat(underTest.<String, String>getCache("realm.authorizationCache")).isSameAs(cache);
+        assertThat(underTest.<String, String>getCache("other.authorizationCache")).isNotSameAs(cache);
+    }
+
+    @Test
+    public void cache_operations() {
+        Cache<String, String> cache = new SecurityCacheManager(new SecurityConfig.CacheConfig()).getCache("test");
+
+        assertThat(cache.put("user1", "info1")).isNull();
+        assertThat(cache.put("user1", "info2")).isEqualTo("info1");
+        assertThat(cache.get("user1")).isEqualTo("info2");
+        assertThat(cache.get(null)).isNull();
+        assertThat(cache.keys()).containsOnly("user1");
+        assertThat(cache.remove("user1")).isEqualTo("info2");
+        assertThat(cache.size()).isEqualTo(0);
+    }
+
+    @Test
+    public void cache_is_bounded() {
+        Cache<Integer, String> cache = new SecurityCacheManager(new SecurityConfig.CacheConfig().setMaxSize(10)).getCache("test");
+
+        for (int i = 0; i < 100; i++) {
+            cache.put(i, "info" + i);
+        }
+
+        assertThat(cache.size()).isLessThanOrEqualTo(10);
+    }
+}
@@ -17,6 +17,7 @@ import org.apache.shiro.realm.Realm;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.internal.util.reflection.Whitebox;
+import org.seedstack.seed.security.SecurityConfig;
 import org.seedstack.seed.security.internal.realms.ConfigurationRealm;
 
 import java.lang.annotation.Annotation;
@@ -70,11 +71,12 @@ public class SecurityInternalModuleUnitTest {
         Injector i = mock(Injector.class);
         ShiroRealmAdapter adapter = new ShiroRealmAdapter();
         when(i.getInstance(ShiroRealmAdapter.class)).thenReturn(adapter);
-        Set<Class<? extends org.seedstack.seed.security.Realm>> realmClasses = new HashSet<>();
-        realmClasses.add(ConfigurationRealm.class);
+        Set<RealmConfiguration> realmConfigurations = new HashSet<>();
+        realmConfigurations.add(new RealmConfiguration("ConfigurationRealm", ConfigurationRealm.class));
 
         Whitebox.setInternalState(rp, "injector", i);
-        Whitebox.setInternalState(rp, "realmClasses", realmClasses);
+        Whitebox.setInternalState(rp, "realmConfigurations", realmConfigurations);
+        Whitebox.setInternalState(rp, "securityConfig", new SecurityConfig());
 
         Set<Realm> realms = rp.get();
         assertEquals(1, realms.size());
@@ -15,6 +15,7 @@ import org.junit.Test;
 import org.seedstack.seed.security.Role;
 import org.seedstack.seed.security.Scope;
 import org.seedstack.seed.security.SecurityConfig;
+import org.seedstack.seed.security.SimpleScope;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -22,6 +23,7 @@ import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.Assert.assertTrue;
 
 public class ConfigurationRoleMappingUnitTest {
@@ -75,4 +77,32 @@ public class ConfigurationRoleMappingUnitTest {
         Set<String> roles2 = roleMap.get("foo.bar");
         assertTrue(roles2.contains("foo"));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void resolveRoles_should_return_scoped_roles() {
+        Map<String, Class<? extends Scope>> scopeClasses = new HashMap<>();
+        scopeClasses.put("SCOPE", SimpleScope.class);
+        Reflection.field("scopeClasses").ofType(new TypeRef<Map<String, Class<? extends Scope>>>() {
+        }).in(underTest).set(scopeClasses);
+        underTest.readConfiguration(new SecurityConfig()
+                .addRole("admin", Sets.newHashSet("ADMIN.{SCOPE}"))
+                .addRole("reader", Sets.newHashSet("{SCOPE}.READER"))
+                .addRole("dev", Sets.newHashSet("DEV.{SCOPE}.APP")));
+
+        Collection<Role> resolvedRoles = underTest.resolveRoles(Sets.newHashSet("ADMIN.FR", "ADMIN.DE", "UK.READER", "DEV.ES.APP", "OTHER.FR"), null);
+
+        assertThat(resolvedRoles).extracting(Role::getName).containsOnly("admin", "reader", "dev");
+        for (Role resolvedRole : resolvedRoles) {
+            switch (resolvedRole.getName()) {
+                case "admin":
+                    assertThat(resolvedRole.getScopes()).containsOnly(new SimpleScope("FR"), new SimpleScope("DE"));
+                    break;
+                case "reader":
+                    assertThat(resolvedRole.getScopes()).containsOnly(new SimpleScope("UK"));
+                    break;
+                default:
+                    assertThat(resolvedRole.getScopes()).containsOnly(new SimpleScope("ES"));
+            }
+        }
+    }
+}
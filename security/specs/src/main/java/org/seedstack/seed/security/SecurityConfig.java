@@ -21,6 +21,7 @@ import java.util.Set;
 @Config("security")
 public class SecurityConfig {
     private SessionsConfig sessions = new SessionsConfig();
+    private CacheConfig cache = new CacheConfig();
     private List<RealmConfig> realms = new ArrayList<>();
     private Map<String, UserConfig> users = new HashMap<>();
     private Map<String, Set<String>> roles = new HashMap<>();
@@ -30,6 +31,10 @@ public class SecurityConfig {
         return sessions;
     }
 
+    public CacheConfig cache() {
+        return cache;
+    }
+
     public List<RealmConfig> getRealms() {
         return Collections.unmodifiableList(realms);
     }
@@ -71,6 +76,7 @@ public class SecurityConfig {
         private String name;
         private String roleMapper;
         private String permissionResolver;
+        private boolean cache = true;
 
         public String getName() {
             return name;
@@ -98,6 +104,15 @@ public class SecurityConfig {
             this.permissionResolver = permissionResolver;
             return this;
         }
+
+        public boolean isCacheEnabled() {
+            return cache;
+        }
+
+        public RealmConfig setCacheEnabled(boolean cache) {
+            this.cache = cache;
+            return this;
+        }
     }
 
     public static class UserConfig {
@@ -148,4 +163,52 @@ public class SecurityConfig {
             return this;
         }
     }
+
+    @Config("cache")
+    public static class CacheConfig {
+        private static final int DEFAULT_MAX_SIZE = 10000;
+        private static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+        @SingleValue
+        private boolean enabled = true;
+        private int maxSize = DEFAULT_MAX_SIZE;
+        private long expireAfterWrite = 0;
+        private int concurrencyLevel = DEFAULT_CONCURRENCY_LEVEL;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public CacheConfig setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public int getMaxSize() {
+            return maxSize;
+        }
+
+        public CacheConfig setMaxSize(int maxSize) {
+            this.maxSize = maxSize;
+            return this;
+        }
+
+        public long getExpireAfterWrite() {
+            return expireAfterWrite;
+        }
+
+        public CacheConfig setExpireAfterWrite(long expireAfterWrite) {
+            this.expireAfterWrite = expireAfterWrite;
+            return this;
+        }
+
+        public int getConcurrencyLevel() {
+            return concurrencyLevel;
+        }
+
+        public CacheConfig setConcurrencyLevel(int concurrencyLevel) {
+            this.concurrencyLevel = concurrencyLevel;
+            return this;
+        }
+    }
 }
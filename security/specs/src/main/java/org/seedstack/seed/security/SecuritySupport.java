@@ -234,6 +234,21 @@ public interface SecuritySupport {
      */
     void logout();
 
+    /**
+     * Invalidates the cached authorization data (roles and permissions) of the connected user, in all realms. They
+     * will be resolved again by the realms on the next authorization check.
+     */
+    void invalidateAuthorizationCache();
+
+    /**
+     * Invalidates the cached authorization data (roles and permissions) of every subject whose identity principal
+     * value equals the given one, in all realms. This is useful when the authorizations of a user are changed in the
+     * underlying security system while this user is logged in.
+     *
+     * @param identityPrincipal the identity principal value (usually the user id). Not null.
+     */
+    void invalidateAuthorizationCache(Object identityPrincipal);
+
     /**
      * Check if the current user is authenticated.
      * 
@@ -0,0 +1,77 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed;
+
+import org.seedstack.coffig.Config;
+import org.seedstack.coffig.SingleValue;
+
+import javax.validation.constraints.Min;
+import javax.validation.constraints.NotNull;
+
+@Config("console")
+public class ConsoleConfig {
+    @SingleValue
+    @NotNull
+    private Mode mode = Mode.DIRECT;
+    @Min(128)
+    private int bufferSize = 8192;
+    @Min(0)
+    private long flushPeriod = 100;
+    @Min(1)
+    private int queueSize = 1024;
+    private boolean blockWhenFull = true;
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public ConsoleConfig setMode(Mode mode) {
+        this.mode = mode;
+        return this;
+    }
+
+    public int getBufferSize() {
+        return bufferSize;
+    }
+
+    public ConsoleConfig setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+        return this;
+    }
+
+    public long getFlushPeriod() {
+        return flushPeriod;
+    }
+
+    public ConsoleConfig setFlushPeriod(long flushPeriod) {
+        this.flushPeriod = flushPeriod;
+        return this;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public ConsoleConfig setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+        return this;
+    }
+
+    public boolean isBlockWhenFull() {
+        return blockWhenFull;
+    }
+
+    public ConsoleConfig setBlockWhenFull(boolean blockWhenFull) {
+        this.blockWhenFull = blockWhenFull;
+        return this;
+    }
+
+    public enum Mode {
+        DIRECT, BUFFERED, ASYNC
+    }
+}
@@ -9,6 +9,7 @@ package org.seedstack.seed;
 
 import org.seedstack.coffig.Config;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
 
 @Config("data")
@@ -21,6 +22,11 @@ public class DataConfig {
 
     @NotNull
     private ImportMode importMode = ImportMode.AUTO;
+    @Min(1)
+    private int batchSize = 1000;
+    private boolean parallel = false;
+    @Min(1)
+    private int threads = Math.min(4, Runtime.getRuntime().availableProcessors());
 
     public ImportMode getImportMode() {
         return importMode;
@@ -29,4 +35,28 @@ public class DataConfig {
     public void setImportMode(ImportMode importMode) {
         this.importMode = importMode;
     }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public void setThreads(int threads) {
+        this.threads = threads;
+    }
 }
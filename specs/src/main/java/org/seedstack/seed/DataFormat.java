@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed;
+
+/**
+ * Layouts of data streams handled by the {@link DataManager}.
+ */
+public enum DataFormat {
+    /**
+     * A JSON array of data sets, each one holding its group, its name and the array of its items.
+     */
+    JSON,
+    /**
+     * One JSON object per line, each one holding the group and the name of its data set along with one item. Such
+     * streams can be split on line boundaries and the resulting chunks imported independently.
+     */
+    NDJSON,
+    /**
+     * The {@link #JSON} layout encoded in the Smile binary format.
+     */
+    SMILE
+}
@@ -7,6 +7,8 @@
  */
 package org.seedstack.seed;
 
+import java.util.List;
+
 /**
  * Implement this interface to create a data set importer that will handle objects of a specific type. A data importer
  * must be marked with a {@link DataSet} annotation to be recognized.
@@ -30,6 +32,19 @@ public interface DataImporter<T> {
      */
     void importData(T data);
 
+    /**
+     * This method is called by SEED to import a batch of objects handled by this importer. The size of batches is
+     * specified by the data configuration. The default implementation calls {@link #importData(Object)} for each
+     * object, importers that can insert data in bulk should override it.
+     *
+     * @param batch the objects to import.
+     */
+    default void importBatch(List<T> batch) {
+        for (T data : batch) {
+            importData(data);
+        }
+    }
+
     /**
      * This method is called when the import operation is successful and imported data should be committed.
      *
@@ -42,7 +42,19 @@ public interface DataManager {
     void exportData(OutputStream outputStream, String group, String name);
 
     /**
-     * Import data in the application from a stream.
+     * Export data as a stream in the specified format, optionally compressed with gzip.
+     *
+     * @param outputStream the stream to output data to.
+     * @param group the data group, can be null to export all groups.
+     * @param name the data name, can be null to export all data sets of the group.
+     * @param format the format of the exported data.
+     * @param compress if true, the stream is compressed with gzip.
+     */
+    void exportData(OutputStream outputStream, String group, String name, DataFormat format, boolean compress);
+
+    /**
+     * Import data in the application from a stream. The format of the stream (see {@link DataFormat}) and its
+     * gzip compression are automatically detected.
      *
      * @param inputStream the stream to read data from.
      * @param group the data group, can be null if all groups are accepted.
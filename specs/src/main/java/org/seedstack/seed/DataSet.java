@@ -34,4 +34,10 @@ public @interface DataSet {
      * @return the name of the data set.
      */
     String name();
+
+    /**
+     * @return the names of the data sets of the same group which must be imported before this one when initialization
+     * data is imported at startup.
+     */
+    String[] after() default {};
 }
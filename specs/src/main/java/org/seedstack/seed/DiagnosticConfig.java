@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed;
+
+import org.seedstack.coffig.Config;
+import org.seedstack.coffig.SingleValue;
+
+import javax.validation.constraints.Min;
+
+@Config("diagnostic")
+public class DiagnosticConfig {
+    @SingleValue
+    private String reporter;
+    @Min(1)
+    private int queueSize = 16;
+    private int reportsPerMinute = 10;
+    @Min(1)
+    private int burst = 5;
+    @Min(0)
+    private int deduplicationPeriod = 300;
+    @Min(1)
+    private int fingerprintDepth = 5;
+    @Min(0)
+    private int maxReports = 50;
+
+    public String getReporter() {
+        return reporter;
+    }
+
+    public DiagnosticConfig setReporter(String reporter) {
+        this.reporter = reporter;
+        return this;
+    }
+
+    public int getQueueSize() {
+        return queueSize;
+    }
+
+    public DiagnosticConfig setQueueSize(int queueSize) {
+        this.queueSize = queueSize;
+        return this;
+    }
+
+    public int getReportsPerMinute() {
+        return reportsPerMinute;
+    }
+
+    public DiagnosticConfig setReportsPerMinute(int reportsPerMinute) {
+        this.reportsPerMinute = reportsPerMinute;
+        return this;
+    }
+
+    public int getBurst() {
+        return burst;
+    }
+
+    public DiagnosticConfig setBurst(int burst) {
+        this.burst = burst;
+        return this;
+    }
+
+    public int getDeduplicationPeriod() {
+        return deduplicationPeriod;
+    }
+
+    public DiagnosticConfig setDeduplicationPeriod(int deduplicationPeriod) {
+        this.deduplicationPeriod = deduplicationPeriod;
+        return this;
+    }
+
+    public int getFingerprintDepth() {
+        return fingerprintDepth;
+    }
+
+    public DiagnosticConfig setFingerprintDepth(int fingerprintDepth) {
+        this.fingerprintDepth = fingerprintDepth;
+        return this;
+    }
+
+    public int getMaxReports() {
+        return maxReports;
+    }
+
+    public DiagnosticConfig setMaxReports(int maxReports) {
+        this.maxReports = maxReports;
+        return this;
+    }
+}
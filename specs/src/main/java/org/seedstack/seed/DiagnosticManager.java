@@ -32,6 +32,19 @@ public interface DiagnosticManager {
      */
     void dumpDiagnosticReport(Throwable t);
 
+    /**
+     * Dump the diagnostic information through the {@link org.seedstack.seed.spi.diagnostic.DiagnosticReporter} in the
+     * background. This method is meant for errors occurring while the application is running: it never blocks nor
+     * throws, identical errors are only reported once per deduplication period and the number of reports is limited.
+     * Use {@link #dumpDiagnosticReport(Throwable)} when the report must be written before proceeding (e.g. on startup
+     * failure).
+     *
+     * @param t the exception which may be the origin of this diagnostic generation. May be null.
+     */
+    default void dumpDiagnosticReportAsync(Throwable t) {
+        dumpDiagnosticReport(t);
+    }
+
     /**
      * Register a diagnostic collector.
      *
@@ -10,19 +10,125 @@ package org.seedstack.seed;
 import org.seedstack.coffig.Config;
 import org.seedstack.coffig.SingleValue;
 
+import javax.validation.constraints.Min;
 import javax.validation.constraints.NotNull;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
 
 @Config("logs")
 public class LogConfig {
     @SingleValue
     @NotNull
     private Level level = Level.INFO;
+    @NotNull
+    private Format format = Format.TEXT;
+    private boolean color = true;
+    @NotNull
+    private Map<String, Level> loggers = new HashMap<>();
+    private AsyncConfig async = new AsyncConfig();
 
     public Level getLevel() {
         return level;
     }
 
+    public LogConfig setLevel(Level level) {
+        this.level = level;
+        return this;
+    }
+
+    public Format getFormat() {
+        return format;
+    }
+
+    public LogConfig setFormat(Format format) {
+        this.format = format;
+        return this;
+    }
+
+    public boolean isColor() {
+        return color;
+    }
+
+    public LogConfig setColor(boolean color) {
+        this.color = color;
+        return this;
+    }
+
+    public Map<String, Level> getLoggers() {
+        return Collections.unmodifiableMap(loggers);
+    }
+
+    public LogConfig addLogger(String name, Level level) {
+        this.loggers.put(name, level);
+        return this;
+    }
+
+    public AsyncConfig async() {
+        return async;
+    }
+
     public enum Level {
         ERROR, WARN, INFO, DEBUG, TRACE
     }
+
+    public enum Format {
+        TEXT, JSON
+    }
+
+    @Config("async")
+    public static class AsyncConfig {
+        @SingleValue
+        private boolean enabled = false;
+        @Min(1)
+        private int queueSize = 256;
+        private int discardingThreshold = -1;
+        private boolean neverBlock = false;
+        private boolean includeCallerData = false;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public AsyncConfig setEnabled(boolean enabled) {
+            this.enabled = enabled;
+            return this;
+        }
+
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        public AsyncConfig setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+            return this;
+        }
+
+        public int getDiscardingThreshold() {
+            return discardingThreshold;
+        }
+
+        public AsyncConfig setDiscardingThreshold(int discardingThreshold) {
+            this.discardingThreshold = discardingThreshold;
+            return this;
+        }
+
+        public boolean isNeverBlock() {
+            return neverBlock;
+        }
+
+        public AsyncConfig setNeverBlock(boolean neverBlock) {
+            this.neverBlock = neverBlock;
+            return this;
+        }
+
+        public boolean isIncludeCallerData() {
+            return includeCallerData;
+        }
+
+        public AsyncConfig setIncludeCallerData(boolean includeCallerData) {
+            this.includeCallerData = includeCallerData;
+            return this;
+        }
+    }
 }
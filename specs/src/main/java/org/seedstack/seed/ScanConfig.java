@@ -0,0 +1,36 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed;
+
+import org.seedstack.coffig.Config;
+
+import java.io.File;
+
+@Config("scan")
+public class ScanConfig {
+    private boolean index = false;
+    private File indexFile;
+
+    public boolean isIndexEnabled() {
+        return index;
+    }
+
+    public ScanConfig setIndexEnabled(boolean index) {
+        this.index = index;
+        return this;
+    }
+
+    public File getIndexFile() {
+        return indexFile;
+    }
+
+    public ScanConfig setIndexFile(File indexFile) {
+        this.indexFile = indexFile;
+        return this;
+    }
+}
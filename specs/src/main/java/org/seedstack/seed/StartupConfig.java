@@ -0,0 +1,37 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed;
+
+import org.seedstack.coffig.Config;
+
+import javax.validation.constraints.Min;
+
+@Config("startup")
+public class StartupConfig {
+    private boolean parallel = false;
+    @Min(1)
+    private int threads = Runtime.getRuntime().availableProcessors();
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public StartupConfig setParallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public StartupConfig setThreads(int threads) {
+        this.threads = threads;
+        return this;
+    }
+}
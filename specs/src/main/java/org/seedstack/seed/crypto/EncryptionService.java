@@ -12,6 +12,8 @@ package org.seedstack.seed.crypto;
 
 import javax.crypto.Cipher;
 import javax.security.cert.X509Certificate;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.security.InvalidKeyException;
 
 /**
@@ -37,4 +39,25 @@ public interface EncryptionService {
      */
     byte[] decrypt(byte[] toDecrypt) throws InvalidKeyException;
 
+    /**
+     * Returns a stream encrypting the data written to it. Data is encrypted with a random AES-GCM key which is itself
+     * encrypted with the public key of the {@link X509Certificate} and stored at the beginning of the output. Unlike
+     * {@link #encrypt(byte[])}, the size of data is not limited by the size of the key. The returned stream must be
+     * closed to complete the encryption, which also closes the target stream.
+     *
+     * @param outputStream the stream where encrypted data is written.
+     * @return the stream accepting the data to encrypt.
+     * @throws InvalidKeyException if the given key is inappropriate for initializing this cipher. See {@link Cipher#init(int, java.security.Key)}
+     */
+    OutputStream encrypt(OutputStream outputStream) throws InvalidKeyException;
+
+    /**
+     * Returns a stream decrypting data produced by {@link #encrypt(OutputStream)}. The integrity of data is checked
+     * as it is read, so tampered or truncated data is rejected with an exception before the corrupted part is returned.
+     *
+     * @param inputStream the stream of encrypted data.
+     * @return the stream of decrypted data.
+     * @throws InvalidKeyException if the given key is inappropriate for initializing this cipher. See {@link Cipher#init(int, java.security.Key)}
+     */
+    InputStream decrypt(InputStream inputStream) throws InvalidKeyException;
 }
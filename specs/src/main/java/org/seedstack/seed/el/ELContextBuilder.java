@@ -11,6 +11,7 @@ import org.seedstack.shed.exception.SeedException;
 
 import javax.el.ELContext;
 import java.lang.reflect.Method;
+import java.util.Map;
 
 /**
  * ELContextBuilder provides a DSL to build ELContext instances.
@@ -27,6 +28,29 @@ public interface ELContextBuilder {
      */
     ELPropertyProvider defaultContext();
 
+    /**
+     * Initializes the context with default context in which the given functions are available. The functions are
+     * keyed by "prefix:localName" and the map is meant to be built once and shared by all the contexts using it, so
+     * it must not be modified afterwards.
+     *
+     * @param functions the functions available in the EL.
+     * @return ELPropertyProvider
+     * @throws SeedException if the functions map is null
+     */
+    default ELPropertyProvider defaultContext(Map<String, Method> functions) {
+        ELPropertyProvider elPropertyProvider = defaultContext();
+        for (Map.Entry<String, Method> function : functions.entrySet()) {
+            String name = function.getKey();
+            int separator = name.indexOf(':');
+            if (separator >= 0) {
+                elPropertyProvider.withFunction(name.substring(0, separator), name.substring(separator + 1), function.getValue());
+            } else {
+                elPropertyProvider.withFunction("", name, function.getValue());
+            }
+        }
+        return elPropertyProvider;
+    }
+
     /**
      * Sets a custom {@link javax.el.ELContext}.
      *
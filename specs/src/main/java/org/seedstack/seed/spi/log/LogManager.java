@@ -9,8 +9,21 @@ package org.seedstack.seed.spi.log;
 
 import org.seedstack.seed.LogConfig;
 
+import java.util.Collections;
+import java.util.Map;
+
 public interface LogManager {
     void init(LogConfig logConfig);
 
     void close();
+
+    /**
+     * Returns statistics about the logging subsystem (like the depth of asynchronous queues or the number of
+     * discarded events), which are published as diagnostic information.
+     *
+     * @return the statistics map, empty if none are available.
+     */
+    default Map<String, Object> getStatistics() {
+        return Collections.emptyMap();
+    }
 }
@@ -29,4 +29,16 @@ public interface TransactionMetadataResolver {
      * @return the resolved transaction metadata attributes as a {@link TransactionMetadata} object, null otherwise.
      */
     TransactionMetadata resolve(MethodInvocation methodInvocation, TransactionMetadata defaults);
+
+    /**
+     * Indicates if the metadata resolved by this resolver only depends on the intercepted method and on the class of
+     * the intercepted instance (not on invocation arguments, instance state or any contextual data). Results of static
+     * resolvers are computed once per transactional method and memoized by the transaction manager. The metadata
+     * returned by a static resolver must not be modified afterwards.
+     *
+     * @return true if the resolved metadata can be memoized, false if the resolver must be invoked on every call.
+     */
+    default boolean isStatic() {
+        return false;
+    }
 }
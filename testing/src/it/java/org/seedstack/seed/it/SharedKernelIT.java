@@ -0,0 +1,28 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.it;
+
+import org.junit.Test;
+import org.junit.runner.JUnitCore;
+import org.junit.runner.Result;
+import org.seedstack.seed.it.fixtures.SharedKernelFixture1;
+import org.seedstack.seed.it.fixtures.SharedKernelFixture2;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SharedKernelIT {
+    @Test
+    public void test_classes_with_same_configuration_share_the_kernel() {
+        Result result = JUnitCore.runClasses(SharedKernelFixture1.class, SharedKernelFixture2.class);
+
+        assertThat(result.getFailures()).isEmpty();
+        assertThat(SharedKernelFixture1.usedInjector).isNotNull();
+        assertThat(SharedKernelFixture1.usedInjector).isSameAs(SharedKernelFixture2.usedInjector);
+        assertThat(SharedKernelFixture1.reset).isTrue();
+    }
+}
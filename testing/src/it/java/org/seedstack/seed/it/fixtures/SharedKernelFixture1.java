@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.it.fixtures;
+
+import com.google.inject.Injector;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.seedstack.seed.it.KernelMode;
+import org.seedstack.seed.it.ResetKernel;
+import org.seedstack.seed.it.SeedITRunner;
+import org.seedstack.seed.it.spi.ITKernelMode;
+
+import javax.inject.Inject;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@RunWith(SeedITRunner.class)
+@KernelMode(ITKernelMode.SHARED)
+public class SharedKernelFixture1 {
+    public static Injector usedInjector;
+    public static boolean reset;
+
+    @Inject
+    Injector injector;
+
+    @Test
+    public void injector_is_available() {
+        assertThat(injector).isNotNull();
+        usedInjector = injector;
+    }
+
+    @ResetKernel
+    public void resetKernel() {
+        reset = true;
+    }
+}
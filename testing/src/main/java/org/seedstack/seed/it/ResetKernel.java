@@ -0,0 +1,30 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.it;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * This annotation can be used to specify a public method that will execute when a test class running with a shared
+ * kernel has finished using it. The method is invoked on an injected instance of the test class and should restore
+ * any state altered by the tests. If it fails, the kernel is discarded instead of being returned to the pool.
+ *
+ * @see org.seedstack.seed.it.spi.ITKernelMode#SHARED
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface ResetKernel {
+
+}
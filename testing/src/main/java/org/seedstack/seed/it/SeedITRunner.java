@@ -25,6 +25,7 @@ import org.seedstack.seed.core.Seed;
 import org.seedstack.seed.core.utils.SeedReflectionUtils;
 import org.seedstack.seed.it.internal.ITErrorCode;
 import org.seedstack.seed.it.internal.ITPlugin;
+import org.seedstack.seed.it.internal.SharedKernelPool;
 import org.seedstack.seed.it.spi.ITKernelMode;
 import org.seedstack.seed.it.spi.ITRunnerPlugin;
 import org.seedstack.seed.it.spi.KernelRule;
@@ -42,6 +43,10 @@ import java.util.ServiceLoader;
  * This runner can be used to run JUnit tests with Seed integration. Tests
  * launched with this runner will benefit from Seed features (injection, aop
  * interception, test extensions, ...).
+ * <p>
+ * The default kernel mode is {@link ITKernelMode#PER_TEST_CLASS}. It can be changed for the whole JVM with
+ * the {@value #DEFAULT_KERNEL_MODE_PROPERTY} system property, for instance to {@link ITKernelMode#SHARED}.
+ * </p>
  *
  * @author redouane.loulou@ext.mpsa.com
  * @author yves.dautremay@mpsa.com
@@ -49,6 +54,7 @@ import java.util.ServiceLoader;
  * @author adrien.lauer@mpsa.com
  */
 public class SeedITRunner extends BlockJUnit4ClassRunner {
+    public static final String DEFAULT_KERNEL_MODE_PROPERTY = "org.seedstack.seed.it.default-kernel-mode";
     private static final Logger LOGGER = LoggerFactory.getLogger(SeedITRunner.class);
 
     private final ServiceLoader<ITRunnerPlugin> plugins;
@@ -58,6 +64,7 @@ public class SeedITRunner extends BlockJUnit4ClassRunner {
     private ITKernelMode kernelMode = ITKernelMode.ANY;
     private Map<String, String> defaultConfiguration;
     private Kernel kernel;
+    private String sharedKernelKey;
 
     /**
      * Creates the runner for the corresponding test class.
@@ -85,6 +92,7 @@ public class SeedITRunner extends BlockJUnit4ClassRunner {
 
         validatePublicVoidNoArgMethods(BeforeKernel.class, true, errors);
         validatePublicVoidNoArgMethods(AfterKernel.class, true, errors);
+        validatePublicVoidNoArgMethods(ResetKernel.class, false, errors);
     }
 
     @Override
@@ -98,7 +106,7 @@ public class SeedITRunner extends BlockJUnit4ClassRunner {
 
             switch (pluginKernelMode) {
                 case NONE:
-                    if (kernelMode == ITKernelMode.PER_TEST_CLASS || kernelMode == ITKernelMode.PER_TEST) {
+                    if (kernelMode == ITKernelMode.PER_TEST_CLASS || kernelMode == ITKernelMode.PER_TEST || kernelMode == ITKernelMode.SHARED) {
                         throw SeedException.createNew(ITErrorCode.TEST_PLUGINS_MISMATCH)
                                 .put("requestedKernelMode", ITKernelMode.NONE)
                                 .put("incompatibleKernelMode", kernelMode.toString())
@@ -107,7 +115,7 @@ public class SeedITRunner extends BlockJUnit4ClassRunner {
                     kernelMode = ITKernelMode.NONE;
                     break;
                 case PER_TEST_CLASS:
-                    if (kernelMode == ITKernelMode.NONE || kernelMode == ITKernelMode.PER_TEST) {
+                    if (kernelMode == ITKernelMode.NONE || kernelMode == ITKernelMode.PER_TEST || kernelMode == ITKernelMode.SHARED) {
                         throw SeedException.createNew(ITErrorCode.TEST_PLUGINS_MISMATCH)
                                 .put("requestedKernelMode", ITKernelMode.PER_TEST_CLASS)
                                 .put("incompatibleKernelMode", kernelMode.toString())
@@ -116,7 +124,7 @@ public class SeedITRunner extends BlockJUnit4ClassRunner {
                     kernelMode = ITKernelMode.PER_TEST_CLASS;
                     break;
                 case PER_TEST:
-                    if (kernelMode == ITKernelMode.NONE || kernelMode == ITKernelMode.PER_TEST_CLASS) {
+                    if (kernelMode == ITKernelMode.NONE || kernelMode == ITKernelMode.PER_TEST_CLASS || kernelMode == ITKernelMode.SHARED) {
                         throw SeedException.createNew(ITErrorCode.TEST_PLUGINS_MISMATCH)
                                 .put("requestedKernelMode", ITKernelMode.PER_TEST)
                                 .put("incompatibleKernelMode", kernelMode.toString())
@@ -124,24 +132,43 @@ public class SeedITRunner extends BlockJUnit4ClassRunner {
                     }
                     kernelMode = ITKernelMode.PER_TEST;
                     break;
+                case SHARED:
+                    if (kernelMode == ITKernelMode.NONE || kernelMode == ITKernelMode.PER_TEST_CLASS || kernelMode == ITKernelMode.PER_TEST) {
+                        throw SeedException.createNew(ITErrorCode.TEST_PLUGINS_MISMATCH)
+                                .put("requestedKernelMode", ITKernelMode.SHARED)
+                                .put("incompatibleKernelMode", kernelMode.toString())
+                                .put("testClass", getTestClass().getJavaClass().getCanonicalName());
+                    }
+                    kernelMode = ITKernelMode.SHARED;
+                    break;
                 default:
                     break;
             }
         }
 
-        // Default kernel mode is per test class
+        // Default kernel mode is per test class unless specified otherwise
         if (kernelMode == ITKernelMode.ANY) {
+            kernelMode = ITKernelMode.valueOf(System.getProperty(DEFAULT_KERNEL_MODE_PROPERTY, ITKernelMode.PER_TEST_CLASS.name()));
+        }
+
+        // Tests expecting failures or hooking into the kernel lifecycle need their own kernel
+        if (kernelMode == ITKernelMode.SHARED && !isKernelShareable()) {
+            LOGGER.debug("Test class {} cannot use a shared kernel, falling back to a kernel per test class", getTestClass().getJavaClass().getName());
             kernelMode = ITKernelMode.PER_TEST_CLASS;
         }
 
         if (kernelMode == ITKernelMode.PER_TEST_CLASS) {
             initKernel(gatherConfiguration(null));
+        } else if (kernelMode == ITKernelMode.SHARED) {
+            acquireSharedKernel(gatherConfiguration(null));
         }
 
         super.run(notifier);
 
         if (kernelMode == ITKernelMode.PER_TEST_CLASS) {
             stopKernel();
+        } else if (kernelMode == ITKernelMode.SHARED) {
+            releaseSharedKernel();
         }
     }
 
@@ -352,6 +379,57 @@ public class SeedITRunner extends BlockJUnit4ClassRunner {
         }
     }
 
+    private boolean isKernelShareable() {
+        return expectedClass == null
+                && getTestClass().getAnnotatedMethods(BeforeKernel.class).isEmpty()
+                && getTestClass().getAnnotatedMethods(AfterKernel.class).isEmpty();
+    }
+
+    private void acquireSharedKernel(Map<String, String> configuration) {
+        Class<?> javaClass = getTestClass().getJavaClass();
+        WithPlugins withPlugins = javaClass.getAnnotation(WithPlugins.class);
+        String key = SharedKernelPool.computeKey(
+                withPlugins == null ? null : withPlugins.value(),
+                javaClass.getAnnotation(WithoutSpiPluginsLoader.class) != null,
+                configuration
+        );
+
+        try {
+            kernel = SharedKernelPool.getInstance().acquire(key, () -> {
+                KernelConfiguration kernelConfiguration = provideKernelConfiguration(configuration);
+                return Seed.createKernel(null, kernelConfiguration, true);
+            });
+            sharedKernelKey = key;
+        } catch (Exception e) {
+            kernel = null;
+            throw SeedException.wrap(e, ITErrorCode.FAILED_TO_INITIALIZE_KERNEL);
+        }
+    }
+
+    private void releaseSharedKernel() {
+        if (sharedKernelKey == null) {
+            return;
+        }
+
+        SharedKernelPool sharedKernelPool = SharedKernelPool.getInstance();
+        try {
+            List<FrameworkMethod> resetKernelMethods = getTestClass().getAnnotatedMethods(ResetKernel.class);
+            if (!resetKernelMethods.isEmpty()) {
+                Object target = instantiate(getTestClass().getJavaClass());
+                for (FrameworkMethod resetKernelMethod : resetKernelMethods) {
+                    resetKernelMethod.invokeExplosively(target);
+                }
+            }
+            sharedKernelPool.release(sharedKernelKey);
+        } catch (Throwable t) {
+            sharedKernelPool.discard(sharedKernelKey);
+            throw SeedException.wrap(t, ITErrorCode.FAILED_TO_RESET_KERNEL).put("testClass", getTestClass().getJavaClass().getCanonicalName());
+        } finally {
+            kernel = null;
+            sharedKernelKey = null;
+        }
+    }
+
     private KernelConfiguration provideKernelConfiguration(Map<String, String> configuration) {
         KernelConfiguration kernelConfiguration = NuunCore.newKernelConfiguration();
 
@@ -364,7 +442,10 @@ public class SeedITRunner extends BlockJUnit4ClassRunner {
             kernelConfiguration.plugins(annotation.value());
         }
 
-        kernelConfiguration.param(ITPlugin.IT_CLASS_NAME, getTestClass().getJavaClass().getName());
+        // Shared kernels are not specific to a test class, which is then bound just-in-time
+        if (kernelMode != ITKernelMode.SHARED) {
+            kernelConfiguration.param(ITPlugin.IT_CLASS_NAME, getTestClass().getJavaClass().getName());
+        }
         for (Map.Entry<String, String> defaultConfigurationEntry : configuration.entrySet()) {
             kernelConfiguration.param(ITPlugin.DEFAULT_CONFIGURATION_PREFIX + defaultConfigurationEntry.getKey(), defaultConfigurationEntry.getValue());
         }
@@ -16,6 +16,7 @@ public enum ITErrorCode implements ErrorCode {
     EXPECTED_EXCEPTION_DID_NOT_OCCURRED,
     FAILED_TO_INITIALIZE_KERNEL,
     FAILED_TO_INSTANTIATE_TEST_RULE,
+    FAILED_TO_RESET_KERNEL,
     FAILED_TO_STOP_KERNEL,
     TEST_PLUGINS_MISMATCH,
     UNABLE_TO_INSTANTIATE_IT_MODULE,
@@ -0,0 +1,166 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.it.internal;
+
+import io.nuun.kernel.api.Kernel;
+import org.seedstack.seed.core.Seed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+/**
+ * Bounded pool of kernels shared by integration test classes with the same effective configuration. Kernels are
+ * reference-counted while in use and the least recently used idle kernels are disposed when the pool is full. All
+ * remaining kernels are disposed when the JVM shuts down.
+ */
+public class SharedKernelPool {
+    public static final String POOL_SIZE_PROPERTY = "org.seedstack.seed.it.shared-kernel-pool-size";
+    private static final Logger LOGGER = LoggerFactory.getLogger(SharedKernelPool.class);
+    private static final int DEFAULT_POOL_SIZE = 2;
+
+    private final Map<String, Entry> kernels = new LinkedHashMap<>(16, 0.75f, true);
+    private final int maxSize;
+
+    private static class Holder {
+        private static final SharedKernelPool INSTANCE = new SharedKernelPool(Integer.getInteger(POOL_SIZE_PROPERTY, DEFAULT_POOL_SIZE));
+
+        static {
+            Runtime.getRuntime().addShutdownHook(new Thread(INSTANCE::disposeAll, "seed-it-shared-kernels"));
+        }
+    }
+
+    private static class Entry {
+        private final Kernel kernel;
+        private int users;
+
+        private Entry(Kernel kernel) {
+            this.kernel = kernel;
+        }
+    }
+
+    SharedKernelPool(int maxSize) {
+        this.maxSize = Math.max(1, maxSize);
+    }
+
+    /**
+     * @return the shared kernel pool of the JVM.
+     */
+    public static SharedKernelPool getInstance() {
+        return Holder.INSTANCE;
+    }
+
+    /**
+     * Computes the pool key of an effective kernel configuration.
+     *
+     * @param plugins                 the plugins explicitly requested, null if none.
+     * @param withoutSpiPluginsLoader true if the SPI plugin loader is disabled.
+     * @param configuration           the default configuration of the kernel.
+     * @return the key.
+     */
+    public static String computeKey(Class<?>[] plugins, boolean withoutSpiPluginsLoader, Map<String, String> configuration) {
+        List<String> pluginNames = new ArrayList<>();
+        if (plugins != null) {
+            for (Class<?> plugin : plugins) {
+                pluginNames.add(plugin.getName());
+            }
+            pluginNames.sort(null);
+        }
+        return "plugins=" + pluginNames + ";spi=" + !withoutSpiPluginsLoader + ";configuration=" + new TreeMap<>(configuration);
+    }
+
+    /**
+     * Returns the kernel associated to the specified key, creating it if necessary. Each call must be balanced by a
+     * call to {@link #release(String)} or {@link #discard(String)}.
+     *
+     * @param key           the configuration key.
+     * @param kernelFactory the factory used to create and start the kernel if none is pooled yet.
+     * @return the started kernel.
+     */
+    public synchronized Kernel acquire(String key, Supplier<Kernel> kernelFactory) {
+        Entry entry = kernels.get(key);
+        if (entry == null || !entry.kernel.isStarted()) {
+            entry = new Entry(kernelFactory.get());
+            kernels.put(key, entry);
+            LOGGER.info("Created shared kernel for configuration {}", key);
+            evictIdleKernels();
+        } else {
+            LOGGER.debug("Reusing shared kernel for configuration {}", key);
+        }
+        entry.users++;
+        return entry.kernel;
+    }
+
+    /**
+     * Releases a kernel after use, keeping it in the pool.
+     *
+     * @param key the configuration key.
+     */
+    public synchronized void release(String key) {
+        Entry entry = kernels.get(key);
+        if (entry != null && entry.users > 0) {
+            entry.users--;
+        }
+        evictIdleKernels();
+    }
+
+    /**
+     * Removes a kernel from the pool and disposes it as soon as it is not used anymore.
+     *
+     * @param key the configuration key.
+     */
+    public synchronized void discard(String key) {
+        Entry entry = kernels.get(key);
+        if (entry != null) {
+            entry.users--;
+            if (entry.users <= 0) {
+                kernels.remove(key);
+                dispose(key, entry);
+            }
+        }
+    }
+
+    synchronized int size() {
+        return kernels.size();
+    }
+
+    synchronized void disposeAll() {
+        for (Map.Entry<String, Entry> mapEntry : kernels.entrySet()) {
+            dispose(mapEntry.getKey(), mapEntry.getValue());
+        }
+        kernels.clear();
+    }
+
+    private void evictIdleKernels() {
+        Iterator<Map.Entry<String, Entry>> iterator = kernels.entrySet().iterator();
+        while (kernels.size() > maxSize && iterator.hasNext()) {
+            Map.Entry<String, Entry> mapEntry = iterator.next();
+            if (mapEntry.getValue().users == 0) {
+                iterator.remove();
+                dispose(mapEntry.getKey(), mapEntry.getValue());
+            }
+        }
+    }
+
+    private void dispose(String key, Entry entry) {
+        try {
+            if (entry.kernel.isStarted()) {
+                Seed.disposeKernel(entry.kernel);
+                LOGGER.info("Disposed shared kernel for configuration {}", key);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("Unable to dispose shared kernel for configuration " + key, e);
+        }
+    }
+}
@@ -8,11 +8,13 @@
 package org.seedstack.seed.it.spi;
 
 /**
- * Specify the kernel mode required for this plugin.
+ * Specify the kernel mode required for this plugin. The {@link #SHARED} mode behaves like {@link #PER_TEST_CLASS}
+ * except that the kernel is taken from a pool and reused by all test classes with the same effective configuration.
  */
 public enum ITKernelMode {
     ANY,
     PER_TEST_CLASS,
     PER_TEST,
+    SHARED,
     NONE
 }
@@ -0,0 +1,48 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.seedstack.seed.it.AbstractSeedWebIT;
+
+import java.net.URL;
+
+import static com.jayway.restassured.RestAssured.expect;
+import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class WebResourcesBodyCacheDisabledIT extends AbstractSeedWebIT {
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap
+                .create(WebArchive.class)
+                .addAsResource("configuration/body-cache-disabled.yaml", "META-INF/configuration/body-cache-disabled.yaml")
+                .addAsWebResource("META-INF/resources/resources/test2.js", "/resources/docroot-test2.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void webresources_with_body_cache_disabled_are_gzipped_on_the_fly_twice(@ArquillianResource URL baseURL) throws Exception {
+        expect().statusCode(200).header("Content-Encoding", equalTo("gzip")).body(containsString("var JS2 = {};")).when().get(baseURL.toString() + "resources/docroot-test2.js");
+
+        expect().statusCode(200).header("Content-Encoding", equalTo("gzip")).body(containsString("var JS2 = {};")).when().get(baseURL.toString() + "resources/docroot-test2.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void webresources_with_body_cache_disabled_are_served_raw_when_gzip_is_not_accepted(@ArquillianResource URL baseURL) throws Exception {
+        given().header("Accept-Encoding", "identity").expect().statusCode(200).header("Content-Encoding", not(equalTo("gzip"))).body(containsString("var JS2 = {};")).when().get(baseURL.toString() + "resources/test2.js");
+    }
+}
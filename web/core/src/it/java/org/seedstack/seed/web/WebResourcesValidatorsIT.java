@@ -0,0 +1,58 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.seedstack.seed.it.AbstractSeedWebIT;
+
+import java.net.URL;
+
+import static com.jayway.restassured.RestAssured.expect;
+import static com.jayway.restassured.RestAssured.given;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+public class WebResourcesValidatorsIT extends AbstractSeedWebIT {
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap
+                .create(WebArchive.class)
+                .addAsResource("configuration/cache-control.yaml", "META-INF/configuration/cache-control.yaml");
+    }
+
+    @Test
+    @RunAsClient
+    public void webresources_have_an_etag_and_configured_cache_control(@ArquillianResource URL baseURL) throws Exception {
+        expect().statusCode(200).header("ETag", notNullValue()).header("Cache-Control", equalTo("max-age=3600")).when().get(baseURL.toString() + "resources/test2.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void matching_etag_is_not_modified(@ArquillianResource URL baseURL) throws Exception {
+        String etag = expect().statusCode(200).when().get(baseURL.toString() + "resources/test2.js").header("ETag");
+
+        given().header("If-None-Match", etag).expect().statusCode(304).when().get(baseURL.toString() + "resources/test2.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void range_is_served_as_partial_content(@ArquillianResource URL baseURL) throws Exception {
+        given().header("Accept-Encoding", "identity").header("Range", "bytes=0-2").expect().statusCode(206).header("Content-Range", notNullValue()).body(equalTo("/*\n")).when().get(baseURL.toString() + "resources/test2.js");
+    }
+
+    @Test
+    @RunAsClient
+    public void unsatisfiable_range_is_rejected(@ArquillianResource URL baseURL) throws Exception {
+        given().header("Accept-Encoding", "identity").header("Range", "bytes=100000-").expect().statusCode(416).when().get(baseURL.toString() + "resources/test2.js");
+    }
+}
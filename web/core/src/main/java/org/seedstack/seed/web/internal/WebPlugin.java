@@ -119,7 +119,7 @@ public class WebPlugin extends AbstractSeedPlugin {
     }
 
     @Override
-    public void start(Context context) {
+    protected void onStart(Context context) {
         if (servletContext != null) {
             ServletContextConfigurer servletContextConfigurer = new ServletContextConfigurer(servletContext, context.applicationObjectGraph().as(Injector.class));
 
@@ -33,10 +33,10 @@ public class WebDiagnosticFilter implements Filter {
         try {
             chain.doFilter(request, response);
         } catch (SeedException e) {
-            diagnosticManager.dumpDiagnosticReport(e);
+            diagnosticManager.dumpDiagnosticReportAsync(e);
             throw e;
         } catch (Exception e) {
-            diagnosticManager.dumpDiagnosticReport(e);
+            diagnosticManager.dumpDiagnosticReportAsync(e);
             throw SeedException.wrap(e, WebErrorCode.UNEXPECTED_EXCEPTION);
         }
     }
@@ -0,0 +1,85 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Negotiates content encodings from the value of an Accept-Encoding header (RFC 7231, section 5.3.4).
+ */
+final class AcceptEncoding {
+    private static final String WILDCARD = "*";
+    private static final String QUALITY_PARAMETER = "q=";
+
+    private AcceptEncoding() {
+        // no instantiation
+    }
+
+    /**
+     * Determines which of the supported encodings are acceptable to the client, ordered by decreasing quality value.
+     * Encodings with the same quality keep the order of the supported encodings list.
+     *
+     * @param acceptEncodingHeader the Accept-Encoding header value, can be null.
+     * @param supportedEncodings   the encodings supported by the server, by order of preference.
+     * @return the acceptable encodings by order of preference, possibly empty.
+     */
+    static List<String> negotiate(String acceptEncodingHeader, List<String> supportedEncodings) {
+        if (acceptEncodingHeader == null || supportedEncodings.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        Map<String, Float> qualities = new HashMap<>();
+        for (String codingSpec : acceptEncodingHeader.split(",")) {
+            String[] tokens = codingSpec.split(";");
+            String coding = tokens[0].trim().toLowerCase(Locale.ENGLISH);
+            if (coding.isEmpty()) {
+                continue;
+            }
+            if ("x-gzip".equals(coding)) {
+                coding = "gzip";
+            }
+
+            Float quality = 1f;
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith(QUALITY_PARAMETER)) {
+                    try {
+                        quality = Float.parseFloat(parameter.substring(QUALITY_PARAMETER.length()));
+                    } catch (NumberFormatException e) {
+                        quality = null;
+                    }
+                }
+            }
+
+            if (quality != null) {
+                qualities.put(coding, quality);
+            }
+        }
+
+        List<String> acceptedEncodings = new ArrayList<>(supportedEncodings.size());
+        for (String supportedEncoding : supportedEncodings) {
+            Float quality = qualities.getOrDefault(supportedEncoding, qualities.get(WILDCARD));
+            if (quality != null && quality > 0) {
+                acceptedEncodings.add(supportedEncoding);
+            }
+        }
+
+        // stable sort so encodings of equal quality keep the server preference
+        acceptedEncodings.sort((o1, o2) -> Float.compare(
+                qualities.getOrDefault(o2, qualities.get(WILDCARD)),
+                qualities.getOrDefault(o1, qualities.get(WILDCARD))
+        ));
+
+        return acceptedEncodings;
+    }
+}
@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+/**
+ * This immutable class represents a single byte range of an HTTP Range request (RFC 7233). Multiple ranges are not
+ * supported and are ignored, in which case the full representation is sent.
+ */
+final class ByteRange {
+    static final ByteRange UNSATISFIABLE = new ByteRange(-1, -1);
+    private static final String BYTES_UNIT = "bytes=";
+    private final long start;
+    private final long end;
+
+    private ByteRange(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    /**
+     * Parses the value of a Range header against a representation of the specified length.
+     *
+     * @param rangeHeader the Range header value.
+     * @param length      the length of the full representation.
+     * @return the range to send, {@link #UNSATISFIABLE} if the range cannot be satisfied or null if the header must
+     * be ignored (absent, invalid or multiple ranges).
+     */
+    static ByteRange parse(String rangeHeader, long length) {
+        if (rangeHeader == null || !rangeHeader.startsWith(BYTES_UNIT)) {
+            return null;
+        }
+
+        String rangeSpec = rangeHeader.substring(BYTES_UNIT.length()).trim();
+        int dashIndex = rangeSpec.indexOf('-');
+        if (rangeSpec.indexOf(',') != -1 || dashIndex == -1) {
+            return null;
+        }
+
+        String first = rangeSpec.substring(0, dashIndex).trim();
+        String last = rangeSpec.substring(dashIndex + 1).trim();
+        long start;
+        long end;
+        try {
+            if (first.isEmpty()) {
+                if (last.isEmpty()) {
+                    return null;
+                }
+                long suffixLength = Long.parseLong(last);
+                if (suffixLength < 0) {
+                    return null;
+                } else if (suffixLength == 0 || length == 0) {
+                    return UNSATISFIABLE;
+                }
+                start = Math.max(0, length - suffixLength);
+                end = length - 1;
+            } else {
+                start = Long.parseLong(first);
+                if (last.isEmpty()) {
+                    end = length - 1;
+                } else {
+                    end = Long.parseLong(last);
+                    if (end < start) {
+                        return null;
+                    }
+                    end = Math.min(end, length - 1);
+                }
+            }
+        } catch (NumberFormatException e) {
+            return null;
+        }
+
+        if (start < 0) {
+            return null;
+        } else if (start >= length) {
+            return UNSATISFIABLE;
+        } else {
+            return new ByteRange(start, end);
+        }
+    }
+
+    long getStart() {
+        return start;
+    }
+
+    long getEnd() {
+        return end;
+    }
+
+    long getLength() {
+        return end - start + 1;
+    }
+
+    /**
+     * Builds the value of the Content-Range header for this range.
+     *
+     * @param totalLength the length of the full representation.
+     * @return the Content-Range header value.
+     */
+    String toContentRange(long totalLength) {
+        if (this == UNSATISFIABLE) {
+            return "bytes */" + totalLength;
+        } else {
+            return "bytes " + start + "-" + end + "/" + totalLength;
+        }
+    }
+}
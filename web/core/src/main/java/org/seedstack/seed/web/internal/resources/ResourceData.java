@@ -0,0 +1,80 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import java.nio.file.Path;
+
+/**
+ * Holds the body of a static resource as it will be sent to the client, either in memory or as a reference to a file
+ * for large resources.
+ */
+class ResourceData {
+    private final byte[] data;
+    private final Path file;
+    private final long length;
+    private final String encoding;
+    private final boolean gzippedOnTheFly;
+
+    ResourceData(byte[] data, String encoding) { //NOSONAR
+        this.data = data;
+        this.file = null;
+        this.length = data.length;
+        this.encoding = encoding;
+        this.gzippedOnTheFly = false;
+    }
+
+    ResourceData(Path file, long length, String encoding, boolean gzippedOnTheFly) {
+        this.data = null;
+        this.file = file;
+        this.gzippedOnTheFly = gzippedOnTheFly;
+        if (gzippedOnTheFly) {
+            // the compressed length is only known after compression
+            this.encoding = "gzip";
+            this.length = -1;
+        } else {
+            this.encoding = encoding;
+            this.length = length;
+        }
+    }
+
+    /**
+     * @return the in-memory body or null if the body must be streamed from {@link #getFile()}.
+     */
+    byte[] getData() {
+        return data; //NOSONAR
+    }
+
+    /**
+     * @return the file to stream the body from or null if the body is in memory.
+     */
+    Path getFile() {
+        return file;
+    }
+
+    /**
+     * @return the length of the body as sent to the client or -1 if it is unknown.
+     */
+    long getLength() {
+        return length;
+    }
+
+    /**
+     * @return the content encoding of the body as sent to the client or null if it is not encoded.
+     */
+    String getEncoding() {
+        return encoding;
+    }
+
+    boolean isGzippedOnTheFly() {
+        return gzippedOnTheFly;
+    }
+
+    int getWeight() {
+        return data == null ? 0 : data.length;
+    }
+}
@@ -0,0 +1,50 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheStats;
+import org.seedstack.seed.spi.diagnostic.DiagnosticInfoCollector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+class WebResourcesDiagnosticCollector implements DiagnosticInfoCollector {
+    private final Cache<?, ?> resourceInfoCache;
+    private final Cache<?, ?> resourceDataCache;
+
+    WebResourcesDiagnosticCollector(Cache<?, ?> resourceInfoCache, Cache<?, ?> resourceDataCache) {
+        this.resourceInfoCache = resourceInfoCache;
+        this.resourceDataCache = resourceDataCache;
+    }
+
+    @Override
+    public Map<String, Object> collect() {
+        Map<String, Object> result = new HashMap<>();
+
+        result.put("info-cache", buildCacheInfo(resourceInfoCache));
+        if (resourceDataCache != null) {
+            result.put("body-cache", buildCacheInfo(resourceDataCache));
+        }
+
+        return result;
+    }
+
+    private Map<String, Object> buildCacheInfo(Cache<?, ?> cache) {
+        Map<String, Object> cacheInfo = new HashMap<>();
+        CacheStats stats = cache.stats();
+
+        cacheInfo.put("size", cache.size());
+        cacheInfo.put("hits", stats.hitCount());
+        cacheInfo.put("misses", stats.missCount());
+        cacheInfo.put("evictions", stats.evictionCount());
+        cacheInfo.put("hit-rate", stats.hitRate());
+
+        return cacheInfo;
+    }
+}
@@ -8,11 +8,15 @@
 package org.seedstack.seed.web.internal.resources;
 
 import com.google.common.base.Optional;
+import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
 import com.google.inject.Injector;
 import org.seedstack.seed.Application;
+import org.seedstack.seed.DiagnosticManager;
+import org.seedstack.seed.core.internal.NonClosingGZIPOutputStream;
+import org.seedstack.seed.core.utils.SeedLoggingUtils;
 import org.seedstack.shed.exception.SeedException;
 import org.seedstack.seed.web.ResourceInfo;
 import org.seedstack.seed.web.ResourceRequest;
@@ -21,6 +25,8 @@ import org.seedstack.seed.web.WebResourceResolver;
 import org.seedstack.seed.web.WebResourceResolverFactory;
 import org.seedstack.seed.web.internal.ServletContextUtils;
 import org.seedstack.seed.web.internal.WebErrorCode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import javax.servlet.Filter;
 import javax.servlet.FilterChain;
@@ -34,30 +40,70 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
+import java.util.regex.Pattern;
 import java.util.zip.GZIPOutputStream;
 
+import static org.seedstack.seed.web.internal.WebPlugin.WEB_PLUGIN_PREFIX;
+
 /**
  * This web resource filter provides automatic static resource serving from the classpath and the docroot with some
  * benefits over the container default resource serving:
  * <p>
  * <ul>
  * <li>Multiples locations can be aggregated and served under the same path,</li>
- * <li>Automatic serving of pre-minified and/or pre-gzipped versions of resources,</li>
+ * <li>Automatic serving of pre-minified and/or pre-compressed (gzip, brotli, zstd) versions of resources,</li>
  * <li>On-the-fly gzipping of resources,</li>
- * <li>Cache friendly.</li>
+ * <li>In-memory caching of resource bodies (raw and gzipped),</li>
+ * <li>Direct streaming of large file-based resources without loading them in memory,</li>
+ * <li>Cache friendly (entity tags, conditional requests answered without loading the body and configurable
+ * Cache-Control),</li>
+ * <li>Byte range requests.</li>
  * </ul>
  *
  * @author adrien.lauer@mpsa.com
  */
 public class WebResourcesFilter implements Filter {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebResourcesFilter.class);
     private static final String HEADER_IFMODSINCE = "If-Modified-Since";
     private static final String HEADER_LASTMOD = "Last-Modified";
+    private static final String HEADER_IFNONEMATCH = "If-None-Match";
+    private static final String HEADER_ETAG = "ETag";
+    private static final String HEADER_RANGE = "Range";
+    private static final String HEADER_IFRANGE = "If-Range";
+    private static final String HEADER_ACCEPT_RANGES = "Accept-Ranges";
+    private static final String HEADER_CONTENT_RANGE = "Content-Range";
+    private static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    private static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+    private static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+    private static final String HEADER_VARY = "Vary";
+    private static final String GZIP = "gzip";
+    private static final String WEAK_ETAG_PREFIX = "W/";
 
     private int bufferSize;
+    private long streamingThreshold;
     private LoadingCache<ResourceRequest, Optional<ResourceInfo>> resourceInfoCache;
+    private Cache<ResourceRequest, String> etagCache;
+    private Cache<ResourceRequest, ResourceData> resourceDataCache;
+    private int maxCachedEntrySize;
+    private final Map<Pattern, String> cacheControlRules = new LinkedHashMap<>();
     private long servletInitTime;
     private WebResourceResolver webResourceResolver;
+    private List<String> supportedEncodings;
 
     @Override
     public void init(FilterConfig config) throws ServletException {
@@ -65,15 +111,21 @@ public class WebResourcesFilter implements Filter {
         WebConfig.StaticResourcesConfig staticResourcesConfig = injector.getInstance(Application.class).getConfiguration().get(WebConfig.class).staticResources();
 
         this.bufferSize = staticResourcesConfig.getBufferSize();
+        this.streamingThreshold = staticResourcesConfig.getStreamingThreshold();
 
         // round the time to nearest second for proper comparison with If-Modified-Since header
         this.servletInitTime = System.currentTimeMillis() / 1000L * 1000L;
 
+        for (WebConfig.StaticResourcesConfig.CacheControlConfig cacheControlConfig : staticResourcesConfig.getCacheControl()) {
+            cacheControlRules.put(compilePathPattern(cacheControlConfig.getPattern()), "max-age=" + Math.max(0, cacheControlConfig.getMaxAge()));
+        }
+
         WebConfig.StaticResourcesConfig.CacheConfig cacheConfig = staticResourcesConfig.cacheConfig();
         this.resourceInfoCache = CacheBuilder.newBuilder()
                 .maximumSize(cacheConfig.getMaxSize())
                 .concurrencyLevel(cacheConfig.getConcurrencyLevel())
                 .initialCapacity(cacheConfig.getInitialSize())
+                .recordStats()
                 .build(new CacheLoader<ResourceRequest, Optional<ResourceInfo>>() {
                     @Override
                     public Optional<ResourceInfo> load(ResourceRequest key) {
@@ -85,8 +137,34 @@ public class WebResourcesFilter implements Filter {
                         }
                     }
                 });
+        this.etagCache = CacheBuilder.newBuilder()
+                .maximumSize(cacheConfig.getMaxSize())
+                .concurrencyLevel(cacheConfig.getConcurrencyLevel())
+                .initialCapacity(cacheConfig.getInitialSize())
+                .build();
+
+        WebConfig.StaticResourcesConfig.BodyCacheConfig bodyCacheConfig = staticResourcesConfig.bodyCacheConfig();
+        if (bodyCacheConfig.isEnabled()) {
+            this.maxCachedEntrySize = bodyCacheConfig.getMaxEntrySize();
+            this.resourceDataCache = CacheBuilder.newBuilder()
+                    .maximumWeight(bodyCacheConfig.getMaxWeight())
+                    .concurrencyLevel(bodyCacheConfig.getConcurrencyLevel())
+                    .weigher((ResourceRequest key, ResourceData value) -> value.getWeight())
+                    .recordStats()
+                    .build();
+        }
+
+        injector.getInstance(DiagnosticManager.class).registerDiagnosticInfoCollector(
+                WEB_PLUGIN_PREFIX + ".resources",
+                new WebResourcesDiagnosticCollector(resourceInfoCache, resourceDataCache)
+        );
 
         this.webResourceResolver = injector.getInstance(WebResourceResolverFactory.class).createWebResourceResolver(config.getServletContext());
+        this.supportedEncodings = resolveSupportedEncodings(staticResourcesConfig);
+
+        if (resourceDataCache != null && bodyCacheConfig.isPreloadEnabled()) {
+            preloadResourceData();
+        }
     }
 
     @Override
@@ -94,16 +172,16 @@ public class WebResourcesFilter implements Filter {
         HttpServletRequest httpServletRequest = (HttpServletRequest) servletRequest;
         HttpServletResponse httpServletResponse = (HttpServletResponse) servletResponse;
         String path = httpServletRequest.getRequestURI().substring(httpServletRequest.getContextPath().length());
-        String acceptEncodingHeader = httpServletRequest.getHeader("Accept-Encoding");
-        boolean acceptGzip = acceptEncodingHeader != null && acceptEncodingHeader.contains("gzip");
+        List<String> acceptedEncodings = AcceptEncoding.negotiate(httpServletRequest.getHeader(HEADER_ACCEPT_ENCODING), supportedEncodings);
 
         if (path.isEmpty() || path.endsWith("/")) {
             filterChain.doFilter(servletRequest, servletResponse);
         } else {
             // Find resource
+            ResourceRequest resourceRequest = new ResourceRequest(path, acceptedEncodings);
             ResourceInfo resourceInfo = null;
             try {
-                Optional<ResourceInfo> cached = resourceInfoCache.get(new ResourceRequest(path, acceptGzip));
+                Optional<ResourceInfo> cached = resourceInfoCache.get(resourceRequest);
                 if (cached.isPresent()) {
                     resourceInfo = cached.get();
                 }
@@ -114,21 +192,26 @@ public class WebResourcesFilter implements Filter {
             if (resourceInfo == null) {
                 filterChain.doFilter(servletRequest, servletResponse);
             } else {
-                long ifModifiedSince = ((HttpServletRequest) servletRequest).getDateHeader(HEADER_IFMODSINCE);
-                if (ifModifiedSince < servletInitTime) {
-                    // Set last modified header
-                    httpServletResponse.setDateHeader(HEADER_LASTMOD, servletInitTime);
+                // Validators and bodies only depend on the served variant, not on the whole Accept-Encoding list
+                ResourceRequest variantRequest = selectVariant(resourceRequest, resourceInfo);
 
-                    // Prepare response
-                    httpServletResponse.setContentType(resourceInfo.getContentType());
-                    ResourceData resourceData = prepareResourceData(resourceInfo, acceptGzip);
-                    if (resourceData.gzipped) {
-                        httpServletResponse.addHeader("Content-Encoding", "gzip");
-                    }
-                    httpServletResponse.addHeader("Content-Length", Integer.toString(resourceData.data.length));
+                // Set validators and caching headers (the body is not needed to compute them)
+                String etag = getEtag(variantRequest, resourceInfo);
+                String cacheControl = resolveCacheControl(path);
+                httpServletResponse.setDateHeader(HEADER_LASTMOD, servletInitTime);
+                httpServletResponse.setHeader(HEADER_ETAG, etag);
+                if (cacheControl != null) {
+                    httpServletResponse.setHeader(HEADER_CACHE_CONTROL, cacheControl);
+                }
+                if (!supportedEncodings.isEmpty()) {
+                    httpServletResponse.setHeader(HEADER_VARY, HEADER_ACCEPT_ENCODING);
+                }
 
-                    // Write data
-                    httpServletResponse.getOutputStream().write(resourceData.data);
+                if (isModified(httpServletRequest, etag)) {
+                    // Load the body only when it must be sent
+                    ResourceData resourceData = getResourceData(variantRequest, resourceInfo);
+                    httpServletResponse.setContentType(resourceInfo.getContentType());
+                    sendResource(httpServletRequest, httpServletResponse, resourceData, etag);
                 } else {
                     // Send that resource was not modified
                     httpServletResponse.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
@@ -142,11 +225,219 @@ public class WebResourcesFilter implements Filter {
         // nothing to do here
     }
 
-    private ResourceData prepareResourceData(ResourceInfo resourceInfo, boolean acceptGzip) throws IOException {
+    private boolean isModified(HttpServletRequest httpServletRequest, String etag) {
+        String ifNoneMatch = httpServletRequest.getHeader(HEADER_IFNONEMATCH);
+        if (ifNoneMatch != null) {
+            // If-None-Match takes precedence over If-Modified-Since (RFC 7232, section 6)
+            return !matchesIfNoneMatch(ifNoneMatch, etag);
+        } else {
+            return httpServletRequest.getDateHeader(HEADER_IFMODSINCE) < servletInitTime;
+        }
+    }
+
+    /**
+     * Checks if an If-None-Match header value matches an entity tag, using the weak comparison.
+     *
+     * @param ifNoneMatch the If-None-Match header value, possibly listing several entity tags.
+     * @param etag        the entity tag of the resource.
+     * @return true if one of the listed entity tags (or *) matches.
+     */
+    static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        String opaqueEtag = stripWeakPrefix(etag.trim());
+        for (String candidate : ifNoneMatch.split(",")) {
+            String opaqueCandidate = stripWeakPrefix(candidate.trim());
+            if ("*".equals(opaqueCandidate) || opaqueEtag.equals(opaqueCandidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String stripWeakPrefix(String etag) {
+        return etag.startsWith(WEAK_ETAG_PREFIX) ? etag.substring(WEAK_ETAG_PREFIX.length()) : etag;
+    }
+
+    private boolean isRangeApplicable(HttpServletRequest httpServletRequest, String etag) {
+        String ifRange = httpServletRequest.getHeader(HEADER_IFRANGE);
+        if (ifRange == null) {
+            return true;
+        } else if (ifRange.startsWith("\"") || ifRange.startsWith(WEAK_ETAG_PREFIX)) {
+            // If-Range requires a strong comparison
+            return etag.equals(ifRange.trim());
+        } else {
+            try {
+                return httpServletRequest.getDateHeader(HEADER_IFRANGE) == servletInitTime;
+            } catch (IllegalArgumentException e) {
+                return false;
+            }
+        }
+    }
+
+    private String getEtag(ResourceRequest resourceRequest, ResourceInfo resourceInfo) throws IOException {
+        try {
+            return etagCache.get(resourceRequest, () -> computeEtag(resourceRequest, resourceInfo));
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw SeedException.wrap(e, WebErrorCode.UNABLE_TO_DETERMINE_RESOURCE_INFO).put("path", resourceRequest.getPath());
+        }
+    }
+
+    /**
+     * Computes a strong entity tag from the size and modification time of the resource, without reading its contents.
+     * When the modification time is unknown (like for some archive entries), the application start time is used
+     * instead, consistently with the Last-Modified header.
+     */
+    private String computeEtag(ResourceRequest resourceRequest, ResourceInfo resourceInfo) throws IOException {
+        URL url = resourceInfo.getUrl();
+        long length;
+        long lastModified;
+        if ("file".equals(url.getProtocol())) {
+            try {
+                Path path = Paths.get(url.toURI());
+                length = Files.size(path);
+                lastModified = Files.getLastModifiedTime(path).toMillis();
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                throw new IOException("Unable to resolve resource " + url + " as a file", e);
+            }
+        } else {
+            URLConnection urlConnection = url.openConnection();
+            try (InputStream ignored = urlConnection.getInputStream()) {
+                length = urlConnection.getContentLengthLong();
+                lastModified = urlConnection.getLastModified();
+            }
+        }
+        if (lastModified <= 0) {
+            lastModified = servletInitTime;
+        }
+        if (resourceRequest.isAcceptGzip() && webResourceResolver.isCompressible(resourceInfo)) {
+            return String.format("\"%x-%x-gz\"", length, lastModified);
+        } else {
+            return String.format("\"%x-%x\"", length, lastModified);
+        }
+    }
+
+    /**
+     * Narrows a request to the content encoding actually served for the resolved resource, so clients sending
+     * different Accept-Encoding lists share the same entity tag and body cache entries.
+     */
+    private ResourceRequest selectVariant(ResourceRequest resourceRequest, ResourceInfo resourceInfo) {
+        if (resourceInfo.getEncoding() != null) {
+            return new ResourceRequest(resourceRequest.getPath(), Collections.singletonList(resourceInfo.getEncoding()));
+        } else if (resourceRequest.isAcceptGzip() && webResourceResolver.isCompressible(resourceInfo)) {
+            return new ResourceRequest(resourceRequest.getPath(), true);
+        } else {
+            return new ResourceRequest(resourceRequest.getPath());
+        }
+    }
+
+    private ResourceData getResourceData(ResourceRequest resourceRequest, ResourceInfo resourceInfo) throws IOException {
+        ResourceData resourceData = null;
+        if (resourceDataCache != null) {
+            resourceData = resourceDataCache.getIfPresent(resourceRequest);
+        }
+
+        if (resourceData == null) {
+            resourceData = prepareStreamedResourceData(resourceRequest, resourceInfo);
+            if (resourceData == null) {
+                resourceData = prepareResourceData(resourceRequest, resourceInfo);
+                // oversized bodies are not cached to avoid evicting many small resources for a single big one
+                if (resourceDataCache != null && resourceData.getLength() <= maxCachedEntrySize) {
+                    resourceDataCache.put(resourceRequest, resourceData);
+                }
+            }
+        }
+
+        return resourceData;
+    }
+
+    private void sendResource(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse, ResourceData resourceData, String etag) throws IOException {
+        if (resourceData.getEncoding() != null) {
+            httpServletResponse.addHeader(HEADER_CONTENT_ENCODING, resourceData.getEncoding());
+        }
+
+        long length = resourceData.getLength();
+        ByteRange byteRange = null;
+        if (length >= 0) {
+            httpServletResponse.setHeader(HEADER_ACCEPT_RANGES, "bytes");
+            if (isRangeApplicable(httpServletRequest, etag)) {
+                byteRange = ByteRange.parse(httpServletRequest.getHeader(HEADER_RANGE), length);
+            }
+        }
+
+        if (byteRange == ByteRange.UNSATISFIABLE) {
+            httpServletResponse.setHeader(HEADER_CONTENT_RANGE, byteRange.toContentRange(length));
+            httpServletResponse.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+        } else if (byteRange != null) {
+            httpServletResponse.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+            httpServletResponse.setHeader(HEADER_CONTENT_RANGE, byteRange.toContentRange(length));
+            httpServletResponse.addHeader("Content-Length", Long.toString(byteRange.getLength()));
+            writeData(httpServletResponse.getOutputStream(), resourceData, byteRange.getStart(), byteRange.getLength());
+        } else {
+            if (length >= 0) {
+                httpServletResponse.addHeader("Content-Length", Long.toString(length));
+            }
+            writeData(httpServletResponse.getOutputStream(), resourceData, 0, length);
+        }
+    }
+
+    private void writeData(OutputStream os, ResourceData resourceData, long start, long length) throws IOException {
+        byte[] data = resourceData.getData();
+        if (data != null) {
+            os.write(data, (int) start, (int) length);
+        } else {
+            try (FileChannel fileChannel = FileChannel.open(resourceData.getFile(), StandardOpenOption.READ)) {
+                if (resourceData.isGzippedOnTheFly()) {
+                    gzipFully(fileChannel, os, bufferSize);
+                } else {
+                    transferFully(fileChannel, start, length, Channels.newChannel(os));
+                }
+            }
+        }
+    }
+
+    static void gzipFully(FileChannel source, OutputStream os, int bufferSize) throws IOException {
+        // closing the gzip stream ends its deflater but leaves the response stream open
+        try (NonClosingGZIPOutputStream gzipOutputStream = new NonClosingGZIPOutputStream(os, bufferSize)) {
+            transferFully(source, 0, source.size(), Channels.newChannel(gzipOutputStream));
+        }
+    }
+
+    private static void transferFully(FileChannel source, long start, long length, WritableByteChannel target) throws IOException {
+        long position = start;
+        long end = start + length;
+        while (position < end) {
+            position += source.transferTo(position, end - position, target);
+        }
+    }
+
+    private ResourceData prepareStreamedResourceData(ResourceRequest resourceRequest, ResourceInfo resourceInfo) throws IOException {
+        URL url = resourceInfo.getUrl();
+        if (streamingThreshold >= 0 && "file".equals(url.getProtocol())) {
+            try {
+                Path path = Paths.get(url.toURI());
+                long size = Files.size(path);
+                if (size > streamingThreshold) {
+                    return new ResourceData(
+                            path,
+                            size,
+                            resourceInfo.getEncoding(),
+                            resourceRequest.isAcceptGzip() && webResourceResolver.isCompressible(resourceInfo)
+                    );
+                }
+            } catch (URISyntaxException | IllegalArgumentException e) {
+                LOGGER.debug("Unable to resolve resource {} as a file, falling back to buffered serving", url, e);
+            }
+        }
+        return null;
+    }
+
+    private ResourceData prepareResourceData(ResourceRequest resourceRequest, ResourceInfo resourceInfo) throws IOException {
         boolean gzippedOnTheFly = false;
         OutputStream os;
         ByteArrayOutputStream baos;
-        if (acceptGzip && webResourceResolver.isCompressible(resourceInfo)) {
+        if (resourceRequest.isAcceptGzip() && webResourceResolver.isCompressible(resourceInfo)) {
             baos = new ByteArrayOutputStream();
             os = new GZIPOutputStream(baos);
             gzippedOnTheFly = true;
@@ -175,16 +466,85 @@ public class WebResourcesFilter implements Filter {
             }
         }
 
-        return new ResourceData(baos.toByteArray(), resourceInfo.isGzipped() || gzippedOnTheFly);
+        return new ResourceData(baos.toByteArray(), gzippedOnTheFly ? GZIP : resourceInfo.getEncoding());
     }
 
-    private static class ResourceData {
-        final byte[] data;
-        final boolean gzipped;
+    private List<String> resolveSupportedEncodings(WebConfig.StaticResourcesConfig staticResourcesConfig) {
+        if (webResourceResolver instanceof WebResourcesResolverImpl) {
+            return ((WebResourcesResolverImpl) webResourceResolver).getSupportedEncodings();
+        } else if (staticResourcesConfig.isGzipEnabled()) {
+            return Collections.singletonList(GZIP);
+        } else {
+            return Collections.emptyList();
+        }
+    }
 
-        ResourceData(byte[] data, boolean gzipped) { //NOSONAR
-            this.data = data;
-            this.gzipped = gzipped;
+    /**
+     * Gzips all compressible indexed resources into the body cache, under the request key of clients accepting all
+     * supported encodings.
+     */
+    private void preloadResourceData() {
+        if (!(webResourceResolver instanceof WebResourcesResolverImpl) || !supportedEncodings.contains(GZIP)) {
+            return;
+        }
+
+        long startTime = System.currentTimeMillis();
+        int preloadedCount = 0;
+        for (String path : ((WebResourcesResolverImpl) webResourceResolver).getIndexedPaths()) {
+            ResourceRequest resourceRequest = new ResourceRequest(path, supportedEncodings);
+            try {
+                Optional<ResourceInfo> resourceInfo = resourceInfoCache.get(resourceRequest);
+                if (resourceInfo.isPresent() && webResourceResolver.isCompressible(resourceInfo.get())
+                        && getResourceData(selectVariant(resourceRequest, resourceInfo.get()), resourceInfo.get()).getData() != null) {
+                    preloadedCount++;
+                }
+            } catch (ExecutionException | IOException e) {
+                SeedLoggingUtils.logWarningWithDebugDetails(LOGGER, e, "Unable to preload static resource {}", path);
+            }
+        }
+        LOGGER.info("Preloaded {} compressed static resource(s) in {} ms", preloadedCount, System.currentTimeMillis() - startTime);
+    }
+
+    private String resolveCacheControl(String path) {
+        for (Map.Entry<Pattern, String> cacheControlRule : cacheControlRules.entrySet()) {
+            if (cacheControlRule.getKey().matcher(path).matches()) {
+                return cacheControlRule.getValue();
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Compiles an Ant-style path pattern ('?' matches one character, '*' zero or more characters and '**' zero or
+     * more directories) into a regular expression.
+     *
+     * @param pathPattern the Ant-style pattern.
+     * @return the compiled regular expression.
+     */
+    static Pattern compilePathPattern(String pathPattern) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < pathPattern.length(); i++) {
+            char c = pathPattern.charAt(i);
+            if (c == '*') {
+                if (i + 1 < pathPattern.length() && pathPattern.charAt(i + 1) == '*') {
+                    if (i + 2 < pathPattern.length() && pathPattern.charAt(i + 2) == '/') {
+                        sb.append("(?:.*/)?");
+                        i += 2;
+                    } else {
+                        sb.append(".*");
+                        i++;
+                    }
+                } else {
+                    sb.append("[^/]*");
+                }
+            } else if (c == '?') {
+                sb.append("[^/]");
+            } else if ("\\.[]{}()+-^$|".indexOf(c) != -1) {
+                sb.append('\\').append(c);
+            } else {
+                sb.append(c);
+            }
         }
+        return Pattern.compile(sb.toString());
     }
 }
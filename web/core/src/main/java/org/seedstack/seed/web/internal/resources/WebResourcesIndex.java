@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Sets;
+import org.reflections.util.ClasspathHelper;
+import org.reflections.vfs.Vfs;
+
+import javax.servlet.ServletContext;
+import java.io.File;
+import java.io.IOException;
+import java.net.MalformedURLException;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Immutable index of the static resources available in the docroot and under a classpath location, built once at
+ * startup. Lookups are plain hash probes: a path that is not in the index is known not to exist without querying the
+ * servlet context or the classloader. The index doesn't see resources added after it was built.
+ * <p>
+ * Archives of the classpath are also scanned directly, as the classloader doesn't find the classpath location in
+ * archives which have no explicit entry for its directory. Their resources are then derived from the file entry names.
+ */
+class WebResourcesIndex {
+    private static final String WEB_INF = "/WEB-INF/";
+    private static final String META_INF = "/META-INF/";
+    private final Map<String, URL> docrootResources;
+    private final Map<String, URL> classpathResources;
+
+    private WebResourcesIndex(Map<String, URL> docrootResources, Map<String, URL> classpathResources) {
+        this.docrootResources = ImmutableMap.copyOf(docrootResources);
+        this.classpathResources = ImmutableMap.copyOf(classpathResources);
+    }
+
+    /**
+     * Scans the docroot and the classpath location to build the index.
+     *
+     * @param servletContext    the servlet context giving access to the docroot, can be null.
+     * @param classLoader       the classloader giving access to the classpath.
+     * @param classpathLocation the classpath location to index (without leading or trailing slash).
+     * @return the built index.
+     * @throws IOException if a location cannot be scanned.
+     */
+    static WebResourcesIndex build(ServletContext servletContext, ClassLoader classLoader, String classpathLocation) throws IOException {
+        Map<String, URL> docrootResources = new HashMap<>();
+        if (servletContext != null) {
+            indexDocroot(servletContext, "/", docrootResources);
+        }
+
+        Map<String, URL> classpathResources = new HashMap<>();
+        Set<URL> classpathRoots = findClasspathRoots(classLoader, classpathLocation);
+        for (URL rootUrl : classpathRoots) {
+            indexClasspathRoot(rootUrl, classpathLocation, classpathResources);
+        }
+        for (URL archiveUrl : findClasspathArchives(classLoader, classpathLocation, classpathRoots)) {
+            indexClasspathArchive(archiveUrl, classpathLocation, classpathResources);
+        }
+
+        return new WebResourcesIndex(docrootResources, classpathResources);
+    }
+
+    URL findInDocroot(String path) {
+        return docrootResources.get(path);
+    }
+
+    URL findInClasspath(String path) {
+        return classpathResources.get(path);
+    }
+
+    Set<String> getPaths() {
+        return Sets.union(docrootResources.keySet(), classpathResources.keySet());
+    }
+
+    int size() {
+        return docrootResources.size() + classpathResources.size();
+    }
+
+    private static void indexDocroot(ServletContext servletContext, String directory, Map<String, URL> resources) throws MalformedURLException {
+        Set<String> paths = servletContext.getResourcePaths(directory);
+        if (paths != null) {
+            for (String path : paths) {
+                if (path.startsWith(WEB_INF) || path.startsWith(META_INF)) {
+                    continue;
+                }
+                if (path.endsWith("/")) {
+                    indexDocroot(servletContext, path, resources);
+                } else {
+                    URL url = servletContext.getResource(path);
+                    if (url != null) {
+                        resources.put(path, url);
+                    }
+                }
+            }
+        }
+    }
+
+    private static Set<URL> findClasspathRoots(ClassLoader classLoader, String classpathLocation) throws IOException {
+        Set<URL> roots = new LinkedHashSet<>();
+        Enumeration<URL> urls = classLoader.getResources(classpathLocation);
+        while (urls.hasMoreElements()) {
+            String externalForm = urls.nextElement().toExternalForm();
+            if (externalForm.endsWith("/")) {
+                externalForm = externalForm.substring(0, externalForm.length() - 1);
+            }
+            roots.add(new URL(externalForm));
+        }
+        return roots;
+    }
+
+    /**
+     * Finds the archives of the classpath which were not already found as classpath roots, either because they don't
+     * contain the classpath location or because they have no explicit entry for its directory.
+     */
+    private static Set<URL> findClasspathArchives(ClassLoader classLoader, String classpathLocation, Set<URL> classpathRoots) {
+        Set<String> knownRoots = new HashSet<>();
+        for (URL classpathRoot : classpathRoots) {
+            knownRoots.add(classpathRoot.toExternalForm());
+        }
+
+        Set<URL> classpathUrls = new LinkedHashSet<>(ClasspathHelper.forClassLoader(classLoader));
+        classpathUrls.addAll(ClasspathHelper.forJavaClassPath());
+
+        Set<URL> archives = new LinkedHashSet<>();
+        for (URL classpathUrl : classpathUrls) {
+            if (isArchive(classpathUrl) && !knownRoots.contains("jar:" + classpathUrl.toExternalForm() + "!/" + classpathLocation)) {
+                archives.add(classpathUrl);
+            }
+        }
+        return archives;
+    }
+
+    private static boolean isArchive(URL url) {
+        File file = toFile(url);
+        return file != null && file.isFile();
+    }
+
+    private static File toFile(URL url) {
+        if (!"file".equals(url.getProtocol())) {
+            return null;
+        }
+        try {
+            return new File(url.toURI());
+        } catch (URISyntaxException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static void indexClasspathRoot(URL rootUrl, String classpathLocation, Map<String, URL> resources) throws MalformedURLException {
+        // Directories are scanned from the location itself whereas archives are scanned as a whole
+        if ("file".equals(rootUrl.getProtocol())) {
+            indexFiles(rootUrl, "", rootUrl.toExternalForm() + "/", resources);
+        } else {
+            indexFiles(rootUrl, classpathLocation + "/", rootUrl.toExternalForm() + "/", resources);
+        }
+    }
+
+    /**
+     * Indexes an archive from the entry names of its central directory, without decompressing nor walking it through
+     * the VFS. Most classpath archives have no entry under the location and are left as soon as their names are read.
+     * Archives with an explicit entry for the location directory are already indexed as classpath roots.
+     */
+    private static void indexClasspathArchive(URL archiveUrl, String classpathLocation, Map<String, URL> resources) throws IOException {
+        String locationPrefix = classpathLocation + "/";
+        String urlPrefix = "jar:" + archiveUrl.toExternalForm() + "!/" + locationPrefix;
+        try (JarFile jarFile = new JarFile(toFile(archiveUrl))) {
+            Enumeration<JarEntry> entries = jarFile.entries();
+            while (entries.hasMoreElements()) {
+                JarEntry entry = entries.nextElement();
+                String name = entry.getName();
+                if (entry.isDirectory() || !name.startsWith(locationPrefix)) {
+                    continue;
+                }
+                String relativePath = name.substring(locationPrefix.length());
+                String path = "/" + relativePath;
+                // The first root on the classpath wins, as with ClassLoader.getResource()
+                if (!resources.containsKey(path)) {
+                    resources.put(path, new URL(urlPrefix + relativePath));
+                }
+            }
+        }
+    }
+
+    private static void indexFiles(URL url, String locationPrefix, String urlPrefix, Map<String, URL> resources) throws MalformedURLException {
+        Vfs.Dir dir = Vfs.fromURL(url);
+        try {
+            for (Vfs.File file : dir.getFiles()) {
+                String relativePath = file.getRelativePath();
+                if (!relativePath.startsWith(locationPrefix)) {
+                    continue;
+                }
+                relativePath = relativePath.substring(locationPrefix.length());
+
+                String path = "/" + relativePath;
+                // The first root on the classpath wins, as with ClassLoader.getResource()
+                if (!resources.containsKey(path)) {
+                    resources.put(path, new URL(urlPrefix + relativePath));
+                }
+            }
+        } finally {
+            dir.close();
+        }
+    }
+}
@@ -7,9 +7,11 @@
  */
 package org.seedstack.seed.web.internal.resources;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.inject.assistedinject.Assisted;
 import org.seedstack.seed.Application;
 import org.seedstack.shed.exception.SeedException;
+import org.seedstack.seed.core.utils.SeedLoggingUtils;
 import org.seedstack.seed.core.utils.SeedReflectionUtils;
 import org.seedstack.seed.web.ResourceInfo;
 import org.seedstack.seed.web.ResourceRequest;
@@ -26,6 +28,11 @@ import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -34,9 +41,13 @@ class WebResourcesResolverImpl implements WebResourceResolver {
     private static final Pattern EXTENSION_PATTERN = Pattern.compile("\\.(\\w+)$", Pattern.CASE_INSENSITIVE);
     private static final Pattern CONSECUTIVE_SLASHES_PATTERN = Pattern.compile("(/)\\1+");
     private static final String CLASSPATH_LOCATION = "META-INF/resources";
-    private static final String MINIFIED_GZIPPED_EXT_PATTERN = ".min.$1.gz";
-    private static final String GZIPPED_EXT_PATTERN = ".$1.gz";
     private static final String MINIFIED_EXT_PATTERN = ".min.$1";
+    private static final String EXT_PATTERN = ".$1";
+    private static final Map<String, String> ENCODING_EXTENSIONS = ImmutableMap.of(
+            "br", ".br",
+            "zstd", ".zst",
+            "gzip", ".gz"
+    );
 
     private final MimetypesFileTypeMap mimetypesFileTypeMap;
 
@@ -46,10 +57,18 @@ class WebResourcesResolverImpl implements WebResourceResolver {
 
     private final boolean onTheFlyGzipping;
 
+    private final List<String> supportedEncodings;
+
     private final ClassLoader classLoader;
 
     private final ServletContext servletContext;
 
+    private final ResourceLocator docrootLocator;
+
+    private final ResourceLocator classpathLocator;
+
+    private final WebResourcesIndex webResourcesIndex;
+
     @Inject
     WebResourcesResolverImpl(final Application application, @Assisted ServletContext servletContext) {
         WebConfig.StaticResourcesConfig staticResourcesConfig = application.getConfiguration().get(WebConfig.class).staticResources();
@@ -59,6 +78,21 @@ class WebResourcesResolverImpl implements WebResourceResolver {
         this.serveMinifiedResources = staticResourcesConfig.isMinificationEnabled();
         this.serveGzippedResources = staticResourcesConfig.isGzipEnabled();
         this.onTheFlyGzipping = staticResourcesConfig.isOnTheFlyGzipEnabled();
+        this.supportedEncodings = buildSupportedEncodings(staticResourcesConfig);
+
+        if (staticResourcesConfig.isIndexEnabled()) {
+            this.webResourcesIndex = buildIndex();
+        } else {
+            this.webResourcesIndex = null;
+        }
+
+        if (webResourcesIndex != null) {
+            this.docrootLocator = webResourcesIndex::findInDocroot;
+            this.classpathLocator = webResourcesIndex::findInClasspath;
+        } else {
+            this.docrootLocator = servletContext::getResource;
+            this.classpathLocator = path -> classLoader.getResource(CLASSPATH_LOCATION + path);
+        }
     }
 
     @Override
@@ -84,59 +118,103 @@ class WebResourcesResolverImpl implements WebResourceResolver {
         }
 
         Matcher matcher = EXTENSION_PATTERN.matcher(normalizedPath);
-        URL resourceUrl;
+        boolean hasExtension = matcher.find();
+        List<String> acceptedEncodings = resourceRequest.getAcceptedEncodings();
 
-        // search in docroot first (and META-INF/resources if servlet version is >= 3.0)
+        // search in docroot first (and META-INF/resources if servlet version is >= 3.0), in classpath last
         try {
-            if (resourceRequest.isAcceptGzip() && serveGzippedResources) {
-                resourceUrl = this.servletContext.getResource(matcher.replaceAll(MINIFIED_GZIPPED_EXT_PATTERN));
-                if (serveMinifiedResources && resourceUrl != null) {
-                    return new ResourceInfo(resourceUrl, true, contentType);
+            ResourceInfo resourceInfo = resolveResourceInfo(docrootLocator, normalizedPath, hasExtension ? matcher : null, acceptedEncodings, contentType);
+            if (resourceInfo == null) {
+                resourceInfo = resolveResourceInfo(classpathLocator, normalizedPath, hasExtension ? matcher : null, acceptedEncodings, contentType);
+            }
+            return resourceInfo;
+        } catch (MalformedURLException e) {
+            throw SeedException.wrap(e, WebErrorCode.ERROR_RETRIEVING_RESOURCE);
+        }
+    }
+
+    private ResourceInfo resolveResourceInfo(ResourceLocator resourceLocator, String normalizedPath, Matcher extensionMatcher, List<String> acceptedEncodings, String contentType) throws MalformedURLException {
+        URL resourceUrl;
+
+        // variants can only be derived from a path with an extension
+        if (extensionMatcher != null) {
+            for (String acceptedEncoding : acceptedEncodings) {
+                String encodingExtension = ENCODING_EXTENSIONS.get(acceptedEncoding);
+                if (encodingExtension == null || !supportedEncodings.contains(acceptedEncoding)) {
+                    continue;
+                }
+
+                if (serveMinifiedResources) {
+                    resourceUrl = resourceLocator.locate(extensionMatcher.replaceAll(MINIFIED_EXT_PATTERN + encodingExtension));
+                    if (resourceUrl != null) {
+                        return new ResourceInfo(resourceUrl, acceptedEncoding, contentType);
+                    }
                 }
 
-                resourceUrl = this.servletContext.getResource(matcher.replaceAll(GZIPPED_EXT_PATTERN));
+                resourceUrl = resourceLocator.locate(extensionMatcher.replaceAll(EXT_PATTERN + encodingExtension));
                 if (resourceUrl != null) {
-                    return new ResourceInfo(resourceUrl, true, contentType);
+                    return new ResourceInfo(resourceUrl, acceptedEncoding, contentType);
                 }
             }
 
-            resourceUrl = this.servletContext.getResource(matcher.replaceAll(MINIFIED_EXT_PATTERN));
-            if (serveMinifiedResources && resourceUrl != null) {
-                return new ResourceInfo(resourceUrl, false, contentType);
+            if (serveMinifiedResources) {
+                resourceUrl = resourceLocator.locate(extensionMatcher.replaceAll(MINIFIED_EXT_PATTERN));
+                if (resourceUrl != null) {
+                    return new ResourceInfo(resourceUrl, false, contentType);
+                }
             }
+        }
 
-            resourceUrl = this.servletContext.getResource(normalizedPath);
-            if (resourceUrl != null) {
-                return new ResourceInfo(resourceUrl, false, contentType);
-            }
-        } catch (MalformedURLException e) {
-            throw SeedException.wrap(e, WebErrorCode.ERROR_RETRIEVING_RESOURCE);
+        resourceUrl = resourceLocator.locate(normalizedPath);
+        if (resourceUrl != null) {
+            return new ResourceInfo(resourceUrl, false, contentType);
         }
 
-        // search in classpath last
-        if (resourceRequest.isAcceptGzip() && serveGzippedResources) {
-            resourceUrl = classLoader.getResource(CLASSPATH_LOCATION + matcher.replaceAll(MINIFIED_GZIPPED_EXT_PATTERN));
-            if (serveMinifiedResources && resourceUrl != null) {
-                return new ResourceInfo(resourceUrl, true, contentType);
-            }
+        return null;
+    }
 
-            resourceUrl = classLoader.getResource(CLASSPATH_LOCATION + matcher.replaceAll(GZIPPED_EXT_PATTERN));
-            if (resourceUrl != null) {
-                return new ResourceInfo(resourceUrl, true, contentType);
-            }
-        }
+    /**
+     * @return the content encodings for which pre-encoded resources are served, by order of server preference.
+     */
+    List<String> getSupportedEncodings() {
+        return supportedEncodings;
+    }
 
-        resourceUrl = classLoader.getResource(CLASSPATH_LOCATION + matcher.replaceAll(MINIFIED_EXT_PATTERN));
-        if (serveMinifiedResources && resourceUrl != null) {
-            return new ResourceInfo(resourceUrl, false, contentType);
+    /**
+     * @return the paths of the indexed resources or an empty set if the index is not enabled.
+     */
+    Set<String> getIndexedPaths() {
+        if (webResourcesIndex == null) {
+            return Collections.emptySet();
+        } else {
+            return webResourcesIndex.getPaths();
         }
+    }
 
-        resourceUrl = classLoader.getResource(CLASSPATH_LOCATION + normalizedPath);
-        if (resourceUrl != null) {
-            return new ResourceInfo(resourceUrl, false, contentType);
+    private List<String> buildSupportedEncodings(WebConfig.StaticResourcesConfig staticResourcesConfig) {
+        List<String> encodings = new ArrayList<>();
+        if (staticResourcesConfig.isBrotliEnabled()) {
+            encodings.add("br");
+        }
+        if (staticResourcesConfig.isZstdEnabled()) {
+            encodings.add("zstd");
+        }
+        if (staticResourcesConfig.isGzipEnabled()) {
+            encodings.add("gzip");
         }
+        return Collections.unmodifiableList(encodings);
+    }
 
-        return null;
+    private WebResourcesIndex buildIndex() {
+        try {
+            long startTime = System.currentTimeMillis();
+            WebResourcesIndex webResourcesIndex = WebResourcesIndex.build(servletContext, classLoader, CLASSPATH_LOCATION);
+            LOGGER.info("Indexed {} static resource(s) in {} ms", webResourcesIndex.size(), System.currentTimeMillis() - startTime);
+            return webResourcesIndex;
+        } catch (Exception e) {
+            SeedLoggingUtils.logWarningWithDebugDetails(LOGGER, e, "Unable to index static resources, falling back to on-demand resolution");
+            return null;
+        }
     }
 
     @Override
@@ -172,7 +250,12 @@ class WebResourcesResolverImpl implements WebResourceResolver {
     public boolean isCompressible(ResourceInfo resourceInfo) {
         return serveGzippedResources &&
                 onTheFlyGzipping &&
-                !resourceInfo.isGzipped() &&
+                resourceInfo.getEncoding() == null &&
                 (resourceInfo.getContentType().startsWith("text/") || "application/json".equals(resourceInfo.getContentType()));
     }
+
+    @FunctionalInterface
+    private interface ResourceLocator {
+        URL locate(String path) throws MalformedURLException;
+    }
 }
@@ -0,0 +1,53 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AcceptEncodingTest {
+    private static final List<String> SUPPORTED_ENCODINGS = Arrays.asList("br", "zstd", "gzip");
+
+    @Test
+    public void absent_header_accepts_no_encoding() {
+        assertThat(AcceptEncoding.negotiate(null, SUPPORTED_ENCODINGS)).isEmpty();
+        assertThat(AcceptEncoding.negotiate("identity", SUPPORTED_ENCODINGS)).isEmpty();
+    }
+
+    @Test
+    public void equal_qualities_keep_server_preference() {
+        assertThat(AcceptEncoding.negotiate("gzip, deflate, br", SUPPORTED_ENCODINGS)).containsExactly("br", "gzip");
+    }
+
+    @Test
+    public void encodings_are_ordered_by_quality() {
+        assertThat(AcceptEncoding.negotiate("gzip;q=1.0, br;q=0.5", SUPPORTED_ENCODINGS)).containsExactly("gzip", "br");
+    }
+
+    @Test
+    public void zero_quality_excludes_encoding() {
+        assertThat(AcceptEncoding.negotiate("br;q=0, gzip", SUPPORTED_ENCODINGS)).containsExactly("gzip");
+    }
+
+    @Test
+    public void wildcard_applies_to_unlisted_encodings() {
+        assertThat(AcceptEncoding.negotiate("*", SUPPORTED_ENCODINGS)).containsExactly("br", "zstd", "gzip");
+        assertThat(AcceptEncoding.negotiate("br;q=0, *", SUPPORTED_ENCODINGS)).containsExactly("zstd", "gzip");
+        assertThat(AcceptEncoding.negotiate("*;q=0, gzip", SUPPORTED_ENCODINGS)).containsExactly("gzip");
+    }
+
+    @Test
+    public void unsupported_encodings_are_ignored() {
+        assertThat(AcceptEncoding.negotiate("gzip, br", Arrays.asList("gzip"))).containsExactly("gzip");
+        assertThat(AcceptEncoding.negotiate("x-gzip", SUPPORTED_ENCODINGS)).containsExactly("gzip");
+    }
+}
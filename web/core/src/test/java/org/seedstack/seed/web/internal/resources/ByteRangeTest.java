@@ -0,0 +1,60 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ByteRangeTest {
+    @Test
+    public void absent_or_invalid_range_is_ignored() {
+        assertThat(ByteRange.parse(null, 100)).isNull();
+        assertThat(ByteRange.parse("items=0-10", 100)).isNull();
+        assertThat(ByteRange.parse("bytes=abc-10", 100)).isNull();
+        assertThat(ByteRange.parse("bytes=10-5", 100)).isNull();
+        assertThat(ByteRange.parse("bytes=-", 100)).isNull();
+    }
+
+    @Test
+    public void multiple_ranges_are_ignored() {
+        assertThat(ByteRange.parse("bytes=0-10,20-30", 100)).isNull();
+    }
+
+    @Test
+    public void bounded_range_is_parsed() {
+        ByteRange byteRange = ByteRange.parse("bytes=10-19", 100);
+        assertThat(byteRange.getStart()).isEqualTo(10);
+        assertThat(byteRange.getEnd()).isEqualTo(19);
+        assertThat(byteRange.getLength()).isEqualTo(10);
+        assertThat(byteRange.toContentRange(100)).isEqualTo("bytes 10-19/100");
+    }
+
+    @Test
+    public void range_end_is_truncated_to_length() {
+        ByteRange byteRange = ByteRange.parse("bytes=90-200", 100);
+        assertThat(byteRange.getEnd()).isEqualTo(99);
+        assertThat(ByteRange.parse("bytes=90-", 100).getEnd()).isEqualTo(99);
+    }
+
+    @Test
+    public void suffix_range_is_parsed() {
+        ByteRange byteRange = ByteRange.parse("bytes=-10", 100);
+        assertThat(byteRange.getStart()).isEqualTo(90);
+        assertThat(byteRange.getEnd()).isEqualTo(99);
+        assertThat(ByteRange.parse("bytes=-500", 100).getStart()).isEqualTo(0);
+    }
+
+    @Test
+    public void range_outside_of_representation_is_unsatisfiable() {
+        assertThat(ByteRange.parse("bytes=100-", 100)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=-0", 100)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.parse("bytes=0-", 0)).isSameAs(ByteRange.UNSATISFIABLE);
+        assertThat(ByteRange.UNSATISFIABLE.toContentRange(100)).isEqualTo("bytes */100");
+    }
+}
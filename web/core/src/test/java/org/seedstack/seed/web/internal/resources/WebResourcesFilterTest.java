@@ -0,0 +1,194 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import com.google.common.io.ByteStreams;
+import com.google.inject.Injector;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.seedstack.coffig.Coffig;
+import org.seedstack.seed.Application;
+import org.seedstack.seed.DiagnosticManager;
+import org.seedstack.seed.spi.diagnostic.DiagnosticInfoCollector;
+import org.seedstack.seed.web.ResourceInfo;
+import org.seedstack.seed.web.ResourceRequest;
+import org.seedstack.seed.web.WebConfig;
+import org.seedstack.seed.web.WebResourceResolver;
+import org.seedstack.seed.web.WebResourceResolverFactory;
+import org.seedstack.seed.web.internal.ServletContextUtils;
+import org.seedstack.seed.web.internal.WebPlugin;
+
+import javax.servlet.FilterChain;
+import javax.servlet.FilterConfig;
+import javax.servlet.ServletContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.net.URLStreamHandler;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyInt;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class WebResourcesFilterTest {
+    @Test
+    public void single_star_does_not_cross_directories() {
+        Pattern pattern = WebResourcesFilter.compilePathPattern("/resources/*.js");
+        assertThat(pattern.matcher("/resources/test.js").matches()).isTrue();
+        assertThat(pattern.matcher("/resources/lib/test.js").matches()).isFalse();
+        assertThat(pattern.matcher("/resources/test.css").matches()).isFalse();
+    }
+
+    @Test
+    public void double_star_matches_zero_or_more_directories() {
+        Pattern pattern = WebResourcesFilter.compilePathPattern("/**/*.js");
+        assertThat(pattern.matcher("/test.js").matches()).isTrue();
+        assertThat(pattern.matcher("/resources/lib/test.js").matches()).isTrue();
+        assertThat(WebResourcesFilter.compilePathPattern("/**").matcher("/any/path.css").matches()).isTrue();
+    }
+
+    @Test
+    public void regex_characters_are_escaped() {
+        Pattern pattern = WebResourcesFilter.compilePathPattern("/lib/app.min.js");
+        assertThat(pattern.matcher("/lib/app.min.js").matches()).isTrue();
+        assertThat(pattern.matcher("/lib/appXminXjs").matches()).isFalse();
+    }
+
+    @Test
+    public void if_none_match_lists_are_compared_weakly() {
+        assertThat(WebResourcesFilter.matchesIfNoneMatch("\"a-1\", \"b-2\"", "\"b-2\"")).isTrue();
+        assertThat(WebResourcesFilter.matchesIfNoneMatch("W/\"b-2\"", "\"b-2\"")).isTrue();
+        assertThat(WebResourcesFilter.matchesIfNoneMatch("*", "\"b-2\"")).isTrue();
+        assertThat(WebResourcesFilter.matchesIfNoneMatch("\"a-1\", W/\"c-3\"", "\"b-2\"")).isFalse();
+    }
+
+    @Test
+    public void streamed_resources_are_gzipped_fully() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 10000; i++) {
+            content.append("body { color: #").append(i).append("; }\n");
+        }
+        Path file = Files.createTempFile("seed-web-resource", ".css");
+        try {
+            Files.write(file, content.toString().getBytes(StandardCharsets.UTF_8));
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            try (FileChannel fileChannel = FileChannel.open(file, StandardOpenOption.READ)) {
+                WebResourcesFilter.gzipFully(fileChannel, response, 1024);
+            }
+            try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(response.toByteArray()))) {
+                assertThat(new String(ByteStreams.toByteArray(gzipInputStream), StandardCharsets.UTF_8)).isEqualTo(content.toString());
+            }
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void cached_bodies_are_served_without_reading_nor_gzipping_the_resource_again() throws Exception {
+        String content = "var JS2 = {};";
+        AtomicInteger openCount = new AtomicInteger();
+        ResourceInfo resourceInfo = new ResourceInfo(countingUrl(content, openCount), false, "application/javascript");
+        DiagnosticManager diagnosticManager = mock(DiagnosticManager.class);
+        WebResourcesFilter underTest = new WebResourcesFilter();
+        underTest.init(mockFilterConfig(resourceInfo, diagnosticManager));
+
+        byte[] firstBody = serve(underTest);
+        int openCountAfterFirstRequest = openCount.get();
+        byte[] secondBody = serve(underTest);
+
+        assertThat(openCount.get()).isEqualTo(openCountAfterFirstRequest);
+        assertThat(secondBody).isEqualTo(firstBody);
+        try (GZIPInputStream gzipInputStream = new GZIPInputStream(new ByteArrayInputStream(secondBody))) {
+            assertThat(new String(ByteStreams.toByteArray(gzipInputStream), StandardCharsets.UTF_8)).isEqualTo(content);
+        }
+        ArgumentCaptor<DiagnosticInfoCollector> collectorCaptor = ArgumentCaptor.forClass(DiagnosticInfoCollector.class);
+        verify(diagnosticManager).registerDiagnosticInfoCollector(eq(WebPlugin.WEB_PLUGIN_PREFIX + ".resources"), collectorCaptor.capture());
+        Map<String, Object> bodyCacheInfo = (Map<String, Object>) collectorCaptor.getValue().collect().get("body-cache");
+        assertThat(bodyCacheInfo.get("hits")).isEqualTo(1L);
+        assertThat(bodyCacheInfo.get("misses")).isEqualTo(1L);
+    }
+
+    private FilterConfig mockFilterConfig(ResourceInfo resourceInfo, DiagnosticManager diagnosticManager) {
+        Coffig coffig = mock(Coffig.class);
+        when(coffig.get(WebConfig.class)).thenReturn(new WebConfig());
+        Application application = mock(Application.class);
+        when(application.getConfiguration()).thenReturn(coffig);
+        WebResourceResolver webResourceResolver = mock(WebResourceResolver.class);
+        when(webResourceResolver.resolveResourceInfo(any(ResourceRequest.class))).thenReturn(resourceInfo);
+        when(webResourceResolver.isCompressible(resourceInfo)).thenReturn(true);
+        WebResourceResolverFactory webResourceResolverFactory = mock(WebResourceResolverFactory.class);
+        when(webResourceResolverFactory.createWebResourceResolver(any(ServletContext.class))).thenReturn(webResourceResolver);
+        Injector injector = mock(Injector.class);
+        when(injector.getInstance(Application.class)).thenReturn(application);
+        when(injector.getInstance(DiagnosticManager.class)).thenReturn(diagnosticManager);
+        when(injector.getInstance(WebResourceResolverFactory.class)).thenReturn(webResourceResolverFactory);
+        ServletContext servletContext = mock(ServletContext.class);
+        when(servletContext.getAttribute(ServletContextUtils.INJECTOR_ATTRIBUTE_NAME)).thenReturn(injector);
+        FilterConfig filterConfig = mock(FilterConfig.class);
+        when(filterConfig.getServletContext()).thenReturn(servletContext);
+        return filterConfig;
+    }
+
+    private byte[] serve(WebResourcesFilter underTest) throws Exception {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn("/resources/test2.js");
+        when(request.getContextPath()).thenReturn("");
+        when(request.getHeader("Accept-Encoding")).thenReturn("gzip, deflate");
+        when(request.getDateHeader(any(String.class))).thenReturn(-1L);
+        HttpServletResponse response = mock(HttpServletResponse.class);
+        ServletOutputStream outputStream = mock(ServletOutputStream.class);
+        when(response.getOutputStream()).thenReturn(outputStream);
+
+        underTest.doFilter(request, response, mock(FilterChain.class));
+
+        verify(response).addHeader("Content-Encoding", "gzip");
+        ArgumentCaptor<byte[]> bodyCaptor = ArgumentCaptor.forClass(byte[].class);
+        verify(outputStream).write(bodyCaptor.capture(), eq(0), anyInt());
+        return bodyCaptor.getValue();
+    }
+
+    private URL countingUrl(String content, AtomicInteger openCount) throws IOException {
+        return new URL(null, "test:/resources/test2.js", new URLStreamHandler() {
+            @Override
+            protected URLConnection openConnection(URL url) {
+                return new URLConnection(url) {
+                    @Override
+                    public void connect() {
+                        // nothing to connect to
+                    }
+
+                    @Override
+                    public InputStream getInputStream() {
+                        openCount.incrementAndGet();
+                        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+                    }
+                };
+            }
+        });
+    }
+}
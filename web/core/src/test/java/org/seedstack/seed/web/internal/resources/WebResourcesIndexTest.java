@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.resources;
+
+import com.google.common.io.ByteStreams;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class WebResourcesIndexTest {
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void archive_without_directory_entries_is_indexed() throws Exception {
+        File archive = temporaryFolder.newFile("no-directory-entries.jar");
+        try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(archive))) {
+            jarOutputStream.putNextEntry(new JarEntry("META-INF/resources/index-test/app.js"));
+            jarOutputStream.write("var app = {};".getBytes(StandardCharsets.UTF_8));
+            jarOutputStream.closeEntry();
+        }
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{archive.toURI().toURL()}, null)) {
+            assertThat(classLoader.getResource("META-INF/resources")).isNull();
+
+            WebResourcesIndex webResourcesIndex = WebResourcesIndex.build(null, classLoader, "META-INF/resources");
+
+            URL url = webResourcesIndex.findInClasspath("/index-test/app.js");
+            assertThat(url).isNotNull();
+            assertThat(read(url)).isEqualTo("var app = {};");
+            assertThat(webResourcesIndex.findInClasspath("/index-test")).isNull();
+        }
+    }
+
+    @Test
+    public void only_entries_under_the_location_are_indexed() throws Exception {
+        File resourcesArchive = createArchive("resources.jar", "META-INF/resources/index-test/app.css", "META-INF/MANIFEST.MF");
+        File otherArchive = createArchive("other.jar", "org/example/Library.class", "META-INF/other/app.js");
+
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[]{otherArchive.toURI().toURL(), resourcesArchive.toURI().toURL()}, null)) {
+            WebResourcesIndex webResourcesIndex = WebResourcesIndex.build(null, classLoader, "META-INF/resources");
+
+            assertThat(webResourcesIndex.findInClasspath("/index-test/app.css")).isNotNull();
+            assertThat(webResourcesIndex.findInClasspath("/index-test")).isNull();
+            assertThat(webResourcesIndex.findInClasspath("/other/app.js")).isNull();
+            assertThat(webResourcesIndex.findInClasspath("/org/example/Library.class")).isNull();
+        }
+    }
+
+    private File createArchive(String name, String... entries) throws IOException {
+        File archive = temporaryFolder.newFile(name);
+        try (JarOutputStream jarOutputStream = new JarOutputStream(new FileOutputStream(archive))) {
+            for (String entry : entries) {
+                jarOutputStream.putNextEntry(new JarEntry(entry));
+                jarOutputStream.write(entry.getBytes(StandardCharsets.UTF_8));
+                jarOutputStream.closeEntry();
+            }
+        }
+        return archive;
+    }
+
+    private String read(URL url) throws IOException {
+        try (InputStream inputStream = url.openStream()) {
+            return new String(ByteStreams.toByteArray(inputStream), StandardCharsets.UTF_8);
+        }
+    }
+}
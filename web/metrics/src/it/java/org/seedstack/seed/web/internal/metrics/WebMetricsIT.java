@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.metrics;
+
+import org.jboss.arquillian.container.test.api.Deployment;
+import org.jboss.arquillian.container.test.api.RunAsClient;
+import org.jboss.arquillian.test.api.ArquillianResource;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.WebArchive;
+import org.junit.Test;
+import org.seedstack.seed.it.AbstractSeedWebIT;
+
+import java.net.URL;
+
+import static com.jayway.restassured.RestAssured.expect;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+public class WebMetricsIT extends AbstractSeedWebIT {
+    @ArquillianResource
+    private URL baseURL;
+
+    @Deployment
+    public static WebArchive createDeployment() {
+        return ShrinkWrap
+                .create(WebArchive.class)
+                .addAsResource("metrics.yaml", "META-INF/configuration/metrics.yaml");
+    }
+
+    @Test
+    @RunAsClient
+    public void health_results_are_exposed_as_json() throws Exception {
+        expect()
+                .statusCode(200)
+                .contentType(startsWith("application/json"))
+                .header("Cache-Control", equalTo("no-cache, no-store, must-revalidate"))
+                .body(containsString("\"CountingHealthCheck\":{\"healthy\":true,\"message\":\"counted\"}"))
+                .when()
+                .get(baseURL.toString() + "health");
+    }
+
+    @Test
+    @RunAsClient
+    public void metrics_are_exposed_in_prometheus_format() throws Exception {
+        // running the health checks increments the fixture counter
+        expect().statusCode(200).when().get(baseURL.toString() + "health");
+
+        expect()
+                .statusCode(200)
+                .contentType(startsWith("text/plain"))
+                .contentType(containsString("version=0.0.4"))
+                .header("Cache-Control", equalTo("no-cache, no-store, must-revalidate"))
+                .body(containsString("# TYPE fixture_checks gauge\nfixture_checks "))
+                .when()
+                .get(baseURL.toString() + "metrics");
+    }
+}
@@ -0,0 +1,26 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.metrics.fixtures;
+
+import com.codahale.metrics.MetricRegistry;
+import com.codahale.metrics.health.HealthCheck;
+import org.seedstack.seed.metrics.HealthChecked;
+
+import javax.inject.Inject;
+
+@HealthChecked(name = "CountingHealthCheck")
+public class CountingHealthCheck extends HealthCheck {
+    @Inject
+    private MetricRegistry metricRegistry;
+
+    @Override
+    protected Result check() throws Exception {
+        metricRegistry.counter("fixture.checks").inc();
+        return Result.healthy("counted");
+    }
+}
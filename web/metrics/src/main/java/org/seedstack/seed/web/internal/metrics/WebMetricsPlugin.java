@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2013-2016, The SeedStack authors <http://seedstack.org>
+ *
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ */
+package org.seedstack.seed.web.internal.metrics;
+
+import io.nuun.kernel.api.plugin.InitState;
+import io.nuun.kernel.api.plugin.context.InitContext;
+import org.seedstack.seed.core.internal.AbstractSeedPlugin;
+import org.seedstack.seed.metrics.MetricsConfig;
+import org.seedstack.seed.metrics.internal.HealthServlet;
+import org.seedstack.seed.metrics.internal.PrometheusServlet;
+import org.seedstack.seed.web.spi.FilterDefinition;
+import org.seedstack.seed.web.spi.ListenerDefinition;
+import org.seedstack.seed.web.spi.ServletDefinition;
+import org.seedstack.seed.web.spi.WebProvider;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This plugin exposes the metrics in Prometheus format and the health check results over HTTP, when enabled in
+ * {@link MetricsConfig}. It lives apart from the metrics plugin so that non-web applications do not need the web
+ * module.
+ */
+public class WebMetricsPlugin extends AbstractSeedPlugin implements WebProvider {
+    private static final Logger LOGGER = LoggerFactory.getLogger(WebMetricsPlugin.class);
+
+    private MetricsConfig metricsConfig;
+
+    @Override
+    public String name() {
+        return "web-metrics";
+    }
+
+    @Override
+    protected InitState initialize(InitContext initContext) {
+        metricsConfig = getConfiguration(MetricsConfig.class);
+        return InitState.INITIALIZED;
+    }
+
+    @Override
+    public List<ServletDefinition> servlets() {
+        List<ServletDefinition> servletDefinitions = new ArrayList<>();
+        if (metricsConfig.prometheus().isEnabled()) {
+            LOGGER.info("Metrics exposed in Prometheus format on {}", metricsConfig.prometheus().getPath());
+
+            ServletDefinition servletDefinition = new ServletDefinition("metrics-prometheus", PrometheusServlet.class);
+            servletDefinition.addMappings(metricsConfig.prometheus().getPath());
+            servletDefinitions.add(servletDefinition);
+        }
+        if (metricsConfig.health().isEnabled()) {
+            LOGGER.info("Health check results exposed on {}", metricsConfig.health().getPath());
+
+            ServletDefinition servletDefinition = new ServletDefinition("metrics-health", HealthServlet.class);
+            servletDefinition.addMappings(metricsConfig.health().getPath());
+            servletDefinitions.add(servletDefinition);
+        }
+        return servletDefinitions.isEmpty() ? null : servletDefinitions;
+    }
+
+    @Override
+    public List<FilterDefinition> filters() {
+        return null;
+    }
+
+    @Override
+    public List<ListenerDefinition> listeners() {
+        return null;
+    }
+}
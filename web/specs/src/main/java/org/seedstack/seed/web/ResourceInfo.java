@@ -15,8 +15,9 @@ import java.net.URL;
  * @author adrien.lauer@mpsa.com
  */
 public class ResourceInfo {
+    private static final String GZIP = "gzip";
     final private URL url;
-    final private boolean gzipped;
+    final private String encoding;
     final private String contentType;
 
     /**
@@ -28,7 +29,20 @@ public class ResourceInfo {
      */
     public ResourceInfo(URL url, boolean gzipped, String contentType) {
         this.url = url;
-        this.gzipped = gzipped;
+        this.encoding = gzipped ? GZIP : null;
+        this.contentType = contentType;
+    }
+
+    /**
+     * Creates a resource information instance for a resource which is already encoded.
+     *
+     * @param url the resource contents URL.
+     * @param encoding the content encoding of the resource contents (like gzip or br) or null if not encoded.
+     * @param contentType the content type of the resource.
+     */
+    public ResourceInfo(URL url, String encoding, String contentType) {
+        this.url = url;
+        this.encoding = encoding;
         this.contentType = contentType;
     }
 
@@ -43,14 +57,14 @@ public class ResourceInfo {
 
         ResourceInfo that = (ResourceInfo) o;
 
-        return gzipped == that.gzipped && contentType.equals(that.contentType) && url.equals(that.url);
+        return (encoding != null ? encoding.equals(that.encoding) : that.encoding == null) && contentType.equals(that.contentType) && url.equals(that.url);
 
     }
 
     @Override
     public int hashCode() {
         int result = url.hashCode();
-        result = 31 * result + (gzipped ? 1 : 0);
+        result = 31 * result + (encoding != null ? encoding.hashCode() : 0);
         result = 31 * result + contentType.hashCode();
         return result;
     }
@@ -70,7 +84,16 @@ public class ResourceInfo {
      * @return true if it can be gzipped, false otherwise.
      */
     public boolean isGzipped() {
-        return gzipped;
+        return GZIP.equals(encoding);
+    }
+
+    /**
+     * Get the content encoding of the resource contents.
+     *
+     * @return the content encoding (like gzip or br) or null if the contents are not encoded.
+     */
+    public String getEncoding() {
+        return encoding;
     }
 
     /**
@@ -7,14 +7,19 @@
  */
 package org.seedstack.seed.web;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 /**
  * This immutable class represent a request of information relative to a static Web resource.
  *
  * @author adrien.lauer@mpsa.com
  */
 public class ResourceRequest {
+    private static final String GZIP = "gzip";
     final private String path;
-    final private boolean acceptGzip;
+    final private List<String> acceptedEncodings;
 
     /**
      * Creates a resource request which doesn't accept gzip.
@@ -23,7 +28,7 @@ public class ResourceRequest {
      */
     public ResourceRequest(String path) {
         this.path = path;
-        this.acceptGzip = false;
+        this.acceptedEncodings = Collections.emptyList();
     }
 
     /**
@@ -34,7 +39,18 @@ public class ResourceRequest {
      */
     public ResourceRequest(String path, boolean acceptGzip) {
         this.path = path;
-        this.acceptGzip = acceptGzip;
+        this.acceptedEncodings = acceptGzip ? Collections.singletonList(GZIP) : Collections.emptyList();
+    }
+
+    /**
+     * Creates a resource request accepting several content encodings.
+     *
+     * @param path the requested resource path.
+     * @param acceptedEncodings the accepted content encodings (like gzip or br), by order of preference.
+     */
+    public ResourceRequest(String path, List<String> acceptedEncodings) {
+        this.path = path;
+        this.acceptedEncodings = Collections.unmodifiableList(new ArrayList<>(acceptedEncodings));
     }
 
     @Override
@@ -48,14 +64,14 @@ public class ResourceRequest {
 
         ResourceRequest that = (ResourceRequest) o;
 
-        return acceptGzip == that.acceptGzip && path.equals(that.path);
+        return acceptedEncodings.equals(that.acceptedEncodings) && path.equals(that.path);
 
     }
 
     @Override
     public int hashCode() {
         int result = path.hashCode();
-        result = 31 * result + (acceptGzip ? 1 : 0);
+        result = 31 * result + acceptedEncodings.hashCode();
         return result;
     }
 
@@ -64,6 +80,13 @@ public class ResourceRequest {
     }
 
     public boolean isAcceptGzip() {
-        return acceptGzip;
+        return acceptedEncodings.contains(GZIP);
+    }
+
+    /**
+     * @return the accepted content encodings by order of preference.
+     */
+    public List<String> getAcceptedEncodings() {
+        return acceptedEncodings;
     }
 }
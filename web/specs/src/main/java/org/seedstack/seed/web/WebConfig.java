@@ -63,14 +63,21 @@ public class WebConfig {
     @Config("static")
     public static class StaticResourcesConfig {
         private static final int DEFAULT_BUFFER_SIZE = 65535;
+        private static final long DEFAULT_STREAMING_THRESHOLD = 1024L * 1024L;
 
         @SingleValue
         private boolean enabled = true;
         private int bufferSize = DEFAULT_BUFFER_SIZE;
+        private long streamingThreshold = DEFAULT_STREAMING_THRESHOLD;
         private boolean minification = true;
         private boolean gzip = true;
         private boolean gzipOnTheFly = true;
+        private boolean brotli = false;
+        private boolean zstd = false;
+        private boolean index = false;
         private CacheConfig cache = new CacheConfig();
+        private BodyCacheConfig bodyCache = new BodyCacheConfig();
+        private List<CacheControlConfig> cacheControl = new ArrayList<>();
 
         public boolean isEnabled() {
             return enabled;
@@ -80,6 +87,10 @@ public class WebConfig {
             return bufferSize;
         }
 
+        public long getStreamingThreshold() {
+            return streamingThreshold;
+        }
+
         public boolean isMinificationEnabled() {
             return minification;
         }
@@ -92,10 +103,35 @@ public class WebConfig {
             return gzipOnTheFly;
         }
 
+        public boolean isBrotliEnabled() {
+            return brotli;
+        }
+
+        public boolean isZstdEnabled() {
+            return zstd;
+        }
+
+        public boolean isIndexEnabled() {
+            return index;
+        }
+
         public CacheConfig cacheConfig() {
             return cache;
         }
 
+        public BodyCacheConfig bodyCacheConfig() {
+            return bodyCache;
+        }
+
+        public List<CacheControlConfig> getCacheControl() {
+            return Collections.unmodifiableList(cacheControl);
+        }
+
+        public StaticResourcesConfig addCacheControl(CacheControlConfig cacheControlConfig) {
+            cacheControl.add(cacheControlConfig);
+            return this;
+        }
+
         @Config("cache")
         public static class CacheConfig {
             private static final int DEFAULT_CACHE_MAX_SIZE = 8192;
@@ -117,6 +153,63 @@ public class WebConfig {
                 return concurrencyLevel;
             }
         }
+
+        @Config("bodyCache")
+        public static class BodyCacheConfig {
+            private static final long DEFAULT_BODY_CACHE_MAX_WEIGHT = 32L * 1024L * 1024L;
+            private static final int DEFAULT_BODY_CACHE_MAX_ENTRY_SIZE = 1024 * 1024;
+            private static final int DEFAULT_BODY_CACHE_CONCURRENCY = 32;
+
+            @SingleValue
+            private boolean enabled = true;
+            private long maxWeight = DEFAULT_BODY_CACHE_MAX_WEIGHT;
+            private int maxEntrySize = DEFAULT_BODY_CACHE_MAX_ENTRY_SIZE;
+            private int concurrencyLevel = DEFAULT_BODY_CACHE_CONCURRENCY;
+            private boolean preload = false;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public long getMaxWeight() {
+                return maxWeight;
+            }
+
+            public int getMaxEntrySize() {
+                return maxEntrySize;
+            }
+
+            public boolean isPreloadEnabled() {
+                return preload;
+            }
+
+            public int getConcurrencyLevel() {
+                return concurrencyLevel;
+            }
+        }
+
+        public static class CacheControlConfig {
+            private String pattern = "/**";
+            private long maxAge;
+
+            public String getPattern() {
+                return pattern;
+            }
+
+            public CacheControlConfig setPattern(String pattern) {
+                this.pattern = pattern;
+                return this;
+            }
+
+            public long getMaxAge() {
+                return maxAge;
+            }
+
+            public CacheControlConfig setMaxAge(long maxAge) {
+                this.maxAge = maxAge;
+                return this;
+            }
+        }
     }
 
     @Config("server")